@@ -33,7 +33,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -55,8 +54,10 @@ public class MultiTableSinkWriter
     private final List<ConcurrentMap<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>>>
             sinkWritersWithIndex;
     private final List<MultiTableWriterRunnable> runnable = new ArrayList<>();
-    private final Random random = new Random();
     private final List<BlockingQueue<SeaTunnelRow>> blockingQueues = new ArrayList<>();
+    // rows without primary key can be written by any sub writer, the idle ones take them from here
+    private final BlockingQueue<SeaTunnelRow> sharedQueue;
+    private final MultiTableWriterBarrier barrier = new MultiTableWriterBarrier();
     private final ExecutorService executorService;
     private MultiTableResourceManager resourceManager;
     private volatile boolean submitted = false;
@@ -85,6 +86,7 @@ public class MultiTableSinkWriter
                                     return thread;
                                 }));
         sinkWritersWithIndex = new ArrayList<>();
+        sharedQueue = new LinkedBlockingQueue<>(1024 * queueSize);
         for (int i = 0; i < queueSize; i++) {
             BlockingQueue<SeaTunnelRow> queue = new LinkedBlockingQueue<>(1024);
             Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap = new HashMap<>();
@@ -102,7 +104,8 @@ public class MultiTableSinkWriter
 
             sinkWritersWithIndex.add(sinkIdentifierMap);
             blockingQueues.add(queue);
-            MultiTableWriterRunnable r = new MultiTableWriterRunnable(tableIdWriterMap, queue);
+            MultiTableWriterRunnable r =
+                    new MultiTableWriterRunnable(tableIdWriterMap, queue, sharedQueue, barrier);
             runnable.add(r);
         }
         log.info("init multi table sink writer, queue size: {}", queueSize);
@@ -183,30 +186,33 @@ public class MultiTableSinkWriter
         }
         subSinkErrorCheck();
         Optional<Integer> primaryKey = sinkPrimaryKeys.get(element.getTableId());
+        BlockingQueue<SeaTunnelRow> queue;
+        if ((primaryKey == null && sinkPrimaryKeys.size() == 1)
+                || (primaryKey != null && !primaryKey.isPresent())) {
+            queue = sharedQueue;
+        } else if (primaryKey == null) {
+            throw new RuntimeException(
+                    "multi table sink can not write table: " + element.getTableId());
+        } else {
+            // rows with the same key always go to the same queue to keep their order
+            Object object = element.getField(primaryKey.get());
+            int index = 0;
+            if (object != null) {
+                index = Math.floorMod(object.hashCode(), blockingQueues.size());
+            }
+            queue = blockingQueues.get(index);
+        }
+        barrier.acquire();
         try {
-            if ((primaryKey == null && sinkPrimaryKeys.size() == 1)
-                    || (primaryKey != null && !primaryKey.isPresent())) {
-                int index = random.nextInt(blockingQueues.size());
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
-            } else if (primaryKey == null) {
-                throw new RuntimeException(
-                        "multi table sink can not write table: " + element.getTableId());
-            } else {
-                Object object = element.getField(primaryKey.get());
-                int index = 0;
-                if (object != null) {
-                    index = Math.abs(object.hashCode()) % blockingQueues.size();
-                }
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
+            while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
+                subSinkErrorCheck();
             }
         } catch (InterruptedException e) {
+            barrier.release(1);
             throw new IOException(e);
+        } catch (RuntimeException e) {
+            barrier.release(1);
+            throw e;
         }
     }
 
@@ -352,11 +358,8 @@ public class MultiTableSinkWriter
 
     private void checkQueueRemain() {
         try {
-            for (BlockingQueue<SeaTunnelRow> blockingQueue : blockingQueues) {
-                while (!blockingQueue.isEmpty()) {
-                    Thread.sleep(100);
-                    subSinkErrorCheck();
-                }
+            while (!barrier.awaitDrained(100)) {
+                subSinkErrorCheck();
             }
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the rows handed to the {@link MultiTableWriterRunnable}s which are not written yet, so the
+ * writer can wait for all of them before a checkpoint without polling the queues.
+ */
+public class MultiTableWriterBarrier {
+
+    private final AtomicLong pendingRows = new AtomicLong();
+
+    public void acquire() {
+        pendingRows.incrementAndGet();
+    }
+
+    public void release(int rows) {
+        if (pendingRows.addAndGet(-rows) == 0) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    public long getPendingRows() {
+        return pendingRows.get();
+    }
+
+    /**
+     * Wait until every acquired row is released or the timeout elapses.
+     *
+     * @return true if there are no pending rows anymore
+     */
+    public boolean awaitDrained(long timeoutMillis) throws InterruptedException {
+        synchronized (this) {
+            if (pendingRows.get() != 0) {
+                wait(timeoutMillis);
+            }
+        }
+        return pendingRows.get() == 0;
+    }
+}
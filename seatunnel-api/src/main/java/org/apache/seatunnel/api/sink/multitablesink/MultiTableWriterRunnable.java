@@ -22,23 +22,46 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Drains the rows of one sub writer. Rows routed by primary key come from its own queue so their
+ * order is kept, rows without a key come from the queue shared by all runnables, so whichever
+ * runnable is idle picks them up. Every batch has room for {@link #SHARED_BATCH_SIZE} shared rows,
+ * so a steady flow of keyed rows does not hold back the shared ones.
+ */
 @Slf4j
 public class MultiTableWriterRunnable implements Runnable {
 
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private static final int SHARED_BATCH_SIZE = MAX_BATCH_SIZE / 4;
+
+    private static final long IDLE_POLL_MS = 100;
+
     private final Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap;
     private final BlockingQueue<SeaTunnelRow> queue;
+    private final BlockingQueue<SeaTunnelRow> sharedQueue;
+    private final MultiTableWriterBarrier barrier;
+    private final List<SeaTunnelRow> batch = new ArrayList<>(MAX_BATCH_SIZE);
     private volatile Throwable throwable;
     private volatile String currentTableId;
+    // whether the last rows came from the shared queue, an idle runnable blocks on that queue
+    private boolean waitOnSharedQueue;
 
     public MultiTableWriterRunnable(
             Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap,
-            BlockingQueue<SeaTunnelRow> queue) {
+            BlockingQueue<SeaTunnelRow> queue,
+            BlockingQueue<SeaTunnelRow> sharedQueue,
+            MultiTableWriterBarrier barrier) {
         this.tableIdWriterMap = tableIdWriterMap;
         this.queue = queue;
+        this.sharedQueue = sharedQueue;
+        this.barrier = barrier;
     }
 
     @Override
@@ -46,26 +69,32 @@ public class MultiTableWriterRunnable implements Runnable {
         while (true) {
             SeaTunnelRow row = null;
             try {
-                row = queue.poll(100, TimeUnit.MILLISECONDS);
-                if (row == null) {
-                    continue;
-                }
-                SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(row.getTableId());
-                if (writer == null) {
-                    if (tableIdWriterMap.size() == 1) {
-                        writer = tableIdWriterMap.values().stream().findFirst().get();
-                        currentTableId = tableIdWriterMap.keySet().stream().findFirst().get();
-                    } else {
-                        throw new RuntimeException(
-                                "MultiTableWriterRunnable can't find writer for tableId: "
-                                        + row.getTableId());
+                int keyedRows = queue.drainTo(batch, MAX_BATCH_SIZE - SHARED_BATCH_SIZE);
+                int sharedRows = sharedQueue.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+                keyedRows += queue.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+                if (batch.isEmpty()) {
+                    // the other queue is looked at again once the poll timed out
+                    BlockingQueue<SeaTunnelRow> idleQueue = waitOnSharedQueue ? sharedQueue : queue;
+                    row = idleQueue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                    if (row == null) {
+                        waitOnSharedQueue = !waitOnSharedQueue;
+                        continue;
                     }
-                } else {
-                    currentTableId = row.getTableId();
+                    batch.add(row);
+                    idleQueue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                } else if (keyedRows == 0 || sharedRows == 0) {
+                    waitOnSharedQueue = keyedRows == 0;
                 }
+                // the lock is taken once per batch, checkpoint and schema change hold it to keep
+                // the sub writers of this runnable to themselves
                 synchronized (this) {
-                    writer.write(row);
+                    for (int i = 0; i < batch.size(); i++) {
+                        row = batch.get(i);
+                        getWriter(row).write(row);
+                    }
                 }
+                barrier.release(batch.size());
+                batch.clear();
             } catch (InterruptedException e) {
                 // When the job finished, the thread will be interrupted, so we ignore this
                 // exception.
@@ -80,6 +109,23 @@ public class MultiTableWriterRunnable implements Runnable {
         }
     }
 
+    private SinkWriter<SeaTunnelRow, ?, ?> getWriter(SeaTunnelRow row) {
+        SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(row.getTableId());
+        if (writer == null) {
+            if (tableIdWriterMap.size() == 1) {
+                writer = tableIdWriterMap.values().stream().findFirst().get();
+                currentTableId = tableIdWriterMap.keySet().stream().findFirst().get();
+            } else {
+                throw new RuntimeException(
+                        "MultiTableWriterRunnable can't find writer for tableId: "
+                                + row.getTableId());
+            }
+        } else {
+            currentTableId = row.getTableId();
+        }
+        return writer;
+    }
+
     public Throwable getThrowable() {
         return throwable;
     }
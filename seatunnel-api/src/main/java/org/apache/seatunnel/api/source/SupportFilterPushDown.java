@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.source;
+
+import org.apache.seatunnel.api.source.filter.Predicate;
+
+import java.util.List;
+
+/**
+ * Implemented by sources that can skip rows a downstream filter would drop anyway. Push-down is
+ * best effort: the downstream filter still evaluates every row it receives, so a source may accept
+ * a predicate and only use it to prune files or row groups.
+ */
+public interface SupportFilterPushDown {
+
+    /**
+     * Offer the conjuncts of a downstream filter to the source before it is serialized. The source
+     * must not drop any row for which an accepted predicate could be true.
+     *
+     * @param predicates the conjuncts of the downstream filter
+     * @return the predicates the source will apply
+     */
+    List<Predicate> applyFilters(List<Predicate> predicates);
+}
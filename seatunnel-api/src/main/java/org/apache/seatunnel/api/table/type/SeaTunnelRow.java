@@ -18,7 +18,12 @@
 package org.apache.seatunnel.api.table.type;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -277,80 +282,84 @@ public final class SeaTunnelRow implements Serializable {
         if (v == null) {
             return 0;
         }
-        String clazz = v.getClass().getSimpleName();
-        switch (clazz) {
-            case "String":
-                return ((String) v).length();
-            case "Boolean":
-            case "Byte":
-                return 1;
-            case "Short":
-                return 2;
-            case "Integer":
-            case "Float":
-                return 4;
-            case "Long":
-            case "Double":
-                return 8;
-            case "BigDecimal":
-                return 36;
-            case "byte[]":
-                return ((byte[]) v).length;
-            case "LocalDate":
-                return 24;
-            case "LocalTime":
-                return 12;
-            case "LocalDateTime":
-            case "OffsetDateTime":
-                return 48;
-            case "String[]":
-                return getBytesForArray(v, BasicType.STRING_TYPE);
-            case "Boolean[]":
-                return getBytesForArray(v, BasicType.BOOLEAN_TYPE);
-            case "Byte[]":
-                return getBytesForArray(v, BasicType.BYTE_TYPE);
-            case "Short[]":
-                return getBytesForArray(v, BasicType.SHORT_TYPE);
-            case "Integer[]":
-                return getBytesForArray(v, BasicType.INT_TYPE);
-            case "Long[]":
-                return getBytesForArray(v, BasicType.LONG_TYPE);
-            case "Float[]":
-                return getBytesForArray(v, BasicType.FLOAT_TYPE);
-            case "Double[]":
-                return getBytesForArray(v, BasicType.DOUBLE_TYPE);
-            case "Map[]":
-                return getBytesForArray(
-                        v, new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE));
-            case "HashMap":
-            case "LinkedHashMap":
-                int size = 0;
-                for (Map.Entry<?, ?> entry : ((Map<?, ?>) v).entrySet()) {
-                    size += getBytesForValue(entry.getKey()) + getBytesForValue(entry.getValue());
-                }
-                return size;
-            case "HeapByteBuffer":
-            case "ByteBuffer":
-                return ((ByteBuffer) v).capacity();
-            case "SeaTunnelRow":
-                int rowSize = 0;
-                SeaTunnelRow row = (SeaTunnelRow) v;
-                for (int i = 0; i < row.fields.length; i++) {
-                    rowSize += getBytesForValue(row.fields[i]);
-                }
-                return rowSize;
-            default:
-                if (v instanceof Map) {
-                    int mapSize = 0;
-                    for (Map.Entry<?, ?> entry : ((Map<?, ?>) v).entrySet()) {
-                        mapSize +=
-                                getBytesForValue(entry.getKey())
-                                        + getBytesForValue(entry.getValue());
-                    }
-                    return mapSize;
-                }
-                throw new UnsupportedOperationException("Unsupported type: " + clazz);
+        // dispatch on the class itself, Class#getSimpleName allocates on every call
+        Class<?> clazz = v.getClass();
+        if (clazz == String.class) {
+            return ((String) v).length();
+        }
+        if (clazz == Boolean.class || clazz == Byte.class) {
+            return 1;
+        }
+        if (clazz == Short.class) {
+            return 2;
+        }
+        if (clazz == Integer.class || clazz == Float.class) {
+            return 4;
+        }
+        if (clazz == Long.class || clazz == Double.class) {
+            return 8;
+        }
+        if (clazz == BigDecimal.class) {
+            return 36;
+        }
+        if (clazz == byte[].class) {
+            return ((byte[]) v).length;
+        }
+        if (clazz == LocalDate.class) {
+            return 24;
+        }
+        if (clazz == LocalTime.class) {
+            return 12;
+        }
+        if (clazz == LocalDateTime.class || clazz == OffsetDateTime.class) {
+            return 48;
+        }
+        if (clazz == String[].class) {
+            return getBytesForArray(v, BasicType.STRING_TYPE);
+        }
+        if (clazz == Boolean[].class) {
+            return getBytesForArray(v, BasicType.BOOLEAN_TYPE);
+        }
+        if (clazz == Byte[].class) {
+            return getBytesForArray(v, BasicType.BYTE_TYPE);
+        }
+        if (clazz == Short[].class) {
+            return getBytesForArray(v, BasicType.SHORT_TYPE);
+        }
+        if (clazz == Integer[].class) {
+            return getBytesForArray(v, BasicType.INT_TYPE);
+        }
+        if (clazz == Long[].class) {
+            return getBytesForArray(v, BasicType.LONG_TYPE);
+        }
+        if (clazz == Float[].class) {
+            return getBytesForArray(v, BasicType.FLOAT_TYPE);
+        }
+        if (clazz == Double[].class) {
+            return getBytesForArray(v, BasicType.DOUBLE_TYPE);
+        }
+        if (clazz == Map[].class) {
+            return getBytesForArray(v, new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE));
+        }
+        if (v instanceof Map) {
+            int mapSize = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) v).entrySet()) {
+                mapSize += getBytesForValue(entry.getKey()) + getBytesForValue(entry.getValue());
+            }
+            return mapSize;
+        }
+        if (v instanceof ByteBuffer) {
+            return ((ByteBuffer) v).capacity();
+        }
+        if (v instanceof SeaTunnelRow) {
+            int rowSize = 0;
+            SeaTunnelRow row = (SeaTunnelRow) v;
+            for (int i = 0; i < row.fields.length; i++) {
+                rowSize += getBytesForValue(row.fields[i]);
+            }
+            return rowSize;
         }
+        throw new UnsupportedOperationException("Unsupported type: " + clazz.getSimpleName());
     }
 
     @Override
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.transform;
+
+import org.apache.seatunnel.api.source.filter.Predicate;
+
+import java.util.List;
+
+/**
+ * Implemented by filtering transforms whose conditions can be evaluated earlier by a source that
+ * implements {@link org.apache.seatunnel.api.source.SupportFilterPushDown}.
+ */
+public interface SupportPushDownPredicates {
+
+    /**
+     * Get the conditions of this transform that can be pushed to its single input table. Every
+     * returned predicate must be true for all rows this transform keeps.
+     *
+     * @return the conjuncts that can be pushed down, empty if there are none
+     */
+    List<Predicate> getPushDownPredicates();
+}
@@ -26,17 +26,25 @@ import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 public class MultiTableSinkWriterTest {
 
@@ -62,6 +70,149 @@ public class MultiTableSinkWriterTest {
         }
     }
 
+    @Test
+    public void testWriteKeepsKeyOrderAndDrainsBeforeCheckpoint() throws IOException {
+        int threads = 4;
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        List<RecordingSinkWriter> keyedWriters = new ArrayList<>();
+        List<RecordingSinkWriter> unkeyedWriters = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            RecordingSinkWriter keyedWriter = new RecordingSinkWriter(Optional.of(0));
+            RecordingSinkWriter unkeyedWriter = new RecordingSinkWriter(Optional.empty());
+            keyedWriters.add(keyedWriter);
+            unkeyedWriters.add(unkeyedWriter);
+            sinkWriters.put(SinkIdentifier.of("db.keyed", i), keyedWriter);
+            sinkWriters.put(SinkIdentifier.of("db.unkeyed", i), unkeyedWriter);
+            sinkWritersContext.put(SinkIdentifier.of("db.keyed", i), new TestSinkWriterContext());
+            sinkWritersContext.put(SinkIdentifier.of("db.unkeyed", i), new TestSinkWriterContext());
+        }
+        MultiTableSinkWriter multiTableSinkWriter =
+                new MultiTableSinkWriter(sinkWriters, threads, sinkWritersContext);
+
+        int keys = 10;
+        int rowsPerTable = 10000;
+        for (int i = 0; i < rowsPerTable; i++) {
+            SeaTunnelRow keyedRow = new SeaTunnelRow(new Object[] {i % keys, i});
+            keyedRow.setTableId("db.keyed");
+            multiTableSinkWriter.write(keyedRow);
+            SeaTunnelRow unkeyedRow = new SeaTunnelRow(new Object[] {i % keys, i});
+            unkeyedRow.setTableId("db.unkeyed");
+            multiTableSinkWriter.write(unkeyedRow);
+        }
+        multiTableSinkWriter.prepareCommit(1);
+
+        Assertions.assertEquals(
+                rowsPerTable, keyedWriters.stream().mapToInt(w -> w.getRows().size()).sum());
+        Assertions.assertEquals(
+                rowsPerTable, unkeyedWriters.stream().mapToInt(w -> w.getRows().size()).sum());
+        Set<Object> seenKeys = new HashSet<>();
+        for (RecordingSinkWriter writer : keyedWriters) {
+            Set<Object> writerKeys = new HashSet<>();
+            int[] lastValues = new int[keys];
+            Arrays.fill(lastValues, -1);
+            for (SeaTunnelRow row : writer.getRows()) {
+                int key = (int) row.getField(0);
+                int value = (int) row.getField(1);
+                Assertions.assertTrue(value > lastValues[key]);
+                lastValues[key] = value;
+                writerKeys.add(key);
+            }
+            for (Object key : writerKeys) {
+                Assertions.assertTrue(seenKeys.add(key), "key written by two sub writers");
+            }
+        }
+        multiTableSinkWriter.close();
+    }
+
+    @Test
+    public void testSharedRowsAreNotHeldBackByKeyedRows() throws Exception {
+        List<SeaTunnelRow> written = new ArrayList<>();
+        RecordingSinkWriter keyedWriter =
+                new RecordingSinkWriter(Optional.of(0)) {
+                    @Override
+                    public void write(SeaTunnelRow seaTunnelRow) {
+                        written.add(seaTunnelRow);
+                    }
+                };
+        RecordingSinkWriter unkeyedWriter =
+                new RecordingSinkWriter(Optional.empty()) {
+                    @Override
+                    public void write(SeaTunnelRow seaTunnelRow) {
+                        written.add(seaTunnelRow);
+                    }
+                };
+        Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap = new HashMap<>();
+        tableIdWriterMap.put("db.keyed", keyedWriter);
+        tableIdWriterMap.put("db.unkeyed", unkeyedWriter);
+        BlockingQueue<SeaTunnelRow> queue = new LinkedBlockingQueue<>();
+        BlockingQueue<SeaTunnelRow> sharedQueue = new LinkedBlockingQueue<>();
+        MultiTableWriterBarrier barrier = new MultiTableWriterBarrier();
+        int keyedRows = 10000;
+        for (int i = 0; i < keyedRows; i++) {
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {i, i});
+            row.setTableId("db.keyed");
+            queue.add(row);
+            barrier.acquire();
+        }
+        SeaTunnelRow unkeyedRow = new SeaTunnelRow(new Object[] {0, 0});
+        unkeyedRow.setTableId("db.unkeyed");
+        sharedQueue.add(unkeyedRow);
+        barrier.acquire();
+
+        MultiTableWriterRunnable runnable =
+                new MultiTableWriterRunnable(tableIdWriterMap, queue, sharedQueue, barrier);
+        Thread thread = new Thread(runnable);
+        thread.start();
+        try {
+            long deadline = System.currentTimeMillis() + 10000;
+            while (!barrier.awaitDrained(100)) {
+                Assertions.assertTrue(System.currentTimeMillis() < deadline);
+            }
+            synchronized (runnable) {
+                Assertions.assertEquals(keyedRows + 1, written.size());
+                // the shared row goes with the first batch instead of after all keyed rows
+                Assertions.assertTrue(written.indexOf(unkeyedRow) < 256);
+            }
+        } finally {
+            thread.interrupt();
+            thread.join();
+        }
+    }
+
+    static class RecordingSinkWriter
+            implements SinkWriter<SeaTunnelRow, TestSinkState, Object>,
+                    SupportMultiTableSinkWriter {
+
+        private final Optional<Integer> primaryKey;
+        @Getter private final List<SeaTunnelRow> rows = new ArrayList<>();
+
+        RecordingSinkWriter(Optional<Integer> primaryKey) {
+            this.primaryKey = primaryKey;
+        }
+
+        @Override
+        public Optional<Integer> primaryKey() {
+            return primaryKey;
+        }
+
+        @Override
+        public void write(SeaTunnelRow seaTunnelRow) {
+            rows.add(seaTunnelRow);
+        }
+
+        @Override
+        public Optional<TestSinkState> prepareCommit() throws IOException {
+            return Optional.empty();
+        }
+
+        @Override
+        public void abortPrepare() {}
+
+        @Override
+        public void close() throws IOException {}
+    }
+
     static class TestSinkWriter
             implements SinkWriter<SeaTunnelRow, TestSinkState, Object>,
                     SupportMultiTableSinkWriter {
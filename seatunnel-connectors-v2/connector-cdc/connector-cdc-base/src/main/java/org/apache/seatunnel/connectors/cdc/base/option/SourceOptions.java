@@ -114,10 +114,17 @@ public class SourceOptions {
                     .withDescription(
                             "Enable send schema change events, by default is false. If set to true, the schema changes will be sent to downstream.");
 
+    public static final Option<Integer> SNAPSHOT_SPLIT_BUFFER_SIZE =
+            Options.key("snapshot.split.buffer-size")
+                    .intType()
+                    .defaultValue(100000)
+                    .withDescription(
+                            "The maximum number of records of a snapshot split kept in memory while the split is merged with the change events read during the snapshot (exactly_once mode), the remaining records are spilled to a local file.");
+
     public static OptionRule.Builder getBaseRule() {
         return OptionRule.builder()
                 .optional(FORMAT)
-                .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE)
+                .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE, SNAPSHOT_SPLIT_BUFFER_SIZE)
                 .optional(INCREMENTAL_PARALLELISM)
                 .optional(DEBEZIUM_PROPERTIES);
     }
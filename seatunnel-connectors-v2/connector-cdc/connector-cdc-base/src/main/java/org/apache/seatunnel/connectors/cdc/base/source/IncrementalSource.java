@@ -168,7 +168,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                                 readerContext.getIndexOfSubtask(),
                                 dataSourceDialect,
                                 sourceConfig,
-                                schemaChangeResolver);
+                                schemaChangeResolver,
+                                readonlyConfig.get(SourceOptions.SNAPSHOT_SPLIT_BUFFER_SIZE));
         return new IncrementalSourceReader<>(
                 dataSourceDialect,
                 elementsQueue,
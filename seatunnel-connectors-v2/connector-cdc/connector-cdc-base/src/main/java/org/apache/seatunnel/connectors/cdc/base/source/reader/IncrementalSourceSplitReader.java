@@ -52,17 +52,20 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
     private final DataSourceDialect<C> dataSourceDialect;
     private final C sourceConfig;
     private final SchemaChangeResolver schemaChangeResolver;
+    private final int snapshotBufferSize;
 
     public IncrementalSourceSplitReader(
             int subtaskId,
             DataSourceDialect<C> dataSourceDialect,
             C sourceConfig,
-            SchemaChangeResolver schemaChangeResolver) {
+            SchemaChangeResolver schemaChangeResolver,
+            int snapshotBufferSize) {
         this.subtaskId = subtaskId;
         this.splits = new ArrayDeque<>();
         this.dataSourceDialect = dataSourceDialect;
         this.sourceConfig = sourceConfig;
         this.schemaChangeResolver = schemaChangeResolver;
+        this.snapshotBufferSize = snapshotBufferSize;
     }
 
     @Override
@@ -128,7 +131,9 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
                 if (currentFetcher == null) {
                     final FetchTask.Context taskContext =
                             dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
-                    currentFetcher = new IncrementalSourceScanFetcher(taskContext, subtaskId);
+                    currentFetcher =
+                            new IncrementalSourceScanFetcher(
+                                    taskContext, subtaskId, snapshotBufferSize);
                 }
             } else {
                 // point from snapshot split to incremental split
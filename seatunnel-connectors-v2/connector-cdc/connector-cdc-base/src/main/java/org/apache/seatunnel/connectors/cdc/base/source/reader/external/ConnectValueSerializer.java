@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.errors.DataException;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary form of kafka connect values, used to spill snapshot records to disk. Schemas are
+ * not written, the reader has to pass the schema the value was written with.
+ */
+final class ConnectValueSerializer {
+
+    private ConnectValueSerializer() {}
+
+    static void write(DataOutput out, Schema schema, Object value) throws IOException {
+        if (value == null) {
+            out.writeBoolean(false);
+            return;
+        }
+        out.writeBoolean(true);
+        if (schema.name() != null) {
+            switch (schema.name()) {
+                case Decimal.LOGICAL_NAME:
+                    value = Decimal.fromLogical(schema, (BigDecimal) value);
+                    break;
+                case Date.LOGICAL_NAME:
+                    value = Date.fromLogical(schema, (java.util.Date) value);
+                    break;
+                case Time.LOGICAL_NAME:
+                    value = Time.fromLogical(schema, (java.util.Date) value);
+                    break;
+                case Timestamp.LOGICAL_NAME:
+                    value = Timestamp.fromLogical(schema, (java.util.Date) value);
+                    break;
+                default:
+                    break;
+            }
+        }
+        switch (schema.type()) {
+            case INT8:
+                out.writeByte((Byte) value);
+                break;
+            case INT16:
+                out.writeShort((Short) value);
+                break;
+            case INT32:
+                out.writeInt((Integer) value);
+                break;
+            case INT64:
+                out.writeLong((Long) value);
+                break;
+            case FLOAT32:
+                out.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                out.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+                break;
+            case BYTES:
+                if (value instanceof ByteBuffer) {
+                    ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    value = bytes;
+                }
+                writeBytes(out, (byte[]) value);
+                break;
+            case ARRAY:
+                List<?> list = (List<?>) value;
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    write(out, schema.valueSchema(), element);
+                }
+                break;
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    write(out, schema.keySchema(), entry.getKey());
+                    write(out, schema.valueSchema(), entry.getValue());
+                }
+                break;
+            case STRUCT:
+                Struct struct = (Struct) value;
+                for (Field field : schema.fields()) {
+                    write(out, field.schema(), struct.getWithoutDefault(field.name()));
+                }
+                break;
+            default:
+                throw new DataException("Unsupported schema type " + schema.type());
+        }
+    }
+
+    static Object read(ByteBuffer in, Schema schema) {
+        if (in.get() == 0) {
+            return null;
+        }
+        Object value;
+        switch (schema.type()) {
+            case INT8:
+                value = in.get();
+                break;
+            case INT16:
+                value = in.getShort();
+                break;
+            case INT32:
+                value = in.getInt();
+                break;
+            case INT64:
+                value = in.getLong();
+                break;
+            case FLOAT32:
+                value = in.getFloat();
+                break;
+            case FLOAT64:
+                value = in.getDouble();
+                break;
+            case BOOLEAN:
+                value = in.get() != 0;
+                break;
+            case STRING:
+                value = new String(readBytes(in), StandardCharsets.UTF_8);
+                break;
+            case BYTES:
+                value = readBytes(in);
+                break;
+            case ARRAY:
+                int length = in.getInt();
+                List<Object> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    list.add(read(in, schema.valueSchema()));
+                }
+                value = list;
+                break;
+            case MAP:
+                int size = in.getInt();
+                Map<Object, Object> map = new LinkedHashMap<>(size * 2);
+                for (int i = 0; i < size; i++) {
+                    Object key = read(in, schema.keySchema());
+                    map.put(key, read(in, schema.valueSchema()));
+                }
+                value = map;
+                break;
+            case STRUCT:
+                Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    Object fieldValue = read(in, field.schema());
+                    if (fieldValue != null) {
+                        struct.put(field, fieldValue);
+                    }
+                }
+                value = struct;
+                break;
+            default:
+                throw new DataException("Unsupported schema type " + schema.type());
+        }
+        if (schema.name() != null) {
+            switch (schema.name()) {
+                case Decimal.LOGICAL_NAME:
+                    return Decimal.toLogical(schema, (byte[]) value);
+                case Date.LOGICAL_NAME:
+                    return Date.toLogical(schema, (Integer) value);
+                case Time.LOGICAL_NAME:
+                    return Time.toLogical(schema, (Integer) value);
+                case Timestamp.LOGICAL_NAME:
+                    return Timestamp.toLogical(schema, (Long) value);
+                default:
+                    break;
+            }
+        }
+        return value;
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return bytes;
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
 
+import org.apache.seatunnel.shade.com.google.common.collect.Iterators;
 import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.apache.seatunnel.common.utils.SeaTunnelException;
@@ -24,18 +25,19 @@ import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 
-import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -65,10 +67,16 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     private FetchTask<SourceSplitBase> snapshotSplitReadTask;
     private SnapshotSplit currentSnapshotSplit;
 
+    private final int snapshotBufferSize;
+    // spilled buffers whose records have not been consumed yet
+    private final Set<SnapshotRecordBuffer> pendingSnapshotBuffers = ConcurrentHashMap.newKeySet();
+
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
 
-    public IncrementalSourceScanFetcher(FetchTask.Context taskContext, int subtaskId) {
+    public IncrementalSourceScanFetcher(
+            FetchTask.Context taskContext, int subtaskId, int snapshotBufferSize) {
         this.taskContext = taskContext;
+        this.snapshotBufferSize = snapshotBufferSize;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder()
                         .setNameFormat("debezium-snapshot-reader-" + subtaskId)
@@ -154,7 +162,7 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         boolean reachChangeLogEnd = false;
         SourceRecord lowWatermark = null;
         SourceRecord highWatermark = null;
-        Map<Struct, SourceRecord> outputBuffer = new LinkedHashMap<>();
+        SnapshotRecordBuffer outputBuffer = new SnapshotRecordBuffer(snapshotBufferSize);
         while (!reachChangeLogEnd) {
             checkReadException();
             List<DataChangeEvent> batch = queue.poll();
@@ -180,7 +188,7 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
                 }
 
                 if (!reachChangeLogStart) {
-                    outputBuffer.put((Struct) record.key(), record);
+                    addSnapshotRecord(outputBuffer, record);
                 } else {
                     if (isChangeRecordInChunkRange(record)) {
                         // rewrite overlapping snapshot records through the record key
@@ -192,16 +200,62 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         // snapshot split return its data once
         hasNextElement.set(false);
 
-        final List<SourceRecord> normalizedRecords = new ArrayList<>();
-        normalizedRecords.add(lowWatermark);
-        normalizedRecords.addAll(taskContext.formatMessageTimestamp(outputBuffer.values()));
-        normalizedRecords.add(highWatermark);
-
         final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
-        sourceRecordsSet.add(new SourceRecords(normalizedRecords));
+        if (!outputBuffer.isSpilled()) {
+            final List<SourceRecord> normalizedRecords = new ArrayList<>();
+            normalizedRecords.add(lowWatermark);
+            normalizedRecords.addAll(
+                    taskContext.formatMessageTimestamp(outputBuffer.getBufferedRecords()));
+            normalizedRecords.add(highWatermark);
+            sourceRecordsSet.add(new SourceRecords(normalizedRecords));
+        } else {
+            // the spilled records are read and normalized while the reader emits them
+            pendingSnapshotBuffers.removeIf(SnapshotRecordBuffer::isClosed);
+            pendingSnapshotBuffers.add(outputBuffer);
+            Iterator<SourceRecord> normalizedRecords =
+                    Iterators.transform(
+                            openSnapshotRecords(outputBuffer),
+                            record ->
+                                    taskContext
+                                            .formatMessageTimestamp(
+                                                    Collections.singletonList(record))
+                                            .get(0));
+            sourceRecordsSet.add(
+                    SourceRecords.fromIterator(
+                            Iterators.concat(
+                                    Iterators.singletonIterator(lowWatermark),
+                                    normalizedRecords,
+                                    Iterators.singletonIterator(highWatermark))));
+        }
         return sourceRecordsSet.iterator();
     }
 
+    private void addSnapshotRecord(SnapshotRecordBuffer outputBuffer, SourceRecord record) {
+        try {
+            outputBuffer.add(record);
+        } catch (IOException e) {
+            outputBuffer.close();
+            throw new SeaTunnelException(
+                    String.format(
+                            "Spill snapshot records of split %s error due to %s.",
+                            currentSnapshotSplit, e.getMessage()),
+                    e);
+        }
+    }
+
+    private Iterator<SourceRecord> openSnapshotRecords(SnapshotRecordBuffer outputBuffer) {
+        try {
+            return outputBuffer.iterator();
+        } catch (IOException e) {
+            outputBuffer.close();
+            throw new SeaTunnelException(
+                    String.format(
+                            "Read spilled snapshot records of split %s error due to %s.",
+                            currentSnapshotSplit, e.getMessage()),
+                    e);
+        }
+    }
+
     private void assertLowWatermark(SourceRecord lowWatermark) {
         checkState(
                 isLowWatermarkEvent(lowWatermark),
@@ -245,6 +299,8 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         } catch (Exception e) {
             log.error("Close scan fetcher error", e);
         } finally {
+            pendingSnapshotBuffers.forEach(SnapshotRecordBuffer::close);
+            pendingSnapshotBuffers.clear();
             // 3. close the task context
             if (taskContext != null) {
                 taskContext.close();
@@ -43,6 +43,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -71,10 +72,10 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
 
     private Offset splitStartWatermark;
 
-    // maximum watermark for each table
-    private Map<TableId, Offset> maxSplitHighWatermarkMap;
+    // tables not yet in pure binlog mode, ordered by their maximum watermark
+    private PriorityQueue<Map.Entry<TableId, Offset>> pendingBinlogPhaseTables;
     // finished spilt info
-    private Map<TableId, List<CompletedSnapshotSplitInfo>> finishedSplitsInfo;
+    private Map<TableId, SnapshotSplitIndex> finishedSplitsInfo;
 
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
 
@@ -234,15 +235,21 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
             }
             // not enter pure binlog mode and need to check whether the current record meets the
             // emitting conditions.
-            if (finishedSplitsInfo.containsKey(tableId)) {
-                for (CompletedSnapshotSplitInfo splitInfo : finishedSplitsInfo.get(tableId)) {
-                    if (taskContext.isRecordBetween(
-                                    sourceRecord,
-                                    splitInfo.getSplitStart(),
-                                    splitInfo.getSplitEnd())
-                            && position.isAfter(splitInfo.getWatermark().getHighWatermark())) {
-                        return true;
-                    }
+            SnapshotSplitIndex splitIndex = finishedSplitsInfo.get(tableId);
+            if (splitIndex == null) {
+                return false;
+            }
+            Object[] splitKey =
+                    splitIndex.isIndexed() ? taskContext.getSplitKey(sourceRecord) : null;
+            if (splitKey != null) {
+                // the splits are disjoint, so only the split starting right before the key can
+                // contain the record
+                CompletedSnapshotSplitInfo splitInfo = splitIndex.floor(splitKey);
+                return splitInfo != null && shouldEmit(sourceRecord, position, splitInfo);
+            }
+            for (CompletedSnapshotSplitInfo splitInfo : splitIndex.getSplits()) {
+                if (shouldEmit(sourceRecord, position, splitInfo)) {
+                    return true;
                 }
             }
             return false;
@@ -250,18 +257,24 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
         return true;
     }
 
+    private boolean shouldEmit(
+            SourceRecord sourceRecord, Offset position, CompletedSnapshotSplitInfo splitInfo) {
+        return taskContext.isRecordBetween(
+                        sourceRecord, splitInfo.getSplitStart(), splitInfo.getSplitEnd())
+                && position.isAfter(splitInfo.getWatermark().getHighWatermark());
+    }
+
     private boolean hasEnterPureBinlogPhase(TableId tableId, Offset position) {
-        // only the table who captured snapshot splits need to filter
-        if (pureBinlogPhaseTables.contains(tableId)) {
-            return true;
+        // the binlog position only moves forward, so every table whose maximum watermark has been
+        // reached by this record enters pure binlog mode now, whichever table the record is from
+        while (!pendingBinlogPhaseTables.isEmpty()
+                && position.isAtOrAfter(pendingBinlogPhaseTables.peek().getValue())) {
+            TableId pureBinlogTable = pendingBinlogPhaseTables.poll().getKey();
+            pureBinlogPhaseTables.add(pureBinlogTable);
+            finishedSplitsInfo.remove(pureBinlogTable);
         }
-        // the existed tables those have finished snapshot reading
-        if (maxSplitHighWatermarkMap.containsKey(tableId)
-                && position.isAtOrAfter(maxSplitHighWatermarkMap.get(tableId))) {
-            pureBinlogPhaseTables.add(tableId);
-            return true;
-        }
-        return false;
+        // only the table who captured snapshot splits need to filter
+        return pureBinlogPhaseTables.contains(tableId);
     }
 
     private void configureFilter() {
@@ -292,8 +305,12 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
                 tableIdBinlogPositionMap.put(tableId, highWatermark);
             }
         }
-        this.finishedSplitsInfo = splitsInfoMap;
-        this.maxSplitHighWatermarkMap = tableIdBinlogPositionMap;
+        Map<TableId, SnapshotSplitIndex> splitIndexMap = new HashMap<>();
+        splitsInfoMap.forEach(
+                (tableId, splits) -> splitIndexMap.put(tableId, new SnapshotSplitIndex(splits)));
+        this.finishedSplitsInfo = splitIndexMap;
+        this.pendingBinlogPhaseTables = new PriorityQueue<>(Map.Entry.comparingByValue());
+        this.pendingBinlogPhaseTables.addAll(tableIdBinlogPositionMap.entrySet());
         this.pureBinlogPhaseTables.clear();
     }
 
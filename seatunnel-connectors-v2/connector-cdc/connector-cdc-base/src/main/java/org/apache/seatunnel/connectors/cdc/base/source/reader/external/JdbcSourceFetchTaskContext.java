@@ -88,15 +88,18 @@ public abstract class JdbcSourceFetchTaskContext implements FetchTask.Context {
 
     @Override
     public boolean isRecordBetween(SourceRecord record, Object[] splitStart, Object[] splitEnd) {
+        return SourceRecordUtils.splitKeyRangeContains(getSplitKey(record), splitStart, splitEnd);
+    }
+
+    @Override
+    public Object[] getSplitKey(SourceRecord record) {
         SeaTunnelRowType splitKeyType =
                 getSplitType(getDatabaseSchema().tableFor(getTableId(record)));
-        Object[] key = SourceRecordUtils.getSplitKey(splitKeyType, record, getSchemaNameAdjuster());
-        return SourceRecordUtils.splitKeyRangeContains(key, splitStart, splitEnd);
+        return SourceRecordUtils.getSplitKey(splitKeyType, record, getSchemaNameAdjuster());
     }
 
     @Override
-    public void rewriteOutputBuffer(
-            Map<Struct, SourceRecord> outputBuffer, SourceRecord changeRecord) {
+    public void rewriteOutputBuffer(SnapshotOutputBuffer outputBuffer, SourceRecord changeRecord) {
         Struct key = (Struct) changeRecord.key();
         Struct value = (Struct) changeRecord.value();
         if (value != null) {
@@ -0,0 +1,344 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Buffer of the snapshot records of one split, keyed by the record key so the change events read
+ * between the watermarks can be merged into it.
+ *
+ * <p>The first {@code maxBufferedRecords} records are kept in memory. Later records are appended to
+ * a local spill file and read back through memory mapped windows. Changes of records that are not
+ * in memory are kept aside and applied while the spill file is read, so the merged output never has
+ * to be materialized.
+ */
+@Slf4j
+public class SnapshotRecordBuffer implements SnapshotOutputBuffer, Closeable {
+
+    private static final int MAPPED_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final int maxBufferedRecords;
+    private final Map<Struct, SourceRecord> bufferedRecords = new LinkedHashMap<>();
+    // changes of records that may be spilled, a null value marks a deleted record
+    private final Map<Struct, SourceRecord> spilledRecordChanges = new LinkedHashMap<>();
+    private final Map<RecordHeader, Integer> headerIndexes = new HashMap<>();
+    private final List<RecordHeader> headers = new ArrayList<>();
+
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    private final DataOutputStream recordOutput = new DataOutputStream(recordBytes);
+    private File spillFile;
+    private DataOutputStream spillOutput;
+    private long spilledRecords;
+    private volatile boolean closed;
+
+    public SnapshotRecordBuffer(int maxBufferedRecords) {
+        this.maxBufferedRecords = maxBufferedRecords;
+    }
+
+    /** Adds a record read by the snapshot query. */
+    public void add(SourceRecord record) throws IOException {
+        Struct key = (Struct) record.key();
+        if (spillOutput == null
+                && (bufferedRecords.size() < maxBufferedRecords
+                        || bufferedRecords.containsKey(key))) {
+            bufferedRecords.put(key, record);
+            return;
+        }
+        spill(record);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public boolean isSpilled() {
+        return spillOutput != null;
+    }
+
+    /** Returns the records, only if none were spilled. */
+    public Collection<SourceRecord> getBufferedRecords() {
+        if (isSpilled()) {
+            throw new IllegalStateException("The snapshot records were spilled");
+        }
+        return Collections.unmodifiableCollection(bufferedRecords.values());
+    }
+
+    /**
+     * Changes of the in memory records are applied directly, the ones of the spilled records are
+     * kept aside until the spill file is read.
+     */
+    @Override
+    public void put(Struct key, SourceRecord record) {
+        if (!isSpilled() || bufferedRecords.containsKey(key)) {
+            bufferedRecords.put(key, record);
+            return;
+        }
+        spilledRecordChanges.put(key, record);
+    }
+
+    @Override
+    public void remove(Struct key) {
+        if (!isSpilled() || bufferedRecords.containsKey(key)) {
+            bufferedRecords.remove(key);
+            return;
+        }
+        spilledRecordChanges.put(key, null);
+    }
+
+    /**
+     * Returns the merged records, the in memory ones first. The iterator can only be consumed once,
+     * the buffer is closed when it is exhausted.
+     */
+    public Iterator<SourceRecord> iterator() throws IOException {
+        if (!isSpilled()) {
+            return bufferedRecords.values().iterator();
+        }
+        spillOutput.close();
+        return new MergedIterator();
+    }
+
+    private void spill(SourceRecord record) throws IOException {
+        if (spillOutput == null) {
+            spillFile = File.createTempFile("seatunnel-cdc-snapshot-", ".spill");
+            spillOutput =
+                    new DataOutputStream(
+                            new BufferedOutputStream(new FileOutputStream(spillFile), 1 << 16));
+            log.info(
+                    "Snapshot split has more than {} records, spill the remaining records to {}",
+                    maxBufferedRecords,
+                    spillFile);
+        }
+        recordBytes.reset();
+        recordOutput.writeInt(headerIndex(record));
+        ConnectValueSerializer.write(recordOutput, record.keySchema(), record.key());
+        ConnectValueSerializer.write(recordOutput, record.valueSchema(), record.value());
+        spillOutput.writeInt(recordBytes.size());
+        recordBytes.writeTo(spillOutput);
+        spilledRecords++;
+    }
+
+    private int headerIndex(SourceRecord record) {
+        RecordHeader header = new RecordHeader(record);
+        Integer index = headerIndexes.get(header);
+        if (index == null) {
+            index = headers.size();
+            headers.add(header);
+            headerIndexes.put(header, index);
+        }
+        return index;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        bufferedRecords.clear();
+        spilledRecordChanges.clear();
+        if (spillFile != null) {
+            try {
+                spillOutput.close();
+            } catch (IOException e) {
+                log.warn("Close snapshot spill file {} error", spillFile, e);
+            }
+            if (!spillFile.delete()) {
+                log.warn("Delete snapshot spill file {} failed", spillFile);
+            }
+        }
+    }
+
+    private class MergedIterator implements Iterator<SourceRecord> {
+        private final Iterator<SourceRecord> bufferedIterator = bufferedRecords.values().iterator();
+        private final FileChannel channel;
+        private final long spillFileSize;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private long position;
+        private long remainingSpilledRecords = spilledRecords;
+        private Iterator<SourceRecord> changedIterator;
+        private SourceRecord next;
+
+        private MergedIterator() throws IOException {
+            this.channel = FileChannel.open(spillFile.toPath(), StandardOpenOption.READ);
+            this.spillFileSize = channel.size();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public SourceRecord next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            SourceRecord record = next;
+            next = null;
+            return record;
+        }
+
+        private SourceRecord advance() {
+            if (bufferedIterator.hasNext()) {
+                return bufferedIterator.next();
+            }
+            try {
+                while (remainingSpilledRecords > 0) {
+                    remainingSpilledRecords--;
+                    SourceRecord record = readSpilledRecord();
+                    Struct key = (Struct) record.key();
+                    if (!spilledRecordChanges.containsKey(key)) {
+                        return record;
+                    }
+                    SourceRecord changed = spilledRecordChanges.remove(key);
+                    if (changed != null) {
+                        return changed;
+                    }
+                }
+                if (changedIterator == null) {
+                    channel.close();
+                    // changes of keys that were not part of the snapshot
+                    changedIterator = spilledRecordChanges.values().iterator();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            while (changedIterator.hasNext()) {
+                SourceRecord changed = changedIterator.next();
+                if (changed != null) {
+                    return changed;
+                }
+            }
+            close();
+            return null;
+        }
+
+        private SourceRecord readSpilledRecord() throws IOException {
+            int length = map(position, Integer.BYTES).getInt();
+            ByteBuffer in = map(position + Integer.BYTES, length);
+            position += Integer.BYTES + length;
+            RecordHeader header = headers.get(in.getInt());
+            Object key = ConnectValueSerializer.read(in, header.keySchema);
+            Object value = ConnectValueSerializer.read(in, header.valueSchema);
+            return new SourceRecord(
+                    header.sourcePartition,
+                    header.sourceOffset,
+                    header.topic,
+                    header.kafkaPartition,
+                    header.keySchema,
+                    key,
+                    header.valueSchema,
+                    value);
+        }
+
+        /** Returns the mapped window positioned at the given range of the spill file. */
+        private ByteBuffer map(long start, int length) throws IOException {
+            if (window == null
+                    || start < windowStart
+                    || start + length > windowStart + window.capacity()) {
+                long size = Math.min(Math.max(MAPPED_WINDOW_SIZE, length), spillFileSize - start);
+                window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+                windowStart = start;
+            }
+            window.position((int) (start - windowStart));
+            return window;
+        }
+    }
+
+    /**
+     * The parts of a record that are shared by the records of a split and are kept in memory
+     * instead of being spilled. Schemas are compared by identity, they are reused by the reader.
+     */
+    private static final class RecordHeader {
+        private final Map<String, ?> sourcePartition;
+        private final Map<String, ?> sourceOffset;
+        private final String topic;
+        private final Integer kafkaPartition;
+        private final Schema keySchema;
+        private final Schema valueSchema;
+
+        private RecordHeader(SourceRecord record) {
+            this.sourcePartition = record.sourcePartition();
+            this.sourceOffset = record.sourceOffset();
+            this.topic = record.topic();
+            this.kafkaPartition = record.kafkaPartition();
+            this.keySchema = record.keySchema();
+            this.valueSchema = record.valueSchema();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RecordHeader)) {
+                return false;
+            }
+            RecordHeader that = (RecordHeader) o;
+            return keySchema == that.keySchema
+                    && valueSchema == that.valueSchema
+                    && Objects.equals(sourcePartition, that.sourcePartition)
+                    && Objects.equals(sourceOffset, that.sourceOffset)
+                    && Objects.equals(topic, that.topic)
+                    && Objects.equals(kafkaPartition, that.kafkaPartition);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                    sourcePartition,
+                    sourceOffset,
+                    topic,
+                    kafkaPartition,
+                    System.identityHashCode(keySchema),
+                    System.identityHashCode(valueSchema));
+        }
+    }
+}
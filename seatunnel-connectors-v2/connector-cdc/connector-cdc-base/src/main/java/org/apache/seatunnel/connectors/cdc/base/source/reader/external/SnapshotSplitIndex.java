@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.connectors.cdc.base.source.split.CompletedSnapshotSplitInfo;
+import org.apache.seatunnel.connectors.cdc.base.utils.SourceRecordUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The finished snapshot splits of one table, sorted by split start so that the split containing a
+ * split key can be found with a binary search instead of checking every split.
+ *
+ * <p>The index is only usable when the splits are keyed by a single field and do not overlap, which
+ * is what the chunk splitters produce. Otherwise {@link #isIndexed()} returns false and callers
+ * should check the splits one by one.
+ */
+class SnapshotSplitIndex {
+
+    private static final Comparator<CompletedSnapshotSplitInfo> SPLIT_START_ORDER =
+            (s1, s2) -> compareStart(s1.getSplitStart(), s2.getSplitStart());
+
+    private final List<CompletedSnapshotSplitInfo> splits;
+    private final boolean indexed;
+
+    SnapshotSplitIndex(List<CompletedSnapshotSplitInfo> splits) {
+        List<CompletedSnapshotSplitInfo> sorted = new ArrayList<>(splits);
+        boolean sortable = isSingleFieldKey(sorted);
+        if (sortable) {
+            try {
+                sorted.sort(SPLIT_START_ORDER);
+                sortable = isDisjoint(sorted);
+            } catch (RuntimeException e) {
+                // split bounds of different types, keep the original order
+                sorted = new ArrayList<>(splits);
+                sortable = false;
+            }
+        }
+        this.splits = Collections.unmodifiableList(sorted);
+        this.indexed = sortable;
+    }
+
+    boolean isIndexed() {
+        return indexed;
+    }
+
+    List<CompletedSnapshotSplitInfo> getSplits() {
+        return splits;
+    }
+
+    /**
+     * Returns the only split which may contain the given split key, that is the last split whose
+     * start is not after the key, or null if the key is before the first split.
+     */
+    CompletedSnapshotSplitInfo floor(Object[] splitKey) {
+        int low = 0;
+        int high = splits.size() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Object[] start = splits.get(mid).getSplitStart();
+            if (start == null || SourceRecordUtils.compareObjects(start[0], splitKey[0]) <= 0) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found < 0 ? null : splits.get(found);
+    }
+
+    private static boolean isSingleFieldKey(List<CompletedSnapshotSplitInfo> splits) {
+        for (CompletedSnapshotSplitInfo split : splits) {
+            if (!isSingleFieldBound(split.getSplitStart())
+                    || !isSingleFieldBound(split.getSplitEnd())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSingleFieldBound(Object[] bound) {
+        return bound == null || (bound.length == 1 && bound[0] != null);
+    }
+
+    /** Each split must end at or before the start of the next one. */
+    private static boolean isDisjoint(List<CompletedSnapshotSplitInfo> sorted) {
+        for (int i = 0; i + 1 < sorted.size(); i++) {
+            Object[] end = sorted.get(i).getSplitEnd();
+            Object[] nextStart = sorted.get(i + 1).getSplitStart();
+            if (end == null
+                    || nextStart == null
+                    || SourceRecordUtils.compareObjects(end[0], nextStart[0]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int compareStart(Object[] start1, Object[] start2) {
+        if (start1 == null || start2 == null) {
+            return start1 == null ? (start2 == null ? 0 : -1) : 1;
+        }
+        return SourceRecordUtils.compareObjects(start1[0], start2[0]);
+    }
+}
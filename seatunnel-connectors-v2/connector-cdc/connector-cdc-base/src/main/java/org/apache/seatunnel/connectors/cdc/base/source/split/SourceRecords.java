@@ -26,20 +26,36 @@ import java.util.List;
 /** Data structure to describe a set of {@link SourceRecord}. */
 public final class SourceRecords {
 
-    private final List<SourceRecord> sourceRecords;
+    private final Iterable<SourceRecord> sourceRecords;
 
     public SourceRecords(List<SourceRecord> sourceRecords) {
         this.sourceRecords = sourceRecords;
     }
 
+    private SourceRecords(Iterable<SourceRecord> sourceRecords) {
+        this.sourceRecords = sourceRecords;
+    }
+
     public List<SourceRecord> getSourceRecordList() {
-        return sourceRecords;
+        if (sourceRecords instanceof List) {
+            return (List<SourceRecord>) sourceRecords;
+        }
+        List<SourceRecord> records = new ArrayList<>();
+        sourceRecords.forEach(records::add);
+        return records;
     }
 
     public Iterator<SourceRecord> iterator() {
         return sourceRecords.iterator();
     }
 
+    /**
+     * Creates records that are produced while they are iterated, they can only be iterated once.
+     */
+    public static SourceRecords fromIterator(Iterator<SourceRecord> iterator) {
+        return new SourceRecords(() -> iterator);
+    }
+
     public static SourceRecords fromSingleRecord(SourceRecord record) {
         final List<SourceRecord> records = new ArrayList<>();
         records.add(record);
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+public class SnapshotRecordBufferTest {
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("key").field("id", Schema.INT32_SCHEMA).build();
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("value")
+                    .field("id", Schema.INT32_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("amount", Decimal.builder(2).optional().build())
+                    .field("ts", Timestamp.builder().optional().build())
+                    .field("data", Schema.OPTIONAL_BYTES_SCHEMA)
+                    .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
+                    .field(
+                            "attrs",
+                            SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.INT64_SCHEMA)
+                                    .optional()
+                                    .build())
+                    .build();
+
+    @Test
+    public void testMergeSpilledRecords() throws Exception {
+        SnapshotRecordBuffer buffer = new SnapshotRecordBuffer(2);
+        List<SourceRecord> snapshot = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            snapshot.add(record(i, "snapshot-" + i));
+            buffer.add(snapshot.get(i - 1));
+        }
+        Assertions.assertTrue(buffer.isSpilled());
+
+        // in memory record
+        buffer.put(key(1), record(1, "update-1"));
+        // spilled records
+        buffer.put(key(4), record(4, "update-4"));
+        buffer.remove(key(3));
+        // record inserted after the snapshot
+        buffer.put(key(9), record(9, "insert-9"));
+        buffer.remove(key(2));
+        buffer.put(key(2), record(2, "update-2"));
+
+        List<SourceRecord> records = new ArrayList<>();
+        buffer.iterator().forEachRemaining(records::add);
+        Assertions.assertTrue(buffer.isClosed());
+
+        Assertions.assertEquals(
+                Arrays.asList("update-1", "update-4", "snapshot-5", "insert-9", "update-2"),
+                names(records));
+        SourceRecord spilled = records.get(2);
+        Assertions.assertEquals(snapshot.get(4).key(), spilled.key());
+        Assertions.assertEquals(snapshot.get(4).value(), spilled.value());
+        Assertions.assertEquals(snapshot.get(4).sourceOffset(), spilled.sourceOffset());
+        Assertions.assertEquals(snapshot.get(4).topic(), spilled.topic());
+    }
+
+    @Test
+    public void testNotSpilled() throws Exception {
+        SnapshotRecordBuffer buffer = new SnapshotRecordBuffer(10);
+        buffer.add(record(1, "snapshot-1"));
+        buffer.add(record(2, "snapshot-2"));
+        Assertions.assertFalse(buffer.isSpilled());
+
+        buffer.remove(key(1));
+        buffer.put(key(3), record(3, "insert-3"));
+        Assertions.assertEquals(
+                Arrays.asList("snapshot-2", "insert-3"),
+                names(new ArrayList<>(buffer.getBufferedRecords())));
+        List<SourceRecord> records = new ArrayList<>();
+        buffer.iterator().forEachRemaining(records::add);
+        Assertions.assertEquals(Arrays.asList("snapshot-2", "insert-3"), names(records));
+    }
+
+    private static List<String> names(List<SourceRecord> records) {
+        List<String> names = new ArrayList<>();
+        for (Iterator<SourceRecord> it = records.iterator(); it.hasNext(); ) {
+            names.add(((Struct) it.next().value()).getString("name"));
+        }
+        return names;
+    }
+
+    private static Struct key(int id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+
+    private static SourceRecord record(int id, String name) {
+        Struct value =
+                new Struct(VALUE_SCHEMA)
+                        .put("id", id)
+                        .put("name", name)
+                        .put("amount", new BigDecimal("12.34").add(BigDecimal.valueOf(id)))
+                        .put("ts", new Date(1700000000000L + id))
+                        .put("data", new byte[] {1, 2, (byte) id})
+                        .put("tags", Arrays.asList("a", "b"))
+                        .put("attrs", Collections.singletonMap("k", (long) id));
+        return new SourceRecord(
+                Collections.singletonMap("server", "test"),
+                Collections.singletonMap("file", "binlog.000001"),
+                "test.db.table",
+                null,
+                KEY_SCHEMA,
+                key(id),
+                VALUE_SCHEMA,
+                value);
+    }
+}
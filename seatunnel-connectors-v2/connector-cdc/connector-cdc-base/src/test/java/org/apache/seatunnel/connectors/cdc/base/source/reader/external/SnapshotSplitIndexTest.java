@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.connectors.cdc.base.source.split.CompletedSnapshotSplitInfo;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.relational.TableId;
+
+import java.util.Arrays;
+
+public class SnapshotSplitIndexTest {
+
+    private static final TableId TABLE_ID = new TableId("db", null, "table");
+
+    @Test
+    public void testFloor() {
+        SnapshotSplitIndex index =
+                new SnapshotSplitIndex(
+                        Arrays.asList(
+                                split("2", 200L, 300L),
+                                split("3", 300L, null),
+                                split("0", null, 100L),
+                                split("1", 100L, 200L)));
+
+        Assertions.assertTrue(index.isIndexed());
+        Assertions.assertEquals("0", index.floor(new Object[] {-5L}).getSplitId());
+        Assertions.assertEquals("0", index.floor(new Object[] {99L}).getSplitId());
+        Assertions.assertEquals("1", index.floor(new Object[] {100L}).getSplitId());
+        Assertions.assertEquals("2", index.floor(new Object[] {299}).getSplitId());
+        Assertions.assertEquals("3", index.floor(new Object[] {300L}).getSplitId());
+        Assertions.assertEquals("3", index.floor(new Object[] {10000L}).getSplitId());
+    }
+
+    @Test
+    public void testFloorWithoutFirstSplit() {
+        SnapshotSplitIndex index =
+                new SnapshotSplitIndex(Arrays.asList(split("b", "m", null), split("a", "c", "m")));
+
+        Assertions.assertTrue(index.isIndexed());
+        Assertions.assertNull(index.floor(new Object[] {"a"}));
+        Assertions.assertEquals("a", index.floor(new Object[] {"d"}).getSplitId());
+        Assertions.assertEquals("b", index.floor(new Object[] {"x"}).getSplitId());
+    }
+
+    @Test
+    public void testNotIndexed() {
+        // overlapping splits
+        Assertions.assertFalse(
+                new SnapshotSplitIndex(Arrays.asList(split("0", null, 100L), split("1", 50L, null)))
+                        .isIndexed());
+        // two first splits
+        Assertions.assertFalse(
+                new SnapshotSplitIndex(Arrays.asList(split("0", null, 100L), split("1", null, 50L)))
+                        .isIndexed());
+        // multi-field split key
+        CompletedSnapshotSplitInfo multiField =
+                new CompletedSnapshotSplitInfo(
+                        "0", TABLE_ID, null, new Object[] {1L, 2L}, null, null);
+        SnapshotSplitIndex index = new SnapshotSplitIndex(Arrays.asList(multiField));
+        Assertions.assertFalse(index.isIndexed());
+        Assertions.assertEquals(1, index.getSplits().size());
+    }
+
+    private static CompletedSnapshotSplitInfo split(String splitId, Object start, Object end) {
+        return new CompletedSnapshotSplitInfo(
+                splitId,
+                TABLE_ID,
+                null,
+                start == null ? null : new Object[] {start},
+                end == null ? null : new Object[] {end},
+                null);
+    }
+}
@@ -27,4 +27,26 @@ public class ClickhouseSourceOptions {
                     .stringType()
                     .noDefaultValue()
                     .withDescription("Clickhouse sql used to query data");
+
+    public static final Option<String> TABLE =
+            Options.key("table")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Clickhouse table to read, the read is split by shard, partition and "
+                                    + "primary key range instead of running one query");
+
+    public static final Option<String> FILTER_QUERY =
+            Options.key("filter_query")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription("Condition applied to every split of the table to read");
+
+    public static final Option<Integer> SPLIT_SIZE =
+            Options.key("split.size")
+                    .intType()
+                    .defaultValue(1000000)
+                    .withDescription(
+                            "Rows of a split, larger partitions are split by the range of the "
+                                    + "first primary key column");
 }
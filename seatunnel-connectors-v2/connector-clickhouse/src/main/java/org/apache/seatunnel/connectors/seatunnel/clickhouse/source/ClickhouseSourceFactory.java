@@ -31,6 +31,7 @@ import org.apache.seatunnel.api.table.factory.Factory;
 import org.apache.seatunnel.api.table.factory.TableSourceFactory;
 import org.apache.seatunnel.api.table.factory.TableSourceFactoryContext;
 import org.apache.seatunnel.common.constants.PluginType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.ClickhouseUtil;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.TypeConvertUtil;
@@ -54,7 +55,10 @@ import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Clickh
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseBaseOptions.PASSWORD;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseBaseOptions.SERVER_TIME_ZONE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseBaseOptions.USERNAME;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseSourceOptions.FILTER_QUERY;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseSourceOptions.SPLIT_SIZE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseSourceOptions.SQL;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseSourceOptions.TABLE;
 
 @AutoService(Factory.class)
 public class ClickhouseSourceFactory implements TableSourceFactory {
@@ -68,7 +72,15 @@ public class ClickhouseSourceFactory implements TableSourceFactory {
             TableSource<T, SplitT, StateT> createSource(TableSourceFactoryContext context) {
         ReadonlyConfig readonlyConfig = context.getOptions();
         List<ClickHouseNode> nodes = ClickhouseUtil.createNodes(readonlyConfig);
-        String sql = readonlyConfig.get(SQL);
+        String sql =
+                readonlyConfig
+                        .getOptional(SQL)
+                        .orElseGet(
+                                () ->
+                                        String.format(
+                                                "SELECT * FROM `%s`.`%s`",
+                                                readonlyConfig.get(DATABASE),
+                                                readonlyConfig.get(TABLE)));
         ClickHouseNode currentServer = nodes.get(ThreadLocalRandom.current().nextInt(nodes.size()));
         try (ClickHouseClient client = ClickHouseClient.newInstance(currentServer.getProtocol());
                 ClickHouseResponse response =
@@ -103,7 +115,18 @@ public class ClickhouseSourceFactory implements TableSourceFactory {
                             catalogName);
             return () ->
                     (SeaTunnelSource<T, SplitT, StateT>)
-                            new ClickhouseSource(nodes, catalogTable, sql);
+                            new ClickhouseSource(
+                                    nodes,
+                                    catalogTable,
+                                    ClickhouseSourceConfig.builder()
+                                            .database(readonlyConfig.get(DATABASE))
+                                            .sql(sql)
+                                            .table(readonlyConfig.get(TABLE))
+                                            .filterQuery(readonlyConfig.get(FILTER_QUERY))
+                                            .splitSize(readonlyConfig.get(SPLIT_SIZE))
+                                            .username(readonlyConfig.get(USERNAME))
+                                            .password(readonlyConfig.get(PASSWORD))
+                                            .build());
         } catch (ClickHouseException e) {
             throw new ClickhouseConnectorException(
                     SeaTunnelAPIErrorCode.CONFIG_VALIDATION_FAILED,
@@ -120,8 +143,9 @@ public class ClickhouseSourceFactory implements TableSourceFactory {
     @Override
     public OptionRule optionRule() {
         return OptionRule.builder()
-                .required(HOST, DATABASE, SQL, USERNAME, PASSWORD)
-                .optional(CLICKHOUSE_CONFIG, SERVER_TIME_ZONE)
+                .required(HOST, DATABASE, USERNAME, PASSWORD)
+                .exclusive(SQL, TABLE)
+                .optional(CLICKHOUSE_CONFIG, SERVER_TIME_ZONE, FILTER_QUERY, SPLIT_SIZE)
                 .build();
     }
 
@@ -18,50 +18,47 @@
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
 
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.TypeConvertUtil;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
+import org.apache.seatunnel.connectors.seatunnel.common.source.SplitRequester;
 
 import com.clickhouse.client.ClickHouseClient;
 import com.clickhouse.client.ClickHouseFormat;
 import com.clickhouse.client.ClickHouseNode;
-import com.clickhouse.client.ClickHouseRequest;
 import com.clickhouse.client.ClickHouseResponse;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
 @Slf4j
-public class ClickhouseSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
+public class ClickhouseSourceReader implements SourceReader<SeaTunnelRow, ClickhouseSourceSplit> {
 
     private final List<ClickHouseNode> servers;
     private ClickHouseClient client;
     private final SeaTunnelRowType rowTypeInfo;
-    private final SingleSplitReaderContext readerContext;
-    private ClickHouseRequest<?> request;
-    private final String sql;
+    private final Context readerContext;
+    private final Deque<ClickhouseSourceSplit> splits = new ConcurrentLinkedDeque<>();
+    private volatile boolean noMoreSplit;
+    private final SplitRequester splitRequester;
 
     ClickhouseSourceReader(
-            List<ClickHouseNode> servers,
-            SingleSplitReaderContext readerContext,
-            String sql,
-            SeaTunnelRowType rowTypeInfo) {
+            List<ClickHouseNode> servers, Context readerContext, SeaTunnelRowType rowTypeInfo) {
         this.servers = servers;
         this.readerContext = readerContext;
-        this.sql = sql;
         this.rowTypeInfo = rowTypeInfo;
+        this.splitRequester = new SplitRequester(readerContext);
     }
 
     @Override
     public void open() {
-        Random random = new Random();
-        ClickHouseNode server = servers.get(random.nextInt(servers.size()));
-        client = ClickHouseClient.newInstance(server.getProtocol());
-        request = client.connect(server).format(ClickHouseFormat.RowBinaryWithNamesAndTypes);
+        client = ClickHouseClient.newInstance(servers.get(0).getProtocol());
     }
 
     @Override
@@ -73,27 +70,55 @@ public class ClickhouseSourceReader extends AbstractSingleSplitReader<SeaTunnelR
 
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
+        // a split is emitted between two checkpoints, so a restarted reader reads the splits it
+        // had not finished again without emitting a row twice
         synchronized (output.getCheckpointLock()) {
-            try (ClickHouseResponse response = this.request.query(sql).executeAndWait()) {
-                response.stream()
-                        .forEach(
-                                record -> {
-                                    Object[] values =
-                                            new Object[this.rowTypeInfo.getFieldNames().length];
-                                    for (int i = 0; i < record.size(); i++) {
-                                        if (record.getValue(i).isNullOrEmpty()) {
-                                            values[i] = null;
-                                        } else {
-                                            values[i] =
-                                                    TypeConvertUtil.valueUnwrap(
-                                                            this.rowTypeInfo.getFieldType(i),
-                                                            record.getValue(i));
-                                        }
-                                    }
-                                    output.collect(new SeaTunnelRow(values));
-                                });
+            ClickhouseSourceSplit split = splits.poll();
+            if (split == null) {
+                if (noMoreSplit) {
+                    signalNoMoreElement();
+                } else {
+                    splitRequester.requestAndWait();
+                }
+                return;
+            }
+            if (splits.isEmpty() && !noMoreSplit) {
+                // ask for the next split while this one is read
+                splitRequester.request();
             }
-            signalNoMoreElement();
+            readSplit(split, output);
+        }
+    }
+
+    private void readSplit(ClickhouseSourceSplit split, Collector<SeaTunnelRow> output)
+            throws Exception {
+        ClickHouseNode server =
+                split.getShard() != null
+                        ? split.getShard().getNode()
+                        : servers.get(new Random().nextInt(servers.size()));
+        log.debug("Read split {} from {}", split.splitId(), server);
+        try (ClickHouseResponse response =
+                client.connect(server)
+                        .format(ClickHouseFormat.RowBinaryWithNamesAndTypes)
+                        .query(split.getQuery())
+                        .executeAndWait()) {
+            response.stream()
+                    .forEach(
+                            record -> {
+                                Object[] values =
+                                        new Object[this.rowTypeInfo.getFieldNames().length];
+                                for (int i = 0; i < record.size(); i++) {
+                                    if (record.getValue(i).isNullOrEmpty()) {
+                                        values[i] = null;
+                                    } else {
+                                        values[i] =
+                                                TypeConvertUtil.valueUnwrap(
+                                                        this.rowTypeInfo.getFieldType(i),
+                                                        record.getValue(i));
+                                    }
+                                }
+                                output.collect(new SeaTunnelRow(values));
+                            });
         }
     }
 
@@ -101,4 +126,23 @@ public class ClickhouseSourceReader extends AbstractSingleSplitReader<SeaTunnelR
         log.info("Closed the bounded ClickHouse source");
         this.readerContext.signalNoMoreElement();
     }
+
+    @Override
+    public List<ClickhouseSourceSplit> snapshotState(long checkpointId) {
+        return new ArrayList<>(splits);
+    }
+
+    @Override
+    public void addSplits(List<ClickhouseSourceSplit> splits) {
+        this.splits.addAll(splits);
+        splitRequester.splitsReceived();
+    }
+
+    @Override
+    public void handleNoMoreSplits() {
+        noMoreSplit = true;
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {}
 }
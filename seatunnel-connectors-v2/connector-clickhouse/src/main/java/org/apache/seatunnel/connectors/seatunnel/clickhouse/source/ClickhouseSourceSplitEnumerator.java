@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSourceState;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits the table once and hands out one split per request, so a reader which finished its split
+ * early takes the next one while slower readers are still busy. Every split is hashed to an owner
+ * reader, which gets it first. A reader without own splits takes over the pending splits of the
+ * busiest other registered reader. The splits not assigned yet are kept in the checkpoint, the
+ * assigned ones are kept by the readers.
+ */
+@Slf4j
+public class ClickhouseSourceSplitEnumerator
+        implements SourceSplitEnumerator<ClickhouseSourceSplit, ClickhouseSourceState> {
+
+    private final Context<ClickhouseSourceSplit> context;
+    private final ClickhouseSourceSplitter splitter;
+    private final Set<Integer> readersAwaitingSplit = new LinkedHashSet<>();
+    private final Object stateLock = new Object();
+    // the pending splits by their owner reader, null until the table is split
+    private Map<Integer, List<ClickhouseSourceSplit>> pendingSplits;
+
+    public ClickhouseSourceSplitEnumerator(
+            Context<ClickhouseSourceSplit> context,
+            ClickhouseSourceSplitter splitter,
+            ClickhouseSourceState sourceState) {
+        this.context = context;
+        this.splitter = splitter;
+        if (sourceState != null && sourceState.getPendingSplits() != null) {
+            this.pendingSplits = new HashMap<>();
+            sourceState
+                    .getPendingSplits()
+                    .forEach(
+                            (reader, splits) -> pendingSplits.put(reader, new ArrayList<>(splits)));
+        }
+    }
+
+    @Override
+    public void open() {}
+
+    @Override
+    public void run() throws Exception {
+        synchronized (stateLock) {
+            if (pendingSplits != null) {
+                assignSplitToAwaitingReaders();
+                return;
+            }
+        }
+        List<ClickhouseSourceSplit> splits = splitter.generateSplits();
+        log.info("Split the clickhouse source into {} splits.", splits.size());
+        synchronized (stateLock) {
+            pendingSplits = new HashMap<>();
+            int readerCount = context.currentParallelism();
+            for (ClickhouseSourceSplit split : splits) {
+                pendingSplits
+                        .computeIfAbsent(
+                                getSplitOwner(split.splitId(), readerCount), r -> new ArrayList<>())
+                        .add(split);
+            }
+            assignSplitToAwaitingReaders();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {}
+
+    @Override
+    public void addSplitsBack(List<ClickhouseSourceSplit> splits, int subtaskId) {
+        if (splits.isEmpty()) {
+            return;
+        }
+        log.info("Add back {} splits of reader {}.", splits.size(), subtaskId);
+        synchronized (stateLock) {
+            if (pendingSplits == null) {
+                pendingSplits = new HashMap<>();
+            }
+            pendingSplits.computeIfAbsent(subtaskId, r -> new ArrayList<>()).addAll(0, splits);
+            assignSplitToAwaitingReaders();
+        }
+    }
+
+    @Override
+    public int currentUnassignedSplitSize() {
+        synchronized (stateLock) {
+            return pendingSplits == null
+                    ? 0
+                    : pendingSplits.values().stream().mapToInt(List::size).sum();
+        }
+    }
+
+    @Override
+    public void handleSplitRequest(int subtaskId) {
+        synchronized (stateLock) {
+            readersAwaitingSplit.add(subtaskId);
+            assignSplitToAwaitingReaders();
+        }
+    }
+
+    @Override
+    public void registerReader(int subtaskId) {
+        log.info("Register reader {} to ClickhouseSourceSplitEnumerator.", subtaskId);
+    }
+
+    @Override
+    public ClickhouseSourceState snapshotState(long checkpointId) throws Exception {
+        synchronized (stateLock) {
+            if (pendingSplits == null) {
+                return new ClickhouseSourceState(null);
+            }
+            Map<Integer, List<ClickhouseSourceSplit>> splits = new HashMap<>();
+            pendingSplits.forEach((reader, list) -> splits.put(reader, new ArrayList<>(list)));
+            return new ClickhouseSourceState(splits);
+        }
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {}
+
+    private void assignSplitToAwaitingReaders() {
+        if (pendingSplits == null) {
+            // the requests are answered once the table is split
+            return;
+        }
+        Set<Integer> registeredReaders = context.registeredReaders();
+        Iterator<Integer> readers = readersAwaitingSplit.iterator();
+        while (readers.hasNext()) {
+            int reader = readers.next();
+            readers.remove();
+            if (!registeredReaders.contains(reader)) {
+                continue;
+            }
+            ClickhouseSourceSplit split = nextSplit(reader, registeredReaders);
+            if (split != null) {
+                log.debug("Assign split {} to reader {}", split.splitId(), reader);
+                context.assignSplit(reader, Collections.singletonList(split));
+            } else {
+                log.info(
+                        "No more splits to assign. Sending NoMoreSplitsEvent to reader {}.",
+                        reader);
+                context.signalNoMoreSplits(reader);
+            }
+        }
+    }
+
+    /**
+     * Take the next split owned by the reader, or the last split of the registered reader with the
+     * most pending splits. Splits of readers which are not registered here are never taken, as they
+     * may be read by an enumerator of another subtask.
+     */
+    private ClickhouseSourceSplit nextSplit(int reader, Set<Integer> registeredReaders) {
+        List<ClickhouseSourceSplit> ownSplits = pendingSplits.get(reader);
+        if (ownSplits != null && !ownSplits.isEmpty()) {
+            return removeSplit(reader, ownSplits, 0);
+        }
+        int busiestReader = -1;
+        List<ClickhouseSourceSplit> busiestSplits = null;
+        for (Map.Entry<Integer, List<ClickhouseSourceSplit>> entry : pendingSplits.entrySet()) {
+            if (registeredReaders.contains(entry.getKey())
+                    && !entry.getValue().isEmpty()
+                    && (busiestSplits == null || entry.getValue().size() > busiestSplits.size())) {
+                busiestReader = entry.getKey();
+                busiestSplits = entry.getValue();
+            }
+        }
+        if (busiestSplits == null) {
+            return null;
+        }
+        log.debug("Reader {} takes over a split of reader {}.", reader, busiestReader);
+        return removeSplit(busiestReader, busiestSplits, busiestSplits.size() - 1);
+    }
+
+    private ClickhouseSourceSplit removeSplit(
+            int owner, List<ClickhouseSourceSplit> splits, int index) {
+        ClickhouseSourceSplit split = splits.remove(index);
+        if (splits.isEmpty()) {
+            pendingSplits.remove(owner);
+        }
+        return split;
+    }
+
+    private static int getSplitOwner(String splitId, int numReaders) {
+        return (splitId.hashCode() & Integer.MAX_VALUE) % numReaders;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
+
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.file.ClickhouseTable;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.ClickhouseProxy;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.DistributedEngine;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.clickhouse.client.ClickHouseNode;
+import com.clickhouse.client.ClickHouseRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Splits the read of a table by shard and partition. The shards of a Distributed table are read
+ * through their local table, the partitions of a MergeTree table are listed from system.parts and a
+ * partition holding more than {@code split.size} rows is further split by ranges of the first
+ * primary key column if that is an integer column. A source configured with a query is read as a
+ * single split.
+ */
+@Slf4j
+public class ClickhouseSourceSplitter {
+
+    private static final Pattern INTEGER_TYPE = Pattern.compile("U?Int(8|16|32|64|128|256)");
+
+    private final List<ClickHouseNode> servers;
+    private final ClickhouseSourceConfig config;
+
+    public ClickhouseSourceSplitter(List<ClickHouseNode> servers, ClickhouseSourceConfig config) {
+        this.servers = servers;
+        this.config = config;
+    }
+
+    public List<ClickhouseSourceSplit> generateSplits() {
+        if (StringUtils.isEmpty(config.getTable())) {
+            return Collections.singletonList(new ClickhouseSourceSplit("0", null, config.getSql()));
+        }
+        ClickHouseNode server = servers.get(ThreadLocalRandom.current().nextInt(servers.size()));
+        ClickhouseProxy proxy = new ClickhouseProxy(server);
+        try {
+            ClickhouseTable table =
+                    proxy.getClickhouseTable(
+                            proxy.getClickhouseConnection(),
+                            config.getDatabase(),
+                            config.getTable());
+            DistributedEngine distributedEngine = table.getDistributedEngine();
+            if (distributedEngine == null) {
+                return splitShard(proxy, new Shard(1, 1, server), table);
+            }
+            List<Shard> shards =
+                    proxy.getClusterShardList(
+                            proxy.getClickhouseConnection(),
+                            distributedEngine.getClusterName(),
+                            distributedEngine.getDatabase(),
+                            server.getPort(),
+                            config.getUsername(),
+                            config.getPassword(),
+                            server.getOptions());
+            List<ClickhouseSourceSplit> splits = new ArrayList<>();
+            for (Shard shard : shards) {
+                ClickhouseTable localTable =
+                        proxy.getClickhouseTable(
+                                proxy.getClickhouseConnection(shard),
+                                distributedEngine.getDatabase(),
+                                distributedEngine.getTable());
+                splits.addAll(splitShard(proxy, shard, localTable));
+            }
+            return splits;
+        } finally {
+            proxy.close();
+        }
+    }
+
+    private List<ClickhouseSourceSplit> splitShard(
+            ClickhouseProxy proxy, Shard shard, ClickhouseTable table) {
+        String splitIdPrefix = shard.getShardNum() + "-";
+        if (!table.getEngine().contains("MergeTree")) {
+            log.warn(
+                    "Table {}.{} on shard {} is no MergeTree table, it is read as one split of any"
+                            + " size and no checkpoint completes while it is read.",
+                    table.getDatabase(),
+                    table.getTableName(),
+                    shard.getShardNum());
+            return Collections.singletonList(
+                    new ClickhouseSourceSplit(
+                            splitIdPrefix + "all",
+                            shard,
+                            buildQuery(table, Collections.emptyList())));
+        }
+        ClickHouseRequest<?> connection = proxy.getClickhouseConnection(shard);
+        Map<String, Long> partitions =
+                proxy.getPartitionRows(connection, table.getDatabase(), table.getTableName());
+        String splitKey = getSplitKey(table.getSortingKey(), table.getTableSchema());
+        List<ClickhouseSourceSplit> splits = new ArrayList<>();
+        for (Map.Entry<String, Long> partition : partitions.entrySet()) {
+            String partitionId = partition.getKey();
+            String partitionCondition = "_partition_id = '" + partitionId + "'";
+            long rangeCount =
+                    (partition.getValue() + config.getSplitSize() - 1) / config.getSplitSize();
+            List<String> ranges = Collections.emptyList();
+            if (splitKey != null && rangeCount > 1) {
+                Optional<BigInteger[]> range =
+                        proxy.getPartitionColumnRange(
+                                connection,
+                                table.getDatabase(),
+                                table.getTableName(),
+                                splitKey,
+                                partitionId);
+                if (range.isPresent()) {
+                    ranges = splitRange(splitKey, range.get()[0], range.get()[1], (int) rangeCount);
+                }
+            }
+            if (ranges.size() <= 1) {
+                if (rangeCount > 1) {
+                    log.warn(
+                            "Partition {} of table {}.{} on shard {} has {} rows, but is read as"
+                                    + " one split because it cannot be cut into ranges of its first"
+                                    + " sorting key column. No checkpoint completes while it is read.",
+                            partitionId,
+                            table.getDatabase(),
+                            table.getTableName(),
+                            shard.getShardNum(),
+                            partition.getValue());
+                }
+                splits.add(
+                        new ClickhouseSourceSplit(
+                                splitIdPrefix + partitionId,
+                                shard,
+                                buildQuery(table, Collections.singletonList(partitionCondition))));
+                continue;
+            }
+            for (int i = 0; i < ranges.size(); i++) {
+                List<String> conditions = new ArrayList<>();
+                conditions.add(partitionCondition);
+                conditions.add(ranges.get(i));
+                splits.add(
+                        new ClickhouseSourceSplit(
+                                splitIdPrefix + partitionId + "-" + i,
+                                shard,
+                                buildQuery(table, conditions)));
+            }
+        }
+        log.info(
+                "Split table {}.{} on shard {} into {} splits.",
+                table.getDatabase(),
+                table.getTableName(),
+                shard.getShardNum(),
+                splits.size());
+        return splits;
+    }
+
+    String buildQuery(ClickhouseTable table, List<String> conditions) {
+        List<String> where = new ArrayList<>(conditions);
+        if (StringUtils.isNotBlank(config.getFilterQuery())) {
+            where.add("(" + config.getFilterQuery() + ")");
+        }
+        String query =
+                String.format("SELECT * FROM `%s`.`%s`", table.getDatabase(), table.getTableName());
+        if (where.isEmpty()) {
+            return query;
+        }
+        return query + " WHERE " + String.join(" AND ", where);
+    }
+
+    /** The first sorting key column if it is a plain integer column, null otherwise. */
+    public static String getSplitKey(String sortingKey, Map<String, String> tableSchema) {
+        if (StringUtils.isBlank(sortingKey)) {
+            return null;
+        }
+        String column = sortingKey.split(",")[0].trim();
+        String type = tableSchema.get(column);
+        if (type == null || !INTEGER_TYPE.matcher(type).matches()) {
+            return null;
+        }
+        return column;
+    }
+
+    /**
+     * Cut [min, max] into at most {@code count} ranges of the same width. The first and the last
+     * range are open so rows written after the range was read are not lost.
+     */
+    public static List<String> splitRange(
+            String column, BigInteger min, BigInteger max, int count) {
+        BigInteger width = max.subtract(min).add(BigInteger.ONE);
+        if (width.compareTo(BigInteger.valueOf(count)) < 0) {
+            count = width.intValue();
+        }
+        if (count <= 1) {
+            return Collections.emptyList();
+        }
+        BigInteger step = width.divide(BigInteger.valueOf(count));
+        List<String> ranges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BigInteger lower = min.add(step.multiply(BigInteger.valueOf(i)));
+            BigInteger upper = lower.add(step);
+            if (i == 0) {
+                ranges.add(String.format("`%s` < %s", column, upper));
+            } else if (i == count - 1) {
+                ranges.add(String.format("`%s` >= %s", column, lower));
+            } else {
+                ranges.add(String.format("`%s` >= %s AND `%s` < %s", column, lower, column, upper));
+            }
+        }
+        return ranges;
+    }
+}
@@ -17,6 +17,21 @@
 
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.state;
 
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.source.ClickhouseSourceSplit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
 import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
 
-public class ClickhouseSourceState implements Serializable {}
+@Data
+@AllArgsConstructor
+public class ClickhouseSourceState implements Serializable {
+    /**
+     * Splits not assigned to a reader yet by the reader owning them, null if the table was not
+     * split yet.
+     */
+    private Map<Integer, List<ClickhouseSourceSplit>> pendingSplits;
+}
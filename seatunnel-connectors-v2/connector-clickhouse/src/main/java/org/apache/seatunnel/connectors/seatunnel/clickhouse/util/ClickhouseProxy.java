@@ -38,6 +38,7 @@ import com.clickhouse.client.ClickHouseRequest;
 import com.clickhouse.client.ClickHouseResponse;
 import lombok.extern.slf4j.Slf4j;
 
+import java.math.BigInteger;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -294,6 +295,70 @@ public class ClickhouseProxy {
         }
     }
 
+    /**
+     * Get the active partitions of a MergeTree table and their row count from system.parts.
+     *
+     * @param connection clickhouse connection of the shard holding the table.
+     * @param database database of the table.
+     * @param table table name of the table.
+     * @return row count by partition id, ordered by partition id.
+     */
+    public Map<String, Long> getPartitionRows(
+            ClickHouseRequest<?> connection, String database, String table) {
+        String sql =
+                String.format(
+                        "select partition_id, sum(rows) from system.parts where database = '%s' and table = '%s' and active group by partition_id order by partition_id",
+                        database, table);
+        Map<String, Long> partitions = new LinkedHashMap<>();
+        try (ClickHouseResponse response = connection.query(sql).executeAndWait()) {
+            response.records()
+                    .forEach(r -> partitions.put(r.getValue(0).asString(), r.getValue(1).asLong()));
+            return partitions;
+        } catch (ClickHouseException e) {
+            throw new ClickhouseConnectorException(
+                    ClickhouseConnectorErrorCode.PARTITION_LIST_GET_FAILED,
+                    "Cannot get partitions of table " + database + "." + table + " from clickhouse",
+                    e);
+        }
+    }
+
+    /**
+     * Get the minimum and maximum value of an integer column within one partition.
+     *
+     * @param connection clickhouse connection of the shard holding the table.
+     * @param database database of the table.
+     * @param table table name of the table.
+     * @param column integer column.
+     * @param partitionId partition id of the partition.
+     * @return the minimum and maximum value, empty if the partition has no rows.
+     */
+    public Optional<BigInteger[]> getPartitionColumnRange(
+            ClickHouseRequest<?> connection,
+            String database,
+            String table,
+            String column,
+            String partitionId) {
+        String sql =
+                String.format(
+                        "select min(`%s`), max(`%s`), count() from `%s`.`%s` where _partition_id = '%s'",
+                        column, column, database, table, partitionId);
+        try (ClickHouseResponse response = connection.query(sql).executeAndWait()) {
+            ClickHouseRecord record = response.firstRecord();
+            if (record.getValue(2).asLong() == 0) {
+                return Optional.empty();
+            }
+            return Optional.of(
+                    new BigInteger[] {
+                        record.getValue(0).asBigInteger(), record.getValue(1).asBigInteger()
+                    });
+        } catch (ClickHouseException e) {
+            throw new ClickhouseConnectorException(
+                    ClickhouseConnectorErrorCode.PARTITION_LIST_GET_FAILED,
+                    "Cannot get range of column " + column + " from clickhouse",
+                    e);
+        }
+    }
+
     public boolean tableExists(String database, String table) {
         String sql =
                 String.format(
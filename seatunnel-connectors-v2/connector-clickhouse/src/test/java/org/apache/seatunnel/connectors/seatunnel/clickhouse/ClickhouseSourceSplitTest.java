@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.source.ClickhouseSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.source.ClickhouseSourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.source.ClickhouseSourceSplitter;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSourceState;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+public class ClickhouseSourceSplitTest {
+
+    @Test
+    public void testSplitRange() {
+        Assertions.assertEquals(
+                Arrays.asList("`id` < 4", "`id` >= 4 AND `id` < 7", "`id` >= 7"),
+                ClickhouseSourceSplitter.splitRange(
+                        "id", BigInteger.ONE, BigInteger.valueOf(10), 3));
+        // no more ranges than values
+        Assertions.assertEquals(
+                Arrays.asList("`id` < 6", "`id` >= 6"),
+                ClickhouseSourceSplitter.splitRange(
+                        "id", BigInteger.valueOf(5), BigInteger.valueOf(6), 4));
+        Assertions.assertTrue(
+                ClickhouseSourceSplitter.splitRange(
+                                "id", BigInteger.valueOf(5), BigInteger.valueOf(5), 4)
+                        .isEmpty());
+    }
+
+    @Test
+    public void testSplitKey() {
+        Map<String, String> schema = new HashMap<>();
+        schema.put("id", "UInt64");
+        schema.put("name", "String");
+        Assertions.assertEquals("id", ClickhouseSourceSplitter.getSplitKey("id, name", schema));
+        Assertions.assertNull(ClickhouseSourceSplitter.getSplitKey("name, id", schema));
+        Assertions.assertNull(ClickhouseSourceSplitter.getSplitKey("toDate(id)", schema));
+        Assertions.assertNull(ClickhouseSourceSplitter.getSplitKey("", schema));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEnumeratorAssignsSplitsOnRequest() throws Exception {
+        List<ClickhouseSourceSplit> splits =
+                Arrays.asList(
+                        new ClickhouseSourceSplit("1-a", null, "select 1"),
+                        new ClickhouseSourceSplit("1-b", null, "select 2"));
+        ClickhouseSourceSplitter splitter = Mockito.mock(ClickhouseSourceSplitter.class);
+        Mockito.when(splitter.generateSplits()).thenReturn(splits);
+        SourceSplitEnumerator.Context<ClickhouseSourceSplit> context =
+                Mockito.mock(SourceSplitEnumerator.Context.class);
+        Mockito.when(context.registeredReaders()).thenReturn(new HashSet<>(Arrays.asList(0, 1)));
+        Mockito.when(context.currentParallelism()).thenReturn(2);
+
+        ClickhouseSourceSplitEnumerator enumerator =
+                new ClickhouseSourceSplitEnumerator(context, splitter, null);
+        // requests before the table is split are answered once it is
+        enumerator.handleSplitRequest(0);
+        Mockito.verify(context, Mockito.never()).assignSplit(Mockito.anyInt(), Mockito.anyList());
+        enumerator.run();
+        // "1-b" is hashed to reader 0, "1-a" to reader 1
+        Mockito.verify(context).assignSplit(0, Collections.singletonList(splits.get(1)));
+
+        ClickhouseSourceState state = enumerator.snapshotState(1);
+        Assertions.assertEquals(
+                Collections.singletonMap(1, Collections.singletonList(splits.get(0))),
+                state.getPendingSplits());
+
+        enumerator.handleSplitRequest(1);
+        Mockito.verify(context).assignSplit(1, Collections.singletonList(splits.get(0)));
+        enumerator.handleSplitRequest(0);
+        Mockito.verify(context).signalNoMoreSplits(0);
+
+        // a restored enumerator continues with the pending splits instead of splitting again
+        ClickhouseSourceSplitEnumerator restored =
+                new ClickhouseSourceSplitEnumerator(context, splitter, state);
+        restored.run();
+        Mockito.verify(splitter, Mockito.times(1)).generateSplits();
+        Assertions.assertEquals(1, restored.currentUnassignedSplitSize());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEnumeratorPerSubtaskAssignsEverySplitOnce() throws Exception {
+        List<ClickhouseSourceSplit> splits = new ArrayList<>();
+        for (String id : Arrays.asList("1-a", "1-b", "1-c", "1-d", "1-e")) {
+            splits.add(new ClickhouseSourceSplit(id, null, "select '" + id + "'"));
+        }
+        ClickhouseSourceSplitter splitter = Mockito.mock(ClickhouseSourceSplitter.class);
+        Mockito.when(splitter.generateSplits()).thenReturn(splits);
+        int parallelism = 3;
+
+        // every subtask runs its own enumerator which only knows its own reader
+        List<ClickhouseSourceSplit> assigned = new ArrayList<>();
+        for (int subtask = 0; subtask < parallelism; subtask++) {
+            SourceSplitEnumerator.Context<ClickhouseSourceSplit> context =
+                    Mockito.mock(SourceSplitEnumerator.Context.class);
+            Mockito.when(context.registeredReaders()).thenReturn(Collections.singleton(subtask));
+            Mockito.when(context.currentParallelism()).thenReturn(parallelism);
+            boolean[] noMoreSplits = {false};
+            Mockito.doAnswer(
+                            invocation -> {
+                                assigned.addAll(invocation.getArgument(1));
+                                return null;
+                            })
+                    .when(context)
+                    .assignSplit(Mockito.anyInt(), Mockito.anyList());
+            Mockito.doAnswer(invocation -> noMoreSplits[0] = true)
+                    .when(context)
+                    .signalNoMoreSplits(Mockito.anyInt());
+
+            ClickhouseSourceSplitEnumerator enumerator =
+                    new ClickhouseSourceSplitEnumerator(context, splitter, null);
+            enumerator.run();
+            while (!noMoreSplits[0]) {
+                enumerator.handleSplitRequest(subtask);
+            }
+        }
+
+        Assertions.assertEquals(splits.size(), assigned.size());
+        Assertions.assertEquals(new HashSet<>(splits), new HashSet<>(assigned));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source;
+
+import org.apache.seatunnel.api.source.SourceReader;
+
+/**
+ * Asks the enumerator for splits on behalf of a reader which pulls its splits one at a time. The
+ * enumerator keeps unanswered requests, so a request is only repeated every {@link
+ * #REQUEST_INTERVAL_MS} in case one got lost, until {@link #splitsReceived()} is called.
+ */
+public class SplitRequester {
+
+    /** How long a reader without a split waits before it polls again. */
+    public static final long SPLIT_WAIT_MS = 100L;
+
+    public static final long REQUEST_INTERVAL_MS = 5000L;
+
+    private final SourceReader.Context context;
+    private volatile long lastRequestTime;
+
+    public SplitRequester(SourceReader.Context context) {
+        this.context = context;
+    }
+
+    public void request() {
+        long now = System.currentTimeMillis();
+        if (now - lastRequestTime >= REQUEST_INTERVAL_MS) {
+            lastRequestTime = now;
+            context.sendSplitRequest();
+        }
+    }
+
+    /** Request a split and wait {@link #SPLIT_WAIT_MS} for it to arrive. */
+    public void requestAndWait() throws InterruptedException {
+        request();
+        Thread.sleep(SPLIT_WAIT_MS);
+    }
+
+    /** The pending request was answered, so the next one is sent right away. */
+    public void splitsReceived() {
+        lastRequestTime = 0;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.doris.serialize;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 
 public interface DorisSerializer extends Serializable {
@@ -28,5 +29,16 @@ public interface DorisSerializer extends Serializable {
 
     byte[] serialize(SeaTunnelRow seaTunnelRow) throws IOException;
 
+    /**
+     * Write the serialized row to the given stream, without allocating the row bytes if possible.
+     */
+    default void serialize(SeaTunnelRow seaTunnelRow, OutputStream outputStream)
+            throws IOException {
+        byte[] bytes = serialize(seaTunnelRow);
+        if (bytes != null) {
+            outputStream.write(bytes);
+        }
+    }
+
     void close() throws IOException;
 }
@@ -19,17 +19,21 @@ package org.apache.seatunnel.connectors.doris.serialize;
 
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonGenerator;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 
 import org.apache.seatunnel.api.serialization.SerializationSchema;
 import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.connectors.doris.sink.writer.LoadConstants;
-import org.apache.seatunnel.format.json.JsonSerializationSchema;
+import org.apache.seatunnel.format.json.RowToJsonConverters;
 import org.apache.seatunnel.format.text.TextSerializationSchema;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -45,6 +49,9 @@ public class SeaTunnelRowSerializer implements DorisSerializer {
     private final String fieldDelimiter;
     private final boolean enableDelete;
     private final SerializationSchema serialize;
+    private final ObjectMapper mapper;
+    private final RowToJsonConverters.RowToJsonConverter jsonConverter;
+    private transient ObjectNode node;
 
     public SeaTunnelRowSerializer(
             String type,
@@ -69,12 +76,16 @@ public class SeaTunnelRowSerializer implements DorisSerializer {
                         fieldTypes.toArray(new SeaTunnelDataType<?>[0]));
 
         if (JSON.equals(type)) {
-            JsonSerializationSchema jsonSerializationSchema =
-                    new JsonSerializationSchema(this.seaTunnelRowType);
-            ObjectMapper mapper = jsonSerializationSchema.getMapper();
+            // json is written by the jackson generator straight to the output stream
+            this.mapper = new ObjectMapper();
             mapper.configure(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN, true);
-            this.serialize = jsonSerializationSchema;
+            mapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            mapper.configure(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM, false);
+            this.jsonConverter = new RowToJsonConverters().createConverter(this.seaTunnelRowType);
+            this.serialize = null;
         } else {
+            this.mapper = null;
+            this.jsonConverter = null;
             this.serialize =
                     TextSerializationSchema.builder()
                             .seaTunnelRowType(this.seaTunnelRowType)
@@ -85,8 +96,23 @@ public class SeaTunnelRowSerializer implements DorisSerializer {
     }
 
     public byte[] buildJsonString(SeaTunnelRow row) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            writeJson(row, outputStream);
+        } catch (IOException e) {
+            throw CommonError.jsonOperationError("Doris", row.toString(), e);
+        }
+        return outputStream.toByteArray();
+    }
 
-        return serialize.serialize(row);
+    private void writeJson(SeaTunnelRow row, OutputStream outputStream) throws IOException {
+        if (node == null) {
+            node = mapper.createObjectNode();
+        }
+        jsonConverter.convert(mapper, node, row);
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(outputStream)) {
+            mapper.writeTree(generator, node);
+        }
     }
 
     public byte[] buildCSVString(SeaTunnelRow row) {
@@ -109,14 +135,7 @@ public class SeaTunnelRowSerializer implements DorisSerializer {
 
     @Override
     public byte[] serialize(SeaTunnelRow seaTunnelRow) throws IOException {
-
-        if (enableDelete) {
-
-            List<Object> newFields = new ArrayList<>(Arrays.asList(seaTunnelRow.getFields()));
-            newFields.add(parseDeleteSign(seaTunnelRow.getRowKind()));
-            seaTunnelRow = new SeaTunnelRow(newFields.toArray());
-        }
-
+        seaTunnelRow = appendDeleteSign(seaTunnelRow);
         if (JSON.equals(type)) {
             return buildJsonString(seaTunnelRow);
         } else if (CSV.equals(type)) {
@@ -126,6 +145,28 @@ public class SeaTunnelRowSerializer implements DorisSerializer {
         }
     }
 
+    @Override
+    public void serialize(SeaTunnelRow seaTunnelRow, OutputStream outputStream) throws IOException {
+        seaTunnelRow = appendDeleteSign(seaTunnelRow);
+        if (JSON.equals(type)) {
+            writeJson(seaTunnelRow, outputStream);
+        } else if (CSV.equals(type)) {
+            outputStream.write(buildCSVString(seaTunnelRow));
+        } else {
+            throw new IllegalArgumentException("The type " + type + " is not supported!");
+        }
+    }
+
+    private SeaTunnelRow appendDeleteSign(SeaTunnelRow seaTunnelRow) {
+        if (!enableDelete) {
+            return seaTunnelRow;
+        }
+        Object[] fields = seaTunnelRow.getFields();
+        Object[] newFields = Arrays.copyOf(fields, fields.length + 1);
+        newFields[fields.length] = parseDeleteSign(seaTunnelRow.getRowKind());
+        return new SeaTunnelRow(newFields);
+    }
+
     @Override
     public void close() throws IOException {}
 }
@@ -49,7 +49,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -153,15 +152,11 @@ public class DorisSinkWriter
     @Override
     public void write(SeaTunnelRow element) throws IOException {
         checkLoadException();
-        byte[] serialize =
-                serializer.serialize(
-                        dorisSinkConfig.isNeedsUnsupportedTypeCasting()
-                                ? UnsupportedTypeConverterUtils.convertRow(element)
-                                : element);
-        if (Objects.isNull(serialize)) {
-            return;
-        }
-        dorisStreamLoad.writeRecord(serialize);
+        dorisStreamLoad.writeRecord(
+                dorisSinkConfig.isNeedsUnsupportedTypeCasting()
+                        ? UnsupportedTypeConverterUtils.convertRow(element)
+                        : element,
+                serializer);
         if (!dorisSinkConfig.getEnable2PC()
                 && dorisStreamLoad.getRecordCount() >= dorisSinkConfig.getBatchSize()) {
             flush();
@@ -22,12 +22,14 @@ import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.common.utils.JsonUtils;
 import org.apache.seatunnel.connectors.doris.config.DorisSinkConfig;
 import org.apache.seatunnel.connectors.doris.exception.DorisConnectorErrorCode;
 import org.apache.seatunnel.connectors.doris.exception.DorisConnectorException;
 import org.apache.seatunnel.connectors.doris.rest.models.RespContent;
+import org.apache.seatunnel.connectors.doris.serialize.DorisSerializer;
 import org.apache.seatunnel.connectors.doris.sink.HttpPutBuilder;
 import org.apache.seatunnel.connectors.doris.sink.LoadStatus;
 import org.apache.seatunnel.connectors.doris.util.ResponseUtil;
@@ -41,6 +43,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -51,6 +54,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
+import java.util.zip.GZIPOutputStream;
 
 import static org.apache.seatunnel.connectors.doris.sink.writer.LoadConstants.LINE_DELIMITER_DEFAULT;
 import static org.apache.seatunnel.connectors.doris.sink.writer.LoadConstants.LINE_DELIMITER_KEY;
@@ -67,6 +71,9 @@ public class DorisStreamLoad implements Serializable {
     private static final String LOAD_URL_PATTERN = "http://%s/api/%s/%s/_stream_load";
     private static final String ABORT_URL_PATTERN = "http://%s/api/%s/_stream_load_2pc";
     private static final String JOB_EXIST_FINISHED = "FINISHED";
+    private static final String COMPRESS_TYPE_KEY = "compress_type";
+    private static final String COMPRESS_TYPE_GZ = "gz";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
     private final String loadUrlStr;
     @Getter private final String hostPort;
     private final String abortUrlStr;
@@ -78,6 +85,8 @@ public class DorisStreamLoad implements Serializable {
     private final boolean enableDelete;
     private final Properties streamLoadProp;
     private final RecordStream recordStream;
+    private final boolean gzip;
+    private OutputStream recordOutput;
     @Getter private Future<CloseableHttpResponse> pendingLoadFuture;
     private final CloseableHttpClient httpClient;
     private final ExecutorService executorService;
@@ -116,6 +125,17 @@ public class DorisStreamLoad implements Serializable {
                 new RecordStream(dorisSinkConfig.getBufferSize(), dorisSinkConfig.getBufferCount());
         lineDelimiter =
                 streamLoadProp.getProperty(LINE_DELIMITER_KEY, LINE_DELIMITER_DEFAULT).getBytes();
+        String compressType = streamLoadProp.getProperty(COMPRESS_TYPE_KEY);
+        if (compressType != null && !COMPRESS_TYPE_GZ.equalsIgnoreCase(compressType)) {
+            throw new DorisConnectorException(
+                    DorisConnectorErrorCode.STREAM_LOAD_FAILED,
+                    "Unsupported stream load compress_type "
+                            + compressType
+                            + ", only "
+                            + COMPRESS_TYPE_GZ
+                            + " is supported");
+        }
+        this.gzip = compressType != null;
         loadBatchFirstRecord = true;
     }
 
@@ -177,15 +197,30 @@ public class DorisStreamLoad implements Serializable {
     }
 
     public void writeRecord(byte[] record) throws IOException {
+        startRecord();
+        recordOutput.write(record);
+        recordCount++;
+    }
+
+    /** Serialize the row straight into the stream load buffers. */
+    public void writeRecord(SeaTunnelRow row, DorisSerializer serializer) throws IOException {
+        startRecord();
+        serializer.serialize(row, recordOutput);
+        recordCount++;
+    }
+
+    private void startRecord() throws IOException {
         if (loadBatchFirstRecord) {
             loadBatchFirstRecord = false;
             recordStream.startInput();
+            recordOutput =
+                    gzip
+                            ? new GZIPOutputStream(recordStream.getOutputStream(), GZIP_BUFFER_SIZE)
+                            : recordStream.getOutputStream();
             startStreamLoad();
         } else {
-            recordStream.write(lineDelimiter);
+            recordOutput.write(lineDelimiter);
         }
-        recordStream.write(record);
-        recordCount++;
     }
 
     public String getLoadFailedMsg() {
@@ -221,6 +256,11 @@ public class DorisStreamLoad implements Serializable {
         loading = false;
         if (pendingLoadFuture != null) {
             log.info("stream load stopped.");
+            if (recordOutput instanceof GZIPOutputStream) {
+                // write the rest of the compressed data and the gzip trailer
+                ((GZIPOutputStream) recordOutput).finish();
+            }
+            recordOutput = null;
             recordStream.endInput();
             try {
                 return handlePreCommitResponse(pendingLoadFuture.get());
@@ -98,14 +98,19 @@ public class RecordBuffer {
     }
 
     public void write(byte[] buf) throws InterruptedException {
-        int wPos = 0;
-        do {
+        write(buf, 0, buf.length);
+    }
+
+    public void write(byte[] buf, int off, int len) throws InterruptedException {
+        int wPos = off;
+        int end = off + len;
+        while (wPos != end) {
             while (currentWriteBuffer == null) {
                 checkErrorMessageByStreamLoad();
                 currentWriteBuffer = writeQueue.poll(100, TimeUnit.MILLISECONDS);
             }
             int available = currentWriteBuffer.remaining();
-            int nWrite = Math.min(available, buf.length - wPos);
+            int nWrite = Math.min(available, end - wPos);
             currentWriteBuffer.put(buf, wPos, nWrite);
             wPos += nWrite;
             if (currentWriteBuffer.remaining() == 0) {
@@ -113,7 +118,7 @@ public class RecordBuffer {
                 readQueue.put(currentWriteBuffer);
                 currentWriteBuffer = null;
             }
-        } while (wPos != buf.length);
+        }
     }
 
     public int read(byte[] buf) throws InterruptedException {
@@ -19,10 +19,23 @@ package org.apache.seatunnel.connectors.doris.sink.writer;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 /** Record Stream for writing record. */
 public class RecordStream extends InputStream {
     private final RecordBuffer recordBuffer;
+    private final OutputStream outputStream =
+            new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    RecordStream.this.write(new byte[] {(byte) b});
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    RecordStream.this.write(b, off, len);
+                }
+            };
 
     @Override
     public int read() throws IOException {
@@ -58,6 +71,19 @@ public class RecordStream extends InputStream {
         }
     }
 
+    public void write(byte[] buff, int off, int len) throws IOException {
+        try {
+            recordBuffer.write(buff, off, len);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /** The writing side of this stream, so serializers and compressors can write into it. */
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+
     public void setErrorMessageByStreamLoad(String errorMessageByStreamLoad) {
         recordBuffer.setErrorMessageByStreamLoad(errorMessageByStreamLoad);
     }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.doris.serialize;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+public class SeaTunnelRowSerializerTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "price"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.INT_TYPE, BasicType.STRING_TYPE, new DecimalType(10, 2)
+                    });
+
+    @Test
+    public void testJsonWithDeleteSign() throws IOException {
+        SeaTunnelRowSerializer serializer = new SeaTunnelRowSerializer("json", ROW_TYPE, ",", true);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1, "a", new BigDecimal("1E+1")});
+        row.setRowKind(RowKind.DELETE);
+
+        String expected = "{\"id\":1,\"name\":\"a\",\"price\":10,\"__DORIS_DELETE_SIGN__\":\"1\"}";
+        Assertions.assertEquals(
+                expected, new String(serializer.serialize(row), StandardCharsets.UTF_8));
+        Assertions.assertEquals(expected, serializeToStream(serializer, row));
+        // the row itself must not be changed by the delete sign
+        Assertions.assertEquals(3, row.getArity());
+
+        SeaTunnelRow next = new SeaTunnelRow(new Object[] {2, "b", null});
+        Assertions.assertEquals(
+                "{\"id\":2,\"name\":\"b\",\"price\":null,\"__DORIS_DELETE_SIGN__\":\"0\"}",
+                serializeToStream(serializer, next));
+    }
+
+    @Test
+    public void testCsv() throws IOException {
+        SeaTunnelRowSerializer serializer = new SeaTunnelRowSerializer("csv", ROW_TYPE, "|", false);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1, "a", new BigDecimal("1.50")});
+
+        Assertions.assertEquals(
+                "1|a|1.50", new String(serializer.serialize(row), StandardCharsets.UTF_8));
+        Assertions.assertEquals("1|a|1.50", serializeToStream(serializer, row));
+    }
+
+    private static String serializeToStream(SeaTunnelRowSerializer serializer, SeaTunnelRow row)
+            throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        serializer.serialize(row, outputStream);
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -44,6 +44,8 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.ssl.SSLContexts;
 import org.apache.http.util.Asserts;
@@ -60,6 +62,7 @@ import javax.net.ssl.SSLContext;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -210,8 +213,17 @@ public class EsRestClient implements Closeable {
     }
 
     public BulkResponse bulk(String requestBody) {
+        byte[] body = requestBody.getBytes(StandardCharsets.UTF_8);
+        return bulk(body, body.length);
+    }
+
+    /**
+     * Send the first {@code length} bytes of {@code body} as one bulk request, the positions of the
+     * items which failed are returned by {@link BulkResponse#getFailedItems()}.
+     */
+    public BulkResponse bulk(byte[] body, int length) {
         Request request = new Request("POST", "/_bulk");
-        request.setJsonEntity(requestBody);
+        request.setEntity(new ByteArrayEntity(body, 0, length, ContentType.APPLICATION_JSON));
         try {
             Response response = restClient.performRequest(request);
             if (response == null) {
@@ -224,25 +236,37 @@ public class EsRestClient implements Closeable {
                 JsonNode json = OBJECT_MAPPER.readTree(entity);
                 int took = json.get("took").asInt();
                 boolean errors = json.get("errors").asBoolean();
-                return new BulkResponse(errors, took, entity);
+                List<Integer> failedItems = new ArrayList<>();
+                JsonNode items = json.get("items");
+                if (errors && items != null) {
+                    for (int i = 0; i < items.size(); i++) {
+                        Iterator<JsonNode> actions = items.get(i).elements();
+                        if (actions.hasNext() && actions.next().has("error")) {
+                            failedItems.add(i);
+                        }
+                    }
+                }
+                return new BulkResponse(errors, took, entity, failedItems);
             } else {
                 throw new ElasticsearchConnectorException(
                         ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
                         String.format(
                                 "bulk es response status=%s,request body(truncate)=%s",
-                                response,
-                                requestBody.substring(0, Math.min(1000, requestBody.length()))));
+                                response, truncate(body, length)));
             }
         } catch (IOException e) {
             throw new ElasticsearchConnectorException(
                     ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
                     String.format(
-                            "bulk es error,request body(truncate)=%s",
-                            requestBody.substring(0, Math.min(1000, requestBody.length()))),
+                            "bulk es error,request body(truncate)=%s", truncate(body, length)),
                     e);
         }
     }
 
+    private static String truncate(byte[] body, int length) {
+        return new String(body, 0, Math.min(1000, length), StandardCharsets.UTF_8);
+    }
+
     public ElasticsearchClusterInfo getClusterInfo() {
         Request request = new Request("GET", "/");
         try {
@@ -63,6 +63,13 @@ public class ElasticsearchSinkOptions extends ElasticsearchBaseOptions {
                     .defaultValue(3)
                     .withDescription("one bulk request max try count");
 
+    public static final Option<Integer> MAX_CONCURRENT_REQUESTS =
+            Options.key("max_concurrent_requests")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The max number of bulk requests in flight, the writer keeps batching rows while they are sent");
+
     public static final Option<SchemaSaveMode> SCHEMA_SAVE_MODE =
             Options.key("schema_save_mode")
                     .enumType(SchemaSaveMode.class)
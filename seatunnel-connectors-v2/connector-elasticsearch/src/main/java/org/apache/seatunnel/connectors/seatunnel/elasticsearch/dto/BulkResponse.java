@@ -17,12 +17,16 @@
 
 package org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto;
 
+import java.util.Collections;
+import java.util.List;
+
 /** the response of bulk ES by http request */
 public class BulkResponse {
 
     private boolean errors;
     private int took;
     private String response;
+    private List<Integer> failedItems = Collections.emptyList();
 
     public BulkResponse() {}
 
@@ -32,6 +36,11 @@ public class BulkResponse {
         this.response = response;
     }
 
+    public BulkResponse(boolean errors, int took, String response, List<Integer> failedItems) {
+        this(errors, took, response);
+        this.failedItems = failedItems;
+    }
+
     public boolean isErrors() {
         return errors;
     }
@@ -55,4 +64,13 @@ public class BulkResponse {
     public void setResponse(String response) {
         this.response = response;
     }
+
+    /** The positions of the items of the bulk request which failed, in request order. */
+    public List<Integer> getFailedItems() {
+        return failedItems;
+    }
+
+    public void setFailedItems(List<Integer> failedItems) {
+        this.failedItems = failedItems;
+    }
 }
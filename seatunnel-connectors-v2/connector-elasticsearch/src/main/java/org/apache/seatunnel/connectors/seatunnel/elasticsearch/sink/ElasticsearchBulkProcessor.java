@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.common.utils.RetryUtils;
+import org.apache.seatunnel.common.utils.RetryUtils.RetryMaterial;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Collects bulk request items into reusable byte buffers and sends them on a background thread
+ * pool, so the writer can keep serializing rows while up to {@code maxConcurrentRequests} bulk
+ * requests are in flight. When a bulk request partially fails only the failed items are retried.
+ */
+@Slf4j
+public class ElasticsearchBulkProcessor implements AutoCloseable {
+
+    private static final long DEFAULT_SLEEP_TIME_MS = 200L;
+
+    private final EsRestClient esRestClient;
+    private final int maxBatchSize;
+    private final int maxConcurrentRequests;
+    private final RetryMaterial retryMaterial;
+    private final Semaphore inFlightRequests;
+    private final BlockingQueue<BulkBuffer> freeBuffers;
+    private final ExecutorService executorService;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private BulkBuffer currentBuffer;
+
+    public ElasticsearchBulkProcessor(
+            EsRestClient esRestClient,
+            int maxBatchSize,
+            int maxRetryCount,
+            int maxConcurrentRequests) {
+        this.esRestClient = esRestClient;
+        this.maxBatchSize = maxBatchSize;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.retryMaterial =
+                new RetryMaterial(maxRetryCount, true, exception -> true, DEFAULT_SLEEP_TIME_MS);
+        this.inFlightRequests = new Semaphore(maxConcurrentRequests);
+        // one buffer per in flight request and the one being filled
+        this.freeBuffers = new ArrayBlockingQueue<>(maxConcurrentRequests);
+        for (int i = 0; i < maxConcurrentRequests; i++) {
+            freeBuffers.add(new BulkBuffer());
+        }
+        this.currentBuffer = new BulkBuffer();
+        AtomicInteger cnt = new AtomicInteger(0);
+        this.executorService =
+                Executors.newFixedThreadPool(
+                        maxConcurrentRequests,
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setDaemon(true);
+                            thread.setName("st-elasticsearch-bulk-" + cnt.incrementAndGet());
+                            return thread;
+                        });
+    }
+
+    /** Add one serialized bulk item, which is its action line and the optional source line. */
+    public void add(String request) {
+        checkFailure();
+        currentBuffer.add(request);
+        if (currentBuffer.getItems() >= maxBatchSize) {
+            sendCurrentBuffer();
+        }
+    }
+
+    /** Send the buffered items and wait until every in flight bulk request has finished. */
+    public void flush() {
+        checkFailure();
+        sendCurrentBuffer();
+        try {
+            inFlightRequests.acquire(maxConcurrentRequests);
+            inFlightRequests.release(maxConcurrentRequests);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                    "Interrupted while waiting for the bulk requests",
+                    e);
+        }
+        checkFailure();
+    }
+
+    private void sendCurrentBuffer() {
+        if (currentBuffer.getItems() == 0) {
+            return;
+        }
+        try {
+            inFlightRequests.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                    "Interrupted while waiting for the bulk requests",
+                    e);
+        }
+        BulkBuffer buffer = currentBuffer;
+        // a permit guarantees that a free buffer is there
+        currentBuffer = freeBuffers.poll();
+        executorService.execute(
+                () -> {
+                    try {
+                        bulkWithRetry(buffer);
+                    } catch (Throwable e) {
+                        log.error("ElasticSearch bulk request failed", e);
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        buffer.clear();
+                        freeBuffers.add(buffer);
+                        inFlightRequests.release();
+                    }
+                });
+    }
+
+    private void bulkWithRetry(BulkBuffer buffer) {
+        BulkBuffer[] pending = {buffer};
+        try {
+            RetryUtils.retryWithException(
+                    () -> {
+                        BulkResponse bulkResponse =
+                                esRestClient.bulk(pending[0].getBytes(), pending[0].getLength());
+                        if (bulkResponse.isErrors()) {
+                            List<Integer> failedItems = bulkResponse.getFailedItems();
+                            if (!failedItems.isEmpty()
+                                    && failedItems.size() < pending[0].getItems()) {
+                                log.warn(
+                                        "{} of {} bulk items failed, retry them",
+                                        failedItems.size(),
+                                        pending[0].getItems());
+                                pending[0] = pending[0].retain(failedItems);
+                            }
+                            throw new ElasticsearchConnectorException(
+                                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                                    "bulk es error: " + bulkResponse.getResponse());
+                        }
+                        return bulkResponse;
+                    },
+                    retryMaterial);
+        } catch (Exception e) {
+            throw new ElasticsearchConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                    "ElasticSearch execute batch statement error",
+                    e);
+        }
+    }
+
+    private void checkFailure() {
+        Throwable e = failure.get();
+        if (e != null) {
+            if (e instanceof ElasticsearchConnectorException) {
+                throw (ElasticsearchConnectorException) e;
+            }
+            throw new ElasticsearchConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                    "ElasticSearch execute batch statement error",
+                    e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /** The body of one bulk request, encoded as UTF-8 with the start offset of each item. */
+    static class BulkBuffer {
+        private byte[] bytes = new byte[4096];
+        private int length;
+        private int[] itemOffsets = new int[16];
+        private int items;
+
+        void add(String request) {
+            if (items == itemOffsets.length) {
+                itemOffsets = Arrays.copyOf(itemOffsets, items * 2);
+            }
+            itemOffsets[items++] = length;
+            // a char takes at most three bytes, a surrogate pair four bytes for two chars
+            ensureCapacity(length + request.length() * 3 + 1);
+            for (int i = 0; i < request.length(); i++) {
+                char c = request.charAt(i);
+                if (c < 0x80) {
+                    bytes[length++] = (byte) c;
+                } else if (c < 0x800) {
+                    bytes[length++] = (byte) (0xC0 | (c >> 6));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c)
+                        && i + 1 < request.length()
+                        && Character.isLowSurrogate(request.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, request.charAt(++i));
+                    bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    bytes[length++] = (byte) '?';
+                } else {
+                    bytes[length++] = (byte) (0xE0 | (c >> 12));
+                    bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            bytes[length++] = '\n';
+        }
+
+        /** Copy the given items into a new buffer, used to retry the failed items only. */
+        BulkBuffer retain(List<Integer> retainItems) {
+            BulkBuffer retained = new BulkBuffer();
+            for (int item : retainItems) {
+                int start = itemOffsets[item];
+                int end = item + 1 < items ? itemOffsets[item + 1] : length;
+                if (retained.items == retained.itemOffsets.length) {
+                    retained.itemOffsets = Arrays.copyOf(retained.itemOffsets, retained.items * 2);
+                }
+                retained.itemOffsets[retained.items++] = retained.length;
+                retained.ensureCapacity(retained.length + end - start);
+                System.arraycopy(bytes, start, retained.bytes, retained.length, end - start);
+                retained.length += end - start;
+            }
+            return retained;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+            }
+        }
+
+        void clear() {
+            length = 0;
+            items = 0;
+        }
+
+        byte[] getBytes() {
+            return bytes;
+        }
+
+        int getLength() {
+            return length;
+        }
+
+        int getItems() {
+            return items;
+        }
+    }
+}
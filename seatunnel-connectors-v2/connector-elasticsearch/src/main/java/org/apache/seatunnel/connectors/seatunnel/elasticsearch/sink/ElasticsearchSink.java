@@ -44,6 +44,7 @@ import java.util.Optional;
 
 import static org.apache.seatunnel.api.table.factory.FactoryUtil.discoverFactory;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.ElasticsearchSinkOptions.MAX_BATCH_SIZE;
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.ElasticsearchSinkOptions.MAX_CONCURRENT_REQUESTS;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.ElasticsearchSinkOptions.MAX_RETRY_COUNT;
 
 public class ElasticsearchSink
@@ -63,11 +64,14 @@ public class ElasticsearchSink
 
     private final int maxRetryCount;
 
+    private final int maxConcurrentRequests;
+
     public ElasticsearchSink(ReadonlyConfig config, CatalogTable catalogTable) {
         this.config = config;
         this.catalogTable = catalogTable;
         maxBatchSize = config.get(MAX_BATCH_SIZE);
         maxRetryCount = config.get(MAX_RETRY_COUNT);
+        maxConcurrentRequests = config.get(MAX_CONCURRENT_REQUESTS);
     }
 
     @Override
@@ -78,7 +82,7 @@ public class ElasticsearchSink
     @Override
     public ElasticsearchSinkWriter createWriter(SinkWriter.Context context) {
         return new ElasticsearchSinkWriter(
-                context, catalogTable, config, maxBatchSize, maxRetryCount);
+                context, catalogTable, config, maxBatchSize, maxRetryCount, maxConcurrentRequests);
     }
 
     @Override
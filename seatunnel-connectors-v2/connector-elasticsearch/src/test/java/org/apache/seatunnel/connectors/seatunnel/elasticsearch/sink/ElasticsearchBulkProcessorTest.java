@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ElasticsearchBulkProcessorTest {
+
+    @Test
+    public void testBulkBufferEncodeAndRetain() {
+        ElasticsearchBulkProcessor.BulkBuffer buffer = new ElasticsearchBulkProcessor.BulkBuffer();
+        List<String> requests =
+                Arrays.asList(
+                        "{\"index\":{}}\n{\"name\":\"a\"}",
+                        "{\"index\":{}}\n{\"name\":\"é中😀\"}",
+                        "{\"delete\":{\"_id\":\"1\"}}");
+        requests.forEach(buffer::add);
+
+        Assertions.assertEquals(3, buffer.getItems());
+        Assertions.assertEquals(
+                String.join("\n", requests) + "\n",
+                new String(buffer.getBytes(), 0, buffer.getLength(), StandardCharsets.UTF_8));
+
+        ElasticsearchBulkProcessor.BulkBuffer retained = buffer.retain(Arrays.asList(1, 2));
+        Assertions.assertEquals(2, retained.getItems());
+        Assertions.assertEquals(
+                requests.get(1) + "\n" + requests.get(2) + "\n",
+                new String(retained.getBytes(), 0, retained.getLength(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRetryOnlyFailedItems() {
+        EsRestClient esRestClient = mock(EsRestClient.class);
+        List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+        when(esRestClient.bulk(any(byte[].class), anyInt()))
+                .thenAnswer(
+                        invocation -> {
+                            byte[] body = invocation.getArgument(0);
+                            int length = invocation.getArgument(1);
+                            bodies.add(new String(body, 0, length, StandardCharsets.UTF_8));
+                            if (bodies.size() == 1) {
+                                return new BulkResponse(
+                                        true, 1, "failed", Collections.singletonList(1));
+                            }
+                            return new BulkResponse(false, 1, "ok");
+                        });
+
+        ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(esRestClient, 3, 3, 2);
+        processor.add("{\"delete\":{\"_id\":\"1\"}}");
+        processor.add("{\"delete\":{\"_id\":\"2\"}}");
+        processor.flush();
+
+        Assertions.assertEquals(2, bodies.size());
+        Assertions.assertEquals(
+                "{\"delete\":{\"_id\":\"1\"}}\n{\"delete\":{\"_id\":\"2\"}}\n", bodies.get(0));
+        Assertions.assertEquals("{\"delete\":{\"_id\":\"2\"}}\n", bodies.get(1));
+        processor.close();
+    }
+}
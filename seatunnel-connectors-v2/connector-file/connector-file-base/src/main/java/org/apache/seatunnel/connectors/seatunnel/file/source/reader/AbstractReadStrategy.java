@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
@@ -27,9 +28,11 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.file.config.ArchiveCompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
@@ -45,10 +48,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -79,12 +84,15 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
     protected List<String> fileNames = new ArrayList<>();
     protected List<String> readPartitions = new ArrayList<>();
     protected List<String> readColumns = new ArrayList<>();
+    protected List<Predicate> pushedFilters = new ArrayList<>();
     protected boolean isMergePartition = true;
     protected long skipHeaderNumber = BaseSourceConfigOptions.SKIP_HEADER_ROW_NUMBER.defaultValue();
     protected String filenameExtension;
     protected HadoopFileSystemProxy hadoopFileSystemProxy;
     protected ArchiveCompressFormat archiveCompressFormat =
             BaseSourceConfigOptions.ARCHIVE_COMPRESS_CODEC.defaultValue();
+    protected boolean enableFileSplit = BaseSourceConfigOptions.ENABLE_FILE_SPLIT.defaultValue();
+    protected long fileSplitSize = BaseSourceConfigOptions.FILE_SPLIT_SIZE.defaultValue();
 
     protected Pattern pattern;
 
@@ -180,6 +188,17 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
                     pluginConfig.getString(BaseSourceConfigOptions.FILE_FILTER_PATTERN.key());
             this.pattern = Pattern.compile(Matcher.quoteReplacement(filterPattern));
         }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key())) {
+            enableFileSplit =
+                    pluginConfig.getBoolean(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key())) {
+            fileSplitSize = pluginConfig.getLong(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key());
+            if (fileSplitSize <= 0) {
+                throw new IllegalArgumentException(
+                        BaseSourceConfigOptions.FILE_SPLIT_SIZE.key() + " must be positive");
+            }
+        }
     }
 
     @Override
@@ -295,6 +314,72 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
         }
     }
 
+    /**
+     * Group the consecutive blocks of a file, such as parquet row groups or orc stripes, into
+     * splits of about {@code file_split_size} bytes. Every block is covered by exactly one split.
+     *
+     * @param blocks the offset and the length of every block, ordered by offset
+     */
+    protected List<FileSourceSplit> splitByBlocks(
+            String tableId, String path, List<long[]> blocks) {
+        List<FileSourceSplit> splits = new ArrayList<>();
+        long splitStart = -1;
+        long splitEnd = -1;
+        for (long[] block : blocks) {
+            if (splitStart < 0) {
+                splitStart = block[0];
+            }
+            splitEnd = block[0] + block[1];
+            if (splitEnd - splitStart >= fileSplitSize) {
+                splits.add(new FileSourceSplit(tableId, path, splitStart, splitEnd - splitStart));
+                splitStart = -1;
+            }
+        }
+        if (splitStart >= 0) {
+            splits.add(new FileSourceSplit(tableId, path, splitStart, splitEnd - splitStart));
+        }
+        if (splits.size() <= 1) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        return splits;
+    }
+
+    /**
+     * Split a line based file into byte ranges of {@code file_split_size} bytes. The file is read
+     * as a whole when it is compressed or when its encoding may use the line separator byte inside
+     * a character.
+     */
+    protected List<FileSourceSplit> splitByLines(
+            String tableId, String path, CompressFormat compressFormat, String encoding)
+            throws IOException {
+        FileSourceSplit wholeFile = new FileSourceSplit(tableId, path);
+        if (!enableFileSplit
+                || archiveCompressFormat != ArchiveCompressFormat.NONE
+                || compressFormat != CompressFormat.NONE
+                || !Arrays.equals("\n".getBytes(Charset.forName(encoding)), new byte[] {'\n'})) {
+            return Collections.singletonList(wholeFile);
+        }
+        long fileLength = hadoopFileSystemProxy.getFileStatus(path).getLen();
+        if (fileLength <= fileSplitSize) {
+            return Collections.singletonList(wholeFile);
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        for (long start = 0; start < fileLength; start += fileSplitSize) {
+            splits.add(
+                    new FileSourceSplit(
+                            tableId, path, start, Math.min(fileSplitSize, fileLength - start)));
+        }
+        return splits;
+    }
+
+    /** Open the lines of a split created by {@link #splitByLines}. */
+    protected InputStream openLineRange(FileSourceSplit split) throws IOException {
+        return new LineRangeInputStream(
+                hadoopFileSystemProxy.getInputStream(split.getFilePath()),
+                split.getStart(),
+                split.getLength());
+    }
+
     protected void readProcess(
             String path,
             String tableId,
@@ -30,6 +30,7 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 
 import io.airlift.compress.lzo.LzopCodec;
@@ -40,6 +41,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -81,6 +83,29 @@ public class JsonReadStrategy extends AbstractReadStrategy {
         resolveArchiveCompressedInputStream(path, tableId, output, partitionsMap, FileFormat.JSON);
     }
 
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        if (!split.isRangeSplit()) {
+            read(split.getFilePath(), split.getTableId(), output);
+            return;
+        }
+        Map<String, String> partitionsMap = parsePartitionsByPath(split.getFilePath());
+        readProcess(
+                split.getFilePath(),
+                split.getTableId(),
+                output,
+                openLineRange(split),
+                partitionsMap,
+                split.getFilePath());
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        return splitByLines(tableId, path, compressFormat, encoding);
+    }
+
     @Override
     public void readProcess(
             String path,
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the lines of a file that start inside the byte range [start, end). The partial line at the
+ * beginning of the range belongs to the previous range and is skipped, and the line that crosses
+ * the end of the range is read to its end, so neighbouring ranges never share or lose a line.
+ */
+class LineRangeInputStream extends InputStream {
+    private static final int LINE_SEPARATOR = '\n';
+
+    private final FSDataInputStream in;
+    private final long end;
+    private long position;
+    private int lastByte = LINE_SEPARATOR;
+    private boolean finished;
+
+    LineRangeInputStream(FSDataInputStream in, long start, long length) throws IOException {
+        this.in = in;
+        this.end = start + length;
+        if (start > 0) {
+            // start from the first line that begins at or after start
+            in.seek(start - 1);
+            this.position = start - 1;
+            int b;
+            while ((b = in.read()) != -1) {
+                position++;
+                if (b == LINE_SEPARATOR) {
+                    break;
+                }
+            }
+            if (b == -1) {
+                finished = true;
+            }
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (reachedEnd()) {
+            return -1;
+        }
+        int b = in.read();
+        if (b == -1) {
+            finished = true;
+            return -1;
+        }
+        position++;
+        lastByte = b;
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (reachedEnd()) {
+            return -1;
+        }
+        int toRead = length;
+        if (position < end) {
+            toRead = (int) Math.min(length, end - position);
+        }
+        int read = in.read(buffer, offset, toRead);
+        if (read == -1) {
+            finished = true;
+            return -1;
+        }
+        if (position >= end) {
+            // only the rest of the line that crosses the end of the range is returned
+            for (int i = 0; i < read; i++) {
+                if (buffer[offset + i] == LINE_SEPARATOR) {
+                    read = i + 1;
+                    finished = true;
+                    break;
+                }
+            }
+        }
+        position += read;
+        lastByte = buffer[offset + read - 1];
+        return read;
+    }
+
+    private boolean reachedEnd() {
+        return finished || (position >= end && lastByte == LINE_SEPARATOR);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -48,6 +48,8 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
 
     private final Map<String, ReadStrategy> readStrategyMap;
 
+    private volatile SplitCollector currentSplit;
+
     public MultipleTableFileSourceReader(
             Context context, BaseMultipleTableFileSourceConfig multipleTableFileSourceConfig) {
         this.context = context;
@@ -66,36 +68,51 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
 
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) {
+        SplitCollector splitCollector;
         synchronized (output.getCheckpointLock()) {
             FileSourceSplit split = sourceSplits.poll();
-            if (null != split) {
-                ReadStrategy readStrategy = readStrategyMap.get(split.getTableId());
-                if (readStrategy == null) {
-                    throw new FileConnectorException(
-                            FILE_READ_STRATEGY_NOT_SUPPORT,
-                            "Cannot found the read strategy for this table: ["
-                                    + split.getTableId()
-                                    + "]");
-                }
-                try {
-                    readStrategy.read(split.getFilePath(), split.getTableId(), output);
-                } catch (Exception e) {
-                    String errorMsg =
-                            String.format("Read data from this file [%s] failed", split.splitId());
-                    throw new FileConnectorException(FILE_READ_FAILED, errorMsg, e);
+            if (null == split) {
+                if (noMoreSplit) {
+                    // signal to the source that we have reached the end of the data.
+                    log.info(
+                            "There is no more element for the bounded MultipleTableLocalFileSourceReader");
+                    context.signalNoMoreElement();
                 }
-            } else if (noMoreSplit && sourceSplits.isEmpty()) {
-                // signal to the source that we have reached the end of the data.
-                log.info(
-                        "There is no more element for the bounded MultipleTableLocalFileSourceReader");
-                context.signalNoMoreElement();
+                return;
             }
+            splitCollector = new SplitCollector(output, split);
+            currentSplit = splitCollector;
+        }
+        FileSourceSplit split = splitCollector.split;
+        ReadStrategy readStrategy = readStrategyMap.get(split.getTableId());
+        if (readStrategy == null) {
+            throw new FileConnectorException(
+                    FILE_READ_STRATEGY_NOT_SUPPORT,
+                    "Cannot found the read strategy for this table: [" + split.getTableId() + "]");
+        }
+        try {
+            // the checkpoint lock is taken per row, so checkpoints can happen in the middle of a
+            // split and record how far it has been read
+            readStrategy.read(split, splitCollector);
+        } catch (Exception e) {
+            String errorMsg =
+                    String.format("Read data from this file [%s] failed", split.splitId());
+            throw new FileConnectorException(FILE_READ_FAILED, errorMsg, e);
+        }
+        synchronized (output.getCheckpointLock()) {
+            currentSplit = null;
         }
     }
 
     @Override
     public List<FileSourceSplit> snapshotState(long checkpointId) {
-        return new ArrayList<>(sourceSplits);
+        List<FileSourceSplit> splits = new ArrayList<>();
+        SplitCollector splitCollector = currentSplit;
+        if (splitCollector != null) {
+            splits.add(splitCollector.split.withRowOffset(splitCollector.getRowOffset()));
+        }
+        splits.addAll(sourceSplits);
+        return splits;
     }
 
     @Override
@@ -127,4 +144,48 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
             strategy.close();
         }
     }
+
+    /**
+     * Forwards the rows of one split under the checkpoint lock and counts them. The rows that were
+     * emitted before the split was restored from a checkpoint are dropped.
+     */
+    private static class SplitCollector implements Collector<SeaTunnelRow> {
+        private final Collector<SeaTunnelRow> output;
+        private final FileSourceSplit split;
+        private long position;
+
+        private SplitCollector(Collector<SeaTunnelRow> output, FileSourceSplit split) {
+            this.output = output;
+            this.split = split;
+        }
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            synchronized (output.getCheckpointLock()) {
+                if (position++ < split.getRowOffset()) {
+                    return;
+                }
+                output.collect(record);
+            }
+        }
+
+        private long getRowOffset() {
+            return Math.max(position, split.getRowOffset());
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return output.getCheckpointLock();
+        }
+
+        @Override
+        public boolean isEmptyThisPollNext() {
+            return output.isEmptyThisPollNext();
+        }
+
+        @Override
+        public void resetEmptyThisPollNext() {
+            output.resetEmptyThisPollNext();
+        }
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.source.filter.AndPredicate;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.OrPredicate;
+import org.apache.seatunnel.api.source.filter.Predicate;
+import org.apache.seatunnel.api.source.filter.PredicateVisitor;
+
+import org.apache.orc.TypeDescription;
+import org.apache.orc.storage.ql.io.sarg.PredicateLeaf;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
+import org.apache.orc.storage.ql.io.sarg.SearchArgumentFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Translates pushed down predicates into an orc {@link SearchArgument} over the read schema, which
+ * lets the reader skip stripes and row groups by their statistics. Rows of the remaining row groups
+ * are still checked by the downstream filter.
+ */
+public class OrcPredicateConverter implements PredicateVisitor<Consumer<SearchArgument.Builder>> {
+
+    private final TypeDescription schema;
+
+    public OrcPredicateConverter(TypeDescription schema) {
+        this.schema = schema;
+    }
+
+    /** Convert the conjunction of the predicates, returns null if none of them is convertible. */
+    public SearchArgument convert(List<Predicate> predicates) {
+        List<Consumer<SearchArgument.Builder>> leaves = new ArrayList<>();
+        for (Predicate predicate : predicates) {
+            Consumer<SearchArgument.Builder> leaf = predicate.accept(this);
+            if (leaf != null) {
+                leaves.add(leaf);
+            }
+        }
+        if (leaves.isEmpty()) {
+            return null;
+        }
+        SearchArgument.Builder builder = SearchArgumentFactory.newBuilder().startAnd();
+        leaves.forEach(leaf -> leaf.accept(builder));
+        return builder.end().build();
+    }
+
+    @Override
+    public Consumer<SearchArgument.Builder> visit(ComparisonPredicate predicate) {
+        String column = predicate.getColumn();
+        PredicateLeaf.Type type = type(column);
+        Object literal = literal(type, predicate.getValue());
+        if (literal == null) {
+            return null;
+        }
+        switch (predicate.getOperator()) {
+            case EQUAL:
+                return builder -> builder.equals(column, type, literal);
+            case GREATER_THAN:
+                return builder -> builder.startNot().lessThanEquals(column, type, literal).end();
+            case GREATER_THAN_OR_EQUAL:
+                return builder -> builder.startNot().lessThan(column, type, literal).end();
+            case LESS_THAN:
+                return builder -> builder.lessThan(column, type, literal);
+            case LESS_THAN_OR_EQUAL:
+                return builder -> builder.lessThanEquals(column, type, literal);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public Consumer<SearchArgument.Builder> visit(InPredicate predicate) {
+        String column = predicate.getColumn();
+        PredicateLeaf.Type type = type(column);
+        if (predicate.getValues().isEmpty()) {
+            return null;
+        }
+        Object[] literals = new Object[predicate.getValues().size()];
+        for (int i = 0; i < literals.length; i++) {
+            literals[i] = literal(type, predicate.getValues().get(i));
+            if (literals[i] == null) {
+                return null;
+            }
+        }
+        if (predicate.isNegated()) {
+            return builder -> builder.startNot().in(column, type, literals).end();
+        }
+        return builder -> builder.in(column, type, literals);
+    }
+
+    @Override
+    public Consumer<SearchArgument.Builder> visit(IsNullPredicate predicate) {
+        String column = predicate.getColumn();
+        PredicateLeaf.Type type = type(column);
+        if (type == null) {
+            return null;
+        }
+        if (predicate.isNegated()) {
+            return builder -> builder.startNot().isNull(column, type).end();
+        }
+        return builder -> builder.isNull(column, type);
+    }
+
+    @Override
+    public Consumer<SearchArgument.Builder> visit(AndPredicate predicate) {
+        return compound(predicate.getChildren(), SearchArgument.Builder::startAnd);
+    }
+
+    @Override
+    public Consumer<SearchArgument.Builder> visit(OrPredicate predicate) {
+        return compound(predicate.getChildren(), SearchArgument.Builder::startOr);
+    }
+
+    private Consumer<SearchArgument.Builder> compound(
+            List<Predicate> children, Consumer<SearchArgument.Builder> start) {
+        List<Consumer<SearchArgument.Builder>> leaves = new ArrayList<>();
+        for (Predicate child : children) {
+            Consumer<SearchArgument.Builder> leaf = child.accept(this);
+            if (leaf == null) {
+                return null;
+            }
+            leaves.add(leaf);
+        }
+        return builder -> {
+            start.accept(builder);
+            leaves.forEach(leaf -> leaf.accept(builder));
+            builder.end();
+        };
+    }
+
+    private PredicateLeaf.Type type(String column) {
+        int index = schema.getFieldNames().indexOf(column);
+        if (index == -1) {
+            return null;
+        }
+        switch (schema.getChildren().get(index).getCategory()) {
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+                return PredicateLeaf.Type.LONG;
+            case FLOAT:
+            case DOUBLE:
+                return PredicateLeaf.Type.FLOAT;
+            case STRING:
+            case VARCHAR:
+                return PredicateLeaf.Type.STRING;
+            default:
+                return null;
+        }
+    }
+
+    private static Object literal(PredicateLeaf.Type type, Object value) {
+        if (type == null) {
+            return null;
+        }
+        switch (type) {
+            case LONG:
+                if (value instanceof Integer || value instanceof Long) {
+                    return ((Number) value).longValue();
+                }
+                if (value instanceof Double) {
+                    double doubleValue = (Double) value;
+                    long longValue = (long) doubleValue;
+                    return longValue == doubleValue ? longValue : null;
+                }
+                return null;
+            case FLOAT:
+                return value instanceof Number ? ((Number) value).doubleValue() : null;
+            case STRING:
+                return value instanceof String ? value : null;
+            default:
+                return null;
+        }
+    }
+}
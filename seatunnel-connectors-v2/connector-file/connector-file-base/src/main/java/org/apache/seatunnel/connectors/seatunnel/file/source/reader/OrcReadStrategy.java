@@ -19,6 +19,7 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.api.table.type.DecimalType;
@@ -33,6 +34,7 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -41,6 +43,7 @@ import org.apache.hadoop.io.Text;
 import org.apache.orc.OrcFile;
 import org.apache.orc.Reader;
 import org.apache.orc.RecordReader;
+import org.apache.orc.StripeInformation;
 import org.apache.orc.TypeDescription;
 import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
 import org.apache.orc.storage.ql.exec.vector.ColumnVector;
@@ -53,6 +56,7 @@ import org.apache.orc.storage.ql.exec.vector.StructColumnVector;
 import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
 import org.apache.orc.storage.ql.exec.vector.UnionColumnVector;
 import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -83,6 +87,14 @@ public class OrcReadStrategy extends AbstractReadStrategy {
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
+        String tableId = split.getTableId();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -105,7 +117,20 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                 schema.addField(seaTunnelRowType.getFieldName(i), typeDescription);
             }
             List<TypeDescription> children = schema.getChildren();
-            RecordReader rows = reader.rows(reader.options().schema(schema));
+            Reader.Options options = reader.options().schema(schema);
+            if (split.isRangeSplit()) {
+                // only the stripes that start inside the range are read
+                options.range(split.getStart(), split.getLength());
+            }
+            if (!pushedFilters.isEmpty()) {
+                SearchArgument searchArgument =
+                        new OrcPredicateConverter(schema).convert(pushedFilters);
+                if (searchArgument != null) {
+                    options.searchArgument(
+                            searchArgument, schema.getFieldNames().toArray(new String[0]));
+                }
+            }
+            RecordReader rows = reader.rows(options);
             VectorizedRowBatch rowBatch = schema.createRowBatch();
             while (rows.nextBatch(rowBatch)) {
                 int num = 0;
@@ -143,6 +168,33 @@ public class OrcReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        if (!enableFileSplit) {
+            return super.getFileSourceSplits(tableId, path);
+        }
+        List<long[]> stripes = new ArrayList<>();
+        try (Reader reader =
+                hadoopFileSystemProxy.doWithHadoopAuth(
+                        (configuration, userGroupInformation) -> {
+                            OrcFile.ReaderOptions readerOptions =
+                                    OrcFile.readerOptions(configuration);
+                            return OrcFile.createReader(new Path(path), readerOptions);
+                        })) {
+            for (StripeInformation stripe : reader.getStripes()) {
+                stripes.add(new long[] {stripe.getOffset(), stripe.getLength()});
+            }
+        }
+        return splitByBlocks(tableId, path, stripes);
+    }
+
+    @Override
+    public List<Predicate> applyFilters(List<Predicate> predicates) {
+        pushedFilters = new ArrayList<>(predicates);
+        return pushedFilters;
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException {
         return getSeaTunnelRowTypeInfoWithUserConfigRowType(path, null);
@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.source.filter.AndPredicate;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.OrPredicate;
+import org.apache.seatunnel.api.source.filter.Predicate;
+import org.apache.seatunnel.api.source.filter.PredicateVisitor;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Translates pushed down predicates into a parquet {@link FilterPredicate} for one file, which lets
+ * the reader skip row groups by statistics and dictionaries and drop non-matching records. Literals
+ * are only used when the column type can represent them exactly, and predicates on columns that are
+ * missing from the file, nested or of other types are left to the downstream filter.
+ */
+public class ParquetPredicateConverter implements PredicateVisitor<FilterPredicate> {
+
+    private final MessageType schema;
+
+    public ParquetPredicateConverter(MessageType schema) {
+        this.schema = schema;
+    }
+
+    /** Convert the conjunction of the predicates, returns null if none of them is convertible. */
+    public FilterPredicate convert(List<Predicate> predicates) {
+        FilterPredicate filter = null;
+        for (Predicate predicate : predicates) {
+            FilterPredicate converted = predicate.accept(this);
+            if (converted != null) {
+                filter = filter == null ? converted : FilterApi.and(filter, converted);
+            }
+        }
+        return filter;
+    }
+
+    @Override
+    public FilterPredicate visit(ComparisonPredicate predicate) {
+        String column = predicate.getColumn();
+        Object value = predicate.getValue();
+        ComparisonPredicate.Operator operator = predicate.getOperator();
+        ColumnKind kind = kind(column);
+        if (kind == null) {
+            return null;
+        }
+        switch (kind) {
+            case INT:
+                Integer intValue = toInt(value);
+                return intValue == null
+                        ? null
+                        : compare(FilterApi.intColumn(column), operator, intValue);
+            case LONG:
+                Long longValue = toLong(value);
+                return longValue == null
+                        ? null
+                        : compare(FilterApi.longColumn(column), operator, longValue);
+            case FLOAT:
+                Float floatValue = toFloat(value);
+                return floatValue == null
+                        ? null
+                        : compare(FilterApi.floatColumn(column), operator, floatValue);
+            case DOUBLE:
+                Double doubleValue = toDouble(value);
+                return doubleValue == null
+                        ? null
+                        : compare(FilterApi.doubleColumn(column), operator, doubleValue);
+            case STRING:
+                Binary binaryValue = toBinary(value);
+                return binaryValue == null
+                        ? null
+                        : compare(FilterApi.binaryColumn(column), operator, binaryValue);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public FilterPredicate visit(InPredicate predicate) {
+        String column = predicate.getColumn();
+        ColumnKind kind = kind(column);
+        if (kind == null || predicate.getValues().isEmpty()) {
+            return null;
+        }
+        switch (kind) {
+            case INT:
+                Set<Integer> intValues = new LinkedHashSet<>();
+                for (Object value : predicate.getValues()) {
+                    Integer intValue = toInt(value);
+                    if (intValue == null) {
+                        return null;
+                    }
+                    intValues.add(intValue);
+                }
+                return in(FilterApi.intColumn(column), intValues, predicate.isNegated());
+            case LONG:
+                Set<Long> longValues = new LinkedHashSet<>();
+                for (Object value : predicate.getValues()) {
+                    Long longValue = toLong(value);
+                    if (longValue == null) {
+                        return null;
+                    }
+                    longValues.add(longValue);
+                }
+                return in(FilterApi.longColumn(column), longValues, predicate.isNegated());
+            case FLOAT:
+                Set<Float> floatValues = new LinkedHashSet<>();
+                for (Object value : predicate.getValues()) {
+                    Float floatValue = toFloat(value);
+                    if (floatValue == null) {
+                        return null;
+                    }
+                    floatValues.add(floatValue);
+                }
+                return in(FilterApi.floatColumn(column), floatValues, predicate.isNegated());
+            case DOUBLE:
+                Set<Double> doubleValues = new LinkedHashSet<>();
+                for (Object value : predicate.getValues()) {
+                    Double doubleValue = toDouble(value);
+                    if (doubleValue == null) {
+                        return null;
+                    }
+                    doubleValues.add(doubleValue);
+                }
+                return in(FilterApi.doubleColumn(column), doubleValues, predicate.isNegated());
+            case STRING:
+                Set<Binary> binaryValues = new LinkedHashSet<>();
+                for (Object value : predicate.getValues()) {
+                    Binary binaryValue = toBinary(value);
+                    if (binaryValue == null) {
+                        return null;
+                    }
+                    binaryValues.add(binaryValue);
+                }
+                return in(FilterApi.binaryColumn(column), binaryValues, predicate.isNegated());
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public FilterPredicate visit(IsNullPredicate predicate) {
+        String column = predicate.getColumn();
+        ColumnKind kind = kind(column);
+        if (kind == null) {
+            return null;
+        }
+        switch (kind) {
+            case INT:
+                return isNull(FilterApi.intColumn(column), predicate.isNegated());
+            case LONG:
+                return isNull(FilterApi.longColumn(column), predicate.isNegated());
+            case FLOAT:
+                return isNull(FilterApi.floatColumn(column), predicate.isNegated());
+            case DOUBLE:
+                return isNull(FilterApi.doubleColumn(column), predicate.isNegated());
+            case STRING:
+                return isNull(FilterApi.binaryColumn(column), predicate.isNegated());
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public FilterPredicate visit(AndPredicate predicate) {
+        FilterPredicate filter = null;
+        for (Predicate child : predicate.getChildren()) {
+            FilterPredicate converted = child.accept(this);
+            if (converted == null) {
+                return null;
+            }
+            filter = filter == null ? converted : FilterApi.and(filter, converted);
+        }
+        return filter;
+    }
+
+    @Override
+    public FilterPredicate visit(OrPredicate predicate) {
+        List<FilterPredicate> children = new ArrayList<>();
+        for (Predicate child : predicate.getChildren()) {
+            FilterPredicate converted = child.accept(this);
+            if (converted == null) {
+                return null;
+            }
+            children.add(converted);
+        }
+        FilterPredicate filter = null;
+        for (FilterPredicate child : children) {
+            filter = filter == null ? child : FilterApi.or(filter, child);
+        }
+        return filter;
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt>
+            FilterPredicate compare(C column, ComparisonPredicate.Operator operator, T value) {
+        switch (operator) {
+            case EQUAL:
+                return FilterApi.eq(column, value);
+            case GREATER_THAN:
+                return FilterApi.gt(column, value);
+            case GREATER_THAN_OR_EQUAL:
+                return FilterApi.gtEq(column, value);
+            case LESS_THAN:
+                return FilterApi.lt(column, value);
+            case LESS_THAN_OR_EQUAL:
+                return FilterApi.ltEq(column, value);
+            default:
+                return null;
+        }
+    }
+
+    private static <
+                    T extends Comparable<T>,
+                    C extends Operators.Column<T> & Operators.SupportsEqNotEq>
+            FilterPredicate in(C column, Set<T> values, boolean negated) {
+        return negated ? FilterApi.notIn(column, values) : FilterApi.in(column, values);
+    }
+
+    private static <
+                    T extends Comparable<T>,
+                    C extends Operators.Column<T> & Operators.SupportsEqNotEq>
+            FilterPredicate isNull(C column, boolean negated) {
+        return negated ? FilterApi.notEq(column, null) : FilterApi.eq(column, null);
+    }
+
+    private ColumnKind kind(String column) {
+        // parquet column paths are dot separated
+        if (column.contains(".") || !schema.containsField(column)) {
+            return null;
+        }
+        Type type = schema.getType(column);
+        if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) {
+            return null;
+        }
+        PrimitiveType primitiveType = type.asPrimitiveType();
+        OriginalType originalType = primitiveType.getOriginalType();
+        switch (primitiveType.getPrimitiveTypeName()) {
+            case INT32:
+                if (originalType == null
+                        || originalType == OriginalType.INT_8
+                        || originalType == OriginalType.INT_16
+                        || originalType == OriginalType.INT_32) {
+                    return ColumnKind.INT;
+                }
+                return null;
+            case INT64:
+                if (originalType == null || originalType == OriginalType.INT_64) {
+                    return ColumnKind.LONG;
+                }
+                return null;
+            case FLOAT:
+                return ColumnKind.FLOAT;
+            case DOUBLE:
+                return ColumnKind.DOUBLE;
+            case BINARY:
+                return originalType == OriginalType.UTF8 ? ColumnKind.STRING : null;
+            default:
+                return null;
+        }
+    }
+
+    private static Integer toInt(Object value) {
+        Long longValue = toLong(value);
+        if (longValue == null || longValue > Integer.MAX_VALUE || longValue < Integer.MIN_VALUE) {
+            return null;
+        }
+        return longValue.intValue();
+    }
+
+    private static Long toLong(Object value) {
+        if (value instanceof Integer || value instanceof Long) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Double) {
+            double doubleValue = (Double) value;
+            long longValue = (long) doubleValue;
+            return longValue == doubleValue ? longValue : null;
+        }
+        return null;
+    }
+
+    private static Float toFloat(Object value) {
+        if (!(value instanceof Number)) {
+            return null;
+        }
+        // the downstream filter compares float columns as doubles
+        float floatValue = ((Number) value).floatValue();
+        return (double) floatValue == ((Number) value).doubleValue() ? floatValue : null;
+    }
+
+    private static Double toDouble(Object value) {
+        if (!(value instanceof Number)) {
+            return null;
+        }
+        return ((Number) value).doubleValue();
+    }
+
+    private static Binary toBinary(Object value) {
+        return value instanceof String ? Binary.fromString((String) value) : null;
+    }
+
+    private enum ColumnKind {
+        INT,
+        LONG,
+        FLOAT,
+        DOUBLE,
+        STRING
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.BasicType;
@@ -33,21 +34,32 @@ import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.avro.Conversions;
 import org.apache.avro.data.TimeConversions;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
 import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetInputFormat;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
 import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
@@ -65,6 +77,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -85,6 +98,14 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
+        String tableId = split.getTableId();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -98,16 +119,116 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 hadoopFileSystemProxy.doWithHadoopAuth(
                         (configuration, userGroupInformation) ->
                                 HadoopInputFile.fromPath(filePath, configuration));
+        // the footer is read once, for the pushed down filter and for the reader
+        ParquetMetadata footer = readFooter(hadoopInputFile, split);
+        FilterPredicate filter = null;
+        if (!pushedFilters.isEmpty()) {
+            filter =
+                    new ParquetPredicateConverter(footer.getFileMetaData().getSchema())
+                            .convert(pushedFilters);
+        }
+        if (!readWithRowMaterializer(filePath, footer, split, filter, partitionsMap, output)) {
+            readWithAvro(hadoopInputFile, split, filter, partitionsMap, output);
+        }
+    }
+
+    /** Read the footer with the row groups of the split only. */
+    private ParquetMetadata readFooter(HadoopInputFile hadoopInputFile, FileSourceSplit split)
+            throws IOException {
+        ParquetMetadataConverter.MetadataFilter metadataFilter =
+                split.isRangeSplit()
+                        ? ParquetMetadataConverter.range(
+                                split.getStart(), split.getStart() + split.getLength())
+                        : ParquetMetadataConverter.NO_FILTER;
+        return hadoopFileSystemProxy.doWithHadoopAuth(
+                (configuration, userGroupInformation) ->
+                        ParquetFileReader.readFooter(hadoopInputFile, metadataFilter));
+    }
+
+    /**
+     * Decode the projected columns straight into rows, returns false without reading anything if
+     * the file has columns that only the avro reader supports.
+     */
+    private boolean readWithRowMaterializer(
+            Path filePath,
+            ParquetMetadata footer,
+            FileSourceSplit split,
+            FilterPredicate filter,
+            Map<String, String> partitionsMap,
+            Collector<SeaTunnelRow> output)
+            throws IOException {
+        FileMetaData fileMetaData = footer.getFileMetaData();
+        ParquetRowMaterializer materializer =
+                ParquetRowMaterializer.create(
+                        fileMetaData.getSchema(),
+                        seaTunnelRowType,
+                        isMergePartition
+                                ? partitionsMap.values()
+                                : Collections.<String>emptyList());
+        if (materializer == null) {
+            return false;
+        }
+        FilterCompat.Filter recordFilter =
+                filter == null ? FilterCompat.NOOP : FilterCompat.get(filter);
+        try (ParquetFileReader reader =
+                hadoopFileSystemProxy.doWithHadoopAuth(
+                        (configuration, userGroupInformation) -> {
+                            Configuration readConfiguration = new Configuration(configuration);
+                            if (filter != null) {
+                                ParquetInputFormat.setFilterPredicate(readConfiguration, filter);
+                            }
+                            // row groups are skipped by statistics and dictionaries here
+                            return new ParquetFileReader(readConfiguration, filePath, footer);
+                        })) {
+            reader.setRequestedSchema(materializer.getRequestedSchema());
+            MessageColumnIO columnIO =
+                    new ColumnIOFactory(fileMetaData.getCreatedBy())
+                            .getColumnIO(
+                                    materializer.getRequestedSchema(), fileMetaData.getSchema());
+            String tableId = split.getTableId();
+            PageReadStore pages;
+            while ((pages = reader.readNextFilteredRowGroup()) != null) {
+                RecordReader<SeaTunnelRow> recordReader =
+                        columnIO.getRecordReader(pages, materializer, recordFilter);
+                for (long i = 0; i < pages.getRowCount(); i++) {
+                    SeaTunnelRow seaTunnelRow = recordReader.read();
+                    if (seaTunnelRow == null || recordReader.shouldSkipCurrentRecord()) {
+                        // dropped by the record filter
+                        continue;
+                    }
+                    seaTunnelRow.setTableId(tableId);
+                    output.collect(seaTunnelRow);
+                }
+            }
+            return true;
+        }
+    }
+
+    private void readWithAvro(
+            HadoopInputFile hadoopInputFile,
+            FileSourceSplit split,
+            FilterPredicate filter,
+            Map<String, String> partitionsMap,
+            Collector<SeaTunnelRow> output)
+            throws IOException {
+        String tableId = split.getTableId();
         int fieldsCount = seaTunnelRowType.getTotalFields();
         GenericData dataModel = new GenericData();
         dataModel.addLogicalTypeConversion(new Conversions.DecimalConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
         GenericRecord record;
-        try (ParquetReader<GenericData.Record> reader =
+        ParquetReader.Builder<GenericData.Record> builder =
                 AvroParquetReader.<GenericData.Record>builder(hadoopInputFile)
-                        .withDataModel(dataModel)
-                        .build()) {
+                        .withDataModel(dataModel);
+        if (split.isRangeSplit()) {
+            // only the row groups whose midpoint falls into the range are read
+            builder.withFileRange(split.getStart(), split.getStart() + split.getLength());
+        }
+        if (filter != null) {
+            builder.withFilter(FilterCompat.get(filter));
+        }
+        try (ParquetReader<GenericData.Record> reader = builder.build()) {
             while ((record = reader.read()) != null) {
                 Object[] fields;
                 if (isMergePartition) {
@@ -130,6 +251,34 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    @Override
+    public List<Predicate> applyFilters(List<Predicate> predicates) {
+        pushedFilters = new ArrayList<>(predicates);
+        return pushedFilters;
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        if (!enableFileSplit) {
+            return super.getFileSourceSplits(tableId, path);
+        }
+        HadoopInputFile hadoopInputFile =
+                hadoopFileSystemProxy.doWithHadoopAuth(
+                        (configuration, userGroupInformation) ->
+                                HadoopInputFile.fromPath(new Path(path), configuration));
+        List<long[]> rowGroups = new ArrayList<>();
+        try (ParquetFileReader reader =
+                hadoopFileSystemProxy.doWithHadoopAuth(
+                        (configuration, userGroupInformation) ->
+                                ParquetFileReader.open(hadoopInputFile))) {
+            for (BlockMetaData block : reader.getFooter().getBlocks()) {
+                rowGroups.add(new long[] {block.getStartingPos(), block.getCompressedSize()});
+            }
+        }
+        return splitByBlocks(tableId, path, rowGroups);
+    }
+
     private Object resolveObject(Object field, SeaTunnelDataType<?> fieldType) {
         if (field == null) {
             return null;
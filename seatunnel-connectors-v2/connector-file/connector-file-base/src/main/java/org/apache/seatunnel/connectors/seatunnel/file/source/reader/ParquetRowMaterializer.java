@@ -0,0 +1,388 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.io.api.RecordMaterializer;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+
+/**
+ * Materializes parquet records straight into {@link SeaTunnelRow}s. Every projected column gets a
+ * converter that decodes its values into the field of the row, dictionary pages are decoded once
+ * per page instead of once per value, and only the projected columns are requested from the file.
+ * Only flat primitive columns are supported, {@link #create} returns null for other schemas so the
+ * caller can fall back to the avro reader.
+ */
+public class ParquetRowMaterializer extends RecordMaterializer<SeaTunnelRow> {
+    private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1L);
+    private static final long NANOS_PER_MILLISECOND = 1000000;
+    private static final long JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH = 2440588;
+    private static final int INT96_LENGTH = 12;
+
+    private final MessageType requestedSchema;
+    private final RowConverter rowConverter;
+
+    private ParquetRowMaterializer(
+            MessageType requestedSchema, List<ValueConverter> converters, Object[] partitions) {
+        this.requestedSchema = requestedSchema;
+        this.rowConverter = new RowConverter(converters, partitions);
+    }
+
+    /**
+     * Create a materializer for the given row type.
+     *
+     * @param fileSchema the schema of the parquet file
+     * @param rowType the projected fields, which are read from the file by name
+     * @param partitionValues the values appended to every row after the projected fields
+     * @return the materializer, or null if a field can't be read by it
+     */
+    public static ParquetRowMaterializer create(
+            MessageType fileSchema, SeaTunnelRowType rowType, Collection<String> partitionValues) {
+        List<Type> requestedFields = new ArrayList<>();
+        List<ValueConverter> converters = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < rowType.getTotalFields(); i++) {
+            String name = rowType.getFieldName(i);
+            if (!names.add(name) || !fileSchema.containsField(name)) {
+                return null;
+            }
+            Type type = fileSchema.getType(name);
+            if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) {
+                return null;
+            }
+            ValueConverter converter =
+                    createConverter(type.asPrimitiveType(), rowType.getFieldType(i), i);
+            if (converter == null) {
+                return null;
+            }
+            requestedFields.add(type);
+            converters.add(converter);
+        }
+        Object[] partitions = new Object[rowType.getTotalFields() + partitionValues.size()];
+        int index = rowType.getTotalFields();
+        for (String value : partitionValues) {
+            partitions[index++] = value;
+        }
+        return new ParquetRowMaterializer(
+                new MessageType(fileSchema.getName(), requestedFields), converters, partitions);
+    }
+
+    /** The schema of the projected columns, which should be requested from the file reader. */
+    public MessageType getRequestedSchema() {
+        return requestedSchema;
+    }
+
+    @Override
+    public SeaTunnelRow getCurrentRecord() {
+        return new SeaTunnelRow(rowConverter.fields);
+    }
+
+    @Override
+    public GroupConverter getRootConverter() {
+        return rowConverter;
+    }
+
+    /**
+     * Matches the conversions of the avro based reader, see {@code
+     * ParquetReadStrategy#resolveObject}.
+     */
+    private static ValueConverter createConverter(
+            PrimitiveType type, SeaTunnelDataType<?> fieldType, int index) {
+        LogicalTypeAnnotation annotation = type.getLogicalTypeAnnotation();
+        switch (type.getPrimitiveTypeName()) {
+            case BOOLEAN:
+                return fieldType.getSqlType() == SqlType.BOOLEAN ? new ValueConverter(index) : null;
+            case INT32:
+                if (annotation == null) {
+                    return fieldType.getSqlType() == SqlType.INT ? new ValueConverter(index) : null;
+                }
+                if (annotation instanceof LogicalTypeAnnotation.IntLogicalTypeAnnotation
+                        && ((LogicalTypeAnnotation.IntLogicalTypeAnnotation) annotation)
+                                .isSigned()) {
+                    int bitWidth =
+                            ((LogicalTypeAnnotation.IntLogicalTypeAnnotation) annotation)
+                                    .getBitWidth();
+                    if (bitWidth == 8 && fieldType.getSqlType() == SqlType.TINYINT) {
+                        return new IntConverter(index, value -> (byte) value);
+                    }
+                    if (bitWidth == 16 && fieldType.getSqlType() == SqlType.SMALLINT) {
+                        return new IntConverter(index, value -> (short) value);
+                    }
+                    return null;
+                }
+                if (annotation instanceof LogicalTypeAnnotation.DateLogicalTypeAnnotation
+                        && fieldType.getSqlType() == SqlType.DATE) {
+                    return new IntConverter(index, value -> LocalDate.ofEpochDay(value));
+                }
+                return null;
+            case INT64:
+                if (annotation == null) {
+                    return fieldType.getSqlType() == SqlType.BIGINT
+                            ? new ValueConverter(index)
+                            : null;
+                }
+                if (annotation instanceof LogicalTypeAnnotation.TimestampLogicalTypeAnnotation
+                        && ((LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) annotation)
+                                        .getUnit()
+                                == LogicalTypeAnnotation.TimeUnit.MILLIS
+                        && fieldType.getSqlType() == SqlType.TIMESTAMP) {
+                    ZoneId zoneId =
+                            ((LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) annotation)
+                                            .isAdjustedToUTC()
+                                    ? ZoneId.systemDefault()
+                                    : ZoneOffset.UTC;
+                    return new LongConverter(
+                            index,
+                            value -> LocalDateTime.ofInstant(Instant.ofEpochMilli(value), zoneId));
+                }
+                return null;
+            case INT96:
+                return fieldType.getSqlType() == SqlType.TIMESTAMP
+                        ? new BinaryConverter(index, ParquetRowMaterializer::int96ToTimestamp)
+                        : null;
+            case FLOAT:
+                return fieldType.getSqlType() == SqlType.FLOAT ? new ValueConverter(index) : null;
+            case DOUBLE:
+                return fieldType.getSqlType() == SqlType.DOUBLE ? new ValueConverter(index) : null;
+            case BINARY:
+                if (annotation == null) {
+                    return fieldType.getSqlType() == SqlType.BYTES
+                            ? new BytesConverter(index)
+                            : null;
+                }
+                if ((annotation instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation
+                                || annotation
+                                        instanceof LogicalTypeAnnotation.EnumLogicalTypeAnnotation
+                                || annotation
+                                        instanceof LogicalTypeAnnotation.JsonLogicalTypeAnnotation)
+                        && fieldType.getSqlType() == SqlType.STRING) {
+                    return new BinaryConverter(index, Binary::toStringUsingUTF8);
+                }
+                return null;
+            case FIXED_LEN_BYTE_ARRAY:
+                if (annotation == null) {
+                    return type.getTypeLength() == INT96_LENGTH
+                                    && fieldType.getSqlType() == SqlType.TIMESTAMP
+                            ? new BinaryConverter(index, ParquetRowMaterializer::int96ToTimestamp)
+                            : null;
+                }
+                if (annotation instanceof LogicalTypeAnnotation.DecimalLogicalTypeAnnotation
+                        && fieldType instanceof DecimalType) {
+                    int scale =
+                            ((LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) annotation)
+                                    .getScale();
+                    if (((DecimalType) fieldType).getScale() != scale) {
+                        return null;
+                    }
+                    return new BinaryConverter(
+                            index,
+                            value -> new BigDecimal(new BigInteger(value.getBytes()), scale));
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static LocalDateTime int96ToTimestamp(Binary binary) {
+        NanoTime nanoTime = NanoTime.fromBinary(binary);
+        long timestamp =
+                (nanoTime.getJulianDay() - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
+                        + nanoTime.getTimeOfDayNanos() / NANOS_PER_MILLISECOND;
+        return new Timestamp(timestamp).toLocalDateTime();
+    }
+
+    private static class RowConverter extends GroupConverter {
+        private final ValueConverter[] converters;
+        private final Object[] partitions;
+        private Object[] fields;
+
+        private RowConverter(List<ValueConverter> converters, Object[] partitions) {
+            this.converters = converters.toArray(new ValueConverter[0]);
+            this.partitions = partitions;
+            for (ValueConverter converter : this.converters) {
+                converter.row = this;
+            }
+        }
+
+        @Override
+        public Converter getConverter(int fieldIndex) {
+            return converters[fieldIndex];
+        }
+
+        @Override
+        public void start() {
+            fields = partitions.clone();
+        }
+
+        @Override
+        public void end() {}
+    }
+
+    /** Stores the decoded values as they are, used for the types that need no conversion. */
+    private static class ValueConverter extends PrimitiveConverter {
+        private final int index;
+        private RowConverter row;
+
+        private ValueConverter(int index) {
+            this.index = index;
+        }
+
+        protected void set(Object value) {
+            row.fields[index] = value;
+        }
+
+        @Override
+        public void addBoolean(boolean value) {
+            set(value);
+        }
+
+        @Override
+        public void addInt(int value) {
+            set(value);
+        }
+
+        @Override
+        public void addLong(long value) {
+            set(value);
+        }
+
+        @Override
+        public void addFloat(float value) {
+            set(value);
+        }
+
+        @Override
+        public void addDouble(double value) {
+            set(value);
+        }
+
+        @Override
+        public void addBinary(Binary value) {
+            set(value);
+        }
+    }
+
+    private static class IntConverter extends ValueConverter {
+        private final IntFunction<Object> converter;
+
+        private IntConverter(int index, IntFunction<Object> converter) {
+            super(index);
+            this.converter = converter;
+        }
+
+        @Override
+        public void addInt(int value) {
+            set(converter.apply(value));
+        }
+    }
+
+    private static class LongConverter extends ValueConverter {
+        private final LongFunction<Object> converter;
+
+        private LongConverter(int index, LongFunction<Object> converter) {
+            super(index);
+            this.converter = converter;
+        }
+
+        @Override
+        public void addLong(long value) {
+            set(converter.apply(value));
+        }
+    }
+
+    /** Converts binary values, the values of a dictionary page are converted only once. */
+    private static class BinaryConverter extends ValueConverter {
+        private final Function<Binary, Object> converter;
+        protected Object[] dictionary;
+
+        private BinaryConverter(int index, Function<Binary, Object> converter) {
+            super(index);
+            this.converter = converter;
+        }
+
+        @Override
+        public boolean hasDictionarySupport() {
+            return true;
+        }
+
+        @Override
+        public void setDictionary(Dictionary dictionary) {
+            this.dictionary = new Object[dictionary.getMaxId() + 1];
+            for (int i = 0; i <= dictionary.getMaxId(); i++) {
+                this.dictionary[i] = converter.apply(dictionary.decodeToBinary(i));
+            }
+        }
+
+        @Override
+        public void addValueFromDictionary(int dictionaryId) {
+            set(dictionary[dictionaryId]);
+        }
+
+        @Override
+        public void addBinary(Binary value) {
+            set(converter.apply(value));
+        }
+    }
+
+    /** Binary values without a logical type, every row gets its own copy of the bytes. */
+    private static class BytesConverter extends BinaryConverter {
+
+        private BytesConverter(int index) {
+            super(index, Binary::getBytes);
+        }
+
+        @Override
+        public void addValueFromDictionary(int dictionaryId) {
+            // the bytes of a dictionary value are shared by all rows that use it
+            set(((byte[]) dictionary[dictionaryId]).clone());
+        }
+    }
+}
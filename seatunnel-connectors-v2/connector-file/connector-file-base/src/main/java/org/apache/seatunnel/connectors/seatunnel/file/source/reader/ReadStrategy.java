@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
@@ -29,10 +30,12 @@ import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -45,6 +48,21 @@ public interface ReadStrategy extends Serializable, Closeable {
     void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws IOException, FileConnectorException;
 
+    /** Read the rows of a split, which covers either a whole file or a byte range of it. */
+    default void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws IOException, FileConnectorException {
+        read(split.getFilePath(), split.getTableId(), output);
+    }
+
+    /**
+     * Divide a file into the splits handed out to the readers. Only formats that can start reading
+     * in the middle of a file return more than one split.
+     */
+    default List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        return Collections.singletonList(new FileSourceSplit(tableId, path));
+    }
+
     SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException;
 
     default SeaTunnelRowType getSeaTunnelRowTypeInfo(TablePath tablePath, String path)
@@ -67,6 +85,16 @@ public interface ReadStrategy extends Serializable, Closeable {
     // todo: use CatalogTable
     SeaTunnelRowType getActualSeaTunnelRowTypeInfo();
 
+    /**
+     * Offer the predicates of a downstream filter to the reader. Columnar formats use them to skip
+     * data by file statistics; the downstream filter still checks every row.
+     *
+     * @return the predicates the reader will use
+     */
+    default List<Predicate> applyFilters(List<Predicate> predicates) {
+        return Collections.emptyList();
+    }
+
     default <T> void buildColumnsWithErrorCheck(
             TablePath tablePath, Iterator<T> keys, Consumer<T> getDataType) {
         Map<String, String> unsupported = new LinkedHashMap<>();
@@ -27,23 +27,54 @@ public class FileSourceSplit implements SourceSplit {
     @Getter private final String tableId;
     @Getter private final String filePath;
 
+    /** The first byte of the file covered by this split. */
+    @Getter private final long start;
+
+    /** The number of bytes covered by this split, 0 means the split covers the whole file. */
+    @Getter private final long length;
+
+    /** The number of rows of this split that were already emitted before the last checkpoint. */
+    @Getter private final long rowOffset;
+
     public FileSourceSplit(String splitId) {
-        this.filePath = splitId;
-        this.tableId = null;
+        this(null, splitId);
     }
 
     public FileSourceSplit(String tableId, String filePath) {
+        this(tableId, filePath, 0, 0, 0);
+    }
+
+    public FileSourceSplit(String tableId, String filePath, long start, long length) {
+        this(tableId, filePath, start, length, 0);
+    }
+
+    private FileSourceSplit(
+            String tableId, String filePath, long start, long length, long rowOffset) {
         this.tableId = tableId;
         this.filePath = filePath;
+        this.start = start;
+        this.length = length;
+        this.rowOffset = rowOffset;
+    }
+
+    /** Whether this split only covers a byte range of the file. */
+    public boolean isRangeSplit() {
+        return length > 0;
+    }
+
+    /** Returns a copy of this split that skips the given number of rows when it is read. */
+    public FileSourceSplit withRowOffset(long rowOffset) {
+        return new FileSourceSplit(tableId, filePath, start, length, rowOffset);
     }
 
     @Override
     public String splitId() {
         // In order to be compatible with the split before the upgrade, when tableId is null,
         // filePath is directly returned
-        if (tableId == null) {
-            return filePath;
+        String splitId = tableId == null ? filePath : tableId + "_" + filePath;
+        if (isRangeSplit()) {
+            return splitId + "_" + start;
         }
-        return tableId + "_" + filePath;
+        return splitId;
     }
 }
@@ -20,6 +20,8 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseMultipleTableFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -29,6 +31,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +40,8 @@ import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import static org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode.FILE_READ_FAILED;
+
 @Slf4j
 public class MultipleTableFileSourceSplitEnumerator
         implements SourceSplitEnumerator<FileSourceSplit, FileSourceState> {
@@ -45,6 +50,8 @@ public class MultipleTableFileSourceSplitEnumerator
     private final Set<FileSourceSplit> allSplit;
     private final Set<FileSourceSplit> assignedSplit;
     private final Map<String, List<String>> filePathMap;
+    private final Map<String, ReadStrategy> readStrategyMap;
+    private List<FileSourceSplit> fileSourceSplits;
     private final AtomicInteger assignCount = new AtomicInteger(0);
 
     public MultipleTableFileSourceSplitEnumerator(
@@ -62,6 +69,18 @@ public class MultipleTableFileSourceSplitEnumerator
                                                         .toTablePath()
                                                         .toString(),
                                         BaseFileSourceConfig::getFilePaths));
+        this.readStrategyMap = new HashMap<>();
+        multipleTableFileSourceConfig
+                .getFileSourceConfigs()
+                .forEach(
+                        fileSourceConfig ->
+                                readStrategyMap.put(
+                                        fileSourceConfig
+                                                .getCatalogTable()
+                                                .getTableId()
+                                                .toTablePath()
+                                                .toString(),
+                                        fileSourceConfig.getReadStrategy()));
         this.assignedSplit = new HashSet<>();
         this.allSplit = new TreeSet<>(Comparator.comparing(FileSourceSplit::splitId));
     }
@@ -93,14 +112,32 @@ public class MultipleTableFileSourceSplitEnumerator
 
     @Override
     public void registerReader(int subtaskId) {
+        allSplit.addAll(getFileSourceSplits());
+        assignSplit(subtaskId);
+    }
+
+    private List<FileSourceSplit> getFileSourceSplits() {
+        if (fileSourceSplits != null) {
+            return fileSourceSplits;
+        }
+        // large files may be split into several ranges, so the files are only inspected once
+        List<FileSourceSplit> splits = new ArrayList<>();
         for (Map.Entry<String, List<String>> filePathEntry : filePathMap.entrySet()) {
             String tableId = filePathEntry.getKey();
-            List<String> filePaths = filePathEntry.getValue();
-            for (String filePath : filePaths) {
-                allSplit.add(new FileSourceSplit(tableId, filePath));
+            ReadStrategy readStrategy = readStrategyMap.get(tableId);
+            for (String filePath : filePathEntry.getValue()) {
+                try {
+                    splits.addAll(readStrategy.getFileSourceSplits(tableId, filePath));
+                } catch (IOException e) {
+                    throw new FileConnectorException(
+                            FILE_READ_FAILED,
+                            String.format("Split this file [%s] failed", filePath),
+                            e);
+                }
             }
         }
-        assignSplit(subtaskId);
+        fileSourceSplits = splits;
+        return fileSourceSplits;
     }
 
     @Override
@@ -17,6 +17,10 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest;
 
 import org.apache.avro.Schema;
@@ -35,9 +39,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledOnOs;
 import org.junit.jupiter.api.condition.OS;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
 
@@ -61,6 +72,56 @@ public class AbstractReadStrategyTest {
         }
     }
 
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testReadLineRangeSplits() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            StringBuilder line = new StringBuilder();
+            for (int j = 0; j < i % 13; j++) {
+                line.append((char) ('a' + j));
+            }
+            lines.add(line.toString());
+        }
+        File file = Files.createTempFile("line_range", ".txt").toFile();
+        try {
+            Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+            for (long splitSize : new long[] {1, 7, 64, 4096}) {
+                Map<String, Object> config = new HashMap<>();
+                config.put(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key(), true);
+                config.put(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key(), splitSize);
+                try (TextReadStrategy textReadStrategy = new TextReadStrategy()) {
+                    textReadStrategy.setPluginConfig(ConfigFactory.parseMap(config));
+                    textReadStrategy.init(
+                            new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+                    List<FileSourceSplit> splits =
+                            textReadStrategy.getFileSourceSplits("table", file.getPath());
+                    if (splitSize >= file.length()) {
+                        // small files are not split
+                        Assertions.assertEquals(1, splits.size());
+                        Assertions.assertFalse(splits.get(0).isRangeSplit());
+                        continue;
+                    }
+                    Assertions.assertEquals(
+                            (file.length() + splitSize - 1) / splitSize, splits.size());
+                    List<String> readLines = new ArrayList<>();
+                    for (FileSourceSplit split : splits) {
+                        try (BufferedReader reader =
+                                new BufferedReader(
+                                        new InputStreamReader(
+                                                textReadStrategy.openLineRange(split),
+                                                StandardCharsets.UTF_8))) {
+                            reader.lines().forEach(readLines::add);
+                        }
+                    }
+                    Assertions.assertEquals(lines, readLines);
+                }
+            }
+        } finally {
+            Assertions.assertTrue(file.delete());
+        }
+    }
+
     public static class AutoGenerateParquetData {
 
         public static final String DATA_FILE_PATH = "/tmp/tmp_1";
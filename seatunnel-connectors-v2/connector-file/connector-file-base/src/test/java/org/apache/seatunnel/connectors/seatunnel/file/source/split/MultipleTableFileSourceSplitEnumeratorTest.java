@@ -25,6 +25,7 @@ import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TableIdentifier;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseMultipleTableFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.TextReadStrategy;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -56,6 +57,7 @@ public class MultipleTableFileSourceSplitEnumeratorTest {
         BaseFileSourceConfig baseFileSourceConfig = Mockito.mock(BaseFileSourceConfig.class);
 
         Mockito.when(baseFileSourceConfig.getFilePaths()).thenReturn(filePaths);
+        Mockito.when(baseFileSourceConfig.getReadStrategy()).thenReturn(new TextReadStrategy());
 
         CatalogTable catalogTable =
                 CatalogTable.of(
@@ -21,12 +21,16 @@ import org.apache.seatunnel.shade.com.typesafe.config.Config;
 import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
 
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
 import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ParquetReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ParquetRowMaterializer;
 
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericArray;
@@ -36,8 +40,12 @@ import org.apache.avro.util.Utf8;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -52,8 +60,13 @@ import java.net.URL;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.stream.Collectors;
 
 import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
 
@@ -190,6 +203,110 @@ public class ParquetReadStrategyTest {
         AutoGenerateParquetData.deleteFile();
     }
 
+    @Test
+    public void testParquetRowMaterializer() throws Exception {
+        URL resource = ParquetReadStrategyTest.class.getResource("/timestamp_as_int64.parquet");
+        Assertions.assertNotNull(resource);
+        String path = Paths.get(resource.toURI()).toString();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        MessageType fileSchema = readFileSchema(path);
+
+        // the file has map, array and row columns, so reading all columns needs the avro reader
+        ParquetReadStrategy avroReadStrategy = new ParquetReadStrategy();
+        avroReadStrategy.init(localConf);
+        SeaTunnelRowType rowType = avroReadStrategy.getSeaTunnelRowTypeInfo(path);
+        Assertions.assertNull(
+                ParquetRowMaterializer.create(fileSchema, rowType, Collections.emptyList()));
+        TestCollector avroCollector = new TestCollector();
+        avroReadStrategy.read(path, "", avroCollector);
+
+        // the primitive columns are decoded column by column
+        List<String> primitiveColumns =
+                Arrays.asList(
+                        "c_string",
+                        "c_boolean",
+                        "c_tinyint",
+                        "c_smallint",
+                        "c_int",
+                        "c_bigint",
+                        "c_float",
+                        "c_double",
+                        "c_decimal",
+                        "c_bytes",
+                        "c_date",
+                        "c_timestamp");
+        Map<String, Object> config = new HashMap<>();
+        config.put(BaseSourceConfigOptions.READ_COLUMNS.key(), primitiveColumns);
+        ParquetReadStrategy nativeReadStrategy = new ParquetReadStrategy();
+        nativeReadStrategy.init(localConf);
+        nativeReadStrategy.setPluginConfig(ConfigFactory.parseMap(config));
+        SeaTunnelRowType projectedRowType = nativeReadStrategy.getSeaTunnelRowTypeInfo(path);
+        ParquetRowMaterializer materializer =
+                ParquetRowMaterializer.create(
+                        fileSchema, projectedRowType, Collections.emptyList());
+        Assertions.assertNotNull(materializer);
+        Assertions.assertEquals(
+                primitiveColumns,
+                materializer.getRequestedSchema().getFields().stream()
+                        .map(Type::getName)
+                        .collect(Collectors.toList()));
+        TestCollector nativeCollector = new TestCollector();
+        nativeReadStrategy.read(path, "", nativeCollector);
+
+        Assertions.assertFalse(avroCollector.getRows().isEmpty());
+        Assertions.assertEquals(avroCollector.getRows().size(), nativeCollector.getRows().size());
+        for (int i = 0; i < avroCollector.getRows().size(); i++) {
+            SeaTunnelRow avroRow = avroCollector.getRows().get(i);
+            SeaTunnelRow nativeRow = nativeCollector.getRows().get(i);
+            Assertions.assertEquals(primitiveColumns.size(), nativeRow.getArity());
+            for (int j = 0; j < primitiveColumns.size(); j++) {
+                Object expected = avroRow.getField(rowType.indexOf(primitiveColumns.get(j)));
+                if (expected instanceof byte[]) {
+                    Assertions.assertArrayEquals((byte[]) expected, (byte[]) nativeRow.getField(j));
+                } else {
+                    Assertions.assertEquals(expected, nativeRow.getField(j));
+                }
+            }
+        }
+    }
+
+    private static MessageType readFileSchema(String path) throws IOException {
+        try (ParquetFileReader reader =
+                ParquetFileReader.open(
+                        HadoopInputFile.fromPath(new Path(path), new Configuration()))) {
+            return reader.getFooter().getFileMetaData().getSchema();
+        }
+    }
+
+    @Test
+    public void testParquetReadWithPushedFilters() throws Exception {
+        AutoGenerateParquetData.generateTestData();
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        parquetReadStrategy.init(localConf);
+        parquetReadStrategy.getSeaTunnelRowTypeInfo(AutoGenerateParquetData.DATA_FILE_PATH);
+        parquetReadStrategy.applyFilters(
+                Arrays.asList(
+                        new ComparisonPredicate(
+                                "salary", ComparisonPredicate.Operator.GREATER_THAN, 55000),
+                        new InPredicate("name", Arrays.asList("Alice", "Bob"), false),
+                        // float literal on an int column can't be converted, so it is ignored
+                        new ComparisonPredicate("id", ComparisonPredicate.Operator.EQUAL, 1.5d)));
+        TestCollector testCollector = new TestCollector();
+        parquetReadStrategy.read(AutoGenerateParquetData.DATA_FILE_PATH, "1", testCollector);
+        Assertions.assertEquals(1, testCollector.getRows().size());
+        Assertions.assertEquals(2, testCollector.getRows().get(0).getField(0));
+
+        parquetReadStrategy.applyFilters(
+                Collections.singletonList(
+                        new ComparisonPredicate(
+                                "id", ComparisonPredicate.Operator.LESS_THAN_OR_EQUAL, 0)));
+        TestCollector emptyCollector = new TestCollector();
+        parquetReadStrategy.read(AutoGenerateParquetData.DATA_FILE_PATH, "1", emptyCollector);
+        Assertions.assertTrue(emptyCollector.getRows().isEmpty());
+        AutoGenerateParquetData.deleteFile();
+    }
+
     @DisabledOnOs(OS.WINDOWS)
     @Test
     public void testParquetReadUnsupportedType() throws Exception {
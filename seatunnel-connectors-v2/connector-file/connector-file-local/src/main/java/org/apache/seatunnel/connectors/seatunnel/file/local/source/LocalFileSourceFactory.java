@@ -77,6 +77,8 @@ public class LocalFileSourceFactory implements TableSourceFactory {
                 .optional(BaseSourceConfigOptions.DATETIME_FORMAT)
                 .optional(BaseSourceConfigOptions.TIME_FORMAT)
                 .optional(BaseSourceConfigOptions.FILE_FILTER_PATTERN)
+                .optional(BaseSourceConfigOptions.ENABLE_FILE_SPLIT)
+                .optional(BaseSourceConfigOptions.FILE_SPLIT_SIZE)
                 .optional(BaseSourceConfigOptions.ARCHIVE_COMPRESS_CODEC)
                 .optional(BaseSourceConfigOptions.NULL_FORMAT)
                 .optional(BaseSourceConfigOptions.FILENAME_EXTENSION)
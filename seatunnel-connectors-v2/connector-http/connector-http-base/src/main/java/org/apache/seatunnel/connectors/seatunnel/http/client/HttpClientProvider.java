@@ -76,7 +76,12 @@ public class HttpClientProvider implements AutoCloseable {
     private final Retryer<CloseableHttpResponse> retryer;
 
     public HttpClientProvider(HttpParameter httpParameter) {
-        this.httpClient = HttpClients.createDefault();
+        // the default pool only keeps two connections per route
+        this.httpClient =
+                HttpClients.custom()
+                        .setMaxConnPerRoute(Math.max(2, httpParameter.getMaxConcurrentRequests()))
+                        .setMaxConnTotal(Math.max(20, httpParameter.getMaxConcurrentRequests()))
+                        .build();
         this.retryer = buildRetryer(httpParameter);
         this.requestConfig =
                 RequestConfig.custom()
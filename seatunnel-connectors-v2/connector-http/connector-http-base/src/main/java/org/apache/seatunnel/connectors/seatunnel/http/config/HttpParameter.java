@@ -45,6 +45,12 @@ public class HttpParameter implements Serializable {
     protected boolean enableMultilines;
     protected int connectTimeoutMs;
     protected int socketTimeoutMs;
+    protected int batchSize = 1;
+    protected int batchBytes = 1024 * 1024;
+    protected int batchIntervalMs;
+    protected HttpBatchFormat batchFormat = HttpBatchFormat.JSON_ARRAY;
+    protected boolean gzip;
+    protected int maxConcurrentRequests = 1;
 
     public void buildWithConfig(ReadonlyConfig pluginConfig) {
         // set url
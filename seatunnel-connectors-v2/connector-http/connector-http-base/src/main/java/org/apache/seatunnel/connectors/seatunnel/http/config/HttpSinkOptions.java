@@ -17,4 +17,47 @@
 
 package org.apache.seatunnel.connectors.seatunnel.http.config;
 
-public class HttpSinkOptions extends HttpCommonOptions {}
+import org.apache.seatunnel.api.configuration.Option;
+import org.apache.seatunnel.api.configuration.Options;
+
+public class HttpSinkOptions extends HttpCommonOptions {
+
+    public static final Option<Integer> BATCH_SIZE =
+            Options.key("batch_size")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The max number of rows sent in one request, 1 sends every row as the whole body");
+
+    public static final Option<Integer> BATCH_BYTES =
+            Options.key("batch_bytes")
+                    .intType()
+                    .defaultValue(1024 * 1024)
+                    .withDescription(
+                            "The batch is sent once its uncompressed body reaches this size in bytes");
+
+    public static final Option<Integer> BATCH_INTERVAL_MS =
+            Options.key("batch_interval_ms")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The max time in millis a row waits in the batch, 0 means it waits until the batch is full or the next checkpoint");
+
+    public static final Option<HttpBatchFormat> BATCH_FORMAT =
+            Options.key("batch_format")
+                    .enumType(HttpBatchFormat.class)
+                    .defaultValue(HttpBatchFormat.JSON_ARRAY)
+                    .withDescription("How several rows are put into one request body");
+
+    public static final Option<Boolean> GZIP =
+            Options.key("gzip")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription("Whether to compress the request body with gzip");
+
+    public static final Option<Integer> MAX_CONCURRENT_REQUESTS =
+            Options.key("max_concurrent_requests")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription("The max number of requests in flight");
+}
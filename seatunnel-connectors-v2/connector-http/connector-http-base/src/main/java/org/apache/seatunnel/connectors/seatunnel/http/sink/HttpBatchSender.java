@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.http.sink;
+
+import org.apache.seatunnel.connectors.seatunnel.http.client.HttpClientProvider;
+import org.apache.seatunnel.connectors.seatunnel.http.client.HttpResponse;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpBatchFormat;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpParameter;
+import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorException;
+
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Collects serialized rows into request bodies and posts them on a background thread pool, with at
+ * most {@link HttpParameter#getMaxConcurrentRequests()} requests in flight. A batch is sent when it
+ * holds {@link HttpParameter#getBatchSize()} rows, reaches {@link HttpParameter#getBatchBytes()}
+ * bytes, its first row is older than {@link HttpParameter#getBatchIntervalMs()}, or on {@link
+ * #flush()}. A batch which could not be sent fails the next call of {@link #add(byte[])}, {@link
+ * #flush()} or {@link #close()}.
+ */
+@Slf4j
+public class HttpBatchSender implements AutoCloseable {
+
+    private static final ContentType APPLICATION_NDJSON =
+            ContentType.create("application/x-ndjson", "UTF-8");
+
+    private final HttpClientProvider httpClient;
+    private final HttpParameter httpParameter;
+    private final boolean batched;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final Semaphore inFlightRequests;
+    private final ExecutorService sendExecutor;
+    private final ScheduledExecutorService flushScheduler;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private int rows;
+    private long firstRowMillis;
+
+    public HttpBatchSender(HttpClientProvider httpClient, HttpParameter httpParameter) {
+        this.httpClient = httpClient;
+        this.httpParameter = httpParameter;
+        this.batched = httpParameter.getBatchSize() > 1;
+        int maxConcurrentRequests = Math.max(1, httpParameter.getMaxConcurrentRequests());
+        this.inFlightRequests = new Semaphore(maxConcurrentRequests);
+        AtomicInteger cnt = new AtomicInteger(0);
+        this.sendExecutor =
+                Executors.newFixedThreadPool(
+                        maxConcurrentRequests,
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setDaemon(true);
+                            thread.setName("st-http-sink-sender-" + cnt.incrementAndGet());
+                            return thread;
+                        });
+        if (httpParameter.getBatchIntervalMs() > 0) {
+            this.flushScheduler =
+                    Executors.newSingleThreadScheduledExecutor(
+                            runnable -> {
+                                Thread thread = new Thread(runnable);
+                                thread.setDaemon(true);
+                                thread.setName("st-http-sink-flusher");
+                                return thread;
+                            });
+            flushScheduler.scheduleWithFixedDelay(
+                    this::sendExpiredBatch,
+                    httpParameter.getBatchIntervalMs(),
+                    httpParameter.getBatchIntervalMs(),
+                    TimeUnit.MILLISECONDS);
+        } else {
+            this.flushScheduler = null;
+        }
+    }
+
+    public synchronized void add(byte[] row) throws IOException {
+        checkFailure();
+        boolean jsonArray = batched && httpParameter.getBatchFormat() == HttpBatchFormat.JSON_ARRAY;
+        if (rows == 0) {
+            firstRowMillis = System.currentTimeMillis();
+            if (jsonArray) {
+                buffer.write('[');
+            }
+        } else if (jsonArray) {
+            buffer.write(',');
+        }
+        buffer.write(row);
+        if (batched && httpParameter.getBatchFormat() == HttpBatchFormat.NDJSON) {
+            buffer.write('\n');
+        }
+        rows++;
+        if (rows >= httpParameter.getBatchSize()
+                || buffer.size() >= httpParameter.getBatchBytes()) {
+            sendBatch();
+        }
+    }
+
+    /** Send the rows collected so far and wait until every request in flight has finished. */
+    public void flush() throws IOException {
+        synchronized (this) {
+            sendBatch();
+        }
+        int maxConcurrentRequests = Math.max(1, httpParameter.getMaxConcurrentRequests());
+        try {
+            inFlightRequests.acquire(maxConcurrentRequests);
+            inFlightRequests.release(maxConcurrentRequests);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the http requests", e);
+        }
+        checkFailure();
+    }
+
+    private synchronized void sendExpiredBatch() {
+        try {
+            if (failure.get() == null
+                    && rows > 0
+                    && System.currentTimeMillis() - firstRowMillis
+                            >= httpParameter.getBatchIntervalMs()) {
+                sendBatch();
+            }
+        } catch (Exception e) {
+            log.error("send http batch failed", e);
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void sendBatch() throws IOException {
+        if (rows == 0) {
+            return;
+        }
+        ContentType contentType = ContentType.APPLICATION_JSON;
+        if (batched && httpParameter.getBatchFormat() == HttpBatchFormat.JSON_ARRAY) {
+            buffer.write(']');
+        } else if (batched) {
+            contentType = APPLICATION_NDJSON;
+        }
+        byte[] body = buffer.toByteArray();
+        buffer.reset();
+        rows = 0;
+        if (httpParameter.isGzip()) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            body = compressed.toByteArray();
+        }
+        ByteArrayEntity entity = new ByteArrayEntity(body, contentType);
+        if (httpParameter.isGzip()) {
+            entity.setContentEncoding("gzip");
+        }
+        try {
+            inFlightRequests.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the http requests", e);
+        }
+        sendExecutor.execute(
+                () -> {
+                    try {
+                        postWithRetry(entity);
+                    } catch (Throwable e) {
+                        log.error("send http batch failed", e);
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inFlightRequests.release();
+                    }
+                });
+    }
+
+    private void postWithRetry(ByteArrayEntity entity) {
+        // IOExceptions are already retried by the http client, responses telling the server is
+        // overloaded or failed are retried here
+        int attempts = Math.max(1, httpParameter.getRetry());
+        for (int attempt = 1; ; attempt++) {
+            HttpResponse response;
+            try {
+                // only support post web hook
+                response =
+                        httpClient.doPost(
+                                httpParameter.getUrl(), httpParameter.getHeaders(), entity);
+            } catch (Exception e) {
+                throw new HttpConnectorException(HttpConnectorErrorCode.REQUEST_FAILED, e);
+            }
+            int code = response.getCode();
+            if (code >= 200 && code < 300) {
+                return;
+            }
+            if (attempt >= attempts || (code != 429 && code < 500)) {
+                throw new HttpConnectorException(
+                        HttpConnectorErrorCode.REQUEST_FAILED,
+                        String.format(
+                                "http client execute exception, http response status code:[%s], content:[%s]",
+                                code, response.getContent()));
+            }
+            long backoff =
+                    Math.min(
+                            (long) httpParameter.getRetryBackoffMultiplierMillis() << (attempt - 1),
+                            httpParameter.getRetryBackoffMaxMillis());
+            log.warn(
+                    "[{}] request http failed with status code {}, retry after {} ms",
+                    attempt,
+                    code,
+                    backoff);
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new HttpConnectorException(
+                        HttpConnectorErrorCode.REQUEST_FAILED,
+                        "Interrupted while waiting to retry the http request",
+                        e);
+            }
+        }
+    }
+
+    private void checkFailure() {
+        Throwable e = failure.get();
+        if (e != null) {
+            if (e instanceof HttpConnectorException) {
+                throw (HttpConnectorException) e;
+            }
+            throw new HttpConnectorException(HttpConnectorErrorCode.REQUEST_FAILED, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (flushScheduler != null) {
+            flushScheduler.shutdownNow();
+        }
+        try {
+            flush();
+        } finally {
+            sendExecutor.shutdownNow();
+        }
+    }
+}
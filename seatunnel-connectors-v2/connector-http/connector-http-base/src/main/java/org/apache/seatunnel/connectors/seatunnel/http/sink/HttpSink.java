@@ -47,6 +47,20 @@ public class HttpSink extends AbstractSimpleSink<SeaTunnelRow, Void>
         if (pluginConfig.getOptional(HttpSinkOptions.PARAMS).isPresent()) {
             httpParameter.setHeaders(pluginConfig.get(HttpSinkOptions.PARAMS));
         }
+        if (pluginConfig.getOptional(HttpSinkOptions.RETRY).isPresent()) {
+            httpParameter.setRetry(pluginConfig.get(HttpSinkOptions.RETRY));
+        }
+        httpParameter.setRetryBackoffMultiplierMillis(
+                pluginConfig.get(HttpSinkOptions.RETRY_BACKOFF_MULTIPLIER_MS));
+        httpParameter.setRetryBackoffMaxMillis(
+                pluginConfig.get(HttpSinkOptions.RETRY_BACKOFF_MAX_MS));
+        httpParameter.setBatchSize(pluginConfig.get(HttpSinkOptions.BATCH_SIZE));
+        httpParameter.setBatchBytes(pluginConfig.get(HttpSinkOptions.BATCH_BYTES));
+        httpParameter.setBatchIntervalMs(pluginConfig.get(HttpSinkOptions.BATCH_INTERVAL_MS));
+        httpParameter.setBatchFormat(pluginConfig.get(HttpSinkOptions.BATCH_FORMAT));
+        httpParameter.setGzip(pluginConfig.get(HttpSinkOptions.GZIP));
+        httpParameter.setMaxConcurrentRequests(
+                pluginConfig.get(HttpSinkOptions.MAX_CONCURRENT_REQUESTS));
         this.catalogTable = catalogTable;
         this.seaTunnelRowType = catalogTable.getSeaTunnelRowType();
     }
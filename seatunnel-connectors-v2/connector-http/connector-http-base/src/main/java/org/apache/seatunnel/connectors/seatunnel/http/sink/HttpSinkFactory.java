@@ -48,6 +48,12 @@ public class HttpSinkFactory implements TableSinkFactory {
                 .optional(HttpSinkOptions.RETRY)
                 .optional(HttpSinkOptions.RETRY_BACKOFF_MULTIPLIER_MS)
                 .optional(HttpSinkOptions.RETRY_BACKOFF_MAX_MS)
+                .optional(HttpSinkOptions.BATCH_SIZE)
+                .optional(HttpSinkOptions.BATCH_BYTES)
+                .optional(HttpSinkOptions.BATCH_INTERVAL_MS)
+                .optional(HttpSinkOptions.BATCH_FORMAT)
+                .optional(HttpSinkOptions.GZIP)
+                .optional(HttpSinkOptions.MAX_CONCURRENT_REQUESTS)
                 .optional(SinkConnectorCommonOptions.MULTI_TABLE_SINK_REPLICA)
                 .build();
     }
@@ -23,22 +23,22 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.common.sink.AbstractSinkWriter;
 import org.apache.seatunnel.connectors.seatunnel.http.client.HttpClientProvider;
-import org.apache.seatunnel.connectors.seatunnel.http.client.HttpResponse;
 import org.apache.seatunnel.connectors.seatunnel.http.config.HttpParameter;
+import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorException;
 import org.apache.seatunnel.format.json.JsonSerializationSchema;
 
-import lombok.extern.slf4j.Slf4j;
-
 import java.io.IOException;
 import java.util.Objects;
+import java.util.Optional;
 
-@Slf4j
 public class HttpSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
         implements SupportMultiTableSinkWriter<Void> {
     protected final HttpClientProvider httpClient;
     protected final SeaTunnelRowType seaTunnelRowType;
     protected final HttpParameter httpParameter;
     protected final SerializationSchema serializationSchema;
+    protected final HttpBatchSender batchSender;
 
     public HttpSinkWriter(SeaTunnelRowType seaTunnelRowType, HttpParameter httpParameter) {
         this(seaTunnelRowType, httpParameter, new JsonSerializationSchema(seaTunnelRowType));
@@ -52,32 +52,32 @@ public class HttpSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
         this.httpParameter = httpParameter;
         this.httpClient = new HttpClientProvider(httpParameter);
         this.serializationSchema = serializationSchema;
+        this.batchSender = new HttpBatchSender(httpClient, httpParameter);
     }
 
     @Override
     public void write(SeaTunnelRow element) throws IOException {
-        byte[] serialize = serializationSchema.serialize(element);
-        String body = new String(serialize);
+        batchSender.add(serializationSchema.serialize(element));
+    }
+
+    @Override
+    public Optional<Void> prepareCommit() {
         try {
-            // only support post web hook
-            HttpResponse response =
-                    httpClient.doPost(httpParameter.getUrl(), httpParameter.getHeaders(), body);
-            if (HttpResponse.STATUS_OK == response.getCode()) {
-                return;
-            }
-            log.error(
-                    "http client execute exception, http response status code:[{}], content:[{}]",
-                    response.getCode(),
-                    response.getContent());
-        } catch (Exception e) {
-            log.error(e.getMessage(), e);
+            batchSender.flush();
+        } catch (IOException e) {
+            throw new HttpConnectorException(HttpConnectorErrorCode.REQUEST_FAILED, e);
         }
+        return Optional.empty();
     }
 
     @Override
     public void close() throws IOException {
-        if (Objects.nonNull(httpClient)) {
-            httpClient.close();
+        try {
+            batchSender.close();
+        } finally {
+            if (Objects.nonNull(httpClient)) {
+                httpClient.close();
+            }
         }
     }
 }
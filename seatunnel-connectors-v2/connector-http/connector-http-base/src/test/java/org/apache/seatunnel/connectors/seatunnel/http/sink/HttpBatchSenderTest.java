@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.http.sink;
+
+import org.apache.seatunnel.connectors.seatunnel.http.client.HttpClientProvider;
+import org.apache.seatunnel.connectors.seatunnel.http.client.HttpResponse;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpBatchFormat;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpParameter;
+import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorException;
+
+import org.apache.http.entity.ByteArrayEntity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HttpBatchSenderTest {
+
+    @Test
+    public void testJsonArrayBatch() throws Exception {
+        HttpParameter httpParameter = newHttpParameter();
+        httpParameter.setBatchSize(2);
+        List<String> bodies = new ArrayList<>();
+        HttpBatchSender sender =
+                new HttpBatchSender(mockClient(bodies, HttpResponse.STATUS_OK), httpParameter);
+
+        sender.add(row(1));
+        sender.add(row(2));
+        sender.add(row(3));
+        sender.flush();
+        sender.close();
+
+        Assertions.assertEquals(2, bodies.size());
+        Assertions.assertEquals("[{\"id\":1},{\"id\":2}]", bodies.get(0));
+        Assertions.assertEquals("[{\"id\":3}]", bodies.get(1));
+    }
+
+    @Test
+    public void testSingleRowKeepsBody() throws Exception {
+        HttpParameter httpParameter = newHttpParameter();
+        List<String> bodies = new ArrayList<>();
+        HttpBatchSender sender =
+                new HttpBatchSender(mockClient(bodies, HttpResponse.STATUS_OK), httpParameter);
+
+        sender.add(row(1));
+        sender.flush();
+        sender.close();
+
+        Assertions.assertEquals(Collections.singletonList("{\"id\":1}"), bodies);
+    }
+
+    @Test
+    public void testGzipNdjsonBatch() throws Exception {
+        HttpParameter httpParameter = newHttpParameter();
+        httpParameter.setBatchSize(10);
+        httpParameter.setBatchFormat(HttpBatchFormat.NDJSON);
+        httpParameter.setGzip(true);
+        List<String> bodies = new ArrayList<>();
+        HttpBatchSender sender =
+                new HttpBatchSender(mockClient(bodies, HttpResponse.STATUS_OK), httpParameter);
+
+        sender.add(row(1));
+        sender.add(row(2));
+        sender.flush();
+        sender.close();
+
+        Assertions.assertEquals(Collections.singletonList("{\"id\":1}\n{\"id\":2}\n"), bodies);
+    }
+
+    @Test
+    public void testRetryServerError() throws Exception {
+        HttpParameter httpParameter = newHttpParameter();
+        httpParameter.setRetry(3);
+        List<String> bodies = new ArrayList<>();
+        HttpBatchSender sender = new HttpBatchSender(mockClient(bodies, 503), httpParameter);
+
+        sender.add(row(1));
+        Assertions.assertThrows(HttpConnectorException.class, sender::flush);
+        Assertions.assertThrows(HttpConnectorException.class, () -> sender.add(row(2)));
+        Assertions.assertThrows(HttpConnectorException.class, sender::close);
+
+        Assertions.assertEquals(3, bodies.size());
+    }
+
+    @Test
+    public void testRequestExceptionFailsFlush() throws Exception {
+        HttpClientProvider httpClient = mock(HttpClientProvider.class);
+        when(httpClient.doPost(anyString(), any(), any(ByteArrayEntity.class)))
+                .thenThrow(new IOException("connection refused"));
+        HttpBatchSender sender = new HttpBatchSender(httpClient, newHttpParameter());
+
+        sender.add(row(1));
+        HttpConnectorException e =
+                Assertions.assertThrows(HttpConnectorException.class, sender::flush);
+        Assertions.assertInstanceOf(IOException.class, e.getCause());
+    }
+
+    private static HttpParameter newHttpParameter() {
+        HttpParameter httpParameter = new HttpParameter();
+        httpParameter.setUrl("http://localhost/test");
+        httpParameter.setRetryBackoffMultiplierMillis(1);
+        httpParameter.setRetryBackoffMaxMillis(10);
+        return httpParameter;
+    }
+
+    private static byte[] row(int id) {
+        return ("{\"id\":" + id + "}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static HttpClientProvider mockClient(List<String> bodies, int code) throws Exception {
+        HttpClientProvider httpClient = mock(HttpClientProvider.class);
+        when(httpClient.doPost(anyString(), any(), any(ByteArrayEntity.class)))
+                .thenAnswer(
+                        invocation -> {
+                            ByteArrayEntity entity = invocation.getArgument(2);
+                            bodies.add(read(entity));
+                            return new HttpResponse(code, "");
+                        });
+        return httpClient;
+    }
+
+    private static String read(ByteArrayEntity entity) throws IOException {
+        InputStream content = entity.getContent();
+        if (entity.getContentEncoding() != null
+                && "gzip".equals(entity.getContentEncoding().getValue())) {
+            content = new GZIPInputStream(content);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.iceberg.source;
+
+import org.apache.seatunnel.api.source.filter.AndPredicate;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.OrPredicate;
+import org.apache.seatunnel.api.source.filter.Predicate;
+import org.apache.seatunnel.api.source.filter.PredicateVisitor;
+
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.types.Types;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Translates a pushed down {@link Predicate} into an Iceberg {@link Expression}, so that scan
+ * planning prunes data files by their column statistics. Returns null when a literal can't be
+ * converted to the column type without rounding, because Iceberg would then compare the rounded
+ * value.
+ */
+public class IcebergPredicateConverter implements PredicateVisitor<Expression> {
+
+    private final Schema schema;
+    private final boolean caseSensitive;
+
+    public IcebergPredicateConverter(Schema schema, boolean caseSensitive) {
+        this.schema = schema;
+        this.caseSensitive = caseSensitive;
+    }
+
+    public Expression convert(Predicate predicate) {
+        return predicate.accept(this);
+    }
+
+    @Override
+    public Expression visit(ComparisonPredicate predicate) {
+        String column = predicate.getColumn();
+        Object value = predicate.getValue();
+        if (!isConvertible(column, value)) {
+            return null;
+        }
+        switch (predicate.getOperator()) {
+            case EQUAL:
+                return Expressions.equal(column, value);
+            case GREATER_THAN:
+                return Expressions.greaterThan(column, value);
+            case GREATER_THAN_OR_EQUAL:
+                return Expressions.greaterThanOrEqual(column, value);
+            case LESS_THAN:
+                return Expressions.lessThan(column, value);
+            case LESS_THAN_OR_EQUAL:
+                return Expressions.lessThanOrEqual(column, value);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public Expression visit(InPredicate predicate) {
+        for (Object value : predicate.getValues()) {
+            if (!isConvertible(predicate.getColumn(), value)) {
+                return null;
+            }
+        }
+        return predicate.isNegated()
+                ? Expressions.notIn(predicate.getColumn(), predicate.getValues())
+                : Expressions.in(predicate.getColumn(), predicate.getValues());
+    }
+
+    @Override
+    public Expression visit(IsNullPredicate predicate) {
+        if (findField(predicate.getColumn()) == null) {
+            return null;
+        }
+        return predicate.isNegated()
+                ? Expressions.notNull(predicate.getColumn())
+                : Expressions.isNull(predicate.getColumn());
+    }
+
+    @Override
+    public Expression visit(AndPredicate predicate) {
+        Expression expression = Expressions.alwaysTrue();
+        for (Predicate child : predicate.getChildren()) {
+            Expression converted = child.accept(this);
+            if (converted == null) {
+                return null;
+            }
+            expression = Expressions.and(expression, converted);
+        }
+        return expression;
+    }
+
+    @Override
+    public Expression visit(OrPredicate predicate) {
+        List<Expression> children = new ArrayList<>();
+        for (Predicate child : predicate.getChildren()) {
+            Expression converted = child.accept(this);
+            if (converted == null) {
+                return null;
+            }
+            children.add(converted);
+        }
+        Expression expression = Expressions.alwaysFalse();
+        for (Expression child : children) {
+            expression = Expressions.or(expression, child);
+        }
+        return expression;
+    }
+
+    private Types.NestedField findField(String column) {
+        return caseSensitive ? schema.findField(column) : schema.caseInsensitiveFindField(column);
+    }
+
+    private boolean isConvertible(String column, Object value) {
+        Types.NestedField field = findField(column);
+        if (field == null) {
+            return false;
+        }
+        boolean integral = value instanceof Integer || value instanceof Long;
+        switch (field.type().typeId()) {
+            case INTEGER:
+            case LONG:
+            case DECIMAL:
+                return integral;
+            case FLOAT:
+                // the downstream filter compares float columns as doubles, so the literal is only
+                // pushed if the float it is converted to has the same value
+                return integral
+                        && (double) ((Number) value).floatValue() == ((Number) value).doubleValue();
+            case DOUBLE:
+                return integral || value instanceof Double;
+            case STRING:
+                return value instanceof String;
+            default:
+                return false;
+        }
+    }
+}
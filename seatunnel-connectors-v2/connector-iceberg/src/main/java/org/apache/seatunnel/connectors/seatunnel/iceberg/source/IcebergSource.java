@@ -23,13 +23,16 @@ import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
 import org.apache.seatunnel.api.source.SupportParallelism;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.constants.JobMode;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.IcebergCatalogLoader;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.config.IcebergSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.config.SourceTableConfig;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.source.enumerator.IcebergBatchSplitEnumerator;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.source.enumerator.IcebergSplitEnumeratorState;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.source.enumerator.IcebergStreamSplitEnumerator;
@@ -41,10 +44,13 @@ import org.apache.iceberg.Schema;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
 
 import lombok.SneakyThrows;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,7 +60,8 @@ public class IcebergSource
         implements SeaTunnelSource<
                         SeaTunnelRow, IcebergFileScanTaskSplit, IcebergSplitEnumeratorState>,
                 SupportParallelism,
-                SupportColumnProjection {
+                SupportColumnProjection,
+                SupportFilterPushDown {
 
     private static final long serialVersionUID = 4343414808223919870L;
 
@@ -108,6 +115,35 @@ public class IcebergSource
         return icebergTables;
     }
 
+    @Override
+    public List<Predicate> applyFilters(List<Predicate> predicates) {
+        if (catalogTables.size() != 1) {
+            return Collections.emptyList();
+        }
+        TablePath tablePath = catalogTables.keySet().iterator().next();
+        SourceTableConfig tableConfig = sourceConfig.getTableConfig(tablePath);
+        IcebergPredicateConverter converter =
+                new IcebergPredicateConverter(
+                        tableSchemaProjections.get(tablePath).getLeft(),
+                        sourceConfig.isCaseSensitive());
+        List<Predicate> accepted = new ArrayList<>();
+        Expression filter =
+                tableConfig.getFilter() == null
+                        ? Expressions.alwaysTrue()
+                        : tableConfig.getFilter();
+        for (Predicate predicate : predicates) {
+            Expression expression = converter.convert(predicate);
+            if (expression != null) {
+                accepted.add(predicate);
+                filter = Expressions.and(filter, expression);
+            }
+        }
+        if (!accepted.isEmpty()) {
+            tableConfig.setFilter(filter);
+        }
+        return accepted;
+    }
+
     @Override
     public Boundedness getBoundedness() {
         return JobMode.BATCH.equals(jobContext.getJobMode())
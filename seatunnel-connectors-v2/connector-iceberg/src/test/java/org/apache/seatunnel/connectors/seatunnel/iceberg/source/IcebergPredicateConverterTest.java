@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.iceberg.source;
+
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.types.Types;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class IcebergPredicateConverterTest {
+
+    private static final Schema SCHEMA =
+            new Schema(
+                    Types.NestedField.optional(1, "id", Types.LongType.get()),
+                    Types.NestedField.optional(2, "score", Types.FloatType.get()));
+
+    @Test
+    public void testFloatColumnOnlyTakesExactLiterals() {
+        IcebergPredicateConverter converter = new IcebergPredicateConverter(SCHEMA, true);
+        Assertions.assertEquals(
+                Expressions.equal("score", 16777216L).toString(),
+                converter
+                        .convert(
+                                new ComparisonPredicate(
+                                        "score", ComparisonPredicate.Operator.EQUAL, 16777216L))
+                        .toString());
+        Assertions.assertNull(
+                converter.convert(
+                        new ComparisonPredicate(
+                                "score", ComparisonPredicate.Operator.EQUAL, 16777217L)));
+        Assertions.assertNull(
+                converter.convert(
+                        new InPredicate("score", Arrays.<Object>asList(1, 16777217), false)));
+        Assertions.assertNotNull(
+                converter.convert(
+                        new ComparisonPredicate(
+                                "id", ComparisonPredicate.Operator.EQUAL, 16777217L)));
+    }
+}
@@ -81,6 +81,14 @@ public interface JdbcOptions {
     Option<Integer> BATCH_SIZE =
             Options.key("batch_size").intType().defaultValue(1000).withDescription("batch size");
 
+    Option<Integer> MAX_IN_FLIGHT_BATCHES =
+            Options.key("max_in_flight_batches")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of batches which are executed in the background while the next batch is filled. "
+                                    + "0 executes every batch on the writer thread.");
+
     Option<Integer> FETCH_SIZE =
             Options.key("fetch_size")
                     .intType()
@@ -164,6 +172,14 @@ public interface JdbcOptions {
                     .defaultValue(false)
                     .withDescription("support copy in statement (postgresql)");
 
+    Option<Boolean> USE_BULK_LOAD =
+            Options.key("use_bulk_load")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "upsert the deduplicated rows of a batch with the native bulk load of the database"
+                                    + " (postgresql, opengauss, mysql, sqlserver)");
+
     /** source config */
     Option<String> PARTITION_COLUMN =
             Options.key("partition_column")
@@ -62,6 +62,7 @@ public class JdbcInputFormat implements Serializable {
     private transient TableSchema splitTableSchema;
     private transient PreparedStatement statement;
     private transient ResultSet resultSet;
+    private transient int splitKeyIndex;
     private volatile boolean hasNext;
 
     public JdbcInputFormat(JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
@@ -94,6 +95,12 @@ public class JdbcInputFormat implements Serializable {
         try {
             splitTableSchema = tables.get(inputSplit.getTablePath()).getTableSchema();
             splitTableId = inputSplit.getTablePath().toString();
+            splitKeyIndex =
+                    chunkSplitter.isResumable(inputSplit, splitTableSchema)
+                            ? splitTableSchema
+                                    .toPhysicalRowDataType()
+                                    .indexOf(inputSplit.getSplitKeyName())
+                            : -1;
 
             statement = chunkSplitter.generateSplitStatement(inputSplit, splitTableSchema);
             resultSet = statement.executeQuery();
@@ -137,6 +144,19 @@ public class JdbcInputFormat implements Serializable {
         return !hasNext;
     }
 
+    /**
+     * Whether the rows of the opened split are read in split key order, so the read can be
+     * restarted after the key of the last emitted row.
+     */
+    public boolean isResumable() {
+        return splitKeyIndex >= 0;
+    }
+
+    /** Returns the split key value of a row read from the opened resumable split. */
+    public Object getSplitKeyValue(SeaTunnelRow row) {
+        return row.getField(splitKeyIndex);
+    }
+
     /** Convert a row of data to seatunnelRow */
     public SeaTunnelRow nextRecord() {
         try {
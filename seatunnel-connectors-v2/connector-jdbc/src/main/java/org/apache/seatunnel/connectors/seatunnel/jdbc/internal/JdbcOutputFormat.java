@@ -31,6 +31,15 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.Serializable;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkNotNull;
@@ -52,6 +61,13 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
     private transient volatile boolean closed = false;
     private transient volatile Exception flushException;
 
+    // only set up when batches are executed in the background, see max_in_flight_batches
+    private transient ExecutorService flushExecutorService;
+    private transient Deque<E> idleStatementExecutors;
+    private transient Deque<InFlightBatch<E>> inFlightBatches;
+    private transient Map<E, Integer> preparedConnectionVersions;
+    private transient volatile int connectionVersion;
+
     public JdbcOutputFormat(
             JdbcConnectionProvider connectionProvider,
             JdbcConnectionConfig jdbcConnectionConfig,
@@ -72,6 +88,30 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                     e);
         }
         jdbcStatementExecutor = createAndOpenStatementExecutor(statementExecutorFactory);
+
+        int maxInFlightBatches = jdbcConnectionConfig.getMaxInFlightBatches();
+        if (maxInFlightBatches > 0) {
+            // the writer fills one executor while the others are executed by the flush thread.
+            // The flush thread is the only one using the connection until the in flight batches
+            // are awaited, so the commit of the writer still covers every batch.
+            idleStatementExecutors = new ArrayDeque<>(maxInFlightBatches);
+            for (int i = 0; i < maxInFlightBatches; i++) {
+                idleStatementExecutors.add(
+                        createAndOpenStatementExecutor(statementExecutorFactory));
+            }
+            inFlightBatches = new ArrayDeque<>(maxInFlightBatches);
+            preparedConnectionVersions = Collections.synchronizedMap(new IdentityHashMap<>());
+            preparedConnectionVersions.put(jdbcStatementExecutor, connectionVersion);
+            idleStatementExecutors.forEach(
+                    executor -> preparedConnectionVersions.put(executor, connectionVersion));
+            flushExecutorService =
+                    Executors.newSingleThreadExecutor(
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "jdbc-output-format-flush");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+        }
     }
 
     private E createAndOpenStatementExecutor(StatementExecutorFactory<E> statementExecutorFactory) {
@@ -99,11 +139,18 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
     public final synchronized void writeRecord(I record) {
         checkFlushException();
         try {
+            if (flushExecutorService != null) {
+                awaitCompletedBatches();
+            }
             addToBatch(record);
             batchCount++;
             if (jdbcConnectionConfig.getBatchSize() > 0
                     && batchCount >= jdbcConnectionConfig.getBatchSize()) {
-                flush();
+                if (flushExecutorService != null) {
+                    submitBatch();
+                } else {
+                    flush();
+                }
             }
         } catch (Exception e) {
             throw new JdbcConnectorException(
@@ -125,16 +172,28 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                             ExceptionUtils.getMessage(flushException)));
             return;
         }
+        if (flushExecutorService != null) {
+            if (batchCount > 0) {
+                submitBatch();
+            }
+            while (!inFlightBatches.isEmpty()) {
+                awaitOldestBatch();
+            }
+            return;
+        }
         if (batchCount == 0) {
             LOG.debug("No data to flush.");
             return;
         }
+        flush(jdbcStatementExecutor);
+        batchCount = 0;
+    }
 
+    private void flush(E executor) throws IOException {
         final int sleepMs = 1000;
         for (int i = 0; i <= jdbcConnectionConfig.getMaxRetries(); i++) {
             try {
-                attemptFlush();
-                batchCount = 0;
+                attemptFlush(executor);
                 break;
             } catch (SQLException e) {
                 LOG.error("JDBC executeBatch error, retry times = {}", i, e);
@@ -144,7 +203,7 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                 }
                 try {
                     if (!connectionProvider.isConnectionValid()) {
-                        updateExecutor(true);
+                        updateExecutor(executor, true);
                     }
                 } catch (Exception exception) {
                     LOG.error(
@@ -168,8 +227,68 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
         }
     }
 
-    protected void attemptFlush() throws SQLException {
-        jdbcStatementExecutor.executeBatch();
+    protected void attemptFlush(E executor) throws SQLException {
+        executor.executeBatch();
+    }
+
+    /** Hand the current batch to the flush thread and continue with an idle executor. */
+    private void submitBatch() {
+        E executor = jdbcStatementExecutor;
+        batchCount = 0;
+        inFlightBatches.add(
+                new InFlightBatch<>(
+                        executor,
+                        flushExecutorService.submit(
+                                () -> {
+                                    prepareOnCurrentConnection(executor);
+                                    flush(executor);
+                                    return null;
+                                })));
+        while (idleStatementExecutors.isEmpty()) {
+            awaitOldestBatch();
+        }
+        jdbcStatementExecutor = idleStatementExecutors.poll();
+    }
+
+    private void awaitCompletedBatches() {
+        while (!inFlightBatches.isEmpty() && inFlightBatches.peek().future.isDone()) {
+            awaitOldestBatch();
+        }
+    }
+
+    private void awaitOldestBatch() {
+        InFlightBatch<E> batch = inFlightBatches.poll();
+        try {
+            batch.future.get();
+            idleStatementExecutors.add(batch.executor);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            flushException = cause instanceof Exception ? (Exception) cause : e;
+            if (cause instanceof JdbcConnectorException) {
+                throw (JdbcConnectorException) cause;
+            }
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "Writing records to JDBC failed.",
+                    cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "unable to flush; interrupted while waiting for the in flight batches",
+                    e);
+        }
+    }
+
+    /** An executor prepared before a reconnect still holds statements of the old connection. */
+    private void prepareOnCurrentConnection(E executor) throws SQLException {
+        int version = connectionVersion;
+        Integer preparedVersion = preparedConnectionVersions.get(executor);
+        if (preparedVersion == null || preparedVersion != version) {
+            // the old statements died with their connection, closing them would execute the batch
+            executor.prepareStatements(connectionProvider.getConnection());
+        }
+        preparedConnectionVersions.put(executor, version);
     }
 
     /** Executes prepared statement and closes all resources of this instance. */
@@ -177,7 +296,7 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
         if (!closed) {
             closed = true;
 
-            if (batchCount > 0) {
+            if (batchCount > 0 || (inFlightBatches != null && !inFlightBatches.isEmpty())) {
                 try {
                     flush();
                 } catch (Exception e) {
@@ -197,26 +316,67 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
             } catch (SQLException e) {
                 LOG.warn("Close JDBC writer failed.", e);
             }
+            if (flushExecutorService != null) {
+                closeBackgroundFlush();
+            }
         }
         connectionProvider.closeConnection();
         checkFlushException();
     }
 
+    private void closeBackgroundFlush() {
+        flushExecutorService.shutdownNow();
+        // a batch which is still executed after a failure keeps its statements
+        for (InFlightBatch<E> batch : inFlightBatches) {
+            if (batch.future.isDone()) {
+                idleStatementExecutors.add(batch.executor);
+            }
+        }
+        inFlightBatches.clear();
+        for (E executor : idleStatementExecutors) {
+            try {
+                executor.closeStatements();
+            } catch (SQLException e) {
+                LOG.warn("Close JDBC writer failed.", e);
+            }
+        }
+        idleStatementExecutors.clear();
+    }
+
     public void updateExecutor(boolean reconnect) throws SQLException, ClassNotFoundException {
+        updateExecutor(jdbcStatementExecutor, reconnect);
+    }
+
+    private void updateExecutor(E executor, boolean reconnect)
+            throws SQLException, ClassNotFoundException {
+        if (reconnect && preparedConnectionVersions != null) {
+            connectionVersion++;
+            preparedConnectionVersions.put(executor, connectionVersion);
+        }
         try {
-            jdbcStatementExecutor.closeStatements();
+            executor.closeStatements();
         } catch (SQLException e) {
             if (!reconnect) {
                 throw e;
             }
             LOG.error("Close JDBC statement failed on reconnect.", e);
         }
-        jdbcStatementExecutor.prepareStatements(
+        executor.prepareStatements(
                 reconnect
                         ? connectionProvider.reestablishConnection()
                         : connectionProvider.getConnection());
     }
 
+    private static class InFlightBatch<E> {
+        private final E executor;
+        private final Future<?> future;
+
+        private InFlightBatch(E executor, Future<?> future) {
+            this.executor = executor;
+            this.future = future;
+        }
+    }
+
     /**
      * A factory for creating {@link JdbcBatchStatementExecutor} instance.
      *
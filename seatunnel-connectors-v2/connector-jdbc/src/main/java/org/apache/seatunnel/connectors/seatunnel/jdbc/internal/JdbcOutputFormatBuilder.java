@@ -20,18 +20,23 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferReducedBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferedBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BulkLoadBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.CopyManagerBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.FieldNamedPreparedStatement;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertOrUpdateBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.UpsertBuffer;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -41,6 +46,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -98,7 +104,10 @@ public class JdbcOutputFormatBuilder {
                                     primaryKeys.toArray(new String[0]),
                                     jdbcSinkConfig.isEnableUpsert(),
                                     jdbcSinkConfig.isPrimaryKeyUpdated(),
-                                    jdbcSinkConfig.isSupportUpsertByInsertOnly());
+                                    jdbcSinkConfig.isSupportUpsertByInsertOnly(),
+                                    // temporary tables can not be part of a xa transaction
+                                    jdbcSinkConfig.isUseBulkLoad()
+                                            && !jdbcSinkConfig.isExactlyOnce());
         }
 
         return new JdbcOutputFormat(
@@ -138,7 +147,8 @@ public class JdbcOutputFormatBuilder {
             String[] pkNames,
             boolean enableUpsert,
             boolean isPrimaryKeyUpdated,
-            boolean supportUpsertByInsertOnly) {
+            boolean supportUpsertByInsertOnly,
+            boolean useBulkLoad) {
         int[] pkFields =
                 Arrays.stream(pkNames)
                         .mapToInt(tableSchema.toPhysicalRowDataType()::indexOf)
@@ -169,9 +179,18 @@ public class JdbcOutputFormatBuilder {
                         keyExtractor,
                         enableUpsert,
                         isPrimaryKeyUpdated,
-                        supportUpsertByInsertOnly);
+                        supportUpsertByInsertOnly,
+                        useBulkLoad);
+        SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
+        UpsertBuffer buffer =
+                new UpsertBuffer(
+                        keyExtractor,
+                        pkFields,
+                        Arrays.stream(pkFields)
+                                .mapToObj(rowType::getFieldType)
+                                .toArray(SeaTunnelDataType[]::new));
         return new BufferReducedBatchStatementExecutor(
-                upsertExecutor, deleteExecutor, keyExtractor, Function.identity());
+                upsertExecutor, deleteExecutor, Function.identity(), buffer);
     }
 
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createUpsertExecutor(
@@ -185,12 +204,33 @@ public class JdbcOutputFormatBuilder {
             Function<SeaTunnelRow, SeaTunnelRow> keyExtractor,
             boolean enableUpsert,
             boolean isPrimaryKeyUpdated,
-            boolean supportUpsertByInsertOnly) {
+            boolean supportUpsertByInsertOnly,
+            boolean useBulkLoad) {
         if (supportUpsertByInsertOnly) {
             return createInsertOnlyExecutor(
                     dialect, database, table, tableSchema, databaseTableSchema);
         }
         if (enableUpsert) {
+            if (useBulkLoad) {
+                Optional<JdbcBulkLoader> bulkLoader = dialect.getBulkLoader();
+                if (!bulkLoader.isPresent()) {
+                    log.warn(
+                            "Dialect {} does not support bulk load, use upsert statement instead",
+                            dialect.dialectName());
+                } else {
+                    List<String> unsupportedColumns =
+                            getBulkLoadUnsupportedColumns(bulkLoader.get(), tableSchema);
+                    if (unsupportedColumns.isEmpty()) {
+                        return new BulkLoadBatchStatementExecutor(
+                                bulkLoader.get(), database, table, tableSchema, pkNames);
+                    }
+                    log.warn(
+                            "Bulk load of dialect {} does not support the types of columns {} of table {}, use upsert statement instead",
+                            dialect.dialectName(),
+                            unsupportedColumns,
+                            table);
+                }
+            }
             Optional<String> upsertSQL =
                     dialect.getUpsertStatement(
                             database, table, tableSchema.getFieldNames(), pkNames);
@@ -222,6 +262,18 @@ public class JdbcOutputFormatBuilder {
                 isPrimaryKeyUpdated);
     }
 
+    static List<String> getBulkLoadUnsupportedColumns(
+            JdbcBulkLoader bulkLoader, TableSchema tableSchema) {
+        SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
+        List<String> unsupportedColumns = new ArrayList<>();
+        for (int i = 0; i < rowType.getTotalFields(); i++) {
+            if (!bulkLoader.supportsDataType(rowType.getFieldType(i))) {
+                unsupportedColumns.add(rowType.getFieldName(i));
+            }
+        }
+        return unsupportedColumns;
+    }
+
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createCopyInBufferStatementExecutor(
             CopyManagerBatchStatementExecutor copyManagerBatchStatementExecutor) {
         return new BufferedBatchStatementExecutor(
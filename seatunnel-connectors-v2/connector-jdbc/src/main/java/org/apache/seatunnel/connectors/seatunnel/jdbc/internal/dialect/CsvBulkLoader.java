@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** A bulk loader which writes the rows as text and streams the text into the staging table. */
+public abstract class CsvBulkLoader implements JdbcBulkLoader {
+
+    /** The text format the rows are written in. */
+    protected abstract CSVFormat getCsvFormat();
+
+    /** Stream the rows written in {@link #getCsvFormat()} into the staging table. */
+    protected abstract void loadCsv(
+            Connection connection,
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            String data)
+            throws SQLException;
+
+    @Override
+    public void load(
+            Connection connection,
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            List<SeaTunnelRow> rows)
+            throws SQLException {
+        loadCsv(connection, database, tableName, tableSchema, toCsv(tableSchema, rows));
+    }
+
+    public String toCsv(TableSchema tableSchema, List<SeaTunnelRow> rows) {
+        SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
+        StringBuilder out = new StringBuilder();
+        try (CSVPrinter csvPrinter = new CSVPrinter(out, getCsvFormat())) {
+            List<Object> csvRecord = new ArrayList<>(rowType.getTotalFields());
+            for (SeaTunnelRow row : rows) {
+                csvRecord.clear();
+                for (int fieldIndex = 0; fieldIndex < rowType.getTotalFields(); fieldIndex++) {
+                    Object fieldValue = row.getField(fieldIndex);
+                    csvRecord.add(
+                            fieldValue == null
+                                    ? null
+                                    : toCsvValue(rowType.getFieldType(fieldIndex), fieldValue));
+                }
+                csvPrinter.printRecord(csvRecord);
+            }
+        } catch (IOException e) {
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED,
+                    "Write rows of bulk load failed",
+                    e);
+        }
+        return out.toString();
+    }
+
+    /** Convert a non null field value to the value written into the text. */
+    protected Object toCsvValue(SeaTunnelDataType<?> dataType, Object value) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL:
+                return value;
+            case DATE:
+            case TIME:
+                return value;
+            case TIMESTAMP:
+                return java.sql.Timestamp.valueOf((LocalDateTime) value);
+            case BYTES:
+                return Hex.encodeHexString((byte[]) value);
+            default:
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Unsupported data type of bulk load: " + dataType);
+        }
+    }
+}
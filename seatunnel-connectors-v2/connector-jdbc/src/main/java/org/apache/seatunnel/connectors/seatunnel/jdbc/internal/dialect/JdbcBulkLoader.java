@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * The native bulk load of a database. The rows of a batch are loaded into a staging table of the
+ * session and merged into the target table with a single statement, instead of binding every row to
+ * a prepared statement.
+ */
+public interface JdbcBulkLoader extends Serializable {
+
+    /** The name of the staging table used for the given target table. */
+    default String getStagingTableName(String tableName) {
+        return "seatunnel_staging_" + tableName.replaceAll("[^A-Za-z0-9_]", "_");
+    }
+
+    /** The identifier of the staging table used for the given target table. */
+    String getStagingTableIdentifier(String database, String tableName);
+
+    /**
+     * Get the statement which creates the staging table, if the session does not have it yet. The
+     * staging table has the given columns of the target table and is only visible to the session.
+     */
+    String getCreateStagingTableStatement(String database, String tableName, String[] fieldNames);
+
+    /** Get the statement which removes all rows from the staging table. */
+    default String getClearStagingTableStatement(String database, String tableName) {
+        return "TRUNCATE TABLE " + getStagingTableIdentifier(database, tableName);
+    }
+
+    /** Whether the values of the type can be loaded, checked for every column before loading. */
+    default boolean supportsDataType(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL:
+            case DATE:
+            case TIME:
+            case TIMESTAMP:
+            case BYTES:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /** Load the rows into the staging table. */
+    void load(
+            Connection connection,
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            List<SeaTunnelRow> rows)
+            throws SQLException;
+
+    /**
+     * Get the statement which inserts the rows of the staging table into the target table and
+     * updates the rows whose unique key already exists.
+     */
+    String getMergeStatement(
+            String database, String tableName, String[] fieldNames, String[] uniqueKeyFields);
+}
@@ -239,6 +239,15 @@ public interface JdbcDialect extends Serializable {
     Optional<String> getUpsertStatement(
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields);
 
+    /**
+     * Get the native bulk load of the dialect, which upserts a batch through a staging table.
+     *
+     * @return the dialects bulk loader or {@link Optional#empty()}.
+     */
+    default Optional<JdbcBulkLoader> getBulkLoader() {
+        return Optional.empty();
+    }
+
     /**
      * Different dialects optimize their PreparedStatement
      *
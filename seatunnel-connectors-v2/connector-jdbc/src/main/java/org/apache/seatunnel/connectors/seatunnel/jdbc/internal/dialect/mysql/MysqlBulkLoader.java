@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.CsvBulkLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+
+import org.apache.commons.csv.CSVFormat;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the rows with {@code LOAD DATA LOCAL INFILE} from memory into a temporary table and merges
+ * them with {@code INSERT ... ON DUPLICATE KEY UPDATE}. The connection needs {@code
+ * allowLoadLocalInfile=true} and the server {@code local_infile=ON}.
+ */
+public class MysqlBulkLoader extends CsvBulkLoader {
+
+    private final JdbcDialect dialect;
+
+    public MysqlBulkLoader(JdbcDialect dialect) {
+        this.dialect = dialect;
+    }
+
+    @Override
+    public String getStagingTableIdentifier(String database, String tableName) {
+        return dialect.tableIdentifier(database, getStagingTableName(tableName));
+    }
+
+    @Override
+    public String getCreateStagingTableStatement(
+            String database, String tableName, String[] fieldNames) {
+        return String.format(
+                "CREATE TEMPORARY TABLE IF NOT EXISTS %s LIKE %s",
+                getStagingTableIdentifier(database, tableName),
+                dialect.tableIdentifier(database, tableName));
+    }
+
+    @Override
+    protected CSVFormat getCsvFormat() {
+        // tab separated, '\' escaped and \N as null, the defaults of LOAD DATA
+        return CSVFormat.MYSQL;
+    }
+
+    @Override
+    protected Object toCsvValue(SeaTunnelDataType<?> dataType, Object value) {
+        switch (dataType.getSqlType()) {
+            case BOOLEAN:
+                return (Boolean) value ? 1 : 0;
+            default:
+                return super.toCsvValue(dataType, value);
+        }
+    }
+
+    @Override
+    protected void loadCsv(
+            Connection connection,
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            String data)
+            throws SQLException {
+        String loadSql = getLoadStatement(database, tableName, tableSchema);
+        try (Statement statement = connection.createStatement()) {
+            if (!statement.isWrapperFor(JdbcStatement.class)) {
+                throw new JdbcConnectorException(
+                        JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                        "LOAD DATA LOCAL INFILE needs the MySQL Connector/J driver, please configure option use_bulk_load = false.");
+            }
+            statement
+                    .unwrap(JdbcStatement.class)
+                    .setLocalInfileInputStream(
+                            new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)));
+            statement.execute(loadSql);
+        }
+    }
+
+    String getLoadStatement(String database, String tableName, TableSchema tableSchema) {
+        SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
+        List<String> targets = new ArrayList<>();
+        List<String> assignments = new ArrayList<>();
+        for (int i = 0; i < rowType.getTotalFields(); i++) {
+            String column = dialect.quoteIdentifier(rowType.getFieldName(i));
+            if (rowType.getFieldType(i).getSqlType() == SqlType.BYTES) {
+                // binary values are written as hex digits
+                targets.add("@v" + i);
+                assignments.add(column + " = UNHEX(@v" + i + ")");
+            } else {
+                targets.add(column);
+            }
+        }
+        return String.format(
+                "LOAD DATA LOCAL INFILE 'seatunnel' INTO TABLE %s CHARACTER SET utf8mb4 (%s)%s",
+                getStagingTableIdentifier(database, tableName),
+                String.join(", ", targets),
+                assignments.isEmpty() ? "" : " SET " + String.join(", ", assignments));
+    }
+
+    @Override
+    public String getMergeStatement(
+            String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(dialect::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String updateClause =
+                Arrays.stream(fieldNames)
+                        .map(
+                                fieldName ->
+                                        dialect.quoteIdentifier(fieldName)
+                                                + "=VALUES("
+                                                + dialect.quoteIdentifier(fieldName)
+                                                + ")")
+                        .collect(Collectors.joining(", "));
+        return String.format(
+                "INSERT INTO %s (%s) SELECT %s FROM %s ON DUPLICATE KEY UPDATE %s",
+                dialect.tableIdentifier(database, tableName),
+                columns,
+                columns,
+                getStagingTableIdentifier(database, tableName),
+                updateClause);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.opengauss;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql.PostgresBulkLoader;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/** Merges the copied rows with {@code INSERT ... ON DUPLICATE KEY UPDATE}. */
+public class OpenGaussBulkLoader extends PostgresBulkLoader {
+
+    public OpenGaussBulkLoader(JdbcDialect dialect) {
+        super(dialect);
+    }
+
+    @Override
+    public String getMergeStatement(
+            String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
+        String updateClause =
+                Arrays.stream(fieldNames)
+                        .filter(fieldName -> !Arrays.asList(uniqueKeyFields).contains(fieldName))
+                        .map(
+                                fieldName ->
+                                        dialect.quoteIdentifier(fieldName)
+                                                + "=EXCLUDED."
+                                                + dialect.quoteIdentifier(fieldName))
+                        .collect(Collectors.joining(", "));
+        return String.format(
+                "%s ON DUPLICATE KEY UPDATE %s",
+                getInsertFromStagingStatement(database, tableName, fieldNames),
+                updateClause.isEmpty() ? "NOTHING" : updateClause);
+    }
+}
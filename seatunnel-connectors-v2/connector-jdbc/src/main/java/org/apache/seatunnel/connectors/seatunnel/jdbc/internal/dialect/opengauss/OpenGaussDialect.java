@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.opengauss;
 
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql.PostgresDialect;
 
 import java.util.Arrays;
@@ -46,4 +47,9 @@ public class OpenGaussDialect extends PostgresDialect {
                         getInsertIntoStatement(database, tableName, fieldNames), updateClause);
         return Optional.of(upsertSQL);
     }
+
+    @Override
+    public Optional<JdbcBulkLoader> getBulkLoader() {
+        return Optional.of(new OpenGaussBulkLoader(this));
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.CsvBulkLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.CopyManagerProxy;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.csv.CSVFormat;
+
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the rows with {@code COPY ... FROM STDIN} into a temporary table and merges them with
+ * {@code INSERT ... ON CONFLICT}.
+ */
+public class PostgresBulkLoader extends CsvBulkLoader {
+
+    protected final JdbcDialect dialect;
+
+    private transient Connection copyConnection;
+    private transient CopyManagerProxy copyManagerProxy;
+
+    public PostgresBulkLoader(JdbcDialect dialect) {
+        this.dialect = dialect;
+    }
+
+    @Override
+    public String getStagingTableIdentifier(String database, String tableName) {
+        // temporary tables live in the schema of the session and can not be qualified
+        return dialect.quoteIdentifier(getStagingTableName(tableName));
+    }
+
+    @Override
+    public String getCreateStagingTableStatement(
+            String database, String tableName, String[] fieldNames) {
+        return String.format(
+                "CREATE TEMP TABLE IF NOT EXISTS %s AS SELECT %s FROM %s WITH NO DATA",
+                getStagingTableIdentifier(database, tableName),
+                columns(fieldNames),
+                dialect.tableIdentifier(database, tableName));
+    }
+
+    @Override
+    protected CSVFormat getCsvFormat() {
+        return CSVFormat.POSTGRESQL_CSV;
+    }
+
+    @Override
+    protected Object toCsvValue(SeaTunnelDataType<?> dataType, Object value) {
+        switch (dataType.getSqlType()) {
+            case BYTES:
+                return "\\x" + Hex.encodeHexString((byte[]) value);
+            default:
+                return super.toCsvValue(dataType, value);
+        }
+    }
+
+    @Override
+    protected void loadCsv(
+            Connection connection,
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            String data)
+            throws SQLException {
+        String copySql =
+                String.format(
+                        "COPY %s (%s) FROM STDIN WITH CSV",
+                        getStagingTableIdentifier(database, tableName),
+                        columns(tableSchema.getFieldNames()));
+        try {
+            if (copyConnection != connection) {
+                copyManagerProxy = new CopyManagerProxy(connection);
+                copyConnection = connection;
+            }
+            copyManagerProxy.doCopy(copySql, new StringReader(data));
+        } catch (NoSuchMethodException e) {
+            throw new JdbcConnectorException(
+                    JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                    "The driver does not support CopyManager, please configure option use_bulk_load = false.",
+                    e);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED, "Sql command: " + copySql, e);
+        } catch (IllegalAccessException e) {
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED, "Sql command: " + copySql, e);
+        }
+    }
+
+    @Override
+    public String getMergeStatement(
+            String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
+        String updateClause =
+                Arrays.stream(fieldNames)
+                        .map(
+                                fieldName ->
+                                        dialect.quoteIdentifier(fieldName)
+                                                + "=EXCLUDED."
+                                                + dialect.quoteIdentifier(fieldName))
+                        .collect(Collectors.joining(", "));
+        return String.format(
+                "%s ON CONFLICT (%s) DO UPDATE SET %s",
+                getInsertFromStagingStatement(database, tableName, fieldNames),
+                columns(uniqueKeyFields),
+                updateClause);
+    }
+
+    protected String getInsertFromStagingStatement(
+            String database, String tableName, String[] fieldNames) {
+        String columns = columns(fieldNames);
+        return String.format(
+                "INSERT INTO %s (%s) SELECT %s FROM %s",
+                dialect.tableIdentifier(database, tableName),
+                columns,
+                columns,
+                getStagingTableIdentifier(database, tableName));
+    }
+
+    protected String columns(String[] fieldNames) {
+        return Arrays.stream(fieldNames)
+                .map(dialect::quoteIdentifier)
+                .collect(Collectors.joining(", "));
+    }
+}
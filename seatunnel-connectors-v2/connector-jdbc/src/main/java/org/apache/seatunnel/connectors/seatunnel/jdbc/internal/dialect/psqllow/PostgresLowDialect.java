@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psqllow;
 
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql.PostgresDialect;
 
 import java.util.Optional;
@@ -32,4 +33,10 @@ public class PostgresLowDialect extends PostgresDialect {
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
         return Optional.empty();
     }
+
+    @Override
+    public Optional<JdbcBulkLoader> getBulkLoader() {
+        // the merge needs ON CONFLICT, which is not available before 9.5
+        return Optional.empty();
+    }
 }
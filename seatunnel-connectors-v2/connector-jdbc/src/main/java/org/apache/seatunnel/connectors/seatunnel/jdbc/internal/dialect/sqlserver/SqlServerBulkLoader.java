@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.sqlserver;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the rows with {@link SQLServerBulkCopy} into a temporary table and merges them with a
+ * {@code MERGE} statement.
+ */
+public class SqlServerBulkLoader implements JdbcBulkLoader {
+
+    private static final LocalDate TIME_BASE_DATE = LocalDate.of(1970, 1, 1);
+
+    private final JdbcDialect dialect;
+
+    public SqlServerBulkLoader(JdbcDialect dialect) {
+        this.dialect = dialect;
+    }
+
+    @Override
+    public String getStagingTableIdentifier(String database, String tableName) {
+        return dialect.quoteIdentifier("#" + getStagingTableName(tableName));
+    }
+
+    @Override
+    public String getCreateStagingTableStatement(
+            String database, String tableName, String[] fieldNames) {
+        return String.format(
+                "IF OBJECT_ID('tempdb..#%s') IS NULL SELECT TOP 0 %s INTO %s FROM %s",
+                getStagingTableName(tableName),
+                columns(fieldNames),
+                getStagingTableIdentifier(database, tableName),
+                dialect.tableIdentifier(database, tableName));
+    }
+
+    @Override
+    public void load(
+            Connection connection,
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            List<SeaTunnelRow> rows)
+            throws SQLException {
+        if (!connection.isWrapperFor(SQLServerConnection.class)) {
+            throw new JdbcConnectorException(
+                    JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                    "Bulk copy needs the Microsoft JDBC driver, please configure option use_bulk_load = false.");
+        }
+        SQLServerBulkCopyOptions options = new SQLServerBulkCopyOptions();
+        options.setKeepIdentity(true);
+        options.setKeepNulls(true);
+        options.setBulkCopyTimeout(0);
+        try (SQLServerBulkCopy bulkCopy =
+                new SQLServerBulkCopy(connection.unwrap(SQLServerConnection.class))) {
+            bulkCopy.setBulkCopyOptions(options);
+            bulkCopy.setDestinationTableName(getStagingTableIdentifier(database, tableName));
+            bulkCopy.writeToServer(new RowBulkData(tableSchema.toPhysicalRowDataType(), rows));
+        }
+    }
+
+    @Override
+    public String getMergeStatement(
+            String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
+        String onConditions =
+                Arrays.stream(uniqueKeyFields)
+                        .map(
+                                fieldName ->
+                                        String.format(
+                                                "[TARGET].%s=[SOURCE].%s",
+                                                dialect.quoteIdentifier(fieldName),
+                                                dialect.quoteIdentifier(fieldName)))
+                        .collect(Collectors.joining(" AND "));
+        String updateSetClause =
+                Arrays.stream(fieldNames)
+                        .filter(fieldName -> !Arrays.asList(uniqueKeyFields).contains(fieldName))
+                        .map(
+                                fieldName ->
+                                        String.format(
+                                                "[TARGET].%s=[SOURCE].%s",
+                                                dialect.quoteIdentifier(fieldName),
+                                                dialect.quoteIdentifier(fieldName)))
+                        .collect(Collectors.joining(", "));
+        String insertValues =
+                Arrays.stream(fieldNames)
+                        .map(fieldName -> "[SOURCE]." + dialect.quoteIdentifier(fieldName))
+                        .collect(Collectors.joining(", "));
+        return String.format(
+                "MERGE INTO %s AS [TARGET]"
+                        + " USING %s AS [SOURCE]"
+                        + " ON (%s)"
+                        + "%s"
+                        + " WHEN NOT MATCHED THEN"
+                        + " INSERT (%s) VALUES (%s);",
+                dialect.tableIdentifier(database, tableName),
+                getStagingTableIdentifier(database, tableName),
+                onConditions,
+                updateSetClause.isEmpty() ? "" : " WHEN MATCHED THEN UPDATE SET " + updateSetClause,
+                columns(fieldNames),
+                insertValues);
+    }
+
+    private String columns(String[] fieldNames) {
+        return Arrays.stream(fieldNames)
+                .map(dialect::quoteIdentifier)
+                .collect(Collectors.joining(", "));
+    }
+
+    /** Hands the buffered rows to the bulk copy, converted to the types the driver expects. */
+    static class RowBulkData implements ISQLServerBulkData {
+
+        private final SeaTunnelRowType rowType;
+        private final Iterator<SeaTunnelRow> rows;
+        private final int[] types;
+        private final int[] precisions;
+        private final int[] scales;
+        private SeaTunnelRow current;
+
+        RowBulkData(SeaTunnelRowType rowType, List<SeaTunnelRow> rows) {
+            this.rowType = rowType;
+            this.rows = rows.iterator();
+            int fields = rowType.getTotalFields();
+            this.types = new int[fields];
+            this.precisions = new int[fields];
+            this.scales = new int[fields];
+            for (int i = 0; i < fields; i++) {
+                SeaTunnelDataType<?> dataType = rowType.getFieldType(i);
+                switch (dataType.getSqlType()) {
+                    case STRING:
+                        types[i] = Types.NVARCHAR;
+                        precisions[i] = maxLength(rows, i);
+                        break;
+                    case BYTES:
+                        types[i] = Types.VARBINARY;
+                        precisions[i] = maxLength(rows, i);
+                        break;
+                    case BOOLEAN:
+                        types[i] = Types.BIT;
+                        precisions[i] = 1;
+                        break;
+                    case TINYINT:
+                        types[i] = Types.TINYINT;
+                        precisions[i] = 3;
+                        break;
+                    case SMALLINT:
+                        types[i] = Types.SMALLINT;
+                        precisions[i] = 5;
+                        break;
+                    case INT:
+                        types[i] = Types.INTEGER;
+                        precisions[i] = 10;
+                        break;
+                    case BIGINT:
+                        types[i] = Types.BIGINT;
+                        precisions[i] = 19;
+                        break;
+                    case FLOAT:
+                        types[i] = Types.REAL;
+                        precisions[i] = 7;
+                        break;
+                    case DOUBLE:
+                        types[i] = Types.DOUBLE;
+                        precisions[i] = 15;
+                        break;
+                    case DECIMAL:
+                        types[i] = Types.DECIMAL;
+                        precisions[i] = ((DecimalType) dataType).getPrecision();
+                        scales[i] = ((DecimalType) dataType).getScale();
+                        break;
+                    case DATE:
+                        types[i] = Types.DATE;
+                        precisions[i] = 10;
+                        break;
+                    case TIME:
+                        types[i] = Types.TIME;
+                        precisions[i] = 16;
+                        scales[i] = 7;
+                        break;
+                    case TIMESTAMP:
+                        types[i] = Types.TIMESTAMP;
+                        precisions[i] = 27;
+                        scales[i] = 7;
+                        break;
+                    default:
+                        throw new JdbcConnectorException(
+                                CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                                "Unsupported data type of bulk load: " + dataType);
+                }
+            }
+        }
+
+        private static int maxLength(List<SeaTunnelRow> rows, int field) {
+            int maxLength = 1;
+            for (SeaTunnelRow row : rows) {
+                Object value = row.getField(field);
+                if (value instanceof String) {
+                    maxLength = Math.max(maxLength, ((String) value).length());
+                } else if (value instanceof byte[]) {
+                    maxLength = Math.max(maxLength, ((byte[]) value).length);
+                }
+            }
+            return maxLength;
+        }
+
+        @Override
+        public Set<Integer> getColumnOrdinals() {
+            Set<Integer> ordinals = new LinkedHashSet<>();
+            for (int i = 1; i <= types.length; i++) {
+                ordinals.add(i);
+            }
+            return ordinals;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return rowType.getFieldName(column - 1);
+        }
+
+        @Override
+        public int getColumnType(int column) {
+            return types[column - 1];
+        }
+
+        @Override
+        public int getPrecision(int column) {
+            return precisions[column - 1];
+        }
+
+        @Override
+        public int getScale(int column) {
+            return scales[column - 1];
+        }
+
+        @Override
+        public boolean next() {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            current = rows.next();
+            return true;
+        }
+
+        @Override
+        public Object[] getRowData() {
+            Object[] data = new Object[types.length];
+            for (int i = 0; i < types.length; i++) {
+                Object value = current.getField(i);
+                if (value == null) {
+                    continue;
+                }
+                switch (types[i]) {
+                    case Types.DATE:
+                        data[i] = java.sql.Date.valueOf((LocalDate) value);
+                        break;
+                    case Types.TIME:
+                        data[i] =
+                                java.sql.Timestamp.valueOf(
+                                        LocalDateTime.of(TIME_BASE_DATE, (LocalTime) value));
+                        break;
+                    case Types.TIMESTAMP:
+                        data[i] = java.sql.Timestamp.valueOf((LocalDateTime) value);
+                        break;
+                    default:
+                        data[i] = value;
+                }
+            }
+            return data;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.seatunnel.api.table.schema.event.AlterTableDropColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableModifyColumnEvent;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.DatabaseIdentifier;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.SQLUtils;
@@ -148,6 +149,11 @@ public class SqlServerDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public Optional<JdbcBulkLoader> getBulkLoader() {
+        return Optional.of(new SqlServerBulkLoader(this));
+    }
+
     @Override
     public String quoteIdentifier(String identifier) {
         if (identifier.contains(".")) {
@@ -17,8 +17,11 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.starrocks;
 
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
 
+import java.util.Optional;
+
 public class StarRocksDialect extends MysqlDialect {
 
     public StarRocksDialect() {}
@@ -31,4 +34,9 @@ public class StarRocksDialect extends MysqlDialect {
     public String hashModForField(String fieldName, int mod) {
         return "ABS(murmur_hash3_32(" + quoteIdentifier(fieldName) + ") % " + mod + ")";
     }
+
+    @Override
+    public Optional<JdbcBulkLoader> getBulkLoader() {
+        return Optional.empty();
+    }
 }
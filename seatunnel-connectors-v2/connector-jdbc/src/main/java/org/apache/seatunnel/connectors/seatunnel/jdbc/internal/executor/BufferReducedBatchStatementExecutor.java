@@ -22,28 +22,39 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.Set;
 import java.util.function.Function;
 
-@RequiredArgsConstructor
+@Slf4j
 public class BufferReducedBatchStatementExecutor
         implements JdbcBatchStatementExecutor<SeaTunnelRow> {
-    @NonNull private final JdbcBatchStatementExecutor<SeaTunnelRow> upsertExecutor;
-    @NonNull private final JdbcBatchStatementExecutor<SeaTunnelRow> deleteExecutor;
-    @NonNull private final Function<SeaTunnelRow, SeaTunnelRow> keyExtractor;
-    @NonNull private final Function<SeaTunnelRow, SeaTunnelRow> valueTransform;
+    private final JdbcBatchStatementExecutor<SeaTunnelRow> upsertExecutor;
+    private final JdbcBatchStatementExecutor<SeaTunnelRow> deleteExecutor;
+    private final Function<SeaTunnelRow, SeaTunnelRow> valueTransform;
+    private final UpsertBuffer buffer;
+
+    public BufferReducedBatchStatementExecutor(
+            @NonNull JdbcBatchStatementExecutor<SeaTunnelRow> upsertExecutor,
+            @NonNull JdbcBatchStatementExecutor<SeaTunnelRow> deleteExecutor,
+            @NonNull Function<SeaTunnelRow, SeaTunnelRow> keyExtractor,
+            @NonNull Function<SeaTunnelRow, SeaTunnelRow> valueTransform) {
+        this(upsertExecutor, deleteExecutor, valueTransform, new UpsertBuffer(keyExtractor));
+    }
 
-    @NonNull private final LinkedHashMap<SeaTunnelRow, Pair<Boolean, SeaTunnelRow>> buffer =
-            new LinkedHashMap<>();
+    public BufferReducedBatchStatementExecutor(
+            @NonNull JdbcBatchStatementExecutor<SeaTunnelRow> upsertExecutor,
+            @NonNull JdbcBatchStatementExecutor<SeaTunnelRow> deleteExecutor,
+            @NonNull Function<SeaTunnelRow, SeaTunnelRow> valueTransform,
+            @NonNull UpsertBuffer buffer) {
+        this.upsertExecutor = upsertExecutor;
+        this.deleteExecutor = deleteExecutor;
+        this.valueTransform = valueTransform;
+        this.buffer = buffer;
+    }
 
     @Override
     public void prepareStatements(Connection connection) throws SQLException {
@@ -58,28 +69,30 @@ public class BufferReducedBatchStatementExecutor
             return;
         }
 
-        SeaTunnelRow key = keyExtractor.apply(record);
-        boolean changeFlag = changeFlag(record.getRowKind());
-        SeaTunnelRow value = valueTransform.apply(record);
-        buffer.put(key, Pair.of(changeFlag, value));
+        buffer.put(record, changeFlag(record.getRowKind()));
     }
 
     @Override
     public void executeBatch() throws SQLException {
+        if (log.isDebugEnabled()) {
+            log.debug(
+                    "Execute {} reduced rows, buffer uses about {} bytes",
+                    buffer.size(),
+                    buffer.getMemoryUsage());
+        }
         Boolean preChangeFlag = null;
-        Set<Map.Entry<SeaTunnelRow, Pair<Boolean, SeaTunnelRow>>> entrySet = buffer.entrySet();
-        for (Map.Entry<SeaTunnelRow, Pair<Boolean, SeaTunnelRow>> entry : entrySet) {
-            Boolean currentChangeFlag = entry.getValue().getKey();
+        for (int i = 0; i < buffer.size(); i++) {
+            boolean currentChangeFlag = buffer.getChangeFlag(i);
             if (currentChangeFlag) {
                 if (preChangeFlag != null && !preChangeFlag) {
                     deleteExecutor.executeBatch();
                 }
-                upsertExecutor.addToBatch(entry.getValue().getValue());
+                upsertExecutor.addToBatch(valueTransform.apply(buffer.getRow(i)));
             } else {
                 if (preChangeFlag != null && preChangeFlag) {
                     upsertExecutor.executeBatch();
                 }
-                deleteExecutor.addToBatch(entry.getKey());
+                deleteExecutor.addToBatch(buffer.getKey(i));
             }
             preChangeFlag = currentChangeFlag;
         }
@@ -94,6 +107,11 @@ public class BufferReducedBatchStatementExecutor
         buffer.clear();
     }
 
+    /** Estimate the heap used by the buffered rows, in bytes. */
+    public long getBufferMemoryUsage() {
+        return buffer.getMemoryUsage();
+    }
+
     @Override
     public void closeStatements() throws SQLException {
         try {
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Upserts a batch with the native bulk load of the database: the rows are loaded into a staging
+ * table of the session and merged into the target table with one statement.
+ */
+public class BulkLoadBatchStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    private final JdbcBulkLoader bulkLoader;
+    private final String database;
+    private final String table;
+    private final TableSchema tableSchema;
+    private final String createStagingTableSql;
+    private final String clearStagingTableSql;
+    private final String mergeSql;
+    private final List<SeaTunnelRow> batch = new ArrayList<>();
+    private Connection connection;
+    private Statement statement;
+
+    public BulkLoadBatchStatementExecutor(
+            JdbcBulkLoader bulkLoader,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            String[] pkNames) {
+        this.bulkLoader = bulkLoader;
+        this.database = database;
+        this.table = table;
+        this.tableSchema = tableSchema;
+        String[] fieldNames = tableSchema.getFieldNames();
+        this.createStagingTableSql =
+                bulkLoader.getCreateStagingTableStatement(database, table, fieldNames);
+        this.clearStagingTableSql = bulkLoader.getClearStagingTableStatement(database, table);
+        this.mergeSql = bulkLoader.getMergeStatement(database, table, fieldNames, pkNames);
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        this.connection = connection;
+        this.statement = connection.createStatement();
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        batch.add(record);
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            // the staging table is created on demand, a rolled back transaction may drop it
+            statement.execute(createStagingTableSql);
+            statement.execute(clearStagingTableSql);
+            bulkLoader.load(connection, database, table, tableSchema, batch);
+            statement.executeUpdate(mergeSql);
+        } finally {
+            // the caller adds the rows again when the batch is retried
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        batch.clear();
+        if (statement != null) {
+            statement.close();
+            statement = null;
+        }
+        connection = null;
+    }
+}
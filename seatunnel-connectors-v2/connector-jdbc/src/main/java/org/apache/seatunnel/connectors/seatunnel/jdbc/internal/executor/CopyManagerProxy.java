@@ -28,7 +28,7 @@ import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
 
-class CopyManagerProxy {
+public class CopyManagerProxy {
     private static final Logger LOG = LoggerFactory.getLogger(CopyManagerProxy.class);
     Object connection;
     Object copyManager;
@@ -37,7 +37,7 @@ class CopyManagerProxy {
     Method getCopyAPIMethod;
     Method copyInMethod;
 
-    CopyManagerProxy(Connection connection)
+    public CopyManagerProxy(Connection connection)
             throws NoSuchMethodException, InvocationTargetException, IllegalAccessException,
                     SQLException {
         LOG.info("Proxy connection class: {}", connection.getClass().getName());
@@ -61,7 +61,7 @@ class CopyManagerProxy {
         this.copyInMethod = this.copyManagerClazz.getMethod("copyIn", String.class, Reader.class);
     }
 
-    long doCopy(String sql, Reader reader)
+    public long doCopy(String sql, Reader reader)
             throws InvocationTargetException, IllegalAccessException {
         return (long) this.copyInMethod.invoke(this.copyManager, sql, reader);
     }
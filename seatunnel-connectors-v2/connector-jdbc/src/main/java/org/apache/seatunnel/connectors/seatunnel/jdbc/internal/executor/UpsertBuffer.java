@@ -0,0 +1,495 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Keeps the last row and change flag of every primary key, in the order the keys were first seen.
+ *
+ * <p>The rows are stored in arrays and looked up through an open addressing table of their indexes.
+ * When the primary key types allow, the keys are encoded into a {@code long} or a compact {@code
+ * byte[]} instead of a key row, so a duplicated key does not allocate anything and a new key at
+ * most its encoded bytes. Otherwise, or when rows of several tables are buffered, the key rows of
+ * the key extractor are used.
+ */
+public class UpsertBuffer {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NULL_TAG = 0;
+    private static final int VALUE_TAG = 1;
+
+    private enum KeyMode {
+        LONG,
+        BYTES,
+        ROW
+    }
+
+    private final Function<SeaTunnelRow, SeaTunnelRow> keyExtractor;
+    private final int[] pkFields;
+    private final SqlType[] pkTypes;
+    private final KeyMode encodedKeyMode;
+    private KeyMode keyMode;
+
+    private SeaTunnelRow[] rows = new SeaTunnelRow[INITIAL_CAPACITY];
+    private boolean[] changeFlags = new boolean[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private long[] longKeys;
+    private byte[][] bytesKeys;
+    private SeaTunnelRow[] rowKeys;
+    /** Index + 1 of the entry in each slot, 0 for an empty slot. */
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+
+    private int size;
+    private int nullKeyIndex = -1;
+    private String tableId;
+
+    private byte[] scratch = new byte[64];
+    private int scratchLength;
+
+    /** A buffer which compares the key rows of the key extractor. */
+    public UpsertBuffer(Function<SeaTunnelRow, SeaTunnelRow> keyExtractor) {
+        this(keyExtractor, null, null);
+    }
+
+    /**
+     * A buffer which encodes the primary keys if their types allow.
+     *
+     * @param keyExtractor extracts the key row of a row, used for the delete statements.
+     * @param pkFields the indexes of the primary key fields.
+     * @param pkTypes the types of the primary key fields.
+     */
+    public UpsertBuffer(
+            Function<SeaTunnelRow, SeaTunnelRow> keyExtractor,
+            int[] pkFields,
+            SeaTunnelDataType<?>[] pkTypes) {
+        this.keyExtractor = keyExtractor;
+        this.pkFields = pkFields;
+        this.pkTypes =
+                pkTypes == null
+                        ? null
+                        : Arrays.stream(pkTypes)
+                                .map(SeaTunnelDataType::getSqlType)
+                                .toArray(SqlType[]::new);
+        this.encodedKeyMode = keyMode(this.pkTypes);
+        this.keyMode = encodedKeyMode;
+        initKeys(INITIAL_CAPACITY);
+    }
+
+    private static KeyMode keyMode(SqlType[] pkTypes) {
+        if (pkTypes == null || pkTypes.length == 0) {
+            return KeyMode.ROW;
+        }
+        if (pkTypes.length == 1 && isIntegral(pkTypes[0])) {
+            return KeyMode.LONG;
+        }
+        for (SqlType pkType : pkTypes) {
+            if (!isIntegral(pkType) && !isEncodable(pkType)) {
+                return KeyMode.ROW;
+            }
+        }
+        return KeyMode.BYTES;
+    }
+
+    private static boolean isIntegral(SqlType sqlType) {
+        switch (sqlType) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isEncodable(SqlType sqlType) {
+        switch (sqlType) {
+            case BOOLEAN:
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL:
+            case STRING:
+            case BYTES:
+            case DATE:
+            case TIME:
+            case TIMESTAMP:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void initKeys(int capacity) {
+        longKeys = keyMode == KeyMode.LONG ? new long[capacity] : null;
+        bytesKeys = keyMode == KeyMode.BYTES ? new byte[capacity][] : null;
+        rowKeys = keyMode == KeyMode.ROW ? new SeaTunnelRow[capacity] : null;
+    }
+
+    /**
+     * Buffer a row, replacing the buffered row of the same key but keeping the position of the key.
+     */
+    public void put(SeaTunnelRow row, boolean changeFlag) {
+        if (keyMode != KeyMode.ROW && !Objects.equals(tableId, row.getTableId())) {
+            if (size == 0) {
+                tableId = row.getTableId();
+            } else {
+                // the encoded keys do not contain the table
+                switchToRowKeys();
+            }
+        }
+        int index;
+        switch (keyMode) {
+            case LONG:
+                index = putLongKey(row);
+                break;
+            case BYTES:
+                index = putBytesKey(row);
+                break;
+            default:
+                index = putRowKey(row);
+        }
+        rows[index] = row;
+        changeFlags[index] = changeFlag;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** The row at the given position, in the order the keys were first seen. */
+    public SeaTunnelRow getRow(int index) {
+        return rows[index];
+    }
+
+    public boolean getChangeFlag(int index) {
+        return changeFlags[index];
+    }
+
+    /** The key row of the row at the given position. */
+    public SeaTunnelRow getKey(int index) {
+        return keyMode == KeyMode.ROW ? rowKeys[index] : keyExtractor.apply(rows[index]);
+    }
+
+    /** Remove all rows, keeping the allocated arrays for the next batch. */
+    public void clear() {
+        Arrays.fill(rows, 0, size, null);
+        if (bytesKeys != null) {
+            Arrays.fill(bytesKeys, 0, size, null);
+        }
+        if (rowKeys != null) {
+            Arrays.fill(rowKeys, 0, size, null);
+        }
+        Arrays.fill(slots, 0);
+        size = 0;
+        nullKeyIndex = -1;
+        tableId = null;
+        if (keyMode != encodedKeyMode) {
+            keyMode = encodedKeyMode;
+            initKeys(rows.length);
+        }
+    }
+
+    /** Estimate the heap used by the buffer and the buffered rows, in bytes. */
+    public long getMemoryUsage() {
+        int capacity = rows.length;
+        // references are counted with 8 bytes and array headers with 16 bytes
+        long usage = 16L * 4 + capacity * (8L + 1 + 4) + slots.length * 4L + scratch.length;
+        for (int i = 0; i < size; i++) {
+            usage += rows[i].getBytesSize();
+        }
+        switch (keyMode) {
+            case LONG:
+                usage += 16 + capacity * 8L;
+                break;
+            case BYTES:
+                usage += 16 + capacity * 8L;
+                for (int i = 0; i < size; i++) {
+                    if (bytesKeys[i] != null) {
+                        usage += 16 + bytesKeys[i].length;
+                    }
+                }
+                break;
+            default:
+                usage += 16 + capacity * 8L;
+                for (int i = 0; i < size; i++) {
+                    usage += 16 + rowKeys[i].getBytesSize();
+                }
+        }
+        return usage;
+    }
+
+    private int putLongKey(SeaTunnelRow row) {
+        Object value = row.getField(pkFields[0]);
+        if (value == null) {
+            return putNullKey();
+        }
+        long key = ((Number) value).longValue();
+        int hash = mix(Long.hashCode(key));
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entry == 0) {
+                int index = append(slot, hash);
+                longKeys[index] = key;
+                return index;
+            }
+            if (hashes[entry - 1] == hash && longKeys[entry - 1] == key) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private int putNullKey() {
+        if (nullKeyIndex < 0) {
+            nullKeyIndex = appendEntry(0);
+        }
+        return nullKeyIndex;
+    }
+
+    private int putBytesKey(SeaTunnelRow row) {
+        scratchLength = 0;
+        for (int i = 0; i < pkFields.length; i++) {
+            encode(pkTypes[i], row.getField(pkFields[i]));
+        }
+        int hash = 1;
+        for (int i = 0; i < scratchLength; i++) {
+            hash = 31 * hash + scratch[i];
+        }
+        hash = mix(hash);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entry == 0) {
+                int index = append(slot, hash);
+                bytesKeys[index] = Arrays.copyOf(scratch, scratchLength);
+                return index;
+            }
+            if (hashes[entry - 1] == hash && scratchEquals(bytesKeys[entry - 1])) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private int putRowKey(SeaTunnelRow row) {
+        SeaTunnelRow key = keyExtractor.apply(row);
+        int hash = mix(key.hashCode());
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entry == 0) {
+                int index = append(slot, hash);
+                rowKeys[index] = key;
+                return index;
+            }
+            if (hashes[entry - 1] == hash && key.equals(rowKeys[entry - 1])) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /** Append a new entry for the empty slot found by the lookup. */
+    private int append(int slot, int hash) {
+        if (size == rows.length) {
+            grow();
+            // the slot of the lookup is stale after a rehash
+            int mask = slots.length - 1;
+            slot = hash & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+        }
+        int index = appendEntry(hash);
+        slots[slot] = index + 1;
+        return index;
+    }
+
+    private int appendEntry(int hash) {
+        if (size == rows.length) {
+            grow();
+        }
+        int index = size++;
+        hashes[index] = hash;
+        return index;
+    }
+
+    private void grow() {
+        int capacity = rows.length * 2;
+        rows = Arrays.copyOf(rows, capacity);
+        changeFlags = Arrays.copyOf(changeFlags, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
+        if (longKeys != null) {
+            longKeys = Arrays.copyOf(longKeys, capacity);
+        }
+        if (bytesKeys != null) {
+            bytesKeys = Arrays.copyOf(bytesKeys, capacity);
+        }
+        if (rowKeys != null) {
+            rowKeys = Arrays.copyOf(rowKeys, capacity);
+        }
+        rehash(capacity * 2);
+    }
+
+    private void rehash(int slotCount) {
+        slots = new int[slotCount];
+        int mask = slotCount - 1;
+        for (int index = 0; index < size; index++) {
+            if (index == nullKeyIndex) {
+                continue;
+            }
+            int slot = hashes[index] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = index + 1;
+        }
+    }
+
+    private void switchToRowKeys() {
+        keyMode = KeyMode.ROW;
+        longKeys = null;
+        bytesKeys = null;
+        rowKeys = new SeaTunnelRow[rows.length];
+        nullKeyIndex = -1;
+        for (int index = 0; index < size; index++) {
+            rowKeys[index] = keyExtractor.apply(rows[index]);
+            hashes[index] = mix(rowKeys[index].hashCode());
+        }
+        rehash(slots.length);
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private boolean scratchEquals(byte[] key) {
+        if (key.length != scratchLength) {
+            return false;
+        }
+        for (int i = 0; i < scratchLength; i++) {
+            if (key[i] != scratch[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void encode(SqlType sqlType, Object value) {
+        if (value == null) {
+            writeByte(NULL_TAG);
+            return;
+        }
+        writeByte(VALUE_TAG);
+        switch (sqlType) {
+            case BOOLEAN:
+                writeByte((Boolean) value ? 1 : 0);
+                break;
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                writeLong(((Number) value).longValue());
+                break;
+            case FLOAT:
+                writeInt(Float.floatToIntBits((Float) value));
+                break;
+            case DOUBLE:
+                writeLong(Double.doubleToLongBits((Double) value));
+                break;
+            case DECIMAL:
+                BigDecimal decimal = (BigDecimal) value;
+                writeInt(decimal.scale());
+                writeBytes(decimal.unscaledValue().toByteArray());
+                break;
+            case STRING:
+                String string = (String) value;
+                writeInt(string.length());
+                ensureScratch(string.length() * 2);
+                for (int i = 0; i < string.length(); i++) {
+                    char c = string.charAt(i);
+                    scratch[scratchLength++] = (byte) (c >>> 8);
+                    scratch[scratchLength++] = (byte) c;
+                }
+                break;
+            case BYTES:
+                writeBytes((byte[]) value);
+                break;
+            case DATE:
+                writeLong(((LocalDate) value).toEpochDay());
+                break;
+            case TIME:
+                writeLong(((LocalTime) value).toNanoOfDay());
+                break;
+            case TIMESTAMP:
+                LocalDateTime dateTime = (LocalDateTime) value;
+                writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+                writeInt(dateTime.getNano());
+                break;
+            default:
+                throw new IllegalStateException("Unexpected primary key type " + sqlType);
+        }
+    }
+
+    private void ensureScratch(int length) {
+        if (scratchLength + length > scratch.length) {
+            scratch = Arrays.copyOf(scratch, Math.max(scratch.length * 2, scratchLength + length));
+        }
+    }
+
+    private void writeByte(int value) {
+        ensureScratch(1);
+        scratch[scratchLength++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+        ensureScratch(4);
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            scratch[scratchLength++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeLong(long value) {
+        ensureScratch(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            scratch[scratchLength++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeBytes(byte[] value) {
+        writeInt(value.length);
+        ensureScratch(value.length);
+        System.arraycopy(value, 0, scratch, scratchLength, value.length);
+        scratchLength += value.length;
+    }
+}
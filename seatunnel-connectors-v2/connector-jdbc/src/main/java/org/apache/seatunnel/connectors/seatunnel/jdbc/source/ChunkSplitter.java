@@ -116,15 +116,63 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
     public PreparedStatement generateSplitStatement(JdbcSourceSplit split, TableSchema schema)
             throws SQLException {
         if (split.getSplitKeyName() == null) {
-            return createSingleSplitStatement(split);
+            return createSingleSplitStatement(split, schema);
         }
         return createSplitStatement(split, schema);
     }
 
+    /**
+     * Whether the rows of the split can be read in split key order and the read restarted after the
+     * last emitted key. This requires the split key to be a non-null column that is unique on its
+     * own, otherwise rows sharing the last key value would be lost on restart.
+     */
+    public boolean isResumable(JdbcSourceSplit split, TableSchema schema) {
+        String splitKeyName = split.getSplitKeyName();
+        if (splitKeyName == null) {
+            return false;
+        }
+        Optional<Column> column =
+                schema.getColumns().stream()
+                        .filter(c -> c.getName().equals(splitKeyName))
+                        .findFirst();
+        if (!column.isPresent() || column.get().isNullable()) {
+            return false;
+        }
+        PrimaryKey pk = schema.getPrimaryKey();
+        if (pk != null && Collections.singletonList(splitKeyName).equals(pk.getColumnNames())) {
+            return true;
+        }
+        List<ConstraintKey> constraintKeys = schema.getConstraintKeys();
+        return constraintKeys != null
+                && constraintKeys.stream()
+                        .filter(
+                                constraintKey ->
+                                        constraintKey.getConstraintType()
+                                                == ConstraintKey.ConstraintType.UNIQUE_KEY)
+                        .map(ConstraintKey::getColumnNames)
+                        .anyMatch(
+                                columns ->
+                                        columns.size() == 1
+                                                && splitKeyName.equals(
+                                                        columns.get(0).getColumnName()));
+    }
+
     protected abstract PreparedStatement createSplitStatement(
             JdbcSourceSplit split, TableSchema schema) throws SQLException;
 
     protected PreparedStatement createPreparedStatement(String sql) throws SQLException {
+        return createPreparedStatement(sql, null, null, 0);
+    }
+
+    /**
+     * Creates the statement of a split query that binds {@code parameterCount} parameters. For
+     * resumable splits the rows are ordered by the split key and, when the split was checkpointed
+     * in the middle, restricted to keys after the last emitted one. That extra parameter is bound
+     * here as the last one.
+     */
+    protected PreparedStatement createPreparedStatement(
+            String sql, JdbcSourceSplit split, TableSchema schema, int parameterCount)
+            throws SQLException {
         Connection connection = getOrEstablishConnection();
         // set autoCommit mode only if it was explicitly configured.
         // keep connection default otherwise.
@@ -134,8 +182,27 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
         if (StringUtils.isNotBlank(config.getWhereConditionClause())) {
             sql = String.format("SELECT * FROM (%s) tmp %s", sql, config.getWhereConditionClause());
         }
+        boolean resumable = split != null && isResumable(split, schema);
+        if (resumable) {
+            sql = createResumableSplitQuerySQL(sql, split);
+        }
         log.debug("Prepared statement: {}", sql);
-        return jdbcDialect.creatPreparedStatement(connection, sql, fetchSize);
+        PreparedStatement statement =
+                jdbcDialect.creatPreparedStatement(connection, sql, fetchSize);
+        if (resumable && split.getSplitKeyResumeValue() != null) {
+            statement.setObject(parameterCount + 1, split.getSplitKeyResumeValue());
+        }
+        return statement;
+    }
+
+    String createResumableSplitQuerySQL(String sql, JdbcSourceSplit split) {
+        String splitKeyName = jdbcDialect.quoteIdentifier(split.getSplitKeyName());
+        if (split.getSplitKeyResumeValue() != null) {
+            sql =
+                    String.format(
+                            "SELECT * FROM (%s) st_jdbc_resume WHERE %s > ?", sql, splitKeyName);
+        }
+        return sql + " ORDER BY " + splitKeyName;
     }
 
     protected Connection getOrEstablishConnection() throws SQLException {
@@ -161,15 +228,15 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
                 null);
     }
 
-    protected PreparedStatement createSingleSplitStatement(JdbcSourceSplit split)
-            throws SQLException {
+    protected PreparedStatement createSingleSplitStatement(
+            JdbcSourceSplit split, TableSchema schema) throws SQLException {
         String splitQuery = split.getSplitQuery();
         if (StringUtils.isEmpty(splitQuery)) {
             splitQuery =
                     String.format(
                             "SELECT * FROM %s", jdbcDialect.tableIdentifier(split.getTablePath()));
         }
-        return createPreparedStatement(splitQuery);
+        return createPreparedStatement(splitQuery, split, schema, 0);
     }
 
     protected Object queryMin(JdbcSourceTable table, String columnName, Object excludedLowerBound)
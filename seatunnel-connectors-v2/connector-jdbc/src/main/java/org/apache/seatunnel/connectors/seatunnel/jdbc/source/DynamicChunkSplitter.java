@@ -98,7 +98,9 @@ public class DynamicChunkSplitter extends ChunkSplitter {
     private PreparedStatement createDynamicSplitStatement(JdbcSourceSplit split, TableSchema schema)
             throws SQLException {
         String splitQuery = createDynamicSplitQuerySQL(split, schema);
-        PreparedStatement statement = createPreparedStatement(splitQuery);
+        PreparedStatement statement =
+                createPreparedStatement(
+                        splitQuery, split, schema, prepareDynamicSplitParameterCount(split));
         prepareDynamicSplitStatement(statement, split);
         return statement;
     }
@@ -521,6 +523,18 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         }
     }
 
+    private static int prepareDynamicSplitParameterCount(JdbcSourceSplit split) {
+        boolean isFirstSplit = split.getSplitStart() == null;
+        boolean isLastSplit = split.getSplitEnd() == null;
+        if (isFirstSplit && isLastSplit) {
+            return 0;
+        }
+        if (isFirstSplit) {
+            return 2;
+        }
+        return isLastSplit ? 1 : 3;
+    }
+
     private static void prepareDynamicSplitStatement(
             PreparedStatement statement, JdbcSourceSplit split) throws SQLException {
         boolean isFirstSplit = split.getSplitStart() == null;
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.filter.AndPredicate;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.OrPredicate;
+import org.apache.seatunnel.api.source.filter.Predicate;
+import org.apache.seatunnel.api.source.filter.PredicateVisitor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Renders a pushed down {@link Predicate} as a SQL condition over the columns of the source query.
+ * Returns null for predicates that can't be rendered safely, e.g. string literals containing a
+ * backslash, which some databases treat as an escape character.
+ */
+public class JdbcPredicateConverter implements PredicateVisitor<String> {
+
+    private final JdbcDialect jdbcDialect;
+
+    public JdbcPredicateConverter(JdbcDialect jdbcDialect) {
+        this.jdbcDialect = jdbcDialect;
+    }
+
+    public String convert(Predicate predicate) {
+        return predicate.accept(this);
+    }
+
+    @Override
+    public String visit(ComparisonPredicate predicate) {
+        String literal = literal(predicate.getValue());
+        if (literal == null) {
+            return null;
+        }
+        return String.format(
+                "%s %s %s",
+                jdbcDialect.quoteIdentifier(predicate.getColumn()),
+                predicate.getOperator().getSymbol(),
+                literal);
+    }
+
+    @Override
+    public String visit(InPredicate predicate) {
+        if (predicate.getValues().isEmpty()) {
+            return null;
+        }
+        List<String> literals = new ArrayList<>();
+        for (Object value : predicate.getValues()) {
+            String literal = literal(value);
+            if (literal == null) {
+                return null;
+            }
+            literals.add(literal);
+        }
+        return String.format(
+                "%s %s (%s)",
+                jdbcDialect.quoteIdentifier(predicate.getColumn()),
+                predicate.isNegated() ? "NOT IN" : "IN",
+                String.join(", ", literals));
+    }
+
+    @Override
+    public String visit(IsNullPredicate predicate) {
+        return String.format(
+                "%s %s",
+                jdbcDialect.quoteIdentifier(predicate.getColumn()),
+                predicate.isNegated() ? "IS NOT NULL" : "IS NULL");
+    }
+
+    @Override
+    public String visit(AndPredicate predicate) {
+        return join(predicate.getChildren(), " AND ");
+    }
+
+    @Override
+    public String visit(OrPredicate predicate) {
+        return join(predicate.getChildren(), " OR ");
+    }
+
+    private String join(List<Predicate> children, String delimiter) {
+        List<String> conditions = new ArrayList<>();
+        for (Predicate child : children) {
+            String condition = child.accept(this);
+            if (condition == null) {
+                return null;
+            }
+            conditions.add("(" + condition + ")");
+        }
+        return String.join(delimiter, conditions);
+    }
+
+    private static String literal(Object value) {
+        if (value instanceof Integer || value instanceof Long) {
+            return value.toString();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                return null;
+            }
+            return BigDecimal.valueOf(doubleValue).stripTrailingZeros().toPlainString();
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof String && ((String) value).indexOf('\\') < 0) {
+            return "'" + ((String) value).replace("'", "''") + "'";
+        }
+        return null;
+    }
+}
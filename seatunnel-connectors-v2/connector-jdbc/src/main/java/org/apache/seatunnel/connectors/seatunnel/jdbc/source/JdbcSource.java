@@ -23,19 +23,27 @@ import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
 import org.apache.seatunnel.api.source.SupportParallelism;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSourceState;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.utils.JdbcCatalogUtils;
 
+import org.apache.commons.lang3.StringUtils;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import lombok.SneakyThrows;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,7 +52,8 @@ import java.util.stream.Collectors;
 public class JdbcSource
         implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit, JdbcSourceState>,
                 SupportParallelism,
-                SupportColumnProjection {
+                SupportColumnProjection,
+                SupportFilterPushDown {
     protected static final Logger LOG = LoggerFactory.getLogger(JdbcSource.class);
 
     private final JdbcSourceConfig jdbcSourceConfig;
@@ -76,6 +85,38 @@ public class JdbcSource
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Predicate> applyFilters(List<Predicate> predicates) {
+        // the where condition clause is shared by all tables of the source
+        if (jdbcSourceTables.size() != 1) {
+            return Collections.emptyList();
+        }
+        JdbcDialect jdbcDialect =
+                JdbcDialectLoader.load(
+                        jdbcSourceConfig.getJdbcConnectionConfig().getUrl(),
+                        jdbcSourceConfig.getCompatibleMode());
+        JdbcPredicateConverter converter = new JdbcPredicateConverter(jdbcDialect);
+        List<Predicate> accepted = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        String whereConditionClause = jdbcSourceConfig.getWhereConditionClause();
+        if (StringUtils.isNotBlank(whereConditionClause)) {
+            // strip the leading 'where' checked by JdbcSourceConfig
+            conditions.add("(" + whereConditionClause.trim().substring(5).trim() + ")");
+        }
+        for (Predicate predicate : predicates) {
+            String condition = converter.convert(predicate);
+            if (condition != null) {
+                accepted.add(predicate);
+                conditions.add("(" + condition + ")");
+            }
+        }
+        if (!accepted.isEmpty()) {
+            jdbcSourceConfig.setWhereConditionClause("WHERE " + String.join(" AND ", conditions));
+            LOG.info("Push down where condition: {}", jdbcSourceConfig.getWhereConditionClause());
+        }
+        return accepted;
+    }
+
     @Override
     public SourceReader<SeaTunnelRow, JdbcSourceSplit> createReader(
             SourceReader.Context readerContext) throws Exception {
@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.common.source.SplitRequester;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcInputFormat;
 
@@ -40,11 +41,15 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
     private final JdbcInputFormat inputFormat;
     private final Deque<JdbcSourceSplit> splits = new ConcurrentLinkedDeque<>();
     private volatile boolean noMoreSplit;
+    private final SplitRequester splitRequester;
+    private volatile JdbcSourceSplit currentSplit;
+    private volatile Object currentSplitKeyValue;
 
     public JdbcSourceReader(
             Context context, JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
         this.inputFormat = new JdbcInputFormat(config, tables);
         this.context = context;
+        this.splitRequester = new SplitRequester(context);
     }
 
     @Override
@@ -60,36 +65,77 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
     @Override
     @SuppressWarnings("magicnumber")
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
+        JdbcSourceSplit split;
         synchronized (output.getCheckpointLock()) {
-            JdbcSourceSplit split = splits.poll();
-            if (null != split) {
-                try {
-                    inputFormat.open(split);
+            split = splits.poll();
+            if (null == split) {
+                if (noMoreSplit && splits.isEmpty()) {
+                    // signal to the source that we have reached the end of the data.
+                    log.info("Closed the bounded jdbc source");
+                    context.signalNoMoreElement();
+                } else {
+                    splitRequester.requestAndWait();
+                }
+                return;
+            }
+            if (splits.isEmpty() && !noMoreSplit) {
+                // ask for the next split while this one is read
+                splitRequester.request();
+            }
+            currentSplit = split;
+            currentSplitKeyValue = split.getSplitKeyResumeValue();
+        }
+        try {
+            inputFormat.open(split);
+            if (inputFormat.isResumable()) {
+                readResumableSplit(output);
+            } else {
+                // without a resume position the whole split has to be emitted between two
+                // checkpoints, otherwise the restarted split would emit rows a second time.
+                synchronized (output.getCheckpointLock()) {
                     while (!inputFormat.reachedEnd()) {
-                        SeaTunnelRow seaTunnelRow = inputFormat.nextRecord();
-                        output.collect(seaTunnelRow);
+                        output.collect(inputFormat.nextRecord());
                     }
-                } finally {
-                    inputFormat.close();
+                    currentSplit = null;
                 }
-            } else if (noMoreSplit && splits.isEmpty()) {
-                // signal to the source that we have reached the end of the data.
-                log.info("Closed the bounded jdbc source");
-                context.signalNoMoreElement();
-            } else {
-                Thread.sleep(1000L);
             }
+        } finally {
+            inputFormat.close();
+        }
+    }
+
+    /**
+     * Rows of a resumable split arrive in split key order, so the lock is only held while a row is
+     * emitted and a checkpoint taken in between records the key to restart after.
+     */
+    private void readResumableSplit(Collector<SeaTunnelRow> output) {
+        while (!inputFormat.reachedEnd()) {
+            SeaTunnelRow seaTunnelRow = inputFormat.nextRecord();
+            synchronized (output.getCheckpointLock()) {
+                output.collect(seaTunnelRow);
+                currentSplitKeyValue = inputFormat.getSplitKeyValue(seaTunnelRow);
+            }
+        }
+        synchronized (output.getCheckpointLock()) {
+            currentSplit = null;
         }
     }
 
     @Override
     public List<JdbcSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return new ArrayList<>(splits);
+        List<JdbcSourceSplit> state = new ArrayList<>(splits.size() + 1);
+        JdbcSourceSplit split = currentSplit;
+        if (split != null) {
+            state.add(split.resumeAfter(currentSplitKeyValue));
+        }
+        state.addAll(splits);
+        return state;
     }
 
     @Override
     public void addSplits(List<JdbcSourceSplit> splits) {
         this.splits.addAll(splits);
+        splitRequester.splitsReceived();
     }
 
     @Override
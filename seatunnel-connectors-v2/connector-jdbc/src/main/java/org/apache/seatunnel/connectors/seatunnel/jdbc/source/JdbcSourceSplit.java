@@ -36,6 +36,44 @@ public class JdbcSourceSplit implements SourceSplit {
     private final SeaTunnelDataType splitKeyType;
     private final Object splitStart;
     private final Object splitEnd;
+    /**
+     * The split key value of the last row emitted before the checkpoint, or null if the split has
+     * not been started. Only set for splits whose key is unique, see {@link
+     * ChunkSplitter#isResumable}.
+     */
+    private final Object splitKeyResumeValue;
+
+    public JdbcSourceSplit(
+            TablePath tablePath,
+            String splitId,
+            String splitQuery,
+            String splitKeyName,
+            SeaTunnelDataType splitKeyType,
+            Object splitStart,
+            Object splitEnd) {
+        this(
+                tablePath,
+                splitId,
+                splitQuery,
+                splitKeyName,
+                splitKeyType,
+                splitStart,
+                splitEnd,
+                null);
+    }
+
+    /** Returns a copy of this split that restarts after the given split key value. */
+    public JdbcSourceSplit resumeAfter(Object splitKeyValue) {
+        return new JdbcSourceSplit(
+                tablePath,
+                splitId,
+                splitQuery,
+                splitKeyName,
+                splitKeyType,
+                splitStart,
+                splitEnd,
+                splitKeyValue);
+    }
 
     @Override
     public String splitId() {
@@ -19,9 +19,7 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.table.catalog.TablePath;
-import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
-import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSourceState;
 
 import org.slf4j.Logger;
@@ -32,21 +30,33 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * Hands out the splits on request. Tables are split lazily, one at a time, whenever a reader is
+ * waiting or fewer splits are pending than readers are registered. A reader gets the splits hashed
+ * to it first and takes over the pending splits of the busiest other reader when it has none left,
+ * so a skewed table does not leave the other readers idle.
+ */
 public class JdbcSourceSplitEnumerator
         implements SourceSplitEnumerator<JdbcSourceSplit, JdbcSourceState> {
     private static final Logger LOG = LoggerFactory.getLogger(JdbcSourceSplitEnumerator.class);
 
+    private static final long SPLIT_WAIT_MS = 1000L;
+
     private final Map<TablePath, JdbcSourceTable> tables;
     private final ConcurrentLinkedQueue<TablePath> pendingTables;
     private final Map<Integer, List<JdbcSourceSplit>> pendingSplits;
+    private final Set<Integer> readersAwaitingSplit = new LinkedHashSet<>();
     private final ChunkSplitter splitter;
     private final Context<JdbcSourceSplit> context;
     private final Object stateLock = new Object();
+    private volatile boolean closed;
 
     public JdbcSourceSplitEnumerator(
             Context<JdbcSourceSplit> context,
@@ -72,31 +82,46 @@ public class JdbcSourceSplitEnumerator
     public void run() throws Exception {
         LOG.info("Starting split enumerator.");
 
-        Set<Integer> readers = context.registeredReaders();
-        while (!pendingTables.isEmpty()) {
+        while (!pendingTables.isEmpty() && !closed) {
             synchronized (stateLock) {
-                TablePath tablePath = pendingTables.poll();
-                LOG.info("Splitting table {}.", tablePath);
-
-                Collection<JdbcSourceSplit> splits = splitter.generateSplits(tables.get(tablePath));
-                LOG.info("Split table {} into {} splits.", tablePath, splits.size());
-
-                addPendingSplit(splits);
+                while (!closed
+                        && readersAwaitingSplit.isEmpty()
+                        && assignableSplitCount() >= context.registeredReaders().size()) {
+                    stateLock.wait(SPLIT_WAIT_MS);
+                }
+            }
+            if (closed) {
+                break;
             }
+            // the table stays pending until its splits are added, so a checkpoint taken while it
+            // is split still contains it
+            TablePath tablePath = pendingTables.peek();
+            LOG.info("Splitting table {}.", tablePath);
+
+            Collection<JdbcSourceSplit> splits = splitter.generateSplits(tables.get(tablePath));
+            LOG.info("Split table {} into {} splits.", tablePath, splits.size());
 
             synchronized (stateLock) {
-                assignSplit(readers);
+                pendingTables.poll();
+                addPendingSplit(splits);
+                assignSplitToAwaitingReaders();
             }
         }
 
         splitter.close();
 
-        LOG.info("No more splits to assign." + " Sending NoMoreSplitsEvent to reader {}.", readers);
-        readers.forEach(context::signalNoMoreSplits);
+        synchronized (stateLock) {
+            LOG.info("All tables are split, remaining splits are assigned on request.");
+            assignSplitToAwaitingReaders();
+        }
     }
 
     @Override
     public void close() throws IOException {
+        closed = true;
+        synchronized (stateLock) {
+            stateLock.notifyAll();
+        }
         splitter.close();
     }
 
@@ -105,14 +130,7 @@ public class JdbcSourceSplitEnumerator
         if (!splits.isEmpty()) {
             synchronized (stateLock) {
                 addPendingSplit(splits, subtaskId);
-                if (context.registeredReaders().contains(subtaskId)) {
-                    assignSplit(Collections.singletonList(subtaskId));
-                } else {
-                    LOG.warn(
-                            "Reader {} is not registered. Pending splits {} are not assigned.",
-                            subtaskId,
-                            splits);
-                }
+                assignSplitToAwaitingReaders();
             }
         }
         LOG.info("Add back splits {} to JdbcSourceSplitEnumerator.", splits.size());
@@ -120,46 +138,107 @@ public class JdbcSourceSplitEnumerator
 
     @Override
     public int currentUnassignedSplitSize() {
-        return pendingTables.isEmpty() && pendingSplits.isEmpty() ? 0 : 1;
+        synchronized (stateLock) {
+            return pendingSplits.values().stream().mapToInt(List::size).sum()
+                    + pendingTables.size();
+        }
     }
 
     @Override
     public void handleSplitRequest(int subtaskId) {
-        throw new JdbcConnectorException(
-                CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
-                String.format("Unsupported handleSplitRequest: %d", subtaskId));
+        synchronized (stateLock) {
+            readersAwaitingSplit.add(subtaskId);
+            assignSplitToAwaitingReaders();
+            // wake up the splitting of the next table if the request could not be served
+            stateLock.notifyAll();
+        }
     }
 
     @Override
     public void registerReader(int subtaskId) {
         LOG.info("Register reader {} to JdbcSourceSplitEnumerator.", subtaskId);
-        if (!pendingSplits.isEmpty()) {
-            synchronized (stateLock) {
-                assignSplit(Collections.singletonList(subtaskId));
-            }
-        }
     }
 
     @Override
     public JdbcSourceState snapshotState(long checkpointId) throws Exception {
         synchronized (stateLock) {
-            return new JdbcSourceState(new ArrayList(pendingTables), new HashMap<>(pendingSplits));
+            Map<Integer, List<JdbcSourceSplit>> splits = new HashMap<>();
+            pendingSplits.forEach((reader, list) -> splits.put(reader, new ArrayList<>(list)));
+            return new JdbcSourceState(new ArrayList<>(pendingTables), splits);
         }
     }
 
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {}
 
-    private void assignSplit(Collection<Integer> readers) {
-        LOG.debug("Assign pendingSplits to readers {}", readers);
+    private void assignSplitToAwaitingReaders() {
+        Set<Integer> registeredReaders = context.registeredReaders();
+        Iterator<Integer> readers = readersAwaitingSplit.iterator();
+        while (readers.hasNext()) {
+            int reader = readers.next();
+            if (!registeredReaders.contains(reader)) {
+                readers.remove();
+                continue;
+            }
+            JdbcSourceSplit split = nextSplit(reader, registeredReaders);
+            if (split != null) {
+                LOG.debug("Assign split {} to reader {}", split, reader);
+                context.assignSplit(reader, Collections.singletonList(split));
+                readers.remove();
+            } else if (pendingTables.isEmpty()) {
+                LOG.info(
+                        "No more splits to assign. Sending NoMoreSplitsEvent to reader {}.",
+                        reader);
+                context.signalNoMoreSplits(reader);
+                readers.remove();
+            }
+        }
+    }
+
+    /**
+     * Take the next split hashed to the reader, or the last split of the registered reader with the
+     * most pending splits. Splits of readers which are not registered here are never taken, as they
+     * may be read by an enumerator of another subtask.
+     */
+    private JdbcSourceSplit nextSplit(int reader, Set<Integer> registeredReaders) {
+        List<JdbcSourceSplit> ownSplits = pendingSplits.get(reader);
+        if (ownSplits != null && !ownSplits.isEmpty()) {
+            return removeSplit(reader, ownSplits, 0);
+        }
+        int busiestReader = -1;
+        List<JdbcSourceSplit> busiestSplits = null;
+        for (Map.Entry<Integer, List<JdbcSourceSplit>> entry : pendingSplits.entrySet()) {
+            if (registeredReaders.contains(entry.getKey())
+                    && !entry.getValue().isEmpty()
+                    && (busiestSplits == null || entry.getValue().size() > busiestSplits.size())) {
+                busiestReader = entry.getKey();
+                busiestSplits = entry.getValue();
+            }
+        }
+        if (busiestSplits == null) {
+            return null;
+        }
+        LOG.debug("Reader {} takes over a split of reader {}.", reader, busiestReader);
+        return removeSplit(busiestReader, busiestSplits, busiestSplits.size() - 1);
+    }
+
+    private JdbcSourceSplit removeSplit(int owner, List<JdbcSourceSplit> splits, int index) {
+        JdbcSourceSplit split = splits.remove(index);
+        if (splits.isEmpty()) {
+            pendingSplits.remove(owner);
+        }
+        return split;
+    }
 
-        for (int reader : readers) {
-            List<JdbcSourceSplit> assignmentForReader = pendingSplits.remove(reader);
-            if (assignmentForReader != null && !assignmentForReader.isEmpty()) {
-                LOG.debug("Assign splits {} to reader {}", assignmentForReader, reader);
-                context.assignSplit(reader, assignmentForReader);
+    private int assignableSplitCount() {
+        Set<Integer> registeredReaders = context.registeredReaders();
+        int count = 0;
+        for (Map.Entry<Integer, List<JdbcSourceSplit>> entry : pendingSplits.entrySet()) {
+            if (registeredReaders.contains(entry.getKey())) {
+                count += entry.getValue().size();
             }
         }
+        return count;
     }
 
     private void addPendingSplit(Collection<JdbcSourceSplit> splits) {
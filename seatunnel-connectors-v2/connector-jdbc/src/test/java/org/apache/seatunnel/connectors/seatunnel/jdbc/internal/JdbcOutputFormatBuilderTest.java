@@ -17,11 +17,18 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
 
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
 import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlBulkLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -71,4 +78,44 @@ public class JdbcOutputFormatBuilderTest {
         updateAfter.setField(0, "2");
         Assertions.assertNotEquals(keyExtractor.apply(insertRow), keyExtractor.apply(updateAfter));
     }
+
+    @Test
+    public void testBulkLoadUnsupportedColumns() {
+        MysqlBulkLoader bulkLoader = new MysqlBulkLoader(new MysqlDialect());
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.INT_TYPE, 0L, false, null, ""))
+                        .column(
+                                PhysicalColumn.of(
+                                        "updated",
+                                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                                        0L,
+                                        true,
+                                        null,
+                                        ""))
+                        .build();
+        Assertions.assertTrue(
+                JdbcOutputFormatBuilder.getBulkLoadUnsupportedColumns(bulkLoader, tableSchema)
+                        .isEmpty());
+
+        TableSchema unsupportedSchema =
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.INT_TYPE, 0L, false, null, ""))
+                        .column(
+                                PhysicalColumn.of(
+                                        "tags", ArrayType.STRING_ARRAY_TYPE, 0L, true, null, ""))
+                        .column(
+                                PhysicalColumn.of(
+                                        "attributes",
+                                        new MapType<>(BasicType.STRING_TYPE, BasicType.STRING_TYPE),
+                                        0L,
+                                        true,
+                                        null,
+                                        ""))
+                        .build();
+        Assertions.assertEquals(
+                Arrays.asList("tags", "attributes"),
+                JdbcOutputFormatBuilder.getBulkLoadUnsupportedColumns(
+                        bulkLoader, unsupportedSchema));
+    }
 }
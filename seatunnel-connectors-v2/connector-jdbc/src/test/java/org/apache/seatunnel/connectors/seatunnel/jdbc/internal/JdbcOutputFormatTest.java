@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class JdbcOutputFormatTest {
+
+    @Test
+    public void testWriterContinuesWhileBatchIsExecuted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<Integer>> executed = Collections.synchronizedList(new ArrayList<>());
+        JdbcOutputFormat<Integer, RecordingExecutor> outputFormat =
+                createOutputFormat(1, () -> new RecordingExecutor(executed, release));
+        outputFormat.open();
+
+        // the first batch blocks in the database, the writer fills the second one meanwhile
+        outputFormat.writeRecord(1);
+        outputFormat.writeRecord(2);
+        outputFormat.writeRecord(3);
+        Assertions.assertTrue(executed.isEmpty());
+
+        release.countDown();
+        outputFormat.flush();
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3)), executed);
+        outputFormat.close();
+    }
+
+    @Test
+    public void testFailedBatchIsReported() throws Exception {
+        CountDownLatch release = new CountDownLatch(0);
+        JdbcOutputFormat<Integer, RecordingExecutor> outputFormat =
+                createOutputFormat(
+                        1,
+                        () ->
+                                new RecordingExecutor(new ArrayList<>(), release) {
+                                    @Override
+                                    public void executeBatch() throws SQLException {
+                                        throw new SQLException("table is gone");
+                                    }
+                                });
+        outputFormat.open();
+        outputFormat.writeRecord(1);
+        outputFormat.writeRecord(2);
+
+        Assertions.assertThrows(JdbcConnectorException.class, outputFormat::flush);
+        Assertions.assertThrows(JdbcConnectorException.class, () -> outputFormat.writeRecord(3));
+    }
+
+    private static JdbcOutputFormat<Integer, RecordingExecutor> createOutputFormat(
+            int maxInFlightBatches,
+            JdbcOutputFormat.StatementExecutorFactory<RecordingExecutor> executorFactory)
+            throws Exception {
+        JdbcConnectionProvider connectionProvider = mock(JdbcConnectionProvider.class);
+        Connection connection = mock(Connection.class);
+        when(connectionProvider.getConnection()).thenReturn(connection);
+        when(connectionProvider.isConnectionValid()).thenReturn(true);
+        JdbcConnectionConfig config =
+                JdbcConnectionConfig.builder()
+                        .url("jdbc:mysql://localhost:3306/test")
+                        .batchSize(2)
+                        .maxInFlightBatches(maxInFlightBatches)
+                        .build();
+        return new JdbcOutputFormat<>(connectionProvider, config, executorFactory);
+    }
+
+    private static class RecordingExecutor implements JdbcBatchStatementExecutor<Integer> {
+        private final List<List<Integer>> executed;
+        private final CountDownLatch release;
+        private final List<Integer> batch = new ArrayList<>();
+
+        private RecordingExecutor(List<List<Integer>> executed, CountDownLatch release) {
+            this.executed = executed;
+            this.release = release;
+        }
+
+        @Override
+        public void prepareStatements(Connection connection) {}
+
+        @Override
+        public void addToBatch(Integer record) {
+            batch.add(record);
+        }
+
+        @Override
+        public void executeBatch() throws SQLException {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new SQLException(e);
+            }
+            executed.add(new ArrayList<>(batch));
+            batch.clear();
+        }
+
+        @Override
+        public void closeStatements() {}
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class MysqlBulkLoaderTest {
+
+    private final MysqlBulkLoader bulkLoader = new MysqlBulkLoader(new MysqlDialect());
+
+    private final TableSchema tableSchema =
+            TableSchema.builder()
+                    .column(PhysicalColumn.of("id", BasicType.INT_TYPE, 0L, false, null, ""))
+                    .column(PhysicalColumn.of("name", BasicType.STRING_TYPE, 0L, true, null, ""))
+                    .column(
+                            PhysicalColumn.of(
+                                    "data", PrimitiveByteArrayType.INSTANCE, 0L, true, null, ""))
+                    .column(PhysicalColumn.of("active", BasicType.BOOLEAN_TYPE, 0L, true, null, ""))
+                    .build();
+
+    @Test
+    public void testStatements() {
+        Assertions.assertEquals(
+                "CREATE TEMPORARY TABLE IF NOT EXISTS `test_db`.`seatunnel_staging_user` LIKE `test_db`.`user`",
+                bulkLoader.getCreateStagingTableStatement(
+                        "test_db", "user", tableSchema.getFieldNames()));
+        Assertions.assertEquals(
+                "LOAD DATA LOCAL INFILE 'seatunnel' INTO TABLE `test_db`.`seatunnel_staging_user` CHARACTER SET utf8mb4 (`id`, `name`, @v2, `active`) SET `data` = UNHEX(@v2)",
+                bulkLoader.getLoadStatement("test_db", "user", tableSchema));
+        Assertions.assertEquals(
+                "INSERT INTO `test_db`.`user` (`id`, `name`) SELECT `id`, `name` FROM `test_db`.`seatunnel_staging_user` ON DUPLICATE KEY UPDATE `id`=VALUES(`id`), `name`=VALUES(`name`)",
+                bulkLoader.getMergeStatement(
+                        "test_db", "user", new String[] {"id", "name"}, new String[] {"id"}));
+    }
+
+    @Test
+    public void testToCsv() {
+        SeaTunnelRow row1 =
+                new SeaTunnelRow(new Object[] {1, "a\tb\nc\\", new byte[] {0x0a}, true});
+        SeaTunnelRow row2 = new SeaTunnelRow(new Object[] {2, null, null, false});
+
+        Assertions.assertEquals(
+                "1\ta\\\tb\\nc\\\\\t0a\t1\n" + "2\t\\N\t\\N\t0\n",
+                bulkLoader.toCsv(tableSchema, Arrays.asList(row1, row2)));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+public class PostgresBulkLoaderTest {
+
+    private final PostgresBulkLoader bulkLoader = new PostgresBulkLoader(new PostgresDialect());
+
+    @Test
+    public void testStatements() {
+        String[] fieldNames = {"id", "name", "age"};
+        Assertions.assertEquals(
+                "CREATE TEMP TABLE IF NOT EXISTS \"seatunnel_staging_public_user\" AS SELECT \"id\", \"name\", \"age\" FROM \"test_db\".\"public\".\"user\" WITH NO DATA",
+                bulkLoader.getCreateStagingTableStatement("test_db", "public.user", fieldNames));
+        Assertions.assertEquals(
+                "TRUNCATE TABLE \"seatunnel_staging_public_user\"",
+                bulkLoader.getClearStagingTableStatement("test_db", "public.user"));
+        Assertions.assertEquals(
+                "INSERT INTO \"test_db\".\"public\".\"user\" (\"id\", \"name\", \"age\") SELECT \"id\", \"name\", \"age\" FROM \"seatunnel_staging_public_user\" ON CONFLICT (\"id\") DO UPDATE SET \"id\"=EXCLUDED.\"id\", \"name\"=EXCLUDED.\"name\", \"age\"=EXCLUDED.\"age\"",
+                bulkLoader.getMergeStatement(
+                        "test_db", "public.user", fieldNames, new String[] {"id"}));
+    }
+
+    @Test
+    public void testToCsv() {
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.INT_TYPE, 0L, false, null, ""))
+                        .column(
+                                PhysicalColumn.of(
+                                        "name", BasicType.STRING_TYPE, 0L, true, null, ""))
+                        .column(
+                                PhysicalColumn.of(
+                                        "data",
+                                        PrimitiveByteArrayType.INSTANCE,
+                                        0L,
+                                        true,
+                                        null,
+                                        ""))
+                        .column(
+                                PhysicalColumn.of(
+                                        "ts",
+                                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                                        0L,
+                                        true,
+                                        null,
+                                        ""))
+                        .build();
+        SeaTunnelRow row1 =
+                new SeaTunnelRow(
+                        new Object[] {
+                            1,
+                            "a,\"b\"",
+                            new byte[] {1, (byte) 0xff},
+                            LocalDateTime.of(2024, 1, 2, 3, 4, 5)
+                        });
+        SeaTunnelRow row2 = new SeaTunnelRow(new Object[] {2, "", null, null});
+
+        Assertions.assertEquals(
+                "\"1\",\"a,\"\"b\"\"\",\"\\x01ff\",\"2024-01-02 03:04:05.0\"\n" + "\"2\",\"\",,\n",
+                bulkLoader.toCsv(tableSchema, Arrays.asList(row1, row2)));
+    }
+}
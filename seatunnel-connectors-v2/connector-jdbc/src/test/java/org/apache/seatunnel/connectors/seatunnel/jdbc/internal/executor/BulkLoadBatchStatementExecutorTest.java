@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql.PostgresBulkLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql.PostgresDialect;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkLoadBatchStatementExecutorTest {
+
+    private final TableSchema tableSchema =
+            TableSchema.builder()
+                    .column(PhysicalColumn.of("id", BasicType.INT_TYPE, 0L, false, null, ""))
+                    .column(PhysicalColumn.of("name", BasicType.STRING_TYPE, 0L, true, null, ""))
+                    .build();
+
+    @Test
+    public void testLoadIntoStagingTableAndMerge() throws SQLException {
+        PostgresBulkLoader bulkLoader = spy(new PostgresBulkLoader(new PostgresDialect()));
+        List<List<SeaTunnelRow>> loaded = new ArrayList<>();
+        recordLoads(bulkLoader, loaded, false);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+
+        BulkLoadBatchStatementExecutor executor =
+                new BulkLoadBatchStatementExecutor(
+                        bulkLoader, "test_db", "user", tableSchema, new String[] {"id"});
+        executor.prepareStatements(connection);
+        executor.executeBatch();
+        verify(statement, never()).execute(anyString());
+
+        executor.addToBatch(new SeaTunnelRow(new Object[] {1, "a"}));
+        executor.addToBatch(new SeaTunnelRow(new Object[] {2, "b"}));
+        executor.executeBatch();
+
+        InOrder inOrder = inOrder(statement, bulkLoader);
+        inOrder.verify(statement)
+                .execute(
+                        bulkLoader.getCreateStagingTableStatement(
+                                "test_db", "user", tableSchema.getFieldNames()));
+        inOrder.verify(statement)
+                .execute(bulkLoader.getClearStagingTableStatement("test_db", "user"));
+        inOrder.verify(bulkLoader)
+                .load(eq(connection), eq("test_db"), eq("user"), eq(tableSchema), any());
+        inOrder.verify(statement)
+                .executeUpdate(
+                        bulkLoader.getMergeStatement(
+                                "test_db",
+                                "user",
+                                tableSchema.getFieldNames(),
+                                new String[] {"id"}));
+        Assertions.assertEquals(1, loaded.size());
+        Assertions.assertEquals(2, loaded.get(0).size());
+    }
+
+    @Test
+    public void testRetriedBatchIsNotLoadedTwice() throws SQLException {
+        PostgresBulkLoader bulkLoader = spy(new PostgresBulkLoader(new PostgresDialect()));
+        List<List<SeaTunnelRow>> loaded = new ArrayList<>();
+        recordLoads(bulkLoader, loaded, true);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+
+        BulkLoadBatchStatementExecutor executor =
+                new BulkLoadBatchStatementExecutor(
+                        bulkLoader, "test_db", "user", tableSchema, new String[] {"id"});
+        executor.prepareStatements(connection);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1, "a"});
+        executor.addToBatch(row);
+        Assertions.assertThrows(SQLException.class, executor::executeBatch);
+
+        // the buffering executor adds the rows of a failed batch again
+        executor.addToBatch(row);
+        Assertions.assertThrows(SQLException.class, executor::executeBatch);
+        Assertions.assertEquals(1, loaded.get(1).size());
+    }
+
+    private void recordLoads(
+            PostgresBulkLoader bulkLoader, List<List<SeaTunnelRow>> loaded, boolean fail)
+            throws SQLException {
+        doAnswer(
+                        invocation -> {
+                            loaded.add(
+                                    new ArrayList<>(invocation.<List<SeaTunnelRow>>getArgument(4)));
+                            if (fail) {
+                                throw new SQLException("test");
+                            }
+                            return null;
+                        })
+                .when(bulkLoader)
+                .load(any(), anyString(), anyString(), any(), any());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.function.Function;
+
+public class UpsertBufferTest {
+
+    @Test
+    public void testLongKeys() {
+        UpsertBuffer buffer =
+                new UpsertBuffer(
+                        keyExtractor(0),
+                        new int[] {0},
+                        new SeaTunnelDataType[] {BasicType.LONG_TYPE});
+        for (long i = 0; i < 1000; i++) {
+            buffer.put(row(i, "a" + i), true);
+        }
+        buffer.put(row(5L, "b"), false);
+        buffer.put(row(null, "c"), true);
+        buffer.put(row(null, "d"), true);
+
+        Assertions.assertEquals(1001, buffer.size());
+        // an updated key keeps the position it was first seen at
+        Assertions.assertEquals("b", buffer.getRow(5).getField(1));
+        Assertions.assertFalse(buffer.getChangeFlag(5));
+        Assertions.assertEquals(keyRow(5L), buffer.getKey(5));
+        Assertions.assertEquals("d", buffer.getRow(1000).getField(1));
+        Assertions.assertEquals(999L, buffer.getRow(999).getField(0));
+    }
+
+    @Test
+    public void testBytesKeys() {
+        UpsertBuffer buffer =
+                new UpsertBuffer(
+                        keyExtractor(0, 1),
+                        new int[] {0, 1},
+                        new SeaTunnelDataType[] {BasicType.STRING_TYPE, new DecimalType(10, 2)});
+        buffer.put(row("a", new BigDecimal("1.00")), true);
+        buffer.put(row("a", new BigDecimal("1.0")), true);
+        buffer.put(row("a", new BigDecimal("1.00")), false);
+        buffer.put(row("b", null), true);
+        buffer.put(row("b", null), true);
+        buffer.put(row(null, new BigDecimal("1.00")), true);
+
+        // the keys compare like the key rows, where 1.0 and 1.00 are not equal
+        Assertions.assertEquals(4, buffer.size());
+        Assertions.assertFalse(buffer.getChangeFlag(0));
+        Assertions.assertEquals(keyRow("b", null), buffer.getKey(2));
+    }
+
+    @Test
+    public void testRowKeysForUnsupportedTypes() {
+        UpsertBuffer buffer =
+                new UpsertBuffer(
+                        keyExtractor(0),
+                        new int[] {0},
+                        new SeaTunnelDataType[] {
+                            new MapType<>(BasicType.STRING_TYPE, BasicType.STRING_TYPE)
+                        });
+        buffer.put(row(Collections.singletonMap("k", "v"), 1), true);
+        buffer.put(row(Collections.singletonMap("k", "v"), 2), true);
+
+        Assertions.assertEquals(1, buffer.size());
+        Assertions.assertEquals(2, buffer.getRow(0).getField(1));
+    }
+
+    @Test
+    public void testRowsOfSeveralTables() {
+        UpsertBuffer buffer =
+                new UpsertBuffer(
+                        keyExtractor(0),
+                        new int[] {0},
+                        new SeaTunnelDataType[] {BasicType.INT_TYPE});
+        for (int i = 0; i < 100; i++) {
+            buffer.put(row("t1", i), true);
+        }
+        buffer.put(row("t2", 1), true);
+        buffer.put(row("t1", 1), false);
+        buffer.put(row("t2", 1), false);
+
+        Assertions.assertEquals(101, buffer.size());
+        Assertions.assertFalse(buffer.getChangeFlag(1));
+        Assertions.assertFalse(buffer.getChangeFlag(100));
+        Assertions.assertEquals("t2", buffer.getKey(100).getTableId());
+
+        buffer.clear();
+        Assertions.assertTrue(buffer.isEmpty());
+        buffer.put(row("t1", 1), true);
+        buffer.put(row("t1", 1), false);
+        Assertions.assertEquals(1, buffer.size());
+    }
+
+    @Test
+    public void testMemoryUsage() {
+        UpsertBuffer buffer =
+                new UpsertBuffer(
+                        keyExtractor(0),
+                        new int[] {0},
+                        new SeaTunnelDataType[] {BasicType.INT_TYPE});
+        long empty = buffer.getMemoryUsage();
+        for (int i = 0; i < 100; i++) {
+            buffer.put(row(i, "value"), true);
+        }
+        long full = buffer.getMemoryUsage();
+        Assertions.assertTrue(full > empty + 100 * 9);
+
+        buffer.clear();
+        Assertions.assertTrue(buffer.getMemoryUsage() < full);
+    }
+
+    private static SeaTunnelRow row(Object... fields) {
+        return new SeaTunnelRow(fields);
+    }
+
+    private static SeaTunnelRow row(String tableId, int id) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {id});
+        row.setTableId(tableId);
+        return row;
+    }
+
+    private static SeaTunnelRow keyRow(Object... fields) {
+        return new SeaTunnelRow(fields);
+    }
+
+    private static Function<SeaTunnelRow, SeaTunnelRow> keyExtractor(int... pkFields) {
+        return row -> {
+            Object[] fields = new Object[pkFields.length];
+            for (int i = 0; i < pkFields.length; i++) {
+                fields[i] = row.getField(pkFields[i]);
+            }
+            SeaTunnelRow key = new SeaTunnelRow(fields);
+            key.setTableId(row.getTableId());
+            return key;
+        };
+    }
+}
@@ -17,7 +17,9 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 
+import org.apache.seatunnel.api.table.catalog.ConstraintKey;
 import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.BasicType;
@@ -28,6 +30,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -112,6 +115,106 @@ public class DynamicChunkSplitterTest {
                 splitQuerySQL);
     }
 
+    @Test
+    public void testResumableSplitQuerySQL() {
+        JdbcSourceConfig config =
+                JdbcSourceConfig.builder()
+                        .jdbcConnectionConfig(
+                                JdbcConnectionConfig.builder()
+                                        .url("jdbc:postgresql://localhost:5432/test")
+                                        .driverName("org.postgresql.Driver")
+                                        .build())
+                        .build();
+        DynamicChunkSplitter splitter = new DynamicChunkSplitter(config);
+        PhysicalColumn id =
+                PhysicalColumn.builder()
+                        .name("id")
+                        .sourceType("int4")
+                        .dataType(BasicType.INT_TYPE)
+                        .nullable(false)
+                        .build();
+        PhysicalColumn code =
+                PhysicalColumn.builder()
+                        .name("code")
+                        .sourceType("varchar")
+                        .dataType(BasicType.STRING_TYPE)
+                        .nullable(true)
+                        .build();
+        PhysicalColumn name =
+                PhysicalColumn.builder()
+                        .name("name")
+                        .sourceType("varchar")
+                        .dataType(BasicType.STRING_TYPE)
+                        .nullable(false)
+                        .build();
+        JdbcSourceSplit split =
+                new JdbcSourceSplit(
+                        TablePath.of("db1", "schema1", "table1"),
+                        "split1",
+                        null,
+                        "id",
+                        BasicType.INT_TYPE,
+                        1,
+                        10);
+
+        TableSchema primaryKeySchema =
+                TableSchema.builder()
+                        .columns(Arrays.asList(id, name))
+                        .primaryKey(PrimaryKey.of("pk", Collections.singletonList("id")))
+                        .build();
+        assertTrue(splitter.isResumable(split, primaryKeySchema));
+
+        TableSchema compositeKeySchema =
+                TableSchema.builder()
+                        .columns(Arrays.asList(id, name))
+                        .primaryKey(PrimaryKey.of("pk", Arrays.asList("id", "name")))
+                        .build();
+        Assertions.assertFalse(splitter.isResumable(split, compositeKeySchema));
+
+        TableSchema uniqueKeySchema =
+                TableSchema.builder()
+                        .columns(Arrays.asList(id, code))
+                        .constraintKey(
+                                Arrays.asList(
+                                        ConstraintKey.of(
+                                                ConstraintKey.ConstraintType.UNIQUE_KEY,
+                                                "uk_id",
+                                                Collections.singletonList(
+                                                        ConstraintKey.ConstraintKeyColumn.of(
+                                                                "id", null))),
+                                        ConstraintKey.of(
+                                                ConstraintKey.ConstraintType.UNIQUE_KEY,
+                                                "uk_code",
+                                                Collections.singletonList(
+                                                        ConstraintKey.ConstraintKeyColumn.of(
+                                                                "code", null)))))
+                        .build();
+        assertTrue(splitter.isResumable(split, uniqueKeySchema));
+        JdbcSourceSplit nullableSplit =
+                new JdbcSourceSplit(
+                        TablePath.of("db1", "schema1", "table1"),
+                        "split1",
+                        null,
+                        "code",
+                        BasicType.STRING_TYPE,
+                        null,
+                        null);
+        Assertions.assertFalse(splitter.isResumable(nullableSplit, uniqueKeySchema));
+
+        String splitQuerySQL = splitter.createDynamicSplitQuerySQL(split, primaryKeySchema);
+        assertEquals(
+                "SELECT * FROM \"db1\".\"schema1\".\"table1\" WHERE \"id\" >= ? AND NOT (\"id\" = ?) AND \"id\" <= ? ORDER BY \"id\"",
+                splitter.createResumableSplitQuerySQL(splitQuerySQL, split));
+
+        JdbcSourceSplit resumedSplit = split.resumeAfter(5);
+        assertEquals(5, resumedSplit.getSplitKeyResumeValue());
+        assertEquals(split.splitId(), resumedSplit.splitId());
+        assertNull(split.getSplitKeyResumeValue());
+        assertEquals(
+                "SELECT * FROM (SELECT * FROM \"db1\".\"schema1\".\"table1\" WHERE \"id\" >= ? AND NOT (\"id\" = ?) AND \"id\" <= ?) st_jdbc_resume WHERE \"id\" > ? ORDER BY \"id\"",
+                splitter.createResumableSplitQuerySQL(splitQuerySQL, resumedSplit));
+    }
+
     @Test
     public void testEfficientShardingThroughSampling() throws NoSuchMethodException {
         TablePath tablePath = new TablePath("db", "xe", "table");
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.OrPredicate;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class JdbcPredicateConverterTest {
+
+    private final JdbcPredicateConverter converter = new JdbcPredicateConverter(new MysqlDialect());
+
+    @Test
+    public void testConvert() {
+        Assertions.assertEquals(
+                "`age` >= 18",
+                converter.convert(
+                        new ComparisonPredicate(
+                                "age", ComparisonPredicate.Operator.GREATER_THAN_OR_EQUAL, 18)));
+        Assertions.assertEquals(
+                "`score` < 0.0000001",
+                converter.convert(
+                        new ComparisonPredicate(
+                                "score", ComparisonPredicate.Operator.LESS_THAN, 1e-7d)));
+        Assertions.assertEquals(
+                "`name` IN ('Joy', 'O''Neil')",
+                converter.convert(new InPredicate("name", Arrays.asList("Joy", "O'Neil"), false)));
+        Assertions.assertEquals(
+                "(`id` IS NULL) OR (`id` NOT IN (1, 2))",
+                converter.convert(
+                        new OrPredicate(
+                                Arrays.asList(
+                                        new IsNullPredicate("id", false),
+                                        new InPredicate("id", Arrays.asList(1, 2L), true)))));
+    }
+
+    @Test
+    public void testSkipUnsafeLiterals() {
+        Assertions.assertNull(
+                converter.convert(
+                        new ComparisonPredicate(
+                                "name", ComparisonPredicate.Operator.EQUAL, "a\\' OR 1=1")));
+        Assertions.assertNull(
+                converter.convert(
+                        new ComparisonPredicate(
+                                "score", ComparisonPredicate.Operator.EQUAL, Double.NaN)));
+        Assertions.assertNull(
+                converter.convert(
+                        new OrPredicate(
+                                Arrays.asList(
+                                        new IsNullPredicate("id", false),
+                                        new InPredicate("name", Arrays.asList("a\\b"), false)))));
+    }
+}
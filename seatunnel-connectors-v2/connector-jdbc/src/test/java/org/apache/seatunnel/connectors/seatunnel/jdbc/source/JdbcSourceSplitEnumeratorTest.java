@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSourceState;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JdbcSourceSplitEnumeratorTest {
+
+    private static final TablePath TABLE_PATH = TablePath.of("db1", "schema1", "table1");
+
+    @Test
+    public void testIdleReaderTakesOverPendingSplits() throws Exception {
+        SourceSplitEnumerator.Context<JdbcSourceSplit> context =
+                createContext(new HashSet<>(Arrays.asList(0, 1)));
+        Map<Integer, List<JdbcSourceSplit>> pendingSplits = new HashMap<>();
+        pendingSplits.put(0, new ArrayList<>(Arrays.asList(split("1"), split("2"), split("3"))));
+
+        try (JdbcSourceSplitEnumerator enumerator =
+                new JdbcSourceSplitEnumerator(
+                        context,
+                        createConfig(),
+                        Collections.emptyMap(),
+                        new JdbcSourceState(new ArrayList<>(), pendingSplits))) {
+            Assertions.assertEquals(3, enumerator.currentUnassignedSplitSize());
+
+            enumerator.handleSplitRequest(1);
+            verify(context).assignSplit(1, Collections.singletonList(split("3")));
+
+            enumerator.handleSplitRequest(0);
+            verify(context).assignSplit(0, Collections.singletonList(split("1")));
+
+            // splits handed out are not part of the state anymore
+            Assertions.assertEquals(
+                    Collections.singletonList(split("2")),
+                    enumerator.snapshotState(1).getPendingSplits().get(0));
+
+            enumerator.handleSplitRequest(1);
+            verify(context).assignSplit(1, Collections.singletonList(split("2")));
+
+            enumerator.handleSplitRequest(0);
+            verify(context).signalNoMoreSplits(0);
+            Assertions.assertEquals(0, enumerator.currentUnassignedSplitSize());
+        }
+    }
+
+    @Test
+    public void testSplitsOfUnregisteredReaderAreKept() throws Exception {
+        SourceSplitEnumerator.Context<JdbcSourceSplit> context =
+                createContext(Collections.singleton(0));
+        Map<Integer, List<JdbcSourceSplit>> pendingSplits = new HashMap<>();
+        pendingSplits.put(1, new ArrayList<>(Collections.singletonList(split("1"))));
+
+        try (JdbcSourceSplitEnumerator enumerator =
+                new JdbcSourceSplitEnumerator(
+                        context,
+                        createConfig(),
+                        Collections.emptyMap(),
+                        new JdbcSourceState(new ArrayList<>(), pendingSplits))) {
+            enumerator.handleSplitRequest(0);
+            verify(context, never()).assignSplit(anyInt(), anyList());
+            verify(context).signalNoMoreSplits(0);
+            Assertions.assertEquals(1, enumerator.currentUnassignedSplitSize());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SourceSplitEnumerator.Context<JdbcSourceSplit> createContext(
+            Set<Integer> readers) {
+        SourceSplitEnumerator.Context<JdbcSourceSplit> context =
+                mock(SourceSplitEnumerator.Context.class);
+        when(context.registeredReaders()).thenReturn(readers);
+        when(context.currentParallelism()).thenReturn(2);
+        return context;
+    }
+
+    private static JdbcSourceConfig createConfig() {
+        return JdbcSourceConfig.builder()
+                .jdbcConnectionConfig(
+                        JdbcConnectionConfig.builder()
+                                .url("jdbc:postgresql://localhost:5432/test")
+                                .driverName("org.postgresql.Driver")
+                                .build())
+                .build();
+    }
+
+    private static JdbcSourceSplit split(String splitId) {
+        return new JdbcSourceSplit(TABLE_PATH, splitId, null, "id", BasicType.INT_TYPE, 1, 10);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.utils.SerializationUtils;
+import org.apache.seatunnel.format.compatible.kafka.connect.json.CompatibleKafkaConnectDeserializationSchema;
+import org.apache.seatunnel.format.compatible.kafka.connect.json.NativeKafkaConnectDeserializationSchema;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deserializes the fetched records on a pool of threads, so a single reader can use several cores
+ * for the message format.
+ *
+ * <p>The fetcher thread submits the records of every partition in offset order, and the reader
+ * thread takes the decoded rows back in the same order when it emits the records. The split state
+ * is still only updated by the emitter, so offsets never advance before the rows are emitted.
+ */
+public class KafkaParallelDeserializer implements Closeable {
+
+    private static final int MIN_CHUNK_SIZE = 64;
+
+    private final Map<TablePath, ConsumerMetadata> mapMetadata;
+    private final int parallelism;
+    private final ExecutorService executorService;
+    private final Map<String, Queue<DecodedChunk>> pendingChunks = new ConcurrentHashMap<>();
+
+    /** The deserialization schemas are not thread safe, every worker uses its own copies. */
+    private final ThreadLocal<Map<TablePath, DeserializationSchema<SeaTunnelRow>>> schemas =
+            ThreadLocal.withInitial(HashMap::new);
+
+    public KafkaParallelDeserializer(
+            Map<TablePath, ConsumerMetadata> mapMetadata, int parallelism) {
+        this.mapMetadata = mapMetadata;
+        this.parallelism = parallelism;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executorService =
+                Executors.newFixedThreadPool(
+                        parallelism,
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setName(
+                                    "kafka-source-deserializer-" + threadIndex.getAndIncrement());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    /** Called by the fetcher thread with the records of one split, in offset order. */
+    public void submit(
+            String splitId, TablePath tablePath, List<ConsumerRecord<byte[], byte[]>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        Queue<DecodedChunk> chunks =
+                pendingChunks.computeIfAbsent(splitId, id -> new ConcurrentLinkedQueue<>());
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, (records.size() + parallelism - 1) / parallelism);
+        for (int start = 0; start < records.size(); start += chunkSize) {
+            List<ConsumerRecord<byte[], byte[]>> chunkRecords =
+                    records.subList(start, Math.min(start + chunkSize, records.size()));
+            chunks.add(
+                    new DecodedChunk(
+                            chunkRecords,
+                            executorService.submit(() -> decode(tablePath, chunkRecords))));
+        }
+    }
+
+    /**
+     * Emit the decoded rows of the record. Returns false if the record was not submitted, the
+     * caller has to deserialize it by itself then.
+     */
+    public boolean emit(
+            String splitId, ConsumerRecord<byte[], byte[]> record, Collector<SeaTunnelRow> output)
+            throws Exception {
+        Queue<DecodedChunk> chunks = pendingChunks.get(splitId);
+        if (chunks == null) {
+            return false;
+        }
+        DecodedChunk chunk;
+        while ((chunk = chunks.peek()) != null) {
+            ConsumerRecord<byte[], byte[]> pending = chunk.records.get(chunk.position);
+            if (pending == record) {
+                DecodedRecord decoded = chunk.get()[chunk.position];
+                if (++chunk.position == chunk.records.size()) {
+                    chunks.poll();
+                }
+                decoded.emit(output);
+                return true;
+            }
+            // the pending record was never emitted, e.g. the split was reset
+            if (++chunk.position == chunk.records.size()) {
+                chunks.poll();
+            }
+        }
+        return false;
+    }
+
+    /** Drop what is left of a finished split. */
+    public void finishSplit(String splitId) {
+        pendingChunks.remove(splitId);
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+        pendingChunks.clear();
+    }
+
+    private DecodedRecord[] decode(
+            TablePath tablePath, List<ConsumerRecord<byte[], byte[]>> records) {
+        DeserializationSchema<SeaTunnelRow> deserializationSchema =
+                schemas.get().computeIfAbsent(tablePath, this::copySchema);
+        DecodedRecord[] decoded = new DecodedRecord[records.size()];
+        for (int i = 0; i < decoded.length; i++) {
+            DecodedRecord decodedRecord = new DecodedRecord();
+            try {
+                deserialize(deserializationSchema, records.get(i), decodedRecord);
+            } catch (Exception e) {
+                decodedRecord.error = e;
+            }
+            decoded[i] = decodedRecord;
+        }
+        return decoded;
+    }
+
+    private DeserializationSchema<SeaTunnelRow> copySchema(TablePath tablePath) {
+        DeserializationSchema<SeaTunnelRow> deserializationSchema =
+                mapMetadata.get(tablePath).getDeserializationSchema();
+        return SerializationUtils.deserialize(
+                SerializationUtils.serialize(deserializationSchema),
+                deserializationSchema.getClass().getClassLoader());
+    }
+
+    static void deserialize(
+            DeserializationSchema<SeaTunnelRow> deserializationSchema,
+            ConsumerRecord<byte[], byte[]> consumerRecord,
+            Collector<SeaTunnelRow> output)
+            throws Exception {
+        if (deserializationSchema instanceof CompatibleKafkaConnectDeserializationSchema) {
+            ((CompatibleKafkaConnectDeserializationSchema) deserializationSchema)
+                    .deserialize(consumerRecord, output);
+        } else if (deserializationSchema instanceof NativeKafkaConnectDeserializationSchema) {
+            ((NativeKafkaConnectDeserializationSchema) deserializationSchema)
+                    .deserialize(consumerRecord, output);
+        } else {
+            deserializationSchema.deserialize(consumerRecord.value(), output);
+        }
+    }
+
+    private static class DecodedChunk {
+        private final List<ConsumerRecord<byte[], byte[]>> records;
+        private final Future<DecodedRecord[]> future;
+        // only touched by the reader thread
+        private int position;
+
+        private DecodedChunk(
+                List<ConsumerRecord<byte[], byte[]>> records, Future<DecodedRecord[]> future) {
+            this.records = records;
+            this.future = future;
+        }
+
+        private DecodedRecord[] get() throws Exception {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof Exception ? (Exception) cause : e;
+            }
+        }
+    }
+
+    /** The rows and events of one record, and the error if the record could not be decoded. */
+    private static class DecodedRecord implements Collector<SeaTunnelRow> {
+        private List<Object> outputs;
+        private Exception error;
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            add(record);
+        }
+
+        @Override
+        public void collect(SchemaChangeEvent event) {
+            add(event);
+        }
+
+        private void add(Object output) {
+            if (outputs == null) {
+                outputs = new ArrayList<>(1);
+            }
+            outputs.add(output);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+
+        private void emit(Collector<SeaTunnelRow> output) throws Exception {
+            if (outputs != null) {
+                for (Object item : outputs) {
+                    if (item instanceof SchemaChangeEvent) {
+                        output.collect((SchemaChangeEvent) item);
+                    } else {
+                        output.collect((SeaTunnelRow) item);
+                    }
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+}
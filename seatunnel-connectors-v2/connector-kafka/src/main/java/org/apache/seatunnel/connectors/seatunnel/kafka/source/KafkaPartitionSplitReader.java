@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.seatunnel.kafka.source;
 import org.apache.seatunnel.shade.com.google.common.base.Preconditions;
 
 import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.common.utils.TemporaryClassLoaderContext;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
@@ -75,9 +76,21 @@ public class KafkaPartitionSplitReader
 
     private final long pollTimeout;
 
+    @Nullable private final KafkaParallelDeserializer parallelDeserializer;
+
+    private final Map<TopicPartition, TablePath> tablePaths = new HashMap<>();
+
     public KafkaPartitionSplitReader(
             KafkaSourceConfig kafkaSourceConfig, SourceReader.Context context) {
+        this(kafkaSourceConfig, context, null);
+    }
+
+    public KafkaPartitionSplitReader(
+            KafkaSourceConfig kafkaSourceConfig,
+            SourceReader.Context context,
+            @Nullable KafkaParallelDeserializer parallelDeserializer) {
         this.kafkaSourceConfig = kafkaSourceConfig;
+        this.parallelDeserializer = parallelDeserializer;
         this.consumer = initConsumer(kafkaSourceConfig, context.getIndexOfSubtask());
         this.stoppingOffsets = new HashMap<>();
         this.groupId =
@@ -124,6 +137,9 @@ public class KafkaPartitionSplitReader
                             finishedPartitions,
                             recordsBySplits);
                 }
+                if (parallelDeserializer != null) {
+                    submitToDeserialize(tp, recordsFromPartition, stoppingOffset);
+                }
             }
         }
 
@@ -136,6 +152,19 @@ public class KafkaPartitionSplitReader
         return recordsBySplits;
     }
 
+    private void submitToDeserialize(
+            TopicPartition tp,
+            List<ConsumerRecord<byte[], byte[]>> recordsFromPartition,
+            long stoppingOffset) {
+        // the records from the stopping offset on are never emitted
+        int end = recordsFromPartition.size();
+        while (end > 0 && recordsFromPartition.get(end - 1).offset() >= stoppingOffset) {
+            end--;
+        }
+        parallelDeserializer.submit(
+                tp.toString(), tablePaths.get(tp), recordsFromPartition.subList(0, end));
+    }
+
     private void finishSplitAtRecord(
             TopicPartition tp,
             long stoppingOffset,
@@ -185,6 +214,7 @@ public class KafkaPartitionSplitReader
                 .forEach(
                         s -> {
                             newPartitionAssignments.add(s.getTopicPartition());
+                            tablePaths.put(s.getTopicPartition(), s.getTablePath());
                             parseStartingOffsets(
                                     s,
                                     partitionsStartingFromEarliest,
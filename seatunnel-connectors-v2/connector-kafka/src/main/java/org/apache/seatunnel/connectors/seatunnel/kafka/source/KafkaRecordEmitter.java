@@ -24,8 +24,6 @@ import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordEmitter;
 import org.apache.seatunnel.connectors.seatunnel.kafka.config.MessageFormatErrorHandleWay;
-import org.apache.seatunnel.format.compatible.kafka.connect.json.CompatibleKafkaConnectDeserializationSchema;
-import org.apache.seatunnel.format.compatible.kafka.connect.json.NativeKafkaConnectDeserializationSchema;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 
@@ -42,12 +40,21 @@ public class KafkaRecordEmitter
     private final Map<TablePath, ConsumerMetadata> mapMetadata;
     private final OutputCollector<SeaTunnelRow> outputCollector;
     private final MessageFormatErrorHandleWay messageFormatErrorHandleWay;
+    private final KafkaParallelDeserializer parallelDeserializer;
 
     public KafkaRecordEmitter(
             Map<TablePath, ConsumerMetadata> mapMetadata,
             MessageFormatErrorHandleWay messageFormatErrorHandleWay) {
+        this(mapMetadata, messageFormatErrorHandleWay, null);
+    }
+
+    public KafkaRecordEmitter(
+            Map<TablePath, ConsumerMetadata> mapMetadata,
+            MessageFormatErrorHandleWay messageFormatErrorHandleWay,
+            KafkaParallelDeserializer parallelDeserializer) {
         this.mapMetadata = mapMetadata;
         this.messageFormatErrorHandleWay = messageFormatErrorHandleWay;
+        this.parallelDeserializer = parallelDeserializer;
         this.outputCollector = new OutputCollector<>();
     }
 
@@ -62,14 +69,11 @@ public class KafkaRecordEmitter
         DeserializationSchema<SeaTunnelRow> deserializationSchema =
                 mapMetadata.get(splitState.getTablePath()).getDeserializationSchema();
         try {
-            if (deserializationSchema instanceof CompatibleKafkaConnectDeserializationSchema) {
-                ((CompatibleKafkaConnectDeserializationSchema) deserializationSchema)
-                        .deserialize(consumerRecord, outputCollector);
-            } else if (deserializationSchema instanceof NativeKafkaConnectDeserializationSchema) {
-                ((NativeKafkaConnectDeserializationSchema) deserializationSchema)
-                        .deserialize(consumerRecord, outputCollector);
-            } else {
-                deserializationSchema.deserialize(consumerRecord.value(), outputCollector);
+            if (parallelDeserializer == null
+                    || !parallelDeserializer.emit(
+                            splitState.splitId(), consumerRecord, outputCollector)) {
+                KafkaParallelDeserializer.deserialize(
+                        deserializationSchema, consumerRecord, outputCollector);
             }
         } catch (Exception e) {
             if (this.messageFormatErrorHandleWay == MessageFormatErrorHandleWay.SKIP) {
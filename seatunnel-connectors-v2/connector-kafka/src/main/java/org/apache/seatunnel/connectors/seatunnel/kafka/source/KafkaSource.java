@@ -82,8 +82,17 @@ public class KafkaSource
         BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue =
                 new LinkedBlockingQueue<>();
 
+        KafkaParallelDeserializer parallelDeserializer =
+                kafkaSourceConfig.getDeserializationParallelism() > 1
+                        ? new KafkaParallelDeserializer(
+                                kafkaSourceConfig.getMapMetadata(),
+                                kafkaSourceConfig.getDeserializationParallelism())
+                        : null;
+
         Supplier<KafkaPartitionSplitReader> kafkaPartitionSplitReaderSupplier =
-                () -> new KafkaPartitionSplitReader(kafkaSourceConfig, readerContext);
+                () ->
+                        new KafkaPartitionSplitReader(
+                                kafkaSourceConfig, readerContext, parallelDeserializer);
 
         KafkaSourceFetcherManager kafkaSourceFetcherManager =
                 new KafkaSourceFetcherManager(
@@ -91,7 +100,8 @@ public class KafkaSource
         KafkaRecordEmitter kafkaRecordEmitter =
                 new KafkaRecordEmitter(
                         kafkaSourceConfig.getMapMetadata(),
-                        kafkaSourceConfig.getMessageFormatErrorHandleWay());
+                        kafkaSourceConfig.getMessageFormatErrorHandleWay(),
+                        parallelDeserializer);
 
         return new KafkaSourceReader(
                 elementsQueue,
@@ -99,7 +109,8 @@ public class KafkaSource
                 kafkaRecordEmitter,
                 new SourceReaderOptions(readonlyConfig),
                 kafkaSourceConfig,
-                readerContext);
+                readerContext,
+                parallelDeserializer);
     }
 
     @Override
@@ -58,6 +58,8 @@ public class KafkaSourceReader
 
     private final ConcurrentMap<TopicPartition, OffsetAndMetadata> offsetsOfFinishedSplits;
 
+    private final KafkaParallelDeserializer parallelDeserializer;
+
     KafkaSourceReader(
             BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
             SingleThreadFetcherManager<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>
@@ -67,7 +69,28 @@ public class KafkaSourceReader
             SourceReaderOptions options,
             KafkaSourceConfig kafkaSourceConfig,
             Context context) {
+        this(
+                elementsQueue,
+                splitFetcherManager,
+                recordEmitter,
+                options,
+                kafkaSourceConfig,
+                context,
+                null);
+    }
+
+    KafkaSourceReader(
+            BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
+            SingleThreadFetcherManager<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>
+                    splitFetcherManager,
+            RecordEmitter<ConsumerRecord<byte[], byte[]>, SeaTunnelRow, KafkaSourceSplitState>
+                    recordEmitter,
+            SourceReaderOptions options,
+            KafkaSourceConfig kafkaSourceConfig,
+            Context context,
+            KafkaParallelDeserializer parallelDeserializer) {
         super(elementsQueue, splitFetcherManager, recordEmitter, options, context);
+        this.parallelDeserializer = parallelDeserializer;
         this.kafkaSourceConfig = kafkaSourceConfig;
         this.context = context;
         this.checkpointOffsetMap = Collections.synchronizedSortedMap(new TreeMap<>());
@@ -76,6 +99,9 @@ public class KafkaSourceReader
 
     @Override
     protected void onSplitFinished(Map<String, KafkaSourceSplitState> finishedSplitIds) {
+        if (parallelDeserializer != null) {
+            finishedSplitIds.keySet().forEach(parallelDeserializer::finishSplit);
+        }
         finishedSplitIds.forEach(
                 (ignored, splitState) -> {
                     if (splitState.getCurrentOffset() > 0) {
@@ -90,6 +116,17 @@ public class KafkaSourceReader
                 });
     }
 
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            if (parallelDeserializer != null) {
+                parallelDeserializer.close();
+            }
+        }
+    }
+
     @Override
     protected KafkaSourceSplitState initializedState(KafkaSourceSplit split) {
         return new KafkaSourceSplitState(split);
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class KafkaParallelDeserializerTest {
+
+    private static final TablePath TABLE_PATH = TablePath.of("test");
+
+    @Test
+    public void testEmitInOrder() throws Exception {
+        try (KafkaParallelDeserializer deserializer = createDeserializer()) {
+            List<ConsumerRecord<byte[], byte[]>> records = createRecords("topic-0", 0, 1000);
+            deserializer.submit("topic-0", TABLE_PATH, records.subList(0, 500));
+            deserializer.submit("topic-0", TABLE_PATH, records.subList(500, 1000));
+
+            ListCollector collector = new ListCollector();
+            for (ConsumerRecord<byte[], byte[]> record : records) {
+                Assertions.assertTrue(deserializer.emit("topic-0", record, collector));
+            }
+            Assertions.assertEquals(1000, collector.rows.size());
+            for (int i = 0; i < collector.rows.size(); i++) {
+                Assertions.assertEquals(String.valueOf(i), collector.rows.get(i).getField(0));
+            }
+        }
+    }
+
+    @Test
+    public void testErrorIsThrownOnEmit() throws Exception {
+        try (KafkaParallelDeserializer deserializer = createDeserializer()) {
+            ConsumerRecord<byte[], byte[]> good = createRecord("topic-0", 0, "a");
+            ConsumerRecord<byte[], byte[]> bad = createRecord("topic-0", 1, "bad");
+            deserializer.submit("topic-0", TABLE_PATH, Arrays.asList(good, bad));
+
+            ListCollector collector = new ListCollector();
+            Assertions.assertTrue(deserializer.emit("topic-0", good, collector));
+            Assertions.assertThrows(
+                    IOException.class, () -> deserializer.emit("topic-0", bad, collector));
+            Assertions.assertEquals(1, collector.rows.size());
+        }
+    }
+
+    @Test
+    public void testNotSubmittedRecord() throws Exception {
+        try (KafkaParallelDeserializer deserializer = createDeserializer()) {
+            List<ConsumerRecord<byte[], byte[]>> records = createRecords("topic-0", 0, 10);
+            deserializer.submit("topic-0", TABLE_PATH, records);
+
+            ListCollector collector = new ListCollector();
+            Assertions.assertFalse(
+                    deserializer.emit("topic-1", createRecord("topic-1", 0, "x"), collector));
+            // the records in front of the emitted one are dropped
+            Assertions.assertTrue(deserializer.emit("topic-0", records.get(5), collector));
+            Assertions.assertTrue(deserializer.emit("topic-0", records.get(6), collector));
+            Assertions.assertEquals(2, collector.rows.size());
+            Assertions.assertEquals("5", collector.rows.get(0).getField(0));
+
+            deserializer.finishSplit("topic-0");
+            Assertions.assertFalse(deserializer.emit("topic-0", records.get(7), collector));
+        }
+    }
+
+    private static KafkaParallelDeserializer createDeserializer() {
+        ConsumerMetadata metadata = new ConsumerMetadata();
+        metadata.setDeserializationSchema(new StringDeserializationSchema());
+        return new KafkaParallelDeserializer(Collections.singletonMap(TABLE_PATH, metadata), 4);
+    }
+
+    private static List<ConsumerRecord<byte[], byte[]>> createRecords(
+            String topic, long startOffset, int count) {
+        List<ConsumerRecord<byte[], byte[]>> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(createRecord(topic, startOffset + i, String.valueOf(startOffset + i)));
+        }
+        return records;
+    }
+
+    private static ConsumerRecord<byte[], byte[]> createRecord(
+            String topic, long offset, String value) {
+        return new ConsumerRecord<>(topic, 0, offset, null, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class ListCollector implements Collector<SeaTunnelRow> {
+        private final List<SeaTunnelRow> rows = new ArrayList<>();
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    private static class StringDeserializationSchema
+            implements DeserializationSchema<SeaTunnelRow> {
+
+        @Override
+        public SeaTunnelRow deserialize(byte[] message) throws IOException {
+            String value = new String(message, StandardCharsets.UTF_8);
+            if ("bad".equals(value)) {
+                throw new IOException("Cannot deserialize " + value);
+            }
+            return new SeaTunnelRow(new Object[] {value});
+        }
+
+        @Override
+        public SeaTunnelDataType<SeaTunnelRow> getProducedType() {
+            return new SeaTunnelRowType(
+                    new String[] {"value"}, new SeaTunnelDataType<?>[] {BasicType.STRING_TYPE});
+        }
+    }
+}
@@ -59,9 +59,10 @@ public class Constant {
 
     public static final String IMAP_RUNNING_JOB_METRICS = "engine_runningJobMetrics";
 
-    public static final Long IMAP_RUNNING_JOB_METRICS_KEY = 1L;
-
     public static final String IMAP_CONNECTOR_JAR_REF_COUNTERS = "engine_connectorJarRefCounters";
 
+    /** Not prefixed with engine_ so it is never picked up by the IMap persistence config. */
+    public static final String IMAP_SHUFFLE_CHANNEL_ADDRESS = "shuffle_channelAddress";
+
     public static final String PROP_FILE = "zeta.version.properties";
 }
@@ -24,6 +24,7 @@ import org.apache.seatunnel.engine.common.config.server.HttpConfig;
 import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.config.server.ScheduleStrategy;
 import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
 import org.apache.seatunnel.engine.common.config.server.SlotServiceConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryConfig;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
@@ -77,6 +78,16 @@ public class EngineConfig {
 
     private QueueType queueType =
             ServerConfigOptions.WorkerServerConfigOptions.QUEUE_TYPE.defaultValue();
+
+    private ShuffleTransportType shuffleTransport =
+            ServerConfigOptions.WorkerServerConfigOptions.SHUFFLE_TRANSPORT.defaultValue();
+
+    private int queueBatchSize =
+            ServerConfigOptions.WorkerServerConfigOptions.QUEUE_BATCH_SIZE.defaultValue();
+
+    private int queueBatchFlushInterval =
+            ServerConfigOptions.WorkerServerConfigOptions.QUEUE_BATCH_FLUSH_INTERVAL.defaultValue();
+
     private int historyJobExpireMinutes =
             ServerConfigOptions.MasterServerConfigOptions.HISTORY_JOB_EXPIRE_MINUTES.defaultValue();
 
@@ -147,6 +158,29 @@ public class EngineConfig {
         return this;
     }
 
+    public EngineConfig setShuffleTransport(ShuffleTransportType shuffleTransport) {
+        checkNotNull(shuffleTransport);
+        this.shuffleTransport = shuffleTransport;
+        return this;
+    }
+
+    public EngineConfig setQueueBatchSize(int queueBatchSize) {
+        checkPositive(
+                queueBatchSize,
+                ServerConfigOptions.WorkerServerConfigOptions.QUEUE_BATCH_SIZE + " must be > 0");
+        this.queueBatchSize = queueBatchSize;
+        return this;
+    }
+
+    public EngineConfig setQueueBatchFlushInterval(int queueBatchFlushInterval) {
+        checkPositive(
+                queueBatchFlushInterval,
+                ServerConfigOptions.WorkerServerConfigOptions.QUEUE_BATCH_FLUSH_INTERVAL
+                        + " must be > 0");
+        this.queueBatchFlushInterval = queueBatchFlushInterval;
+        return this;
+    }
+
     public enum ClusterRole {
         MASTER_AND_WORKER,
         MASTER,
@@ -28,6 +28,7 @@ import org.apache.seatunnel.engine.common.config.server.HttpConfig;
 import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.config.server.ScheduleStrategy;
 import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
 import org.apache.seatunnel.engine.common.config.server.SlotServiceConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryLogsConfig;
@@ -152,6 +153,29 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                     .equals(name)) {
                 engineConfig.setQueueType(
                         QueueType.valueOf(getTextContent(node).toUpperCase(Locale.ROOT)));
+            } else if (ServerConfigOptions.WorkerServerConfigOptions.SHUFFLE_TRANSPORT
+                    .key()
+                    .equals(name)) {
+                engineConfig.setShuffleTransport(
+                        ShuffleTransportType.valueOf(
+                                getTextContent(node).toUpperCase(Locale.ROOT)));
+            } else if (ServerConfigOptions.WorkerServerConfigOptions.QUEUE_BATCH_SIZE
+                    .key()
+                    .equals(name)) {
+                engineConfig.setQueueBatchSize(
+                        getIntegerValue(
+                                ServerConfigOptions.WorkerServerConfigOptions.QUEUE_BATCH_SIZE
+                                        .key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.WorkerServerConfigOptions.QUEUE_BATCH_FLUSH_INTERVAL
+                    .key()
+                    .equals(name)) {
+                engineConfig.setQueueBatchFlushInterval(
+                        getIntegerValue(
+                                ServerConfigOptions.WorkerServerConfigOptions
+                                        .QUEUE_BATCH_FLUSH_INTERVAL
+                                        .key(),
+                                getTextContent(node)));
             } else if (ServerConfigOptions.MasterServerConfigOptions.PRINT_EXECUTION_INFO_INTERVAL
                     .key()
                     .equals(name)) {
@@ -282,6 +306,10 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                                 ServerConfigOptions.MasterServerConfigOptions.CHECKPOINT_TIMEOUT
                                         .key(),
                                 getTextContent(node)));
+            } else if (ServerConfigOptions.MasterServerConfigOptions.CHECKPOINT_UNALIGNED
+                    .key()
+                    .equals(name)) {
+                checkpointConfig.setUnaligned(getBooleanValue(getTextContent(node)));
             } else if (ServerConfigOptions.MasterServerConfigOptions
                     .SCHEMA_CHANGE_CHECKPOINT_TIMEOUT
                     .key()
@@ -36,6 +36,9 @@ public class CheckpointConfig implements Serializable {
             ServerConfigOptions.MasterServerConfigOptions.SCHEMA_CHANGE_CHECKPOINT_TIMEOUT
                     .defaultValue();
 
+    private boolean unaligned =
+            ServerConfigOptions.MasterServerConfigOptions.CHECKPOINT_UNALIGNED.defaultValue();
+
     private CheckpointStorageConfig storage =
             ServerConfigOptions.MasterServerConfigOptions.CHECKPOINT_STORAGE.defaultValue();
 
@@ -140,6 +140,13 @@ public class ServerConfigOptions {
                         .defaultValue(new CheckpointStorageConfig())
                         .withDescription("The checkpoint storage configuration.");
 
+        public static final Option<Boolean> CHECKPOINT_UNALIGNED =
+                Options.key("unaligned")
+                        .booleanType()
+                        .defaultValue(false)
+                        .withDescription(
+                                "Whether checkpoint barriers overtake the records buffered in shuffle channels. The overtaken records are stored in the checkpoint and replayed on restore.");
+
         public static final Option<Integer> SCHEMA_CHANGE_CHECKPOINT_TIMEOUT =
                 Options.key("schema-change-timeout")
                         .intType()
@@ -329,6 +336,27 @@ public class ServerConfigOptions {
                         .defaultValue(QueueType.BLOCKINGQUEUE)
                         .withDescription("The internal data cache queue type.");
 
+        public static final Option<Integer> QUEUE_BATCH_SIZE =
+                Options.key("queue-batch-size")
+                        .intType()
+                        .defaultValue(1)
+                        .withDescription(
+                                "The max number of rows a source hands to the next flow as one record. Default is 1, which disables batching");
+
+        public static final Option<Integer> QUEUE_BATCH_FLUSH_INTERVAL =
+                Options.key("queue-batch-flush-interval")
+                        .intType()
+                        .defaultValue(100)
+                        .withDescription(
+                                "The max time (in milliseconds) rows may wait in a source batch before it is flushed");
+
+        public static final Option<ShuffleTransportType> SHUFFLE_TRANSPORT =
+                Options.key("shuffle-transport")
+                        .type(new TypeReference<ShuffleTransportType>() {})
+                        .defaultValue(ShuffleTransportType.QUEUE)
+                        .withDescription(
+                                "The transport used by shuffle actions, including QUEUE, DIRECT. Default is QUEUE");
+
         /////////////////////////////////////////////////
         // The options for slot start
         public static final Option<Boolean> DYNAMIC_SLOT =
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -43,6 +45,11 @@ public class YamlSeaTunnelConfigParserTest {
 
         Assertions.assertEquals(2, config.getEngineConfig().getPrintExecutionInfoInterval());
 
+        Assertions.assertEquals(
+                ShuffleTransportType.DIRECT, config.getEngineConfig().getShuffleTransport());
+
+        Assertions.assertEquals(256, config.getEngineConfig().getQueueBatchSize());
+
         Assertions.assertFalse(config.getEngineConfig().getSlotServiceConfig().isDynamicSlot());
 
         Assertions.assertEquals(5, config.getEngineConfig().getSlotServiceConfig().getSlotNum());
@@ -53,6 +60,8 @@ public class YamlSeaTunnelConfigParserTest {
         Assertions.assertEquals(
                 7000, config.getEngineConfig().getCheckpointConfig().getCheckpointTimeout());
 
+        Assertions.assertTrue(config.getEngineConfig().getCheckpointConfig().isUnaligned());
+
         Assertions.assertEquals(
                 "hdfs", config.getEngineConfig().getCheckpointConfig().getStorage().getStorage());
 
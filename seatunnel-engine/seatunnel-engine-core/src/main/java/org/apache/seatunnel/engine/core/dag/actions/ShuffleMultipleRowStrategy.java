@@ -21,24 +21,20 @@ import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
-import com.hazelcast.collection.IQueue;
-import com.hazelcast.core.HazelcastInstance;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
-import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-@Slf4j
 @SuperBuilder(toBuilder = true)
 @Getter
 @Setter
@@ -51,25 +47,22 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
     public ShuffleMultipleRowStrategy() {}
 
     @Override
-    public Map<String, IQueue<Record<?>>> createShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
-        Map<String, IQueue<Record<?>>> shuffleMap = new HashMap<>();
+    public List<String> createShuffleNames(int pipelineId, int inputIndex) {
+        List<String> queueNames = new ArrayList<>();
         for (CatalogTable entry : catalogTables) {
             String tableId = entry.getTableId().toTablePath().toString();
-            String queueName = generateQueueName(pipelineId, inputIndex, tableId);
-            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
-            // clear old data when job restore
-            queue.clear();
-            shuffleMap.put(queueName, queue);
+            queueNames.add(generateQueueName(pipelineId, inputIndex, tableId));
         }
+        return queueNames;
+    }
 
-        log.info(
-                "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
-                pipelineId,
-                inputIndex,
-                shuffleMap.keySet());
-
-        return shuffleMap;
+    @Override
+    public Map<String, SeaTunnelRowType> getRowTypes() {
+        Map<String, SeaTunnelRowType> rowTypes = new LinkedHashMap<>();
+        for (CatalogTable entry : catalogTables) {
+            rowTypes.put(entry.getTableId().toTablePath().toString(), entry.getSeaTunnelRowType());
+        }
+        return rowTypes;
     }
 
     @Override
@@ -86,22 +79,13 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
     }
 
     @Override
-    public IQueue<Record<?>>[] getShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
-        IQueue<Record<?>>[] queues = new IQueue[getInputPartitions()];
+    public List<String> getShuffleNames(int pipelineId, int targetIndex) {
+        Objects.requireNonNull(targetTableId);
+        List<String> queueNames = new ArrayList<>();
         for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
-            Objects.requireNonNull(targetTableId);
-            String queueName = generateQueueName(pipelineId, inputIndex, targetTableId);
-            queues[inputIndex] = getIQueue(hazelcast, queueName);
+            queueNames.add(generateQueueName(pipelineId, inputIndex, targetTableId));
         }
-
-        log.info(
-                "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
-                pipelineId,
-                targetIndex,
-                Stream.of(queues).map(e -> e.getName()).collect(Collectors.toList()));
-
-        return queues;
+        return queueNames;
     }
 
     private String generateQueueName(int pipelineId, int inputIndex, String tableId) {
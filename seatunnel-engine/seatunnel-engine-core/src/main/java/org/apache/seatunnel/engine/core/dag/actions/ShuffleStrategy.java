@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.core.dag.actions;
 
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.config.QueueConfig;
@@ -28,16 +29,24 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @SuperBuilder(toBuilder = true)
 @Getter
 @Setter
 @ToString
 public abstract class ShuffleStrategy implements Serializable {
     private static final int DEFAULT_QUEUE_SIZE = 2048;
+    /** Queue size for strategies whose queue items are row batches instead of single rows. */
+    public static final int DEFAULT_BATCH_QUEUE_SIZE = 64;
+
     private static final int DEFAULT_QUEUE_BACKUP_COUNT = 0;
     private static final int DEFAULT_QUEUE_ASYNC_BACKUP_COUNT = 0;
 
@@ -51,13 +60,57 @@ public abstract class ShuffleStrategy implements Serializable {
     @Tolerate
     public ShuffleStrategy() {}
 
-    public abstract Map<String, IQueue<Record<?>>> createShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int inputIndex);
+    /** The names of the shuffles the given input partition writes to. */
+    public abstract List<String> createShuffleNames(int pipelineId, int inputIndex);
 
     public abstract String createShuffleKey(Record<?> record, int pipelineId, int inputIndex);
 
-    public abstract IQueue<Record<?>>[] getShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int targetIndex);
+    /** The names of the shuffles the given target partition reads from, one per input partition. */
+    public abstract List<String> getShuffleNames(int pipelineId, int targetIndex);
+
+    public Map<String, IQueue<Record<?>>> createShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
+        Map<String, IQueue<Record<?>>> shuffleMap = new LinkedHashMap<>();
+        for (String queueName : createShuffleNames(pipelineId, inputIndex)) {
+            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
+            // clear old data when job restore
+            queue.clear();
+            shuffleMap.put(queueName, queue);
+        }
+
+        log.info(
+                "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                inputIndex,
+                shuffleMap.keySet());
+
+        return shuffleMap;
+    }
+
+    public IQueue<Record<?>>[] getShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
+        List<String> queueNames = getShuffleNames(pipelineId, targetIndex);
+        IQueue<Record<?>>[] queues = new IQueue[queueNames.size()];
+        for (int inputIndex = 0; inputIndex < queueNames.size(); inputIndex++) {
+            queues[inputIndex] = getIQueue(hazelcast, queueNames.get(inputIndex));
+        }
+
+        log.info(
+                "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                targetIndex,
+                queueNames);
+
+        return queues;
+    }
+
+    /**
+     * The row type of every table shuffled by this strategy, keyed by table id. Shuffles with known
+     * row types send rows as schema-encoded batches, others send them one by one.
+     */
+    public Map<String, SeaTunnelRowType> getRowTypes() {
+        return Collections.emptyMap();
+    }
 
     protected IQueue<Record<?>> getIQueue(HazelcastInstance hazelcast, String queueName) {
         QueueConfig targetQueueConfig = hazelcast.getConfig().getQueueConfig(queueName);
@@ -33,12 +33,15 @@ import org.apache.seatunnel.api.sink.SupportMultiTableSink;
 import org.apache.seatunnel.api.sink.SupportSaveMode;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.factory.ChangeStreamTableSourceCheckpoint;
 import org.apache.seatunnel.api.table.factory.FactoryUtil;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+import org.apache.seatunnel.api.transform.SupportPushDownPredicates;
 import org.apache.seatunnel.common.Constants;
 import org.apache.seatunnel.common.config.Common;
 import org.apache.seatunnel.common.config.TypesafeConfigUtils;
@@ -81,6 +84,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -239,6 +243,9 @@ public class MultipleTableJobConfigParser {
                 sinkActions.addAll(
                         parseSink(configIndex, sinkConfig, sinkClassLoader, tableWithActionMap));
             }
+
+            Thread.currentThread().setContextClassLoader(sourceAndTransformClassLoader);
+            pushDownFilters(sinkActions);
             Set<URL> factoryUrls = getUsedFactoryUrls(sinkActions);
             return new ImmutablePair<>(sinkActions, factoryUrls);
         } finally {
@@ -252,6 +259,60 @@ public class MultipleTableJobConfigParser {
         }
     }
 
+    /**
+     * Push the conditions of a filtering transform into its source when the transform is the only
+     * consumer of a single-table source. The transform keeps evaluating its full condition, so the
+     * source only needs to honour the predicates on a best-effort basis.
+     */
+    private void pushDownFilters(List<Action> sinkActions) {
+        Map<Action, Set<Action>> downstreams = new IdentityHashMap<>();
+        fillDownstreams(sinkActions, downstreams);
+        downstreams.forEach(
+                (action, consumers) -> {
+                    if (!(action instanceof SourceAction) || consumers.size() != 1) {
+                        return;
+                    }
+                    Action consumer = consumers.iterator().next();
+                    if (!(consumer instanceof TransformAction)) {
+                        return;
+                    }
+                    SeaTunnelSource<?, ?, ?> source = ((SourceAction<?, ?, ?>) action).getSource();
+                    SeaTunnelTransform<?> transform = ((TransformAction) consumer).getTransform();
+                    if (!(source instanceof SupportFilterPushDown)
+                            || !(transform instanceof SupportPushDownPredicates)
+                            || source.getProducedCatalogTables().size() != 1) {
+                        return;
+                    }
+                    List<Predicate> predicates =
+                            ((SupportPushDownPredicates) transform).getPushDownPredicates();
+                    if (predicates.isEmpty()) {
+                        return;
+                    }
+                    List<Predicate> accepted =
+                            ((SupportFilterPushDown) source).applyFilters(predicates);
+                    log.info(
+                            "Push down filters {} from [{}] into [{}], accepted: {}",
+                            predicates,
+                            consumer.getName(),
+                            action.getName(),
+                            accepted);
+                });
+    }
+
+    private void fillDownstreams(List<Action> actions, Map<Action, Set<Action>> downstreams) {
+        for (Action action : actions) {
+            for (Action upstream : action.getUpstream()) {
+                Set<Action> consumers =
+                        downstreams.computeIfAbsent(
+                                upstream,
+                                key -> Collections.newSetFromMap(new IdentityHashMap<>()));
+                if (consumers.add(action)) {
+                    fillDownstreams(Collections.singletonList(upstream), downstreams);
+                }
+            }
+        }
+    }
+
     private ClassLoader getClassLoader(
             ClassLoaderService classLoaderService,
             ClassLoader parentClassLoader,
@@ -82,7 +82,6 @@ import scala.Tuple2;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -169,7 +168,7 @@ public class CoordinatorService {
      */
     private IMap<PipelineLocation, Map<TaskGroupLocation, SlotProfile>> ownedSlotProfilesIMap;
 
-    private IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap;
+    private IMap<TaskLocation, SeaTunnelMetricsContext> metricsImap;
 
     /** If this node is a master node */
     private volatile boolean isActive = false;
@@ -386,6 +385,19 @@ public class CoordinatorService {
         return eventProcessor;
     }
 
+    /**
+     * The running job metrics IMap used to hold all tasks in one map under the key {@code 1L}. A
+     * persisted IMap restored from an older version can still contain that entry, which would break
+     * every reader expecting a {@link TaskLocation} key, so it is dropped once the master starts.
+     */
+    private void removeLegacyMetricsEntries() {
+        try {
+            metricsImap.removeAll(JobMetricsUtil.legacyMetricsPredicate());
+        } catch (Exception e) {
+            logger.warning("failed to remove legacy running job metrics entries", e);
+        }
+    }
+
     private void initCoordinatorService() {
         runningJobInfoIMap =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_RUNNING_JOB_INFO);
@@ -396,6 +408,7 @@ public class CoordinatorService {
         ownedSlotProfilesIMap =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_OWNED_SLOT_PROFILES);
         metricsImap = nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_RUNNING_JOB_METRICS);
+        removeLegacyMetricsEntries();
 
         jobHistoryService =
                 new JobHistoryService(
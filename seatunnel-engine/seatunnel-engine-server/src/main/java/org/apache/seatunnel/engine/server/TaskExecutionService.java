@@ -53,10 +53,10 @@ import org.apache.seatunnel.engine.server.service.jar.ServerConnectorPackageClie
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.TaskGroupImmutableInformation;
 import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperation;
+import org.apache.seatunnel.engine.server.task.shuffle.DirectShuffleRegistry;
 
 import org.apache.commons.collections4.CollectionUtils;
 
-import com.hazelcast.core.OperationTimeoutException;
 import com.hazelcast.instance.impl.NodeState;
 import com.hazelcast.internal.metrics.DynamicMetricsProvider;
 import com.hazelcast.internal.metrics.MetricDescriptor;
@@ -139,6 +139,11 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     private final ConcurrentMap<TaskGroupLocation, CompletableFuture<Void>> cancellationFutures =
             new ConcurrentHashMap<>();
+
+    /** The version of the metrics context of each task last written to the metrics IMap */
+    private final ConcurrentMap<TaskLocation, Long> uploadedMetricsVersions =
+            new ConcurrentHashMap<>();
+
     private final SeaTunnelConfig seaTunnelConfig;
 
     private final ScheduledExecutorService scheduledExecutorService;
@@ -147,6 +152,8 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     private final EventService eventService;
 
+    private final DirectShuffleRegistry directShuffleRegistry;
+
     public TaskExecutionService(
             ClassLoaderService classLoaderService,
             NodeEngineImpl nodeEngine,
@@ -174,6 +181,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 new ServerConnectorPackageClient(nodeEngine, seaTunnelConfig);
 
         this.eventService = eventService;
+        this.directShuffleRegistry = new DirectShuffleRegistry(nodeEngine);
     }
 
     public void start() {
@@ -579,12 +587,16 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                             nodeEngine.getNode().getState()));
             return;
         }
-        IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap =
+        IMap<TaskLocation, SeaTunnelMetricsContext> metricsImap =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_RUNNING_JOB_METRICS);
         Map<TaskGroupLocation, TaskGroupContext> contextMap = new HashMap<>();
         contextMap.putAll(finishedExecutionContexts);
         contextMap.putAll(executionContexts);
-        HashMap<TaskLocation, SeaTunnelMetricsContext> localMap = new HashMap<>();
+        // every task is only run by this node, so its entry is written without locking, and only
+        // when its metrics changed since the last upload
+        HashMap<TaskLocation, SeaTunnelMetricsContext> changedMap = new HashMap<>();
+        Map<TaskLocation, Long> changedVersions = new HashMap<>();
+        Set<TaskLocation> localTasks = new HashSet<>();
         contextMap.forEach(
                 (taskGroupLocation, taskGroupContext) -> {
                     taskGroupContext
@@ -595,45 +607,34 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                         // MetricsContext only exists in SeaTunnelTask
                                         if (task instanceof SeaTunnelTask) {
                                             SeaTunnelTask seaTunnelTask = (SeaTunnelTask) task;
-                                            if (null != seaTunnelTask.getMetricsContext()) {
-                                                localMap.put(
-                                                        seaTunnelTask.getTaskLocation(),
-                                                        seaTunnelTask.getMetricsContext());
+                                            SeaTunnelMetricsContext metricsContext =
+                                                    seaTunnelTask.getMetricsContext();
+                                            if (null == metricsContext) {
+                                                return;
+                                            }
+                                            TaskLocation taskLocation =
+                                                    seaTunnelTask.getTaskLocation();
+                                            localTasks.add(taskLocation);
+                                            long version = metricsContext.getVersion();
+                                            Long uploadedVersion =
+                                                    uploadedMetricsVersions.get(taskLocation);
+                                            if (uploadedVersion == null
+                                                    || uploadedVersion != version) {
+                                                changedMap.put(taskLocation, metricsContext);
+                                                changedVersions.put(taskLocation, version);
                                             }
                                         }
                                     });
                 });
-        if (!localMap.isEmpty()) {
-            boolean lockedIMap = false;
+        uploadedMetricsVersions.keySet().retainAll(localTasks);
+        if (!changedMap.isEmpty()) {
             try {
-                lockedIMap =
-                        metricsImap.tryLock(
-                                Constant.IMAP_RUNNING_JOB_METRICS_KEY, 5, TimeUnit.SECONDS);
-                if (!lockedIMap) {
-                    logger.warning("try lock failed in update metrics");
-                    return;
-                }
-                HashMap<TaskLocation, SeaTunnelMetricsContext> centralMap =
-                        metricsImap.computeIfAbsent(
-                                Constant.IMAP_RUNNING_JOB_METRICS_KEY, k -> new HashMap<>());
-                centralMap.putAll(localMap);
-                metricsImap.put(Constant.IMAP_RUNNING_JOB_METRICS_KEY, centralMap);
+                metricsImap.putAll(changedMap);
+                uploadedMetricsVersions.putAll(changedVersions);
             } catch (Exception e) {
                 logger.warning(
                         "The Imap acquisition failed due to the hazelcast node being offline or restarted, and will be retried next time",
                         e);
-            } finally {
-                if (lockedIMap) {
-                    boolean unLockedIMap = false;
-                    while (!unLockedIMap) {
-                        try {
-                            metricsImap.unlock(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
-                            unLockedIMap = true;
-                        } catch (OperationTimeoutException e) {
-                            logger.warning("unlock imap failed in update metrics", e);
-                        }
-                    }
-                }
             }
         }
         this.printTaskExecutionRuntimeInfo();
@@ -1001,6 +1002,14 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         }
     }
 
+    public DirectShuffleRegistry getDirectShuffleRegistry() {
+        return directShuffleRegistry;
+    }
+
+    public SeaTunnelConfig getSeaTunnelConfig() {
+        return seaTunnelConfig;
+    }
+
     public ServerConnectorPackageClient getServerConnectorPackageClient() {
         return serverConnectorPackageClient;
     }
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.server.checkpoint;
 
 import org.apache.seatunnel.engine.core.dag.actions.Action;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -40,4 +41,17 @@ public class ActionStateKey implements Serializable {
     public static ActionStateKey of(Action action) {
         return new ActionStateKey("ActionStateKey - " + action.getName());
     }
+
+    /**
+     * The key of the records an unaligned checkpoint captured in flight at the input of the action,
+     * they are replayed into the action on restore.
+     */
+    public static ActionStateKey ofInflight(Action action) {
+        return new ActionStateKey("InflightStateKey - " + action.getName());
+    }
+
+    public static boolean hasInflightState(Action action) {
+        return action instanceof ShuffleAction
+                && ((ShuffleAction) action).getConfig().isUnalignedCheckpoint();
+    }
 }
@@ -256,13 +256,18 @@ public class ExecutionPlanGenerator {
                         .jobId(jobImmutableInformation.getJobId())
                         .inputPartitions(sourceAction.getParallelism())
                         .catalogTables(producedCatalogTables)
+                        .queueMaxSize(ShuffleStrategy.DEFAULT_BATCH_QUEUE_SIZE)
                         .queueEmptyQueueTtl(
                                 (int)
                                         (engineConfig.getCheckpointConfig().getCheckpointInterval()
                                                 * 3))
                         .build();
         ShuffleConfig shuffleConfig =
-                ShuffleConfig.builder().shuffleStrategy(shuffleStrategy).build();
+                ShuffleConfig.builder()
+                        .shuffleStrategy(shuffleStrategy)
+                        .transport(engineConfig.getShuffleTransport())
+                        .unalignedCheckpoint(engineConfig.getCheckpointConfig().isUnaligned())
+                        .build();
 
         long shuffleVertexId = idGenerator.getNextId();
         String shuffleActionName = String.format("Shuffle [%s]", sourceAction.getName());
@@ -20,9 +20,9 @@ package org.apache.seatunnel.engine.server.dag.execution;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class Pipeline {
 
@@ -52,10 +52,14 @@ public class Pipeline {
     }
 
     public Map<ActionStateKey, Integer> getActions() {
-        return vertexes.values().stream()
-                .map(ExecutionVertex::getAction)
-                .collect(
-                        Collectors.toMap(
-                                action -> ActionStateKey.of(action), Action::getParallelism));
+        Map<ActionStateKey, Integer> actions = new HashMap<>();
+        for (ExecutionVertex vertex : vertexes.values()) {
+            Action action = vertex.getAction();
+            actions.put(ActionStateKey.of(action), action.getParallelism());
+            if (ActionStateKey.hasInflightState(action)) {
+                actions.put(ActionStateKey.ofInflight(action), action.getParallelism());
+            }
+        }
+        return actions;
     }
 }
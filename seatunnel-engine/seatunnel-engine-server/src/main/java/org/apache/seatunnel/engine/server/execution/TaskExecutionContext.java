@@ -30,8 +30,6 @@ import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 
-import java.util.HashMap;
-
 public class TaskExecutionContext {
 
     private final Task task;
@@ -58,13 +56,10 @@ public class TaskExecutionContext {
     }
 
     public SeaTunnelMetricsContext getOrCreateMetricsContext(TaskLocation taskLocation) {
-        IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> map =
+        IMap<TaskLocation, SeaTunnelMetricsContext> map =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_RUNNING_JOB_METRICS);
-        HashMap<TaskLocation, SeaTunnelMetricsContext> centralMap =
-                map.get(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
-        return centralMap == null || centralMap.get(taskLocation) == null
-                ? new SeaTunnelMetricsContext()
-                : centralMap.get(taskLocation);
+        SeaTunnelMetricsContext metricsContext = map.get(taskLocation);
+        return metricsContext == null ? new SeaTunnelMetricsContext() : metricsContext;
     }
 
     public <T> T getTask() {
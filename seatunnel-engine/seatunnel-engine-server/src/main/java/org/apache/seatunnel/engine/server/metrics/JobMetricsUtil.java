@@ -26,12 +26,15 @@ import org.apache.seatunnel.api.common.metrics.JobMetrics;
 import org.apache.seatunnel.api.common.metrics.Measurement;
 import org.apache.seatunnel.api.common.metrics.MetricTags;
 import org.apache.seatunnel.api.common.metrics.RawJobMetrics;
+import org.apache.seatunnel.engine.server.dag.physical.PipelineLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
 
 import com.hazelcast.cluster.Member;
 import com.hazelcast.internal.metrics.MetricConsumer;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.impl.MetricsCompressor;
 import com.hazelcast.internal.util.MapUtil;
+import com.hazelcast.query.Predicate;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -106,6 +109,30 @@ public final class JobMetricsUtil {
         return jobMetricsMap;
     }
 
+    /**
+     * Selects the entries of the running job metrics IMap which belong to the given pipeline. The
+     * predicate runs on the members owning the entries, so only the matching keys are shipped.
+     */
+    public static Predicate<TaskLocation, SeaTunnelMetricsContext> pipelineMetricsPredicate(
+            PipelineLocation pipelineLocation) {
+        return entry -> {
+            Object key = ((Map.Entry<?, ?>) entry).getKey();
+            return key instanceof TaskLocation
+                    && ((TaskLocation) key)
+                            .getTaskGroupLocation()
+                            .getPipelineLocation()
+                            .equals(pipelineLocation);
+        };
+    }
+
+    /**
+     * Selects the entries of the running job metrics IMap which are not keyed by {@link
+     * TaskLocation}, i.e. the single map of all tasks the IMap held before it was keyed by task.
+     */
+    public static Predicate<TaskLocation, SeaTunnelMetricsContext> legacyMetricsPredicate() {
+        return entry -> !(((Map.Entry<?, ?>) entry).getKey() instanceof TaskLocation);
+    }
+
     private static class metricsConsumer implements MetricConsumer {
 
         final Map<Long, Map<String, List<Measurement>>> metrics = new HashMap<>();
@@ -20,6 +20,7 @@ package org.apache.seatunnel.engine.server.metrics;
 import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
 import org.apache.seatunnel.api.common.metrics.Counter;
 import org.apache.seatunnel.api.common.metrics.Meter;
+import org.apache.seatunnel.api.common.metrics.Metric;
 import org.apache.seatunnel.api.common.metrics.Unit;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
 
@@ -61,6 +62,22 @@ public class SeaTunnelMetricsContext extends AbstractMetricsContext
                 });
     }
 
+    /**
+     * Returns a value which changes when any metric of the context changes, so that a context is
+     * only shipped to the cluster when it has something new.
+     */
+    public long getVersion() {
+        long version = metrics.size();
+        for (Metric metric : metrics.values()) {
+            if (metric instanceof Counter) {
+                version = 31 * version + ((Counter) metric).getCount();
+            } else if (metric instanceof Meter) {
+                version = 31 * version + ((Meter) metric).getCount();
+            }
+        }
+        return version;
+    }
+
     private ProbeUnit toProbeUnit(Unit unit) {
         return ProbeUnit.valueOf(unit.name());
     }
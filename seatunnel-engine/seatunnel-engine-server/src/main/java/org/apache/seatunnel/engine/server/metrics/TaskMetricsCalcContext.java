@@ -25,9 +25,10 @@ import org.apache.seatunnel.common.constants.PluginType;
 
 import org.apache.commons.lang3.StringUtils;
 
+import lombok.AllArgsConstructor;
+
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES;
@@ -61,6 +62,8 @@ public class TaskMetricsCalcContext {
 
     private Map<String, Meter> bytesPerSecondsPerTable = new ConcurrentHashMap<>();
 
+    private final Map<String, TableMetrics> metricsPerTableId = new ConcurrentHashMap<>();
+
     public TaskMetricsCalcContext(
             MetricsContext metricsContext,
             PluginType type,
@@ -123,74 +126,76 @@ public class TaskMetricsCalcContext {
     }
 
     public void updateMetrics(Object data, String tableId) {
+        if (data instanceof SeaTunnelRow) {
+            updateMetrics(tableId, ((SeaTunnelRow) data).getBytesSize());
+        } else {
+            count.inc();
+            QPS.markEvent();
+        }
+    }
+
+    /**
+     * Update the metrics of a row whose size is already known, the per table metrics are resolved
+     * once per table id so the hot path only touches the counters.
+     */
+    public void updateMetrics(String tableId, long bytesSize) {
         count.inc();
         QPS.markEvent();
-        if (data instanceof SeaTunnelRow) {
-            SeaTunnelRow row = (SeaTunnelRow) data;
-            bytes.inc(row.getBytesSize());
-            bytesPerSeconds.markEvent(row.getBytesSize());
+        bytes.inc(bytesSize);
+        bytesPerSeconds.markEvent(bytesSize);
 
-            if (StringUtils.isNotBlank(tableId)) {
-                String tableName = TablePath.of(tableId).getFullName();
+        if (StringUtils.isNotBlank(tableId)) {
+            TableMetrics tableMetrics = metricsPerTableId.get(tableId);
+            if (tableMetrics == null) {
+                tableMetrics = metricsPerTableId.computeIfAbsent(tableId, this::createTableMetrics);
+            }
+            tableMetrics.count.inc();
+            tableMetrics.QPS.markEvent();
+            tableMetrics.bytes.inc(bytesSize);
+            tableMetrics.bytesPerSeconds.markEvent(bytesSize);
+        }
+    }
 
-                // Processing count
-                processMetrics(
+    private TableMetrics createTableMetrics(String tableId) {
+        String tableName = TablePath.of(tableId).getFullName();
+        return new TableMetrics(
+                getOrCreateMetric(
                         countPerTable,
                         Counter.class,
                         tableName,
                         SINK_WRITE_COUNT,
-                        SOURCE_RECEIVED_COUNT,
-                        Counter::inc);
-
-                // Processing bytes
-                processMetrics(
+                        SOURCE_RECEIVED_COUNT),
+                getOrCreateMetric(
+                        QPSPerTable, Meter.class, tableName, SINK_WRITE_QPS, SOURCE_RECEIVED_QPS),
+                getOrCreateMetric(
                         bytesPerTable,
                         Counter.class,
                         tableName,
                         SINK_WRITE_BYTES,
-                        SOURCE_RECEIVED_BYTES,
-                        counter -> counter.inc(row.getBytesSize()));
-
-                // Processing QPS
-                processMetrics(
-                        QPSPerTable,
-                        Meter.class,
-                        tableName,
-                        SINK_WRITE_QPS,
-                        SOURCE_RECEIVED_QPS,
-                        Meter::markEvent);
-
-                // Processing bytes rate
-                processMetrics(
+                        SOURCE_RECEIVED_BYTES),
+                getOrCreateMetric(
                         bytesPerSecondsPerTable,
                         Meter.class,
                         tableName,
                         SINK_WRITE_BYTES_PER_SECONDS,
-                        SOURCE_RECEIVED_BYTES_PER_SECONDS,
-                        meter -> meter.markEvent(row.getBytesSize()));
-            }
-        }
+                        SOURCE_RECEIVED_BYTES_PER_SECONDS));
     }
 
-    private <T> void processMetrics(
+    private <T> T getOrCreateMetric(
             Map<String, T> metricMap,
             Class<T> cls,
             String tableName,
             String sinkMetric,
-            String sourceMetric,
-            MetricProcessor<T> processor) {
-        T metric = metricMap.get(tableName);
-        if (Objects.nonNull(metric)) {
-            processor.process(metric);
-        } else {
-            String metricName =
-                    PluginType.SINK.equals(type)
-                            ? sinkMetric + "#" + tableName
-                            : sourceMetric + "#" + tableName;
-            T newMetric = createMetric(metricsContext, metricName, cls);
-            processor.process(newMetric);
-            metricMap.put(tableName, newMetric);
-        }
+            String sourceMetric) {
+        return metricMap.computeIfAbsent(
+                tableName,
+                name -> {
+                    String metricName =
+                            PluginType.SINK.equals(type)
+                                    ? sinkMetric + "#" + name
+                                    : sourceMetric + "#" + name;
+                    return createMetric(metricsContext, metricName, cls);
+                });
     }
 
     private <T> T createMetric(
@@ -203,8 +208,11 @@ public class TaskMetricsCalcContext {
         throw new IllegalArgumentException("Unsupported metric class: " + metricClass.getName());
     }
 
-    @FunctionalInterface
-    interface MetricProcessor<T> {
-        void process(T t);
+    @AllArgsConstructor
+    private static class TableMetrics {
+        private final Counter count;
+        private final Meter QPS;
+        private final Counter bytes;
+        private final Meter bytesPerSeconds;
     }
 }
@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.task.record.ShuffleRowBatch;
 
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -33,7 +34,8 @@ import java.io.UnsupportedEncodingException;
 public class RecordSerializer implements StreamSerializer<Record> {
     enum RecordDataType {
         CHECKPOINT_BARRIER,
-        SEATUNNEL_ROW;
+        SEATUNNEL_ROW,
+        SHUFFLE_ROW_BATCH;
     }
 
     @Override
@@ -52,10 +54,13 @@ public class RecordSerializer implements StreamSerializer<Record> {
             out.writeByte(RecordDataType.SEATUNNEL_ROW.ordinal());
             out.writeString(row.getTableId());
             out.writeByte(row.getRowKind().toByteValue());
-            out.writeByte(row.getArity());
+            out.writeInt(row.getArity());
             for (Object field : row.getFields()) {
                 out.writeObject(field);
             }
+        } else if (data instanceof ShuffleRowBatch) {
+            out.writeByte(RecordDataType.SHUFFLE_ROW_BATCH.ordinal());
+            ShuffleRowBatchCodec.write(out, (ShuffleRowBatch) data);
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported serialize class: " + data.getClass());
@@ -77,7 +82,7 @@ public class RecordSerializer implements StreamSerializer<Record> {
         } else if (dataType == RecordDataType.SEATUNNEL_ROW.ordinal()) {
             String tableId = in.readString();
             byte rowKind = in.readByte();
-            byte arity = in.readByte();
+            int arity = in.readInt();
             SeaTunnelRow row = new SeaTunnelRow(arity);
             row.setTableId(tableId);
             row.setRowKind(RowKind.fromByteValue(rowKind));
@@ -85,6 +90,8 @@ public class RecordSerializer implements StreamSerializer<Record> {
                 row.setField(i, in.readObject());
             }
             data = row;
+        } else if (dataType == RecordDataType.SHUFFLE_ROW_BATCH.ordinal()) {
+            data = ShuffleRowBatchCodec.read(in);
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported deserialize data type: " + dataType);
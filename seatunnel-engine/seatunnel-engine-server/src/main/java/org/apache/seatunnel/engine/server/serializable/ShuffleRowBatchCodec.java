@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.server.task.record.ShuffleRowBatch;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Binary layout of a {@link ShuffleRowBatch}.
+ *
+ * <p>The header holds the table id dictionary and the column kinds of every table, derived once
+ * from its {@link SeaTunnelRowType}. Each row is then written as its table index (only when the
+ * batch holds more than one table), the row kind, a null bitmap and the non-null fields: fixed
+ * width values for primitives and temporal types, length prefixed values for strings, bytes and
+ * decimals. Complex types (array, map, row, vectors) fall back to {@link
+ * ObjectDataOutput#writeObject(Object)}.
+ */
+public final class ShuffleRowBatchCodec {
+
+    /** How a single column is laid out on the wire. */
+    public enum ColumnKind {
+        BOOLEAN,
+        TINYINT,
+        SMALLINT,
+        INT,
+        BIGINT,
+        FLOAT,
+        DOUBLE,
+        DECIMAL,
+        STRING,
+        BYTES,
+        DATE,
+        TIME,
+        TIMESTAMP,
+        TIMESTAMP_TZ,
+        OBJECT;
+
+        private static final ColumnKind[] VALUES = values();
+
+        static ColumnKind fromOrdinal(int ordinal) {
+            if (ordinal < 0 || ordinal >= VALUES.length) {
+                throw new IllegalArgumentException("Unknown column kind: " + ordinal);
+            }
+            return VALUES[ordinal];
+        }
+    }
+
+    private ShuffleRowBatchCodec() {}
+
+    public static ColumnKind[] resolveSchema(SeaTunnelRowType rowType) {
+        ColumnKind[] schema = new ColumnKind[rowType.getTotalFields()];
+        for (int i = 0; i < schema.length; i++) {
+            switch (rowType.getFieldType(i).getSqlType()) {
+                case BOOLEAN:
+                    schema[i] = ColumnKind.BOOLEAN;
+                    break;
+                case TINYINT:
+                    schema[i] = ColumnKind.TINYINT;
+                    break;
+                case SMALLINT:
+                    schema[i] = ColumnKind.SMALLINT;
+                    break;
+                case INT:
+                    schema[i] = ColumnKind.INT;
+                    break;
+                case BIGINT:
+                    schema[i] = ColumnKind.BIGINT;
+                    break;
+                case FLOAT:
+                    schema[i] = ColumnKind.FLOAT;
+                    break;
+                case DOUBLE:
+                    schema[i] = ColumnKind.DOUBLE;
+                    break;
+                case DECIMAL:
+                    schema[i] = ColumnKind.DECIMAL;
+                    break;
+                case STRING:
+                    schema[i] = ColumnKind.STRING;
+                    break;
+                case BYTES:
+                    schema[i] = ColumnKind.BYTES;
+                    break;
+                case DATE:
+                    schema[i] = ColumnKind.DATE;
+                    break;
+                case TIME:
+                    schema[i] = ColumnKind.TIME;
+                    break;
+                case TIMESTAMP:
+                    schema[i] = ColumnKind.TIMESTAMP;
+                    break;
+                case TIMESTAMP_TZ:
+                    schema[i] = ColumnKind.TIMESTAMP_TZ;
+                    break;
+                default:
+                    schema[i] = ColumnKind.OBJECT;
+            }
+        }
+        return schema;
+    }
+
+    public static void write(ObjectDataOutput out, ShuffleRowBatch batch) throws IOException {
+        List<String> tableIds = batch.getTableIds();
+        List<ColumnKind[]> schemas = batch.getSchemas();
+        int maxArity = 0;
+        out.writeInt(tableIds.size());
+        for (int i = 0; i < tableIds.size(); i++) {
+            ColumnKind[] schema = schemas.get(i);
+            out.writeString(tableIds.get(i));
+            out.writeInt(schema.length);
+            for (ColumnKind kind : schema) {
+                out.writeByte(kind.ordinal());
+            }
+            maxArity = Math.max(maxArity, schema.length);
+        }
+
+        boolean multipleTables = tableIds.size() > 1;
+        byte[] nullBitmap = new byte[nullBitmapSize(maxArity)];
+        List<SeaTunnelRow> rows = batch.getRows();
+        out.writeInt(rows.size());
+        for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+            SeaTunnelRow row = rows.get(rowIndex);
+            int tableIndex = batch.getTableIndex(rowIndex);
+            if (multipleTables) {
+                out.writeInt(tableIndex);
+            }
+            out.writeByte(row.getRowKind().toByteValue());
+            writeRow(out, row, schemas.get(tableIndex), nullBitmap);
+        }
+    }
+
+    public static ShuffleRowBatch read(ObjectDataInput in) throws IOException {
+        int tableCount = in.readInt();
+        String[] tableIds = new String[tableCount];
+        ColumnKind[][] schemas = new ColumnKind[tableCount][];
+        int maxArity = 0;
+        for (int i = 0; i < tableCount; i++) {
+            tableIds[i] = in.readString();
+            ColumnKind[] schema = new ColumnKind[in.readInt()];
+            for (int j = 0; j < schema.length; j++) {
+                schema[j] = ColumnKind.fromOrdinal(in.readByte());
+            }
+            schemas[i] = schema;
+            maxArity = Math.max(maxArity, schema.length);
+        }
+
+        int rowCount = in.readInt();
+        ShuffleRowBatch batch = new ShuffleRowBatch(rowCount);
+        for (int i = 0; i < tableCount; i++) {
+            batch.addTable(tableIds[i], schemas[i]);
+        }
+        byte[] nullBitmap = new byte[nullBitmapSize(maxArity)];
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            int tableIndex = tableCount > 1 ? in.readInt() : 0;
+            RowKind rowKind = RowKind.fromByteValue(in.readByte());
+            SeaTunnelRow row = readRow(in, schemas[tableIndex], nullBitmap);
+            row.setTableId(tableIds[tableIndex]);
+            row.setRowKind(rowKind);
+            batch.add(row, tableIndex);
+        }
+        return batch;
+    }
+
+    private static void writeRow(
+            ObjectDataOutput out, SeaTunnelRow row, ColumnKind[] schema, byte[] nullBitmap)
+            throws IOException {
+        Object[] fields = row.getFields();
+        if (fields.length != schema.length) {
+            throw new IOException(
+                    String.format(
+                            "Row of table %s has %s fields, but its shuffle schema has %s",
+                            row.getTableId(), fields.length, schema.length));
+        }
+        int bitmapSize = nullBitmapSize(fields.length);
+        for (int i = 0; i < bitmapSize; i++) {
+            nullBitmap[i] = 0;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                nullBitmap[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        out.write(nullBitmap, 0, bitmapSize);
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                writeField(out, schema[i], fields[i]);
+            }
+        }
+    }
+
+    private static SeaTunnelRow readRow(ObjectDataInput in, ColumnKind[] schema, byte[] nullBitmap)
+            throws IOException {
+        in.readFully(nullBitmap, 0, nullBitmapSize(schema.length));
+        Object[] fields = new Object[schema.length];
+        for (int i = 0; i < fields.length; i++) {
+            if ((nullBitmap[i >>> 3] & (1 << (i & 7))) == 0) {
+                fields[i] = readField(in, schema[i]);
+            }
+        }
+        return new SeaTunnelRow(fields);
+    }
+
+    private static void writeField(ObjectDataOutput out, ColumnKind kind, Object value)
+            throws IOException {
+        switch (kind) {
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case TINYINT:
+                out.writeByte((Byte) value);
+                break;
+            case SMALLINT:
+                out.writeShort((Short) value);
+                break;
+            case INT:
+                out.writeInt((Integer) value);
+                break;
+            case BIGINT:
+                out.writeLong((Long) value);
+                break;
+            case FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            case DECIMAL:
+                BigDecimal decimal = (BigDecimal) value;
+                out.writeInt(decimal.scale());
+                out.writeByteArray(decimal.unscaledValue().toByteArray());
+                break;
+            case STRING:
+                out.writeString((String) value);
+                break;
+            case BYTES:
+                out.writeByteArray((byte[]) value);
+                break;
+            case DATE:
+                out.writeLong(((LocalDate) value).toEpochDay());
+                break;
+            case TIME:
+                out.writeLong(((LocalTime) value).toNanoOfDay());
+                break;
+            case TIMESTAMP:
+                writeLocalDateTime(out, (LocalDateTime) value);
+                break;
+            case TIMESTAMP_TZ:
+                OffsetDateTime offsetDateTime = (OffsetDateTime) value;
+                writeLocalDateTime(out, offsetDateTime.toLocalDateTime());
+                out.writeInt(offsetDateTime.getOffset().getTotalSeconds());
+                break;
+            default:
+                out.writeObject(value);
+        }
+    }
+
+    private static Object readField(ObjectDataInput in, ColumnKind kind) throws IOException {
+        switch (kind) {
+            case BOOLEAN:
+                return in.readBoolean();
+            case TINYINT:
+                return in.readByte();
+            case SMALLINT:
+                return in.readShort();
+            case INT:
+                return in.readInt();
+            case BIGINT:
+                return in.readLong();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case DECIMAL:
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(in.readByteArray()), scale);
+            case STRING:
+                return in.readString();
+            case BYTES:
+                return in.readByteArray();
+            case DATE:
+                return LocalDate.ofEpochDay(in.readLong());
+            case TIME:
+                return LocalTime.ofNanoOfDay(in.readLong());
+            case TIMESTAMP:
+                return readLocalDateTime(in);
+            case TIMESTAMP_TZ:
+                LocalDateTime localDateTime = readLocalDateTime(in);
+                return OffsetDateTime.of(localDateTime, ZoneOffset.ofTotalSeconds(in.readInt()));
+            default:
+                return in.readObject();
+        }
+    }
+
+    private static void writeLocalDateTime(ObjectDataOutput out, LocalDateTime value)
+            throws IOException {
+        out.writeLong(value.toLocalDate().toEpochDay());
+        out.writeLong(value.toLocalTime().toNanoOfDay());
+    }
+
+    private static LocalDateTime readLocalDateTime(ObjectDataInput in) throws IOException {
+        LocalDate date = LocalDate.ofEpochDay(in.readLong());
+        return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+    }
+
+    private static int nullBitmapSize(int arity) {
+        return (arity + 7) >>> 3;
+    }
+}
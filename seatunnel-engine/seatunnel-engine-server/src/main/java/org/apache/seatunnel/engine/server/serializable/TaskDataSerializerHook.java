@@ -34,6 +34,8 @@ import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperati
 import org.apache.seatunnel.engine.server.task.operation.SendConnectorJarToMemberNodeOperation;
 import org.apache.seatunnel.engine.server.task.operation.checkpoint.BarrierFlowOperation;
 import org.apache.seatunnel.engine.server.task.operation.checkpoint.CloseRequestOperation;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleCreditOperation;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleDataOperation;
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkPrepareCommitOperation;
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkRegisterOperation;
 import org.apache.seatunnel.engine.server.task.operation.source.AssignSplitOperation;
@@ -107,6 +109,10 @@ public class TaskDataSerializerHook implements DataSerializerHook {
 
     public static final int CLEAN_LOG_OPERATION = 27;
 
+    public static final int SHUFFLE_DATA_OPERATION = 28;
+
+    public static final int SHUFFLE_CREDIT_OPERATION = 29;
+
     public static final int FACTORY_ID =
             FactoryIdHelper.getFactoryId(
                     SeaTunnelFactoryIdConstant.SEATUNNEL_TASK_DATA_SERIALIZER_FACTORY,
@@ -181,6 +187,10 @@ public class TaskDataSerializerHook implements DataSerializerHook {
                     return new CloseIdleReaderOperation();
                 case CLEAN_LOG_OPERATION:
                     return new CleanLogOperation();
+                case SHUFFLE_DATA_OPERATION:
+                    return new ShuffleDataOperation();
+                case SHUFFLE_CREDIT_OPERATION:
+                    return new ShuffleCreditOperation();
                 default:
                     throw new IllegalArgumentException("Unknown type id " + typeId);
             }
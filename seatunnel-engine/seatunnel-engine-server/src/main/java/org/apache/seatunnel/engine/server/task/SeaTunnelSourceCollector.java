@@ -34,6 +34,7 @@ import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
 import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
 import org.apache.seatunnel.engine.server.metrics.TaskMetricsCalcContext;
 import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.record.RecordBatch;
 
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -67,14 +68,27 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
     private SeaTunnelDataType rowType;
     private FlowControlGate flowControlGate;
 
+    private final int batchSize;
+    private final long batchFlushInterval;
+    private Object[] batchRows;
+    private int batchCount;
+    private long batchStartTime;
+
     public SeaTunnelSourceCollector(
             Object checkpointLock,
             List<OneInputFlowLifeCycle<Record<?>>> outputs,
             MetricsContext metricsContext,
             FlowControlStrategy flowControlStrategy,
             SeaTunnelDataType rowType,
-            List<TablePath> tablePaths) {
+            List<TablePath> tablePaths,
+            int batchSize,
+            long batchFlushInterval) {
         this.checkpointLock = checkpointLock;
+        this.batchSize = batchSize;
+        this.batchFlushInterval = batchFlushInterval;
+        if (batchSize > 1) {
+            this.batchRows = new Object[batchSize];
+        }
         this.outputs = outputs;
         this.rowType = rowType;
         this.metricsContext = metricsContext;
@@ -107,9 +121,13 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
                             "Unsupported row type: " + rowType.getClass().getName());
                 }
                 flowControlGate.audit((SeaTunnelRow) row);
-                taskMetricsCalcContext.updateMetrics(row, tableId);
+                taskMetricsCalcContext.updateMetrics(tableId, size);
+            }
+            if (batchRows != null) {
+                addToBatch(row);
+            } else {
+                sendRecordToNext(new Record<>(row));
             }
-            sendRecordToNext(new Record<>(row));
             emptyThisPollNext = false;
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -189,7 +207,52 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         this.emptyThisPollNext = true;
     }
 
+    /**
+     * Flush the pending batch when the reader produced nothing in the last poll or the oldest
+     * pending row has waited longer than the flush interval.
+     */
+    public void flushBatchIfExpired() throws IOException {
+        synchronized (checkpointLock) {
+            if (batchCount > 0
+                    && (emptyThisPollNext
+                            || System.currentTimeMillis() - batchStartTime >= batchFlushInterval)) {
+                flushBatch();
+            }
+        }
+    }
+
+    private void addToBatch(T row) throws IOException {
+        synchronized (checkpointLock) {
+            if (batchCount == 0) {
+                batchStartTime = System.currentTimeMillis();
+            }
+            batchRows[batchCount++] = row;
+            if (batchCount >= batchSize
+                    || System.currentTimeMillis() - batchStartTime >= batchFlushInterval) {
+                flushBatch();
+            }
+        }
+    }
+
+    private void flushBatch() throws IOException {
+        // the batch owns the array once it is sent, the next rows go into a fresh one
+        RecordBatch batch = new RecordBatch(batchRows, batchCount);
+        batchRows = new Object[batchSize];
+        batchCount = 0;
+        sendToOutputs(new Record<>(batch));
+    }
+
     public void sendRecordToNext(Record<?> record) throws IOException {
+        synchronized (checkpointLock) {
+            // keep the order of rows, barriers and schema change events
+            if (batchCount > 0) {
+                flushBatch();
+            }
+            sendToOutputs(record);
+        }
+    }
+
+    private void sendToOutputs(Record<?> record) throws IOException {
         synchronized (checkpointLock) {
             for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
                 output.received(record);
@@ -298,7 +298,13 @@ public abstract class SeaTunnelTask extends AbstractTask {
     }
 
     public Set<ActionStateKey> getActionStateKeys() {
-        return getFlowInfo((action, set) -> set.add(ActionStateKey.of(action)));
+        return getFlowInfo(
+                (action, set) -> {
+                    set.add(ActionStateKey.of(action));
+                    if (ActionStateKey.hasInflightState(action)) {
+                        set.add(ActionStateKey.ofInflight(action));
+                    }
+                });
     }
 
     private <T> Set<T> getFlowInfo(BiConsumer<Action, Set<T>> function) {
@@ -431,6 +437,16 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                 sneakyThrow(e);
                             }
                         });
+        allCycles.stream()
+                .filter(cycle -> cycle instanceof ShuffleSourceFlowLifeCycle)
+                .map(cycle -> (ShuffleSourceFlowLifeCycle<?>) cycle)
+                .forEach(
+                        shuffleSource ->
+                                shuffleSource.restoreInflightRecords(
+                                        stateMap.getOrDefault(
+                                                ActionStateKey.ofInflight(
+                                                        shuffleSource.getShuffleAction()),
+                                                Collections.emptyList())));
         restoreComplete.complete(null);
         log.debug("restoreState for SeaTunnelTask finished, actionStateList: {}", actionStateList);
     }
@@ -19,18 +19,26 @@ package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRowBatchCodec;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRowBatchCodec.ColumnKind;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.RecordBatch;
+import org.apache.seatunnel.engine.server.task.record.ShuffleRowBatch;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleChannelFactory;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleSender;
 
-import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -44,11 +52,14 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     private final int pipelineId;
     private final int taskIndex;
     private final ShuffleAction shuffleAction;
-    private final Map<String, IQueue<Record<?>>> shuffles;
+    private final Map<String, ShuffleSender> shuffles;
     private final int shuffleBatchSize;
     private final long shuffleBatchFlushInterval;
     private final Map<String, Queue<Record<?>>> shuffleBuffer;
     private final ShuffleStrategy shuffleStrategy;
+    private final Map<String, ColumnKind[]> tableSchemas;
+    private final Map<Integer, ColumnKind[]> objectSchemas = new HashMap<>();
+    private final boolean sendRowBatches;
     private int shuffleBufferSize;
     private long lastModify;
 
@@ -63,10 +74,27 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         this.taskIndex = taskIndex;
         this.shuffleAction = shuffleAction;
         this.shuffleStrategy = shuffleAction.getConfig().getShuffleStrategy();
-        this.shuffles = shuffleStrategy.createShuffles(hazelcastInstance, pipelineId, taskIndex);
+        this.shuffles =
+                ShuffleChannelFactory.createSendChannels(
+                        shuffleAction.getConfig(),
+                        hazelcastInstance,
+                        runningTask
+                                .getExecutionContext()
+                                .getTaskExecutionService()
+                                .getDirectShuffleRegistry(),
+                        pipelineId,
+                        taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
         this.shuffleBuffer = new HashMap<>();
+        this.tableSchemas = new HashMap<>();
+        for (Map.Entry<String, SeaTunnelRowType> rowType :
+                shuffleStrategy.getRowTypes().entrySet()) {
+            tableSchemas.put(
+                    rowType.getKey(), ShuffleRowBatchCodec.resolveSchema(rowType.getValue()));
+        }
+        // the queues of such a shuffle are sized in batches, so every row has to go into one
+        this.sendRowBatches = !tableSchemas.isEmpty();
     }
 
     @Override
@@ -88,10 +116,9 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             runningTask.ack(barrier);
 
             // The barrier needs to be replicated to all channels
-            for (Map.Entry<String, IQueue<Record<?>>> shuffle : shuffles.entrySet()) {
-                IQueue<Record<?>> shuffleQueue = shuffle.getValue();
+            for (ShuffleSender shuffle : shuffles.values()) {
                 try {
-                    shuffleQueue.put(record);
+                    shuffle.send(record);
                 } catch (InterruptedException e) {
                     throw new RuntimeException(e);
                 }
@@ -107,7 +134,19 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
                 return;
             }
 
+            // the row type negotiated at plan time is stale now, send this table row by row
+            removeTableSchema(((SchemaChangeEvent) record.getData()).tablePath().toString());
             shuffleItem(record);
+        } else if (record.getData() instanceof RecordBatch) {
+            if (prepareClose) {
+                return;
+            }
+
+            // rows of one batch may go to different shuffle targets
+            RecordBatch batch = (RecordBatch) record.getData();
+            for (int i = 0; i < batch.size(); i++) {
+                shuffleItem(new Record<>(batch.get(i)));
+            }
         } else {
             if (prepareClose) {
                 return;
@@ -120,8 +159,8 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     @Override
     public void close() throws IOException {
         super.close();
-        for (Map.Entry<String, IQueue<Record<?>>> shuffleItem : shuffles.entrySet()) {
-            log.info("destroy shuffle queue: {}", shuffleItem.getKey());
+        for (Map.Entry<String, ShuffleSender> shuffleItem : shuffles.entrySet()) {
+            log.info("destroy shuffle channel: {}", shuffleItem.getKey());
             shuffleItem.getValue().destroy();
         }
     }
@@ -138,27 +177,73 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         }
     }
 
+    private synchronized void removeTableSchema(String tableId) {
+        tableSchemas.remove(tableId);
+    }
+
     private synchronized void shuffleFlush() {
         for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
-            IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
+            ShuffleSender shuffleChannel = shuffles.get(shuffleBatch.getKey());
             Queue<Record<?>> shuffleQueueBatch = shuffleBatch.getValue();
-            if (shuffleQueue.remainingCapacity() <= 0
-                    || !shuffleQueue.addAll(shuffleBatch.getValue())) {
-                for (; ; ) {
-                    Record<?> shuffleItem = shuffleQueueBatch.poll();
-                    if (shuffleItem == null) {
-                        break;
-                    }
-                    try {
-                        shuffleQueue.put(shuffleItem);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
+            if (sendRowBatches && !shuffleQueueBatch.isEmpty()) {
+                shuffleQueueBatch = toRowBatches(shuffleQueueBatch);
+                shuffleBatch.getValue().clear();
+            }
+            try {
+                shuffleChannel.sendAll(shuffleQueueBatch);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
             }
             shuffleQueueBatch.clear();
         }
         shuffleBufferSize = 0;
         lastModify = System.currentTimeMillis();
     }
+
+    /**
+     * Packs consecutive rows into {@link ShuffleRowBatch} items, keeping the order of everything
+     * else (schema change events, barriers) around them. Rows of a table without a known schema,
+     * such as after a schema change, are encoded field by field but still share the batch.
+     */
+    private Queue<Record<?>> toRowBatches(Queue<Record<?>> records) {
+        Queue<Record<?>> items = new LinkedList<>();
+        ShuffleRowBatch rowBatch = null;
+        for (Record<?> record : records) {
+            if (record.getData() instanceof SeaTunnelRow) {
+                SeaTunnelRow row = (SeaTunnelRow) record.getData();
+                ColumnKind[] schema = tableSchemas.get(row.getTableId());
+                if (schema == null || schema.length != row.getArity()) {
+                    schema = objectSchemas.computeIfAbsent(row.getArity(), this::objectSchema);
+                }
+                if (rowBatch != null) {
+                    ColumnKind[] batchSchema = rowBatch.getSchema(row.getTableId());
+                    if (batchSchema != null && batchSchema != schema) {
+                        // a batch holds one layout per table
+                        items.add(new Record<>(rowBatch));
+                        rowBatch = null;
+                    }
+                }
+                if (rowBatch == null) {
+                    rowBatch = new ShuffleRowBatch(records.size());
+                }
+                rowBatch.add(row, schema);
+                continue;
+            }
+            if (rowBatch != null) {
+                items.add(new Record<>(rowBatch));
+                rowBatch = null;
+            }
+            items.add(record);
+        }
+        if (rowBatch != null) {
+            items.add(new Record<>(rowBatch));
+        }
+        return items;
+    }
+
+    private ColumnKind[] objectSchema(int arity) {
+        ColumnKind[] schema = new ColumnKind[arity];
+        Arrays.fill(schema, ColumnKind.OBJECT);
+        return schema;
+    }
 }
@@ -18,36 +18,59 @@
 package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.ShuffleRowBatch;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleChannelFactory;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleReceiver;
 
-import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @SuppressWarnings("MagicNumber")
 public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         implements OneOutputFlowLifeCycle<Record<?>> {
-    private final ShuffleAction shuffleAction;
+    @Getter private final ShuffleAction shuffleAction;
     private final int shuffleBatchSize;
-    private final IQueue<Record<?>>[] shuffles;
+    private final ShuffleReceiver[] shuffles;
+    private final boolean unalignedCheckpoint;
+    private final SerializationService serializationService;
     private Map<Integer, List<Record<?>>> unsentBufferMap = new HashMap<>();
     private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
     private long currentCheckpointId = Long.MAX_VALUE;
     private int alignedBarriersCounter = 0;
 
+    // the unaligned checkpoint in progress, its barrier has already been sent downstream
+    private Barrier unalignedBarrier;
+    // the channels whose barrier has arrived, their records queued before it are in flight
+    private final Set<Integer> unalignedBarrierChannels = new HashSet<>();
+    // records queued or emitted after the barrier was sent downstream, but sent before it
+    private final List<Record<?>> inflightRecords = new ArrayList<>();
+    // in-flight records of the restored checkpoint, emitted before anything else
+    private List<Record<?>> restoredRecords = Collections.emptyList();
+
     public ShuffleSourceFlowLifeCycle(
             SeaTunnelTask runningTask,
             int taskIndex,
@@ -58,22 +81,43 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         int pipelineId = runningTask.getTaskLocation().getPipelineId();
         this.shuffleAction = shuffleAction;
         this.shuffles =
-                shuffleAction
-                        .getConfig()
-                        .getShuffleStrategy()
-                        .getShuffles(hazelcastInstance, pipelineId, taskIndex);
+                ShuffleChannelFactory.createReceiveChannels(
+                        shuffleAction.getConfig(),
+                        hazelcastInstance,
+                        runningTask
+                                .getExecutionContext()
+                                .getTaskExecutionService()
+                                .getDirectShuffleRegistry(),
+                        pipelineId,
+                        taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
+        this.unalignedCheckpoint = shuffleAction.getConfig().isUnalignedCheckpoint();
+        this.serializationService =
+                ((SerializationServiceSupport) hazelcastInstance).getSerializationService();
     }
 
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
+        if (!restoredRecords.isEmpty()) {
+            log.info(
+                    "replay {} in-flight records of the restored checkpoint. taskLocation: [{}]",
+                    restoredRecords.size(),
+                    runningTask.getTaskLocation());
+            for (Record<?> record : restoredRecords) {
+                collector.collect(record);
+            }
+            restoredRecords = Collections.emptyList();
+        }
+        if (unalignedCheckpoint) {
+            overtakeBarrier(collector);
+        }
         int emptyShuffleQueueCount = 0;
 
         for (int i = 0; i < shuffles.length; i++) {
-            IQueue<Record<?>> shuffleQueue = shuffles[i];
+            ShuffleReceiver shuffleQueue = shuffles[i];
             List<Record<?>> unsentBuffer =
                     unsentBufferMap.computeIfAbsent(i, k -> new LinkedList<>());
-            if (shuffleQueue.size() == 0) {
+            if (shuffleQueue.isEmpty() && unsentBuffer.isEmpty()) {
                 emptyShuffleQueueCount++;
                 continue;
             }
@@ -84,18 +128,30 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
             }
 
             List<Record<?>> shuffleBatch = new LinkedList<>();
-            if (alignedBarriersCounter > 0) {
-                shuffleBatch.add(shuffleQueue.take());
-            } else if (!unsentBuffer.isEmpty()) {
+            if (!unsentBuffer.isEmpty()) {
                 shuffleBatch.addAll(unsentBuffer);
                 unsentBuffer.clear();
+            } else if (alignedBarriersCounter > 0) {
+                shuffleBatch.add(shuffleQueue.take());
             }
 
             shuffleQueue.drainTo(shuffleBatch, shuffleBatchSize);
 
             for (int recordIndex = 0; recordIndex < shuffleBatch.size(); recordIndex++) {
                 Record<?> record = shuffleBatch.get(recordIndex);
-                if (record.getData() instanceof Barrier) {
+                if (record.getData() instanceof Barrier
+                        && isUnaligned((Barrier) record.getData())) {
+                    Barrier barrier = (Barrier) record.getData();
+                    if (unalignedBarrier != null && unalignedBarrier.getId() == barrier.getId()) {
+                        // arrived after the channel was looked at, the records before it are
+                        // already emitted and in flight
+                        receiveUnalignedBarrier(i);
+                        continue;
+                    }
+                    // a new checkpoint starts with the next call, once every channel is looked at
+                    unsentBuffer.addAll(shuffleBatch.subList(recordIndex, shuffleBatch.size()));
+                    break;
+                } else if (record.getData() instanceof Barrier) {
                     long startTime = System.currentTimeMillis();
 
                     Barrier barrier = (Barrier) record.getData();
@@ -134,11 +190,18 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                                 shuffleBatch.subList(recordIndex + 1, shuffleBatch.size()));
                     }
                     break;
+                } else if (record.getData() instanceof ShuffleRowBatch) {
+                    if (prepareClose) {
+                        return;
+                    }
+                    for (SeaTunnelRow row : ((ShuffleRowBatch) record.getData()).getRows()) {
+                        emit(i, new Record<>(row), collector);
+                    }
                 } else {
                     if (prepareClose) {
                         return;
                     }
-                    collector.collect(record);
+                    emit(i, record, collector);
                 }
             }
         }
@@ -148,11 +211,146 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         }
     }
 
+    private void emit(int channel, Record<?> record, Collector<Record<?>> collector)
+            throws Exception {
+        if (unalignedBarrier != null && !unalignedBarrierChannels.contains(channel)) {
+            // the record was sent before the barrier, but reaches the downstream after it
+            inflightRecords.add(record);
+        }
+        collector.collect(record);
+    }
+
+    /**
+     * Only general checkpoints are unaligned. Schema change checkpoints, savepoints and the
+     * barriers closing this task still wait for every channel.
+     */
+    private boolean isUnaligned(Barrier barrier) {
+        return unalignedCheckpoint
+                && barrier instanceof CheckpointBarrier
+                && ((CheckpointBarrier) barrier).getCheckpointType().isGeneralCheckpoint()
+                && !barrier.prepareClose(runningTask.getTaskLocation());
+    }
+
+    /**
+     * Sends the first unaligned barrier of any channel downstream right away, ahead of the records
+     * queued before it. Those records, in this and every other channel whose barrier has arrived,
+     * are stored as in-flight records and the checkpoint is acknowledged once the barrier has
+     * arrived in every channel, without waiting for the records to be processed downstream.
+     */
+    private void overtakeBarrier(Collector<Record<?>> collector) throws Exception {
+        if (unalignedBarrier == null) {
+            Barrier barrier = null;
+            for (int i = 0; i < shuffles.length && barrier == null; i++) {
+                barrier = firstBarrier(unsentBufferMap.get(i));
+                if (barrier == null) {
+                    barrier = shuffles[i].peekBarrier();
+                }
+            }
+            if (barrier == null || !isUnaligned(barrier)) {
+                return;
+            }
+            unalignedBarrier = barrier;
+            collector.collect(new Record<>(barrier));
+        }
+        for (int i = 0; i < shuffles.length; i++) {
+            if (!unalignedBarrierChannels.contains(i) && takeRecordsBeforeBarrier(i)) {
+                receiveUnalignedBarrier(i);
+            }
+        }
+    }
+
+    /**
+     * Moves the records of the channel up to the barrier of the unaligned checkpoint into its
+     * unsent buffer and adds the ones before the barrier to the in-flight records. The channel
+     * holds a bounded number of records, so does the buffer.
+     *
+     * @return false if the barrier has not arrived in the channel yet
+     */
+    private boolean takeRecordsBeforeBarrier(int channel) {
+        List<Record<?>> buffer = unsentBufferMap.computeIfAbsent(channel, k -> new LinkedList<>());
+        int barrierIndex = indexOfBarrier(buffer, 0);
+        while (barrierIndex < 0) {
+            if (shuffles[channel].peekBarrier() == null) {
+                return false;
+            }
+            int drained = buffer.size();
+            shuffles[channel].drainTo(buffer, shuffleBatchSize);
+            barrierIndex = indexOfBarrier(buffer, drained);
+        }
+        for (Record<?> record : buffer.subList(0, barrierIndex)) {
+            if (record.getData() instanceof ShuffleRowBatch) {
+                for (SeaTunnelRow row : ((ShuffleRowBatch) record.getData()).getRows()) {
+                    inflightRecords.add(new Record<>(row));
+                }
+            } else {
+                inflightRecords.add(record);
+            }
+        }
+        // the barrier itself has already been sent downstream
+        buffer.remove(barrierIndex);
+        return true;
+    }
+
+    private int indexOfBarrier(List<Record<?>> records, int fromIndex) {
+        for (int i = fromIndex; i < records.size(); i++) {
+            Object data = records.get(i).getData();
+            if (data instanceof Barrier && ((Barrier) data).getId() == unalignedBarrier.getId()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Barrier firstBarrier(List<Record<?>> records) {
+        if (records != null) {
+            for (Record<?> record : records) {
+                if (record.getData() instanceof Barrier) {
+                    return (Barrier) record.getData();
+                }
+            }
+        }
+        return null;
+    }
+
+    private void receiveUnalignedBarrier(int channel) {
+        unalignedBarrierChannels.add(channel);
+        if (unalignedBarrierChannels.size() < shuffles.length) {
+            return;
+        }
+        Barrier barrier = unalignedBarrier;
+        List<byte[]> state = new ArrayList<>(inflightRecords.size());
+        for (Record<?> record : inflightRecords) {
+            state.add(serializationService.toData(record).toByteArray());
+        }
+        runningTask.addState(barrier, ActionStateKey.of(shuffleAction), Collections.emptyList());
+        runningTask.addState(barrier, ActionStateKey.ofInflight(shuffleAction), state);
+        runningTask.ack(barrier);
+        log.debug(
+                "unaligned barrier [{}] finished with {} in-flight records. taskLocation: [{}]",
+                barrier.getId(),
+                inflightRecords.size(),
+                runningTask.getTaskLocation());
+
+        unalignedBarrier = null;
+        unalignedBarrierChannels.clear();
+        inflightRecords.clear();
+    }
+
+    public void restoreInflightRecords(List<ActionSubtaskState> actionStateList) {
+        List<Record<?>> records = new ArrayList<>();
+        for (ActionSubtaskState subtaskState : actionStateList) {
+            for (byte[] bytes : subtaskState.getState()) {
+                records.add(serializationService.toObject(new HeapData(bytes)));
+            }
+        }
+        this.restoredRecords = records;
+    }
+
     @Override
     public void close() throws IOException {
         super.close();
-        for (IQueue<Record<?>> shuffleQueue : shuffles) {
-            log.info("destroy shuffle queue: {}", shuffleQueue.getName());
+        for (ShuffleReceiver shuffleQueue : shuffles) {
+            log.info("destroy shuffle channel: {}", shuffleQueue.getName());
             shuffleQueue.destroy();
         }
     }
@@ -47,6 +47,7 @@ import org.apache.seatunnel.engine.server.task.operation.checkpoint.BarrierFlowO
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkPrepareCommitOperation;
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkRegisterOperation;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.RecordBatch;
 
 import com.hazelcast.cluster.Address;
 import lombok.extern.slf4j.Slf4j;
@@ -260,46 +261,53 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                     // todo remove deprecated method
                     writer.applySchemaChange(event);
                 }
+            } else if (record.getData() instanceof RecordBatch) {
+                if (prepareClose) {
+                    return;
+                }
+                RecordBatch batch = (RecordBatch) record.getData();
+                for (int i = 0; i < batch.size(); i++) {
+                    write(batch.get(i));
+                }
             } else {
                 if (prepareClose) {
                     return;
                 }
-                String tableId = "";
-                writer.write((T) record.getData());
-                if (record.getData() instanceof SeaTunnelRow) {
-                    if (this.sinkAction.getSink() instanceof MultiTableSink) {
-                        if (((SeaTunnelRow) record.getData()).getTableId() == null
-                                || ((SeaTunnelRow) record.getData()).getTableId().isEmpty()) {
-                            tableId = ((SeaTunnelRow) record.getData()).getTableId();
-                        } else {
-
-                            TablePath tablePath =
-                                    tablesMaps.get(
-                                            TablePath.of(
-                                                    ((SeaTunnelRow) record.getData())
-                                                            .getTableId()));
-                            tableId =
-                                    tablePath != null
-                                            ? tablePath.getFullName()
-                                            : TablePath.DEFAULT.getFullName();
-                        }
+                write(record.getData());
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-                    } else {
-                        Optional<CatalogTable> writeCatalogTable =
-                                this.sinkAction.getSink().getWriteCatalogTable();
-                        tableId =
-                                writeCatalogTable
-                                        .map(
-                                                catalogTable ->
-                                                        catalogTable.getTablePath().getFullName())
-                                        .orElseGet(TablePath.DEFAULT::getFullName);
-                    }
+    private void write(Object data) throws IOException {
+        String tableId = "";
+        writer.write((T) data);
+        if (data instanceof SeaTunnelRow) {
+            if (this.sinkAction.getSink() instanceof MultiTableSink) {
+                if (((SeaTunnelRow) data).getTableId() == null
+                        || ((SeaTunnelRow) data).getTableId().isEmpty()) {
+                    tableId = ((SeaTunnelRow) data).getTableId();
+                } else {
 
-                    taskMetricsCalcContext.updateMetrics(record.getData(), tableId);
+                    TablePath tablePath =
+                            tablesMaps.get(TablePath.of(((SeaTunnelRow) data).getTableId()));
+                    tableId =
+                            tablePath != null
+                                    ? tablePath.getFullName()
+                                    : TablePath.DEFAULT.getFullName();
                 }
+
+            } else {
+                Optional<CatalogTable> writeCatalogTable =
+                        this.sinkAction.getSink().getWriteCatalogTable();
+                tableId =
+                        writeCatalogTable
+                                .map(catalogTable -> catalogTable.getTablePath().getFullName())
+                                .orElseGet(TablePath.DEFAULT::getFullName);
             }
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+
+            taskMetricsCalcContext.updateMetrics(data, tableId);
         }
     }
 
@@ -157,6 +157,7 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
             }
 
             reader.pollNext(collector);
+            collector.flushBatchIfExpired();
             if (collector.isEmptyThisPollNext()) {
                 Thread.sleep(100);
             } else {
@@ -30,6 +30,7 @@ import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.RecordBatch;
 
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -114,6 +115,20 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
             if (event != null) {
                 collector.collect(new Record<>(event));
             }
+        } else if (record.getData() instanceof RecordBatch) {
+            if (prepareClose) {
+                return;
+            }
+            RecordBatch batch = (RecordBatch) record.getData();
+            List<T> outputDataList = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                outputDataList.addAll(transform(batch.get(i)));
+            }
+            if (!outputDataList.isEmpty()) {
+                collector.collect(
+                        new Record<>(
+                                new RecordBatch(outputDataList.toArray(), outputDataList.size())));
+            }
         } else {
             if (prepareClose) {
                 return;
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.operation.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.serializable.TaskDataSerializerHook;
+import org.apache.seatunnel.engine.server.task.operation.TracingOperation;
+import org.apache.seatunnel.engine.server.task.shuffle.DirectShuffleRegistry;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends records of a DIRECT shuffle channel to the member running its reading task, or connects the
+ * sender to it, see {@link DirectShuffleRegistry#receive}.
+ */
+public class ShuffleDataOperation extends TracingOperation implements IdentifiedDataSerializable {
+
+    private String channelName;
+
+    private Address sender;
+
+    private long sequence;
+
+    private List<Record<?>> records;
+
+    private int response;
+
+    public ShuffleDataOperation() {}
+
+    public ShuffleDataOperation(
+            String channelName, Address sender, long sequence, List<Record<?>> records) {
+        this.channelName = channelName;
+        this.sender = sender;
+        this.sequence = sequence;
+        this.records = records;
+    }
+
+    @Override
+    public void runInternal() throws Exception {
+        SeaTunnelServer server = getService();
+        response =
+                server.getTaskExecutionService()
+                        .getDirectShuffleRegistry()
+                        .receive(channelName, sender, sequence, records);
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    public String getServiceName() {
+        return SeaTunnelServer.SERVICE_NAME;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(channelName);
+        out.writeObject(sender);
+        out.writeLong(sequence);
+        out.writeInt(records.size());
+        for (Record<?> record : records) {
+            out.writeObject(record);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        channelName = in.readString();
+        sender = in.readObject();
+        sequence = in.readLong();
+        int size = in.readInt();
+        records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(in.readObject());
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return TaskDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return TaskDataSerializerHook.SHUFFLE_DATA_OPERATION;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.record;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRowBatchCodec;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRowBatchCodec.ColumnKind;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows of one shuffle flush sent as a single queue item. The batch keeps a table id dictionary and
+ * the column layout of every table once, so each row is encoded without its table id or any
+ * per-field type information, see {@link ShuffleRowBatchCodec}.
+ */
+public class ShuffleRowBatch {
+    private final List<String> tableIds = new ArrayList<>();
+    private final List<ColumnKind[]> schemas = new ArrayList<>();
+    private final Map<String, Integer> tableIndexes = new HashMap<>();
+    private final List<SeaTunnelRow> rows;
+    private int[] rowTableIndexes;
+
+    public ShuffleRowBatch(int expectedSize) {
+        this.rows = new ArrayList<>(expectedSize);
+        this.rowTableIndexes = new int[Math.max(expectedSize, 1)];
+    }
+
+    public void add(SeaTunnelRow row, ColumnKind[] schema) {
+        Integer tableIndex = tableIndexes.get(row.getTableId());
+        if (tableIndex == null) {
+            tableIndex = addTable(row.getTableId(), schema);
+        }
+        add(row, tableIndex);
+    }
+
+    public void add(SeaTunnelRow row, int tableIndex) {
+        if (rows.size() == rowTableIndexes.length) {
+            int[] newIndexes = new int[rowTableIndexes.length << 1];
+            System.arraycopy(rowTableIndexes, 0, newIndexes, 0, rowTableIndexes.length);
+            rowTableIndexes = newIndexes;
+        }
+        rowTableIndexes[rows.size()] = tableIndex;
+        rows.add(row);
+    }
+
+    public int addTable(String tableId, ColumnKind[] schema) {
+        int tableIndex = tableIds.size();
+        tableIds.add(tableId);
+        schemas.add(schema);
+        tableIndexes.put(tableId, tableIndex);
+        return tableIndex;
+    }
+
+    /** The layout the rows of the table are encoded with in this batch, null if it has none. */
+    public ColumnKind[] getSchema(String tableId) {
+        Integer tableIndex = tableIndexes.get(tableId);
+        return tableIndex == null ? null : schemas.get(tableIndex);
+    }
+
+    public List<String> getTableIds() {
+        return tableIds;
+    }
+
+    public List<ColumnKind[]> getSchemas() {
+        return schemas;
+    }
+
+    public List<SeaTunnelRow> getRows() {
+        return rows;
+    }
+
+    public int getTableIndex(int rowIndex) {
+        return rowTableIndexes[rowIndex];
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
+
+import com.hazelcast.cluster.Address;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Reading side of a shuffle with the DIRECT transport. Records sent by the {@link
+ * DirectShuffleSender} land in a bounded buffer on the member running the reading task. The sender
+ * starts with the free room of that buffer as credits, and the receiver pushes the room it frees
+ * back to the sender in chunks of a quarter of the buffer, so the sender never sends more than the
+ * buffer can hold and never has to ask for credits.
+ */
+public class DirectShuffleReceiver implements ShuffleReceiver {
+    private final String name;
+    private final DirectShuffleRegistry registry;
+    private final BlockingQueue<Record<?>> buffer;
+    private final int creditBatchSize;
+    // the barriers in the buffer in the same order
+    private final Queue<Barrier> bufferedBarriers = new ConcurrentLinkedQueue<>();
+
+    private final Object lock = new Object();
+    // the sender connected last, requests of the sender may be run out of order
+    private Address sender;
+    private long nextSequence;
+    private final Map<Long, List<Record<?>>> earlyRequests = new HashMap<>();
+    private int ungrantedCredits;
+
+    public DirectShuffleReceiver(String name, int capacity, DirectShuffleRegistry registry) {
+        this.name = name;
+        this.registry = registry;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.creditBatchSize = Math.max(capacity / 4, 1);
+    }
+
+    /**
+     * Connects a sender, replacing the one connected before.
+     *
+     * @return the initial credits of the sender
+     */
+    int connect(Address sender) {
+        synchronized (lock) {
+            this.sender = sender;
+            this.nextSequence = 1;
+            this.earlyRequests.clear();
+            this.ungrantedCredits = 0;
+            return buffer.remainingCapacity();
+        }
+    }
+
+    /** Accepts the records of the request with the given sequence, sent within the credits. */
+    void receive(long sequence, List<Record<?>> records) {
+        synchronized (lock) {
+            if (sequence != nextSequence) {
+                earlyRequests.put(sequence, records);
+                return;
+            }
+            List<Record<?>> next = records;
+            while (next != null) {
+                for (Record<?> record : next) {
+                    if (record.getData() instanceof Barrier) {
+                        bufferedBarriers.add((Barrier) record.getData());
+                    }
+                    if (!buffer.offer(record)) {
+                        throw new IllegalStateException(
+                                String.format(
+                                        "Shuffle channel %s received more records than its credits",
+                                        name));
+                    }
+                }
+                next = earlyRequests.remove(++nextSequence);
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return buffer.isEmpty();
+    }
+
+    @Override
+    public Record<?> take() throws InterruptedException {
+        Record<?> record = buffer.take();
+        removeBarrier(record);
+        grantCredits(1);
+        return record;
+    }
+
+    @Override
+    public int drainTo(Collection<Record<?>> records, int maxElements) {
+        List<Record<?>> drained = new ArrayList<>();
+        int count = buffer.drainTo(drained, maxElements);
+        for (Record<?> record : drained) {
+            removeBarrier(record);
+        }
+        records.addAll(drained);
+        grantCredits(count);
+        return count;
+    }
+
+    @Override
+    public Barrier peekBarrier() {
+        return bufferedBarriers.peek();
+    }
+
+    private void removeBarrier(Record<?> record) {
+        if (record.getData() instanceof Barrier) {
+            bufferedBarriers.poll();
+        }
+    }
+
+    private void grantCredits(int count) {
+        if (count == 0) {
+            return;
+        }
+        Address target;
+        int credits;
+        synchronized (lock) {
+            ungrantedCredits += count;
+            if (sender == null || (ungrantedCredits < creditBatchSize && !buffer.isEmpty())) {
+                return;
+            }
+            target = sender;
+            credits = ungrantedCredits;
+            ungrantedCredits = 0;
+        }
+        registry.sendCredits(target, name, credits);
+    }
+
+    @Override
+    public void destroy() {
+        registry.unregister(this);
+        buffer.clear();
+        bufferedBarriers.clear();
+    }
+}
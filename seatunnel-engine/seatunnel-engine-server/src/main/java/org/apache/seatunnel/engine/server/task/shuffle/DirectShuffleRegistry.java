@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleCreditOperation;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleDataOperation;
+import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.NodeEngine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the {@link DirectShuffleReceiver}s and {@link DirectShuffleSender}s of this member and
+ * publishes the address of the receivers, so that senders on any member can send to them
+ * point-to-point and receivers can grant credits back.
+ */
+@Slf4j
+public class DirectShuffleRegistry {
+    /** Returned to a sender whose channel has no receiver on the target member. */
+    public static final int NO_RECEIVER = -1;
+
+    /** The sequence of the request connecting a sender, data requests start at 1. */
+    public static final long CONNECT_SEQUENCE = 0;
+
+    private final NodeEngine nodeEngine;
+    private final ConcurrentMap<String, DirectShuffleReceiver> receivers =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DirectShuffleSender> senders = new ConcurrentHashMap<>();
+
+    public DirectShuffleRegistry(NodeEngine nodeEngine) {
+        this.nodeEngine = nodeEngine;
+    }
+
+    public DirectShuffleReceiver createReceiver(String name, int capacity) {
+        DirectShuffleReceiver receiver = new DirectShuffleReceiver(name, capacity, this);
+        // a restored task replaces the receiver of its previous attempt
+        receivers.put(name, receiver);
+        getAddressMap().put(name, nodeEngine.getThisAddress());
+        return receiver;
+    }
+
+    public DirectShuffleSender createSender(String name) {
+        return createSender(name, DirectShuffleSender.DEFAULT_CONNECT_TIMEOUT_MS);
+    }
+
+    DirectShuffleSender createSender(String name, long connectTimeoutMs) {
+        DirectShuffleSender sender = new DirectShuffleSender(name, this, connectTimeoutMs);
+        senders.put(name, sender);
+        return sender;
+    }
+
+    /**
+     * Hands a request of a sender to the local receiver of a channel, {@link #CONNECT_SEQUENCE}
+     * connects the sender.
+     *
+     * @return the initial credits of a connected sender, 0 for a data request, or {@link
+     *     #NO_RECEIVER}
+     */
+    public int receive(String name, Address sender, long sequence, List<Record<?>> records) {
+        DirectShuffleReceiver receiver = receivers.get(name);
+        if (receiver == null) {
+            return NO_RECEIVER;
+        }
+        if (sequence == CONNECT_SEQUENCE) {
+            return receiver.connect(sender);
+        }
+        receiver.receive(sequence, records);
+        return 0;
+    }
+
+    /** Adds credits granted by a receiver to the local sender of a channel. */
+    public void grantCredits(String name, int credits) {
+        DirectShuffleSender sender = senders.get(name);
+        if (sender != null) {
+            sender.grantCredits(credits);
+        }
+    }
+
+    CompletableFuture<Integer> connect(Address target, String name) {
+        return send(target, name, CONNECT_SEQUENCE, Collections.emptyList());
+    }
+
+    CompletableFuture<Integer> send(
+            Address target, String name, long sequence, List<Record<?>> records) {
+        Address thisAddress = nodeEngine.getThisAddress();
+        if (target.equals(thisAddress)) {
+            // both tasks run on this member, hand the records over without serializing them
+            return CompletableFuture.completedFuture(receive(name, thisAddress, sequence, records));
+        }
+        return NodeEngineUtil.sendOperationToMemberNode(
+                nodeEngine, new ShuffleDataOperation(name, thisAddress, sequence, records), target);
+    }
+
+    void sendCredits(Address target, String name, int credits) {
+        if (target.equals(nodeEngine.getThisAddress())) {
+            grantCredits(name, credits);
+            return;
+        }
+        NodeEngineUtil.sendOperationToMemberNode(
+                        nodeEngine, new ShuffleCreditOperation(name, credits), target)
+                .whenComplete(
+                        (response, error) -> {
+                            if (error != null) {
+                                log.warn(
+                                        "Failed to grant {} credits to shuffle channel {} on {}",
+                                        credits,
+                                        name,
+                                        target,
+                                        error);
+                            }
+                        });
+    }
+
+    boolean isMemberAlive(Address address) {
+        return nodeEngine.getClusterService().getMember(address) != null;
+    }
+
+    Address lookup(String name) {
+        return getAddressMap().get(name);
+    }
+
+    void unregister(DirectShuffleReceiver receiver) {
+        if (receivers.remove(receiver.getName(), receiver)) {
+            getAddressMap().remove(receiver.getName(), nodeEngine.getThisAddress());
+        }
+    }
+
+    void unregister(DirectShuffleSender sender) {
+        senders.remove(sender.getName(), sender);
+    }
+
+    private IMap<String, Address> getAddressMap() {
+        return nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_SHUFFLE_CHANNEL_ADDRESS);
+    }
+}
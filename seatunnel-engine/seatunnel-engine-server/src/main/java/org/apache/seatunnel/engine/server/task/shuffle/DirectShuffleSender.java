@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+
+import com.hazelcast.cluster.Address;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing side of a shuffle with the DIRECT transport. Records are sent straight to the member of
+ * the {@link DirectShuffleReceiver} instead of going through a partitioned Hazelcast queue, and
+ * only as many as the receiver granted credits for. Requests are sent without waiting for the
+ * previous one, at most {@link #MAX_IN_FLIGHT_REQUESTS} at a time; the receiver puts them back in
+ * order by their sequence.
+ *
+ * <p>The sender fails instead of waiting forever when the receiver does not show up in time, when
+ * the member of the receiver leaves the cluster or when a request fails, so the task fails over.
+ */
+@Slf4j
+public class DirectShuffleSender implements ShuffleSender {
+    static final long DEFAULT_CONNECT_TIMEOUT_MS = 60_000;
+    private static final int MAX_IN_FLIGHT_REQUESTS = 4;
+    private static final long CONNECT_RETRY_INTERVAL_MS = 100;
+    private static final long MEMBER_CHECK_INTERVAL_MS = 1000;
+
+    private final String name;
+    private final DirectShuffleRegistry registry;
+    private final long connectTimeoutMs;
+    private Address target;
+    private long sequence;
+
+    private final Object lock = new Object();
+    private int credits;
+    private int inFlightRequests;
+    private Throwable failure;
+
+    DirectShuffleSender(String name, DirectShuffleRegistry registry, long connectTimeoutMs) {
+        this.name = name;
+        this.registry = registry;
+        this.connectTimeoutMs = connectTimeoutMs;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void send(Record<?> record) throws InterruptedException {
+        sendAll(Collections.singletonList(record));
+    }
+
+    @Override
+    public void sendAll(Collection<Record<?>> records) throws InterruptedException {
+        if (target == null) {
+            connect();
+        }
+        Iterator<Record<?>> iterator = records.iterator();
+        while (iterator.hasNext()) {
+            int available = awaitCredits();
+            List<Record<?>> request = new ArrayList<>(Math.min(available, records.size()));
+            while (request.size() < available && iterator.hasNext()) {
+                request.add(iterator.next());
+            }
+            sendRequest(request);
+        }
+    }
+
+    /** Credits granted by the receiver, see {@link DirectShuffleReceiver}. */
+    void grantCredits(int granted) {
+        synchronized (lock) {
+            credits += granted;
+            lock.notifyAll();
+        }
+    }
+
+    private void connect() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + connectTimeoutMs;
+        while (true) {
+            Address address = registry.lookup(name);
+            // the address of a receiver on a member which left is stale until the task restarts
+            if (address != null && registry.isMemberAlive(address)) {
+                try {
+                    int initialCredits = registry.connect(address, name).join();
+                    if (initialCredits >= 0) {
+                        synchronized (lock) {
+                            credits = initialCredits;
+                        }
+                        target = address;
+                        return;
+                    }
+                } catch (CompletionException e) {
+                    log.warn("Failed to connect shuffle channel {} to {}", name, address, e);
+                }
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new SeaTunnelEngineException(
+                        String.format(
+                                "The reading side of shuffle channel %s is not reachable after %s ms",
+                                name, connectTimeoutMs));
+            }
+            log.debug("waiting for the reading side of shuffle channel {}", name);
+            TimeUnit.MILLISECONDS.sleep(CONNECT_RETRY_INTERVAL_MS);
+        }
+    }
+
+    private int awaitCredits() throws InterruptedException {
+        synchronized (lock) {
+            while (credits <= 0) {
+                awaitLocked();
+            }
+            checkFailure();
+            return credits;
+        }
+    }
+
+    private void sendRequest(List<Record<?>> request) throws InterruptedException {
+        synchronized (lock) {
+            while (inFlightRequests >= MAX_IN_FLIGHT_REQUESTS) {
+                awaitLocked();
+            }
+            checkFailure();
+            credits -= request.size();
+            inFlightRequests++;
+        }
+        registry.send(target, name, ++sequence, request)
+                .whenComplete(
+                        (response, error) -> {
+                            synchronized (lock) {
+                                inFlightRequests--;
+                                if (error != null) {
+                                    failure = error;
+                                } else if (response == DirectShuffleRegistry.NO_RECEIVER) {
+                                    failure =
+                                            new IllegalStateException(
+                                                    "The reading side of shuffle channel "
+                                                            + name
+                                                            + " is gone");
+                                }
+                                lock.notifyAll();
+                            }
+                        });
+    }
+
+    /** Waits for the receiver while it is alive, must be called holding the lock. */
+    private void awaitLocked() throws InterruptedException {
+        checkFailure();
+        lock.wait(MEMBER_CHECK_INTERVAL_MS);
+        if (failure == null && !registry.isMemberAlive(target)) {
+            failure =
+                    new IllegalStateException(
+                            "The member " + target + " of the reading side left the cluster");
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new SeaTunnelEngineException(
+                    String.format("Shuffle channel %s failed to send records", name), failure);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        registry.unregister(this);
+    }
+}
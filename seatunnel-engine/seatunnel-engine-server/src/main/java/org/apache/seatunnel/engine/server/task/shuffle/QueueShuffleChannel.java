@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
+
+import com.hazelcast.collection.IQueue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Both sides of a shuffle backed by a Hazelcast {@link IQueue}. With unaligned checkpoints the
+ * barriers are also announced out of band in a second queue, so the reader can find a barrier
+ * anywhere in the data queue without reading the whole queue.
+ */
+public class QueueShuffleChannel implements ShuffleSender, ShuffleReceiver {
+    private final IQueue<Record<?>> queue;
+    // the barriers in the data queue in the same order, null if barriers are not announced
+    private final IQueue<Barrier> barriers;
+
+    public QueueShuffleChannel(IQueue<Record<?>> queue) {
+        this(queue, null);
+    }
+
+    public QueueShuffleChannel(IQueue<Record<?>> queue, IQueue<Barrier> barriers) {
+        this.queue = queue;
+        this.barriers = barriers;
+    }
+
+    @Override
+    public String getName() {
+        return queue.getName();
+    }
+
+    @Override
+    public void send(Record<?> record) throws InterruptedException {
+        announceBarrier(record);
+        queue.put(record);
+    }
+
+    @Override
+    public void sendAll(Collection<Record<?>> records) throws InterruptedException {
+        for (Record<?> record : records) {
+            announceBarrier(record);
+        }
+        if (queue.remainingCapacity() <= 0 || !queue.addAll(records)) {
+            for (Record<?> record : records) {
+                queue.put(record);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.size() == 0;
+    }
+
+    @Override
+    public Record<?> take() throws InterruptedException {
+        Record<?> record = queue.take();
+        removeBarrier(record);
+        return record;
+    }
+
+    @Override
+    public int drainTo(Collection<Record<?>> records, int maxElements) {
+        if (barriers == null) {
+            return queue.drainTo(records, maxElements);
+        }
+        List<Record<?>> drained = new ArrayList<>();
+        int count = queue.drainTo(drained, maxElements);
+        for (Record<?> record : drained) {
+            removeBarrier(record);
+        }
+        records.addAll(drained);
+        return count;
+    }
+
+    @Override
+    public Barrier peekBarrier() {
+        return barriers == null ? null : barriers.peek();
+    }
+
+    /** The barrier is announced before it is queued, so the reader never misses it. */
+    private void announceBarrier(Record<?> record) throws InterruptedException {
+        if (barriers != null && record.getData() instanceof Barrier) {
+            barriers.put((Barrier) record.getData());
+        }
+    }
+
+    private void removeBarrier(Record<?> record) {
+        if (barriers != null && record.getData() instanceof Barrier) {
+            barriers.poll();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        queue.destroy();
+        if (barriers != null) {
+            barriers.destroy();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.core.HazelcastInstance;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Creates the channels of a shuffle action for its configured transport. */
+@Slf4j
+public final class ShuffleChannelFactory {
+
+    private ShuffleChannelFactory() {}
+
+    /** The channels written by the given input partition, keyed by shuffle key. */
+    public static Map<String, ShuffleSender> createSendChannels(
+            ShuffleConfig shuffleConfig,
+            HazelcastInstance hazelcast,
+            DirectShuffleRegistry registry,
+            int pipelineId,
+            int inputIndex) {
+        ShuffleStrategy shuffleStrategy = shuffleConfig.getShuffleStrategy();
+        Map<String, ShuffleSender> channels = new LinkedHashMap<>();
+        switch (shuffleConfig.getTransport()) {
+            case DIRECT:
+                for (String name : shuffleStrategy.createShuffleNames(pipelineId, inputIndex)) {
+                    channels.put(name, registry.createSender(name));
+                }
+                log.info(
+                        "pipeline[{}] / reader[{}] assigned direct shuffle channel list: {}",
+                        pipelineId,
+                        inputIndex,
+                        channels.keySet());
+                break;
+            case QUEUE:
+            default:
+                for (Map.Entry<String, IQueue<Record<?>>> queue :
+                        shuffleStrategy
+                                .createShuffles(hazelcast, pipelineId, inputIndex)
+                                .entrySet()) {
+                    channels.put(
+                            queue.getKey(),
+                            createQueueChannel(shuffleConfig, hazelcast, queue.getValue()));
+                }
+        }
+        return channels;
+    }
+
+    /** The channels read by the given target partition, one per input partition. */
+    public static ShuffleReceiver[] createReceiveChannels(
+            ShuffleConfig shuffleConfig,
+            HazelcastInstance hazelcast,
+            DirectShuffleRegistry registry,
+            int pipelineId,
+            int targetIndex) {
+        ShuffleStrategy shuffleStrategy = shuffleConfig.getShuffleStrategy();
+        ShuffleReceiver[] channels;
+        switch (shuffleConfig.getTransport()) {
+            case DIRECT:
+                List<String> names = shuffleStrategy.getShuffleNames(pipelineId, targetIndex);
+                channels = new ShuffleReceiver[names.size()];
+                for (int i = 0; i < names.size(); i++) {
+                    channels[i] =
+                            registry.createReceiver(
+                                    names.get(i), shuffleStrategy.getQueueMaxSize());
+                }
+                log.info(
+                        "pipeline[{}] / writer[{}] assigned direct shuffle channel list: {}",
+                        pipelineId,
+                        targetIndex,
+                        names);
+                break;
+            case QUEUE:
+            default:
+                IQueue<Record<?>>[] queues =
+                        shuffleStrategy.getShuffles(hazelcast, pipelineId, targetIndex);
+                channels = new ShuffleReceiver[queues.length];
+                for (int i = 0; i < queues.length; i++) {
+                    channels[i] = createQueueChannel(shuffleConfig, hazelcast, queues[i]);
+                }
+        }
+        return channels;
+    }
+
+    private static QueueShuffleChannel createQueueChannel(
+            ShuffleConfig shuffleConfig, HazelcastInstance hazelcast, IQueue<Record<?>> queue) {
+        if (!shuffleConfig.isUnalignedCheckpoint()) {
+            return new QueueShuffleChannel(queue);
+        }
+        return new QueueShuffleChannel(queue, hazelcast.getQueue(queue.getName() + "-barriers"));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
+
+import java.util.Collection;
+
+/**
+ * Reading side of one shuffle, used by the {@link
+ * org.apache.seatunnel.engine.server.task.flow.ShuffleSourceFlowLifeCycle}.
+ */
+public interface ShuffleReceiver {
+
+    String getName();
+
+    boolean isEmpty();
+
+    Record<?> take() throws InterruptedException;
+
+    int drainTo(Collection<Record<?>> records, int maxElements);
+
+    /**
+     * Returns the oldest barrier that is still in the channel without taking it, null if there is
+     * none. An unaligned checkpoint uses it to overtake all records queued before the barrier.
+     */
+    Barrier peekBarrier();
+
+    void destroy();
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import java.util.Collection;
+
+/**
+ * Writing side of one shuffle, used by the {@link
+ * org.apache.seatunnel.engine.server.task.flow.ShuffleSinkFlowLifeCycle}. Barriers are sent like
+ * any other record, so they stay ordered with the data.
+ */
+public interface ShuffleSender {
+
+    String getName();
+
+    /** Sends a record, blocking while the reading side has no room for it. */
+    void send(Record<?> record) throws InterruptedException;
+
+    /** Sends the records in order, blocking while the reading side has no room for them. */
+    void sendAll(Collection<Record<?>> records) throws InterruptedException;
+
+    void destroy();
+}
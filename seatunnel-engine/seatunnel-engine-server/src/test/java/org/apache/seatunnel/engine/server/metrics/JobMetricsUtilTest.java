@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.dag.physical.PipelineLocation;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.map.IMap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+
+public class JobMetricsUtilTest extends AbstractSeaTunnelServerTest<JobMetricsUtilTest> {
+
+    @Test
+    public void testMetricsPredicatesSkipLegacyEntry() {
+        IMap<Object, Object> rawImap = instance.getMap("JobMetricsUtilTest_metrics");
+        TaskLocation first = new TaskLocation(new TaskGroupLocation(1L, 1, 1L), 0, 0);
+        TaskLocation second = new TaskLocation(new TaskGroupLocation(1L, 1, 2L), 0, 1);
+        TaskLocation other = new TaskLocation(new TaskGroupLocation(1L, 2, 3L), 0, 0);
+        rawImap.put(first, new SeaTunnelMetricsContext());
+        rawImap.put(second, new SeaTunnelMetricsContext());
+        rawImap.put(other, new SeaTunnelMetricsContext());
+        rawImap.put(1L, new HashMap<TaskLocation, SeaTunnelMetricsContext>());
+
+        IMap<TaskLocation, SeaTunnelMetricsContext> metricsImap =
+                instance.getMap("JobMetricsUtilTest_metrics");
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList(first, second)),
+                metricsImap.keySet(
+                        JobMetricsUtil.pipelineMetricsPredicate(new PipelineLocation(1L, 1))));
+
+        metricsImap.removeAll(JobMetricsUtil.legacyMetricsPredicate());
+        Assertions.assertFalse(rawImap.containsKey(1L));
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList(first, second, other)), rawImap.keySet());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.Meter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SeaTunnelMetricsContextTest {
+
+    @Test
+    public void testVersionChangesWithMetrics() {
+        SeaTunnelMetricsContext context = new SeaTunnelMetricsContext();
+        long version = context.getVersion();
+
+        Counter counter = context.counter("counter");
+        Assertions.assertNotEquals(version, context.getVersion());
+        version = context.getVersion();
+        Assertions.assertEquals(version, context.getVersion());
+
+        counter.inc();
+        Assertions.assertNotEquals(version, context.getVersion());
+        version = context.getVersion();
+
+        Meter meter = context.meter("meter");
+        meter.markEvent(10);
+        Assertions.assertNotEquals(version, context.getVersion());
+        version = context.getVersion();
+        Assertions.assertEquals(version, context.getVersion());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.constants.PluginType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_BYTES;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_COUNT;
+
+public class TaskMetricsCalcContextTest {
+
+    @Test
+    public void testUpdateMetricsPerTable() {
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        TaskMetricsCalcContext calcContext =
+                new TaskMetricsCalcContext(
+                        metricsContext,
+                        PluginType.SOURCE,
+                        true,
+                        Collections.singletonList(TablePath.of("db.table1")));
+
+        calcContext.updateMetrics("db.table1", 10);
+        calcContext.updateMetrics("db.table1", 5);
+        calcContext.updateMetrics("db.table2", 3);
+        calcContext.updateMetrics(new SeaTunnelRow(new Object[] {1L}), "db.table2");
+        calcContext.updateMetrics("not a row", "db.table2");
+
+        Assertions.assertEquals(5, metricsContext.counter(SOURCE_RECEIVED_COUNT).getCount());
+        Assertions.assertEquals(26, metricsContext.counter(SOURCE_RECEIVED_BYTES).getCount());
+        Assertions.assertEquals(
+                2, metricsContext.counter(SOURCE_RECEIVED_COUNT + "#db.table1").getCount());
+        Assertions.assertEquals(
+                15, metricsContext.counter(SOURCE_RECEIVED_BYTES + "#db.table1").getCount());
+        Assertions.assertEquals(
+                2, metricsContext.counter(SOURCE_RECEIVED_COUNT + "#db.table2").getCount());
+        Assertions.assertEquals(
+                11, metricsContext.counter(SOURCE_RECEIVED_BYTES + "#db.table2").getCount());
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRowBatchCodec.ColumnKind;
+import org.apache.seatunnel.engine.server.task.record.ShuffleRowBatch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+public class RecordSerializerTest {
+
+    private final SerializationService serializationService =
+            new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testShuffleRowBatch() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {
+                            "id", "name", "flag", "price", "bytes", "date", "time", "ts", "tz",
+                            "tags"
+                        },
+                        new SeaTunnelDataType[] {
+                            BasicType.LONG_TYPE,
+                            BasicType.STRING_TYPE,
+                            BasicType.BOOLEAN_TYPE,
+                            new DecimalType(10, 2),
+                            PrimitiveByteArrayType.INSTANCE,
+                            LocalTimeType.LOCAL_DATE_TYPE,
+                            LocalTimeType.LOCAL_TIME_TYPE,
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                            LocalTimeType.OFFSET_DATE_TIME_TYPE,
+                            ArrayType.STRING_ARRAY_TYPE
+                        });
+        ColumnKind[] schema = ShuffleRowBatchCodec.resolveSchema(rowType);
+        SeaTunnelRowType otherRowType =
+                new SeaTunnelRowType(
+                        new String[] {"id"}, new SeaTunnelDataType[] {BasicType.INT_TYPE});
+        ColumnKind[] otherSchema = ShuffleRowBatchCodec.resolveSchema(otherRowType);
+
+        SeaTunnelRow fullRow =
+                new SeaTunnelRow(
+                        new Object[] {
+                            1L,
+                            "a",
+                            true,
+                            new BigDecimal("12.34"),
+                            new byte[] {1, 2},
+                            LocalDate.of(2024, 1, 2),
+                            LocalTime.of(1, 2, 3, 4),
+                            LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6),
+                            OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 6, ZoneOffset.ofHours(8)),
+                            new String[] {"x", "y"}
+                        });
+        fullRow.setTableId("db.t1");
+        fullRow.setRowKind(RowKind.UPDATE_AFTER);
+        SeaTunnelRow nullRow = new SeaTunnelRow(new Object[10]);
+        nullRow.setTableId("db.t1");
+        nullRow.setRowKind(RowKind.DELETE);
+        SeaTunnelRow otherRow = new SeaTunnelRow(new Object[] {7});
+        otherRow.setTableId("db.t2");
+
+        ShuffleRowBatch batch = new ShuffleRowBatch(3);
+        batch.add(fullRow, schema);
+        batch.add(otherRow, otherSchema);
+        batch.add(nullRow, schema);
+
+        Data data = serializationService.toData(new Record<>(batch));
+        Record<?> record = serializationService.toObject(data);
+        ShuffleRowBatch result = (ShuffleRowBatch) record.getData();
+
+        Assertions.assertEquals(3, result.size());
+        assertRowEquals(fullRow, result.getRows().get(0));
+        assertRowEquals(otherRow, result.getRows().get(1));
+        assertRowEquals(nullRow, result.getRows().get(2));
+    }
+
+    @Test
+    public void testShuffleRowBatchWithoutSchema() {
+        // rows of a table after a schema change are encoded field by field
+        ColumnKind[] schema = new ColumnKind[3];
+        Arrays.fill(schema, ColumnKind.OBJECT);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1L, null, "a"});
+        row.setTableId("db.t1");
+
+        ShuffleRowBatch batch = new ShuffleRowBatch(1);
+        batch.add(row, schema);
+
+        Data data = serializationService.toData(new Record<>(batch));
+        ShuffleRowBatch result =
+                (ShuffleRowBatch) ((Record<?>) serializationService.toObject(data)).getData();
+
+        Assertions.assertEquals(1, result.size());
+        assertRowEquals(row, result.getRows().get(0));
+    }
+
+    @Test
+    public void testWideSeaTunnelRow() {
+        Object[] fields = new Object[300];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = i;
+        }
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId("db.wide");
+
+        Data data = serializationService.toData(new Record<>(row));
+        Record<?> record = serializationService.toObject(data);
+
+        assertRowEquals(row, (SeaTunnelRow) record.getData());
+    }
+
+    private static void assertRowEquals(SeaTunnelRow expected, SeaTunnelRow actual) {
+        Assertions.assertEquals(expected.getTableId(), actual.getTableId());
+        Assertions.assertEquals(expected.getRowKind(), actual.getRowKind());
+        Assertions.assertArrayEquals(expected.getFields(), actual.getFields());
+    }
+}
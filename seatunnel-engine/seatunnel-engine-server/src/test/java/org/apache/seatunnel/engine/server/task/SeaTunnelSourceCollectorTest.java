@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.record.RecordBatch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SeaTunnelSourceCollectorTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id"}, new SeaTunnelDataType<?>[] {BasicType.INT_TYPE});
+
+    @Test
+    public void testCollectWithoutBatch() {
+        List<Record<?>> received = new ArrayList<>();
+        SeaTunnelSourceCollector<SeaTunnelRow> collector = createCollector(received, 1);
+
+        collector.collect(new SeaTunnelRow(new Object[] {1}));
+        collector.collect(new SeaTunnelRow(new Object[] {2}));
+
+        Assertions.assertEquals(2, received.size());
+        Assertions.assertTrue(received.get(0).getData() instanceof SeaTunnelRow);
+    }
+
+    @Test
+    public void testCollectBatchFlushedBySizeAndBarrier() throws Exception {
+        List<Record<?>> received = new ArrayList<>();
+        SeaTunnelSourceCollector<SeaTunnelRow> collector = createCollector(received, 2);
+
+        for (int i = 0; i < 3; i++) {
+            collector.collect(new SeaTunnelRow(new Object[] {i}));
+        }
+        Assertions.assertEquals(1, received.size());
+        RecordBatch batch = (RecordBatch) received.get(0).getData();
+        Assertions.assertEquals(2, batch.size());
+        Assertions.assertEquals(0, ((SeaTunnelRow) batch.get(0)).getField(0));
+        Assertions.assertEquals(1, ((SeaTunnelRow) batch.get(1)).getField(0));
+
+        // the pending row must reach the next flow before the barrier
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+        collector.sendRecordToNext(new Record<>(barrier));
+        Assertions.assertEquals(3, received.size());
+        batch = (RecordBatch) received.get(1).getData();
+        Assertions.assertEquals(1, batch.size());
+        Assertions.assertEquals(2, ((SeaTunnelRow) batch.get(0)).getField(0));
+        Assertions.assertSame(barrier, received.get(2).getData());
+    }
+
+    @Test
+    public void testFlushBatchWhenPollNextIsEmpty() throws Exception {
+        List<Record<?>> received = new ArrayList<>();
+        SeaTunnelSourceCollector<SeaTunnelRow> collector = createCollector(received, 10);
+
+        collector.collect(new SeaTunnelRow(new Object[] {1}));
+        collector.resetEmptyThisPollNext();
+        Assertions.assertTrue(received.isEmpty());
+
+        collector.flushBatchIfExpired();
+        Assertions.assertEquals(1, received.size());
+        Assertions.assertEquals(1, ((RecordBatch) received.get(0).getData()).size());
+    }
+
+    private SeaTunnelSourceCollector<SeaTunnelRow> createCollector(
+            List<Record<?>> received, int batchSize) {
+        OneInputFlowLifeCycle<Record<?>> output = received::add;
+        return new SeaTunnelSourceCollector<>(
+                new Object(),
+                Collections.singletonList(output),
+                new SeaTunnelMetricsContext(),
+                FlowControlStrategy.fromMap(null),
+                ROW_TYPE,
+                Collections.emptyList(),
+                batchSize,
+                60000L);
+    }
+}
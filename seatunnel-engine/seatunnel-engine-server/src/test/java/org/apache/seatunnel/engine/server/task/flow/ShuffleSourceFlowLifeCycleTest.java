@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
+import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleChannelFactory;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleSender;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.hazelcast.collection.IQueue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ShuffleSourceFlowLifeCycleTest
+        extends AbstractSeaTunnelServerTest<ShuffleSourceFlowLifeCycleTest> {
+
+    @Test
+    public void testUnalignedBarrierOvertakesRecords() throws Exception {
+        SeaTunnelTask task = mockTask();
+        ShuffleAction shuffleAction = createShuffleAction("unaligned", true);
+        ShuffleSourceFlowLifeCycle<?> shuffleSource = createShuffleSource(task, shuffleAction);
+        ShuffleSender first = sender("unaligned-0");
+        ShuffleSender second = sender("unaligned-1");
+
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+        first.sendAll(Arrays.asList(row(1), new Record<>(barrier), row(2)));
+        second.sendAll(Collections.singletonList(row(3)));
+        List<Record<?>> collected = new ArrayList<>();
+        shuffleSource.collect(new ListCollector(collected));
+
+        // the barrier is sent first, before the records still queued in front of it
+        Assertions.assertEquals(4, collected.size());
+        Assertions.assertSame(barrier, collected.get(0).getData());
+        Assertions.assertEquals(
+                Arrays.asList(1, 2, 3),
+                Arrays.asList(
+                        value(collected.get(1)), value(collected.get(2)), value(collected.get(3))));
+        verify(task, never()).ack(any());
+
+        second.sendAll(Collections.singletonList(new Record<>(barrier)));
+        shuffleSource.collect(new ListCollector(collected));
+
+        ArgumentCaptor<List<byte[]>> state = ArgumentCaptor.forClass(List.class);
+        verify(task)
+                .addState(
+                        eq(barrier), eq(ActionStateKey.ofInflight(shuffleAction)), state.capture());
+        verify(task).ack(barrier);
+        // row 2 came after the barrier in its channel, so only rows 1 and 3 are in flight
+        Assertions.assertEquals(2, state.getValue().size());
+
+        // the in-flight records are replayed before anything else after a restore
+        ShuffleAction restoredAction = createShuffleAction("restored", true);
+        ShuffleSourceFlowLifeCycle<?> restored = createShuffleSource(mockTask(), restoredAction);
+        restored.restoreInflightRecords(
+                Collections.singletonList(
+                        new ActionSubtaskState(
+                                ActionStateKey.ofInflight(restoredAction), 0, state.getValue())));
+        List<Record<?>> replayed = new ArrayList<>();
+        restored.collect(new ListCollector(replayed));
+        Assertions.assertEquals(2, replayed.size());
+        Assertions.assertEquals(1, value(replayed.get(0)));
+        Assertions.assertEquals(3, value(replayed.get(1)));
+
+        for (ShuffleSender channel : Arrays.asList(first, second)) {
+            channel.destroy();
+        }
+        shuffleSource.close();
+        restored.close();
+    }
+
+    @Test
+    public void testUnalignedBarrierIsAckedBeforeQueuedRecords() throws Exception {
+        SeaTunnelTask task = mockTask();
+        ShuffleAction shuffleAction = createShuffleAction("ack", true);
+        ShuffleSourceFlowLifeCycle<?> shuffleSource = createShuffleSource(task, shuffleAction);
+        ShuffleSender first = sender("ack-0");
+        ShuffleSender second = sender("ack-1");
+        AtomicBoolean acked = new AtomicBoolean();
+        doAnswer(invocation -> acked.getAndSet(true)).when(task).ack(any());
+
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+        first.sendAll(Arrays.asList(row(1), row(2), new Record<>(barrier), row(3)));
+        second.sendAll(Arrays.asList(row(4), new Record<>(barrier)));
+        List<Record<?>> collected = new ArrayList<>();
+        List<Boolean> ackedBeforeRow = new ArrayList<>();
+        shuffleSource.collect(
+                new ListCollector(collected) {
+                    @Override
+                    public void collect(Record<?> record) {
+                        super.collect(record);
+                        ackedBeforeRow.add(acked.get());
+                    }
+                });
+
+        // the queued records are stored instead of waiting for them to be processed
+        ArgumentCaptor<List<byte[]>> state = ArgumentCaptor.forClass(List.class);
+        verify(task)
+                .addState(
+                        eq(barrier), eq(ActionStateKey.ofInflight(shuffleAction)), state.capture());
+        Assertions.assertEquals(3, state.getValue().size());
+        Assertions.assertEquals(5, collected.size());
+        Assertions.assertSame(barrier, collected.get(0).getData());
+        Assertions.assertEquals(Arrays.asList(false, true, true, true, true), ackedBeforeRow);
+        Assertions.assertEquals(
+                Arrays.asList(1, 2, 3, 4),
+                Arrays.asList(
+                        value(collected.get(1)),
+                        value(collected.get(2)),
+                        value(collected.get(3)),
+                        value(collected.get(4))));
+
+        first.destroy();
+        second.destroy();
+        shuffleSource.close();
+    }
+
+    @Test
+    public void testUnalignedBarrierOvertakesRecordsInTheChannel() throws Exception {
+        for (ShuffleTransportType transport : ShuffleTransportType.values()) {
+            String name = "overtake-" + transport.name().toLowerCase();
+            SeaTunnelTask task = mockTask();
+            ShuffleAction shuffleAction = createShuffleAction(name, true, transport, 1);
+            ShuffleSourceFlowLifeCycle<?> shuffleSource = createShuffleSource(task, shuffleAction);
+            List<ShuffleSender> senders =
+                    new ArrayList<>(
+                            ShuffleChannelFactory.createSendChannels(
+                                            shuffleAction.getConfig(),
+                                            instance,
+                                            server.getTaskExecutionService()
+                                                    .getDirectShuffleRegistry(),
+                                            1,
+                                            0)
+                                    .values());
+
+            CheckpointBarrier barrier =
+                    new CheckpointBarrier(
+                            1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+            // the batch size is one, the barrier is still in the channel after the first poll
+            senders.get(0).sendAll(Arrays.asList(row(1), row(2), new Record<>(barrier)));
+            List<Record<?>> collected = new ArrayList<>();
+            shuffleSource.collect(new ListCollector(collected));
+
+            // a queue hands out copies of the barrier
+            Assertions.assertEquals(
+                    barrier.getId(),
+                    ((CheckpointBarrier) collected.get(0).getData()).getId(),
+                    transport.name());
+            Assertions.assertEquals(1, value(collected.get(1)), transport.name());
+
+            for (ShuffleSender sender : senders) {
+                sender.destroy();
+            }
+            shuffleSource.close();
+        }
+    }
+
+    @Test
+    public void testAlignedBarrierWaitsForAllChannels() throws Exception {
+        SeaTunnelTask task = mockTask();
+        ShuffleAction shuffleAction = createShuffleAction("aligned", false);
+        ShuffleSourceFlowLifeCycle<?> shuffleSource = createShuffleSource(task, shuffleAction);
+        ShuffleSender first = sender("aligned-0");
+        ShuffleSender second = sender("aligned-1");
+
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+        first.sendAll(Arrays.asList(row(1), new Record<>(barrier)));
+        second.sendAll(Collections.singletonList(row(3)));
+        List<Record<?>> collected = new ArrayList<>();
+        shuffleSource.collect(new ListCollector(collected));
+
+        Assertions.assertEquals(2, collected.size());
+        Assertions.assertEquals(1, value(collected.get(0)));
+        Assertions.assertEquals(3, value(collected.get(1)));
+        verify(task, never()).ack(any());
+
+        first.destroy();
+        second.destroy();
+        shuffleSource.close();
+    }
+
+    private SeaTunnelTask mockTask() {
+        SeaTunnelTask task = mock(SeaTunnelTask.class);
+        TaskExecutionContext executionContext =
+                mock(TaskExecutionContext.class, RETURNS_DEEP_STUBS);
+        when(executionContext.getTaskExecutionService())
+                .thenReturn(server.getTaskExecutionService());
+        when(task.getExecutionContext()).thenReturn(executionContext);
+        when(task.getTaskLocation())
+                .thenReturn(new TaskLocation(new TaskGroupLocation(1, 1, 1), 0, 0));
+        return task;
+    }
+
+    private ShuffleAction createShuffleAction(String name, boolean unaligned) {
+        return createShuffleAction(
+                name, unaligned, ShuffleTransportType.DIRECT, ShuffleConfig.DEFAULT_BATCH_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ShuffleAction createShuffleAction(
+            String name, boolean unaligned, ShuffleTransportType transport, int batchSize) {
+        List<String> names = Arrays.asList(name + "-0", name + "-1");
+        ShuffleStrategy strategy = mock(ShuffleStrategy.class);
+        when(strategy.getShuffleNames(any(Integer.class), any(Integer.class))).thenReturn(names);
+        when(strategy.createShuffleNames(any(Integer.class), any(Integer.class))).thenReturn(names);
+        when(strategy.getQueueMaxSize()).thenReturn(16);
+        Map<String, IQueue<Record<?>>> queues = new LinkedHashMap<>();
+        for (String queueName : names) {
+            queues.put(queueName, instance.getQueue(queueName));
+        }
+        when(strategy.createShuffles(any(), any(Integer.class), any(Integer.class)))
+                .thenReturn(queues);
+        when(strategy.getShuffles(any(), any(Integer.class), any(Integer.class)))
+                .thenReturn(queues.values().toArray(new IQueue[0]));
+        ShuffleConfig config =
+                ShuffleConfig.builder()
+                        .shuffleStrategy(strategy)
+                        .transport(transport)
+                        .batchSize(batchSize)
+                        .unalignedCheckpoint(unaligned)
+                        .build();
+        return new ShuffleAction(1, name, config);
+    }
+
+    private ShuffleSourceFlowLifeCycle<?> createShuffleSource(
+            SeaTunnelTask task, ShuffleAction shuffleAction) {
+        return new ShuffleSourceFlowLifeCycle<>(
+                task, 0, shuffleAction, instance, new CompletableFuture<>());
+    }
+
+    private ShuffleSender sender(String name) {
+        return server.getTaskExecutionService().getDirectShuffleRegistry().createSender(name);
+    }
+
+    private static Record<?> row(int value) {
+        return new Record<>(new SeaTunnelRow(new Object[] {value}));
+    }
+
+    private static Object value(Record<?> record) {
+        return ((SeaTunnelRow) record.getData()).getField(0);
+    }
+
+    private static class ListCollector implements Collector<Record<?>> {
+        private final List<Record<?>> records;
+
+        ListCollector(List<Record<?>> records) {
+            this.records = records;
+        }
+
+        @Override
+        public void collect(Record<?> record) {
+            records.add(record);
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.cluster.Address;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+public class DirectShuffleChannelTest
+        extends AbstractSeaTunnelServerTest<DirectShuffleChannelTest> {
+
+    @Test
+    public void testSendWithinCredits() throws Exception {
+        DirectShuffleRegistry registry =
+                server.getTaskExecutionService().getDirectShuffleRegistry();
+        ShuffleReceiver receiver = registry.createReceiver("testSendWithinCredits", 4);
+        ShuffleSender sender = registry.createSender("testSendWithinCredits");
+
+        List<Record<?>> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(row(i));
+        }
+        CompletableFuture<Void> sendFuture =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                sender.sendAll(records);
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+
+        // the sender waits for the receiver to grant credits once its buffer is full
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> Assertions.assertFalse(receiver.isEmpty()));
+        Thread.sleep(200);
+        Assertions.assertFalse(sendFuture.isDone());
+
+        List<Record<?>> received = new ArrayList<>();
+        while (received.size() < records.size()) {
+            received.add(receiver.take());
+        }
+        sendFuture.get(10, TimeUnit.SECONDS);
+        for (int i = 0; i < records.size(); i++) {
+            Assertions.assertSame(records.get(i), received.get(i));
+        }
+
+        receiver.destroy();
+        sender.destroy();
+        Assertions.assertEquals(
+                DirectShuffleRegistry.NO_RECEIVER,
+                registry.receive(
+                        receiver.getName(),
+                        instance.getCluster().getLocalMember().getAddress(),
+                        DirectShuffleRegistry.CONNECT_SEQUENCE,
+                        Collections.emptyList()));
+    }
+
+    @Test
+    public void testReorderRequests() throws Exception {
+        DirectShuffleRegistry registry =
+                server.getTaskExecutionService().getDirectShuffleRegistry();
+        ShuffleReceiver receiver = registry.createReceiver("testReorderRequests", 4);
+        Address sender = instance.getCluster().getLocalMember().getAddress();
+
+        Assertions.assertEquals(
+                4,
+                registry.receive(
+                        receiver.getName(),
+                        sender,
+                        DirectShuffleRegistry.CONNECT_SEQUENCE,
+                        Collections.emptyList()));
+        // the second request overtook the first one
+        registry.receive(receiver.getName(), sender, 2, Arrays.asList(row(3), row(4)));
+        Assertions.assertTrue(receiver.isEmpty());
+        registry.receive(receiver.getName(), sender, 1, Arrays.asList(row(1), row(2)));
+
+        List<Record<?>> received = new ArrayList<>();
+        receiver.drainTo(received, 10);
+        Assertions.assertEquals(4, received.size());
+        for (int i = 0; i < received.size(); i++) {
+            Assertions.assertEquals(i + 1, ((SeaTunnelRow) received.get(i).getData()).getField(0));
+        }
+        receiver.destroy();
+    }
+
+    @Test
+    public void testFailWhenReceiverMemberIsGone() throws Exception {
+        DirectShuffleRegistry registry =
+                server.getTaskExecutionService().getDirectShuffleRegistry();
+        // the address left behind by a receiver on a member which is not part of the cluster
+        instance.getMap(Constant.IMAP_SHUFFLE_CHANNEL_ADDRESS)
+                .put("testFailWhenReceiverMemberIsGone", new Address("127.0.0.1", 1));
+        ShuffleSender sender = registry.createSender("testFailWhenReceiverMemberIsGone", 500);
+
+        Assertions.assertThrows(
+                SeaTunnelEngineException.class,
+                () -> sender.sendAll(Collections.singletonList(row(1))));
+        sender.destroy();
+    }
+
+    private static Record<?> row(int value) {
+        return new Record<>(new SeaTunnelRow(new Object[] {value}));
+    }
+}
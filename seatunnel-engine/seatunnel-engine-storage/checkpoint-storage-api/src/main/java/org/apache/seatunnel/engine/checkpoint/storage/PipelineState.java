@@ -24,6 +24,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.ToString;
 
+import java.util.List;
+
 @Data
 @Builder
 @ToString(exclude = "states")
@@ -33,4 +35,9 @@ public class PipelineState {
     private int pipelineId;
     private long checkpointId;
     private byte[] states;
+    /**
+     * The chunks {@link #states} was split into by an incremental checkpoint storage, in order.
+     * Null if the states are stored inline.
+     */
+    private List<String> chunkIds;
 }
@@ -21,6 +21,7 @@
 package org.apache.seatunnel.engine.checkpoint.storage.api;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.common.ContentDefinedChunker;
 import org.apache.seatunnel.engine.checkpoint.storage.common.StorageThreadFactory;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
@@ -28,13 +29,18 @@ import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
@@ -44,6 +50,8 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_INCREMENTAL;
+
 @Slf4j
 public abstract class AbstractCheckpointStorage implements CheckpointStorage {
 
@@ -70,6 +78,23 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
 
     public static final String FILE_FORMAT = "ser";
 
+    public static final String CHUNK_DIRECTORY = "chunks";
+
+    public static final String CHUNK_FILE_FORMAT = "chunk";
+
+    /** split checkpoint data into content addressed chunks, see {@link #initIncremental(Map)} */
+    private volatile boolean incremental = false;
+
+    /** the chunks known to exist in the storage, by job id */
+    private final Map<String, Set<String>> storedChunkIds = new ConcurrentHashMap<>();
+
+    /**
+     * the chunks of the latest checkpoint serialized for each pipeline, by job id. The checkpoint
+     * file referring to them may not be written yet, so they must survive a garbage collection.
+     */
+    private final Map<String, Map<Integer, List<String>>> latestChunkIds =
+            new ConcurrentHashMap<>();
+
     private volatile ExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_MIN_SIZE =
@@ -106,13 +131,169 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
     }
 
     public byte[] serializeCheckPointData(PipelineState state) throws IOException {
-        return serializer.serialize(state);
+        if (!incremental || state.getStates() == null) {
+            return serializer.serialize(state);
+        }
+        List<String> chunkIds =
+                storeChunks(state.getJobId(), state.getPipelineId(), state.getStates());
+        return serializer.serialize(
+                PipelineState.builder()
+                        .jobId(state.getJobId())
+                        .pipelineId(state.getPipelineId())
+                        .checkpointId(state.getCheckpointId())
+                        .chunkIds(chunkIds)
+                        .build());
     }
 
     public PipelineState deserializeCheckPointData(byte[] data) throws IOException {
-        return serializer.deserialize(data, PipelineState.class);
+        PipelineState state = serializer.deserialize(data, PipelineState.class);
+        if (state.getChunkIds() != null) {
+            ByteArrayOutputStream states = new ByteArrayOutputStream();
+            for (String chunkId : state.getChunkIds()) {
+                states.write(readFile(getChunkPath(state.getJobId(), chunkId)));
+            }
+            state.setStates(states.toByteArray());
+        }
+        return state;
+    }
+
+    /**
+     * Enables the incremental mode if the configuration asks for it. The chunks are stored through
+     * the file operations of the storage ({@link #writeFile}, {@link #readFile}, {@link
+     * #listFileNames} and {@link #deleteFile}).
+     *
+     * <p>In incremental mode the serialized checkpoint data is split by {@link
+     * ContentDefinedChunker}, each chunk is stored once per job under its hash, and the checkpoint
+     * file only lists the chunks. The data of a checkpoint which did not change since the previous
+     * one is therefore not written again.
+     */
+    protected void initIncremental(Map<String, String> configuration) {
+        String incrementalValue = configuration.remove(STORAGE_INCREMENTAL);
+        if (incrementalValue != null && !incrementalValue.trim().isEmpty()) {
+            this.incremental = Boolean.parseBoolean(incrementalValue.trim());
+        }
     }
 
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    private synchronized List<String> storeChunks(String jobId, int pipelineId, byte[] states)
+            throws IOException {
+        Set<String> stored = storedChunkIds.get(jobId);
+        if (stored == null) {
+            stored = ConcurrentHashMap.newKeySet();
+            for (String fileName : listFileNames(getChunkDirectory(jobId), CHUNK_FILE_FORMAT)) {
+                stored.add(getChunkId(fileName));
+            }
+            storedChunkIds.put(jobId, stored);
+        }
+        List<String> chunkIds = new ArrayList<>();
+        long writtenBytes = 0;
+        for (byte[] chunk : ContentDefinedChunker.split(states)) {
+            String chunkId = ContentDefinedChunker.chunkId(chunk);
+            if (!stored.contains(chunkId)) {
+                writeFile(getChunkPath(jobId, chunkId), chunk);
+                stored.add(chunkId);
+                writtenBytes += chunk.length;
+            }
+            chunkIds.add(chunkId);
+        }
+        latestChunkIds
+                .computeIfAbsent(jobId, id -> new ConcurrentHashMap<>())
+                .put(pipelineId, chunkIds);
+        log.debug(
+                "checkpoint data of job {} pipeline {}: {} bytes in {} chunks, {} bytes written",
+                jobId,
+                pipelineId,
+                states.length,
+                chunkIds.size(),
+                writtenBytes);
+        return chunkIds;
+    }
+
+    /**
+     * Deletes the chunks of the job which are no longer referred to by any checkpoint file.
+     * Storages call it after deleting checkpoints of the job, which happens when checkpoints exceed
+     * the retention, so chunks live as long as the last retained checkpoint using them.
+     */
+    protected synchronized void deleteUnreferencedChunks(String jobId) {
+        try {
+            String chunkDirectory = getChunkDirectory(jobId);
+            List<String> chunkFileNames = listFileNames(chunkDirectory, CHUNK_FILE_FORMAT);
+            if (chunkFileNames.isEmpty()) {
+                return;
+            }
+            Set<String> referenced = new HashSet<>();
+            latestChunkIds
+                    .getOrDefault(jobId, Collections.emptyMap())
+                    .values()
+                    .forEach(referenced::addAll);
+            String jobDirectory = getJobDirectory(jobId);
+            for (String fileName : listFileNames(jobDirectory, FILE_FORMAT)) {
+                PipelineState checkpoint =
+                        serializer.deserialize(
+                                readFile(jobDirectory + fileName), PipelineState.class);
+                if (checkpoint.getChunkIds() != null) {
+                    referenced.addAll(checkpoint.getChunkIds());
+                }
+            }
+            Set<String> stored = storedChunkIds.getOrDefault(jobId, Collections.emptySet());
+            int deleted = 0;
+            for (String fileName : chunkFileNames) {
+                String chunkId = getChunkId(fileName);
+                if (!referenced.contains(chunkId)) {
+                    stored.remove(chunkId);
+                    deleteFile(chunkDirectory + fileName);
+                    deleted++;
+                }
+            }
+            log.info(
+                    "deleted {} of {} checkpoint chunks of job {}",
+                    deleted,
+                    chunkFileNames.size(),
+                    jobId);
+        } catch (IOException e) {
+            log.warn("Failed to delete unreferenced checkpoint chunks of job {}", jobId, e);
+        }
+    }
+
+    /** Forgets the chunks of a job whose checkpoint data has been deleted as a whole. */
+    protected void forgetChunks(String jobId) {
+        storedChunkIds.remove(jobId);
+        latestChunkIds.remove(jobId);
+    }
+
+    private String getJobDirectory(String jobId) {
+        return getStorageParentDirectory() + jobId + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT;
+    }
+
+    private String getChunkDirectory(String jobId) {
+        return getJobDirectory(jobId) + CHUNK_DIRECTORY + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT;
+    }
+
+    private static String getChunkId(String chunkFileName) {
+        return chunkFileName.substring(0, chunkFileName.length() - CHUNK_FILE_FORMAT.length() - 1);
+    }
+
+    private String getChunkPath(String jobId, String chunkId) {
+        return getChunkDirectory(jobId) + chunkId + "." + CHUNK_FILE_FORMAT;
+    }
+
+    /** Writes a file of the incremental mode, replacing it if it exists. */
+    protected abstract void writeFile(String path, byte[] data) throws IOException;
+
+    protected abstract byte[] readFile(String path) throws IOException;
+
+    /**
+     * Lists the names of the files with the given extension directly under the directory, empty if
+     * the directory does not exist.
+     */
+    protected abstract List<String> listFileNames(String directory, String extension)
+            throws IOException;
+
+    protected abstract void deleteFile(String path) throws IOException;
+
     public void setStorageNameSpace(String storageNameSpace) {
         if (storageNameSpace != null) {
             if (!storageNameSpace.endsWith(DEFAULT_CHECKPOINT_FILE_PATH_SPLIT)) {
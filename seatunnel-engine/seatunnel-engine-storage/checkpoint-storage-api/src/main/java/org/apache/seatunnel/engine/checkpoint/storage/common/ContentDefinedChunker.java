@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Splits serialized checkpoint data into chunks whose boundaries depend on the content only, with a
+ * gear rolling hash. A part of the data that did not change between two checkpoints, such as the
+ * state of an action that was not updated, is cut into the same chunks even if the data in front of
+ * it grew or shrank, so the chunks can be shared by both checkpoints.
+ */
+public class ContentDefinedChunker {
+
+    public static final int MIN_CHUNK_SIZE = 16 * 1024;
+
+    public static final int MAX_CHUNK_SIZE = 256 * 1024;
+
+    /** A boundary is found every 64KB on average after the minimum chunk size. */
+    private static final long BOUNDARY_MASK = (1L << 16) - 1;
+
+    private static final long[] GEAR = new long[256];
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        // a fixed seed, the chunk boundaries must be the same on every node and every restart
+        Random random = new Random(0x5EA7ADL);
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    private ContentDefinedChunker() {}
+
+    public static List<byte[]> split(byte[] data) {
+        List<byte[]> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < data.length) {
+            int end = nextBoundary(data, start);
+            chunks.add(Arrays.copyOfRange(data, start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static int nextBoundary(byte[] data, int start) {
+        int limit = Math.min(data.length, start + MAX_CHUNK_SIZE);
+        int position = start + MIN_CHUNK_SIZE;
+        if (position >= limit) {
+            return limit;
+        }
+        long hash = 0;
+        for (; position < limit; position++) {
+            hash = (hash << 1) + GEAR[data[position] & 0xFF];
+            if ((hash & BOUNDARY_MASK) == 0) {
+                return position + 1;
+            }
+        }
+        return limit;
+    }
+
+    /** The id of a chunk, the hex encoded SHA-256 of its content. */
+    public static String chunkId(byte[] chunk) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        byte[] hash = digest.digest(chunk);
+        byte[] hex = new byte[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(hex, StandardCharsets.US_ASCII);
+    }
+}
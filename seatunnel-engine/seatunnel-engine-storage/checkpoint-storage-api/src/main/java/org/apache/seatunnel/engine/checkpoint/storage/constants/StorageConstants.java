@@ -24,4 +24,10 @@ public class StorageConstants {
 
     /** The name of the configuration property that specifies the name of the file system. */
     public static final String STORAGE_NAME_SPACE = "namespace";
+
+    /**
+     * Whether checkpoint data is split into content addressed chunks, which are shared by the
+     * checkpoints of a job as long as they did not change.
+     */
+    public static final String STORAGE_INCREMENTAL = "incremental";
 }
@@ -63,6 +63,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
             configuration.remove(STORAGE_NAME_SPACE);
         }
+        initIncremental(configuration);
         Configuration hadoopConf = getConfiguration(configuration);
         try {
             fs = FileSystem.get(hadoopConf);
@@ -240,6 +241,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
         } catch (IOException e) {
             log.warn("Failed to delete checkpoint for job {}", jobId, e);
         }
+        forgetChunks(jobId);
     }
 
     @Override
@@ -299,6 +301,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                         }
                     }
                 });
+        deleteUnreferencedChunks(jobId);
     }
 
     @Override
@@ -329,6 +332,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                         }
                     }
                 });
+        deleteUnreferencedChunks(jobId);
     }
 
     public List<String> getFileNames(String path) throws CheckpointStorageException {
@@ -350,6 +354,41 @@ public class HdfsStorage extends AbstractCheckpointStorage {
         }
     }
 
+    @Override
+    protected void writeFile(String path, byte[] data) throws IOException {
+        try (FSDataOutputStream out = fs.create(new Path(path), true)) {
+            out.write(data);
+        }
+    }
+
+    @Override
+    protected byte[] readFile(String path) throws IOException {
+        try (FSDataInputStream in = fs.open(new Path(path));
+                ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+            IOUtils.copyBytes(in, stream, 1024);
+            return stream.toByteArray();
+        }
+    }
+
+    @Override
+    protected List<String> listFileNames(String directory, String extension) throws IOException {
+        Path parentPath = new Path(directory);
+        List<String> fileNames = new ArrayList<>();
+        if (!fs.exists(parentPath)) {
+            return fileNames;
+        }
+        for (FileStatus status :
+                fs.listStatus(parentPath, path -> path.getName().endsWith("." + extension))) {
+            fileNames.add(status.getPath().getName());
+        }
+        return fileNames;
+    }
+
+    @Override
+    protected void deleteFile(String path) throws IOException {
+        fs.delete(new Path(path), false);
+    }
+
     /**
      * Get checkpoint name
      *
@@ -68,6 +68,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
         if (StringUtils.isNotBlank(configuration.get(STORAGE_NAME_SPACE))) {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
         }
+        initIncremental(configuration);
     }
 
     /** set default storage root directory */
@@ -279,6 +280,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
         } catch (IOException e) {
             log.warn("Failed to delete checkpoint directory " + jobPath, e);
         }
+        forgetChunks(jobId);
     }
 
     @Override
@@ -352,6 +354,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                         }
                     }
                 });
+        deleteUnreferencedChunks(jobId);
     }
 
     @Override
@@ -388,5 +391,32 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                         }
                     }
                 });
+        deleteUnreferencedChunks(jobId);
+    }
+
+    @Override
+    protected void writeFile(String path, byte[] data) throws IOException {
+        FileUtils.writeByteArrayToFile(new File(path), data);
+    }
+
+    @Override
+    protected byte[] readFile(String path) throws IOException {
+        return FileUtils.readFileToByteArray(new File(path));
+    }
+
+    @Override
+    protected List<String> listFileNames(String directory, String extension) {
+        File path = new File(directory);
+        if (!path.isDirectory()) {
+            return new ArrayList<>();
+        }
+        return FileUtils.listFiles(path, new String[] {extension}, false).stream()
+                .map(File::getName)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected void deleteFile(String path) throws IOException {
+        FileUtils.delete(new File(path));
     }
 }
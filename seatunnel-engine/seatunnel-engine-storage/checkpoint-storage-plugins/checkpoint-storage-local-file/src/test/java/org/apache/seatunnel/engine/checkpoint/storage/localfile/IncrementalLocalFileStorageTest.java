@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.localfile;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+
+import org.apache.commons.io.FileUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_INCREMENTAL;
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
+import static org.junit.jupiter.api.condition.OS.LINUX;
+import static org.junit.jupiter.api.condition.OS.MAC;
+
+@EnabledOnOs({LINUX, MAC})
+public class IncrementalLocalFileStorageTest {
+
+    private static final String JOB_ID = "incremental";
+
+    private File nameSpace;
+    private LocalFileStorage storage;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        nameSpace = Files.createTempDirectory("checkpoint").toFile();
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put(STORAGE_NAME_SPACE, nameSpace.getAbsolutePath());
+        configuration.put(STORAGE_INCREMENTAL, "true");
+        storage = new LocalFileStorage(configuration);
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        storage.deleteCheckpoint(JOB_ID);
+        FileUtils.deleteDirectory(nameSpace);
+    }
+
+    @Test
+    public void testUnchangedStatesAreNotWrittenAgain() throws CheckpointStorageException {
+        Assertions.assertTrue(storage.isIncremental());
+        byte[] states = new byte[4 * 1024 * 1024];
+        new Random(1).nextBytes(states);
+        storage.storeCheckPoint(checkpoint(1, states));
+        long firstSize = FileUtils.sizeOfDirectory(chunkDirectory());
+        Assertions.assertTrue(firstSize >= states.length);
+
+        byte[] changedStates = states.clone();
+        changedStates[states.length / 2] ^= 1;
+        storage.storeCheckPoint(checkpoint(2, changedStates));
+        long writtenSize = FileUtils.sizeOfDirectory(chunkDirectory()) - firstSize;
+        Assertions.assertTrue(writtenSize > 0);
+        Assertions.assertTrue(writtenSize < states.length / 8);
+
+        Assertions.assertArrayEquals(states, storage.getCheckpoint(JOB_ID, "1", "1").getStates());
+        Assertions.assertArrayEquals(
+                changedStates,
+                storage.getLatestCheckpointByJobIdAndPipelineId(JOB_ID, "1").getStates());
+    }
+
+    @Test
+    public void testDeletedCheckpointReleasesItsChunks() throws CheckpointStorageException {
+        Random random = new Random(2);
+        byte[] states = new byte[1024 * 1024];
+        random.nextBytes(states);
+        storage.storeCheckPoint(checkpoint(1, states));
+        byte[] otherStates = new byte[1024 * 1024];
+        random.nextBytes(otherStates);
+        storage.storeCheckPoint(checkpoint(2, otherStates));
+        long bothSize = FileUtils.sizeOfDirectory(chunkDirectory());
+
+        storage.deleteCheckpoint(JOB_ID, "1", Collections.singletonList("1"));
+        Assertions.assertTrue(FileUtils.sizeOfDirectory(chunkDirectory()) < bothSize);
+        Assertions.assertArrayEquals(
+                otherStates, storage.getCheckpoint(JOB_ID, "1", "2").getStates());
+    }
+
+    private File chunkDirectory() {
+        return new File(nameSpace, JOB_ID + File.separator + "chunks");
+    }
+
+    private static PipelineState checkpoint(long checkpointId, byte[] states) {
+        return PipelineState.builder()
+                .jobId(JOB_ID)
+                .pipelineId(1)
+                .checkpointId(checkpointId)
+                .states(states)
+                .build();
+    }
+}
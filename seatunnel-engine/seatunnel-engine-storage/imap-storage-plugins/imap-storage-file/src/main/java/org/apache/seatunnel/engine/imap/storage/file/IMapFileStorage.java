@@ -24,6 +24,7 @@ import org.apache.seatunnel.engine.imap.storage.api.IMapStorage;
 import org.apache.seatunnel.engine.imap.storage.api.exception.IMapStorageException;
 import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
 import org.apache.seatunnel.engine.imap.storage.file.common.FileConstants;
+import org.apache.seatunnel.engine.imap.storage.file.common.WALCompactor;
 import org.apache.seatunnel.engine.imap.storage.file.common.WALReader;
 import org.apache.seatunnel.engine.imap.storage.file.config.AbstractConfiguration;
 import org.apache.seatunnel.engine.imap.storage.file.config.FileConfiguration;
@@ -48,6 +49,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -55,6 +58,7 @@ import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.DEFAULT_IMAP_NAMESPACE;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.BUSINESS_KEY;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.CLUSTER_NAME;
+import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.COMPACTION_INTERVAL_MILLISECONDS_KEY;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.NAMESPACE_KEY;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.WRITE_DATA_TIMEOUT_MILLISECONDS_KEY;
 
@@ -93,6 +97,8 @@ public class IMapFileStorage implements IMapStorage {
 
     public long writDataTimeoutMilliseconds;
 
+    public long compactionIntervalMilliseconds;
+
     /** We used disruptor to implement the asynchronous write. */
     WALDisruptor walDisruptor;
 
@@ -107,6 +113,18 @@ public class IMapFileStorage implements IMapStorage {
 
     public static final long DEFAULT_WRITE_DATA_TIMEOUT_MILLISECONDS = 1000 * 60;
 
+    public static final long DEFAULT_COMPACTION_INTERVAL_MILLISECONDS = 1000 * 60 * 10;
+
+    /**
+     * An active wal file older than this many compaction intervals has not been rolled by its
+     * writer, so the writer is gone.
+     */
+    private static final int ORPHANED_FILE_TIMEOUT_INTERVALS = 3;
+
+    private WALCompactor compactor;
+
+    private ScheduledExecutorService compactionScheduler;
+
     private Configuration conf;
 
     private FileConfiguration fileConfiguration;
@@ -165,6 +183,81 @@ public class IMapFileStorage implements IMapStorage {
                         FileConfiguration.valueOf(storageType.toUpperCase()),
                         businessRootPath + region + DEFAULT_IMAP_FILE_PATH_SPLIT,
                         serializer);
+        initCompaction(configuration);
+    }
+
+    private void initCompaction(Map<String, Object> configuration) {
+        this.compactionIntervalMilliseconds =
+                Long.parseLong(
+                        String.valueOf(
+                                configuration.getOrDefault(
+                                        COMPACTION_INTERVAL_MILLISECONDS_KEY,
+                                        DEFAULT_COMPACTION_INTERVAL_MILLISECONDS)));
+        // the lease is renewed at the compaction interval even if this member does not compact, so
+        // the other members never take its active file for an orphaned one
+        long leaseIntervalMilliseconds =
+                compactionIntervalMilliseconds > 0
+                        ? compactionIntervalMilliseconds
+                        : DEFAULT_COMPACTION_INTERVAL_MILLISECONDS;
+        try {
+            this.compactor =
+                    new WALCompactor(
+                            fs,
+                            fileConfiguration,
+                            serializer,
+                            new Path(businessRootPath),
+                            region,
+                            ORPHANED_FILE_TIMEOUT_INTERVALS * leaseIntervalMilliseconds);
+            compactor.renewLease();
+        } catch (IOException e) {
+            throw new IMapStorageException("Failed to create wal compactor", e);
+        }
+        this.compactionScheduler =
+                Executors.newScheduledThreadPool(
+                        compactionIntervalMilliseconds > 0 ? 2 : 1,
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(runnable, "imap-wal-compaction-" + businessName);
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        compactionScheduler.scheduleAtFixedRate(
+                () -> {
+                    try {
+                        compactor.renewLease();
+                    } catch (Exception e) {
+                        log.warn("renew wal lease of {} error", businessRootPath, e);
+                    }
+                },
+                leaseIntervalMilliseconds,
+                leaseIntervalMilliseconds,
+                TimeUnit.MILLISECONDS);
+        if (compactionIntervalMilliseconds <= 0) {
+            return;
+        }
+        compactionScheduler.scheduleWithFixedDelay(
+                () -> {
+                    try {
+                        compact();
+                    } catch (Exception e) {
+                        log.warn("compact wal files of {} error", businessRootPath, e);
+                    }
+                },
+                compactionIntervalMilliseconds,
+                compactionIntervalMilliseconds,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Seals the wal file being written, then merges the sealed wal files of the business into a
+     * snapshot holding the latest entry of every key, unless another member is merging them.
+     */
+    public void compact() throws IOException {
+        long requestId = sendToDisruptorQueue(null, WALEventType.ROLL);
+        if (!queryExecuteStatus(requestId)) {
+            throw new IOException("Failed to roll the wal file of " + businessRootPath);
+        }
+        compactor.compact();
     }
 
     @Override
@@ -262,11 +355,17 @@ public class IMapFileStorage implements IMapStorage {
          * 1. close current disruptor 2. delete all files notice: we can not delete the files in the
          * middle of the write, so some current file may be not deleted
          */
+        compactionScheduler.shutdownNow();
         try {
             walDisruptor.close();
         } catch (IOException e) {
             log.error("close walDisruptor error", e);
         }
+        try {
+            compactor.releaseLease();
+        } catch (IOException e) {
+            log.warn("release wal lease of {} error", businessRootPath, e);
+        }
         if (deleteAllFileFlag) {
             // delete all files
             String parentPath = businessRootPath;
@@ -64,5 +64,14 @@ public class FileConstants {
 
         /** The maximum waiting time of write operations */
         String WRITE_DATA_TIMEOUT_MILLISECONDS_KEY = "writeDataTimeoutMilliseconds";
+
+        /**
+         * The interval between two compactions, which roll the wal file being written and merge the
+         * sealed wal files into a snapshot. 0 disables the compaction. All the members of a cluster
+         * should use the same interval.
+         *
+         * <p>Type: Long
+         */
+        String COMPACTION_INTERVAL_MILLISECONDS_KEY = "compactionIntervalMilliseconds";
     }
 }
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.imap.storage.file.common;
+
+import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
+import org.apache.seatunnel.engine.imap.storage.file.config.FileConfiguration;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileAlreadyExistsException;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.seatunnel.engine.imap.storage.file.wal.writer.IFileWriter.FILE_NAME;
+
+/**
+ * Merges the sealed wal files of a business, and the previous snapshots, into a snapshot which only
+ * holds the latest entry of every key, then deletes the merged files. Recovery reads the snapshot
+ * and the files written since, so its cost follows the live data rather than the whole history.
+ *
+ * <p>Every member rolls its own file at each compaction, but only the member holding the lock file
+ * of the business merges. The files being written by the members of the cluster are left alone.
+ * Every member renews a lease file in its region, and an active file is only merged as if it was
+ * sealed when it was created more than the orphaned file timeout ago and the lease of its region
+ * has expired, so its writer is gone.
+ */
+@Slf4j
+public class WALCompactor {
+
+    public static final String SNAPSHOT_DIRECTORY = "snapshot";
+
+    private static final String SNAPSHOT_FILE_PREFIX = "snapshot_";
+
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+
+    public static final String LOCK_FILE_NAME = "compaction.lock";
+
+    public static final String LEASE_FILE_NAME = "lease";
+
+    private final FileSystem fs;
+
+    private final Serializer serializer;
+
+    private final WALReader reader;
+
+    private final Path businessRootPath;
+
+    private final String region;
+
+    private final long orphanedFileTimeoutMilliseconds;
+
+    private final Path lockPath;
+
+    private final Path leasePath;
+
+    public WALCompactor(
+            FileSystem fs,
+            FileConfiguration fileConfiguration,
+            Serializer serializer,
+            Path businessRootPath,
+            String region,
+            long orphanedFileTimeoutMilliseconds)
+            throws IOException {
+        this.fs = fs;
+        this.serializer = serializer;
+        this.reader = new WALReader(fs, fileConfiguration, serializer);
+        this.businessRootPath = businessRootPath;
+        this.region = region;
+        this.orphanedFileTimeoutMilliseconds = orphanedFileTimeoutMilliseconds;
+        this.lockPath = new Path(businessRootPath, LOCK_FILE_NAME);
+        this.leasePath = new Path(new Path(businessRootPath, region), LEASE_FILE_NAME);
+    }
+
+    /** Marks the region of this member as written, it has to be renewed within the timeout. */
+    public void renewLease() throws IOException {
+        fs.create(leasePath, true).close();
+    }
+
+    public void releaseLease() throws IOException {
+        fs.delete(leasePath, false);
+    }
+
+    /** Merges the files if no other member is compacting the business. */
+    public void compact() throws IOException {
+        if (!tryLock()) {
+            log.debug("wal files of {} are compacted by another member", businessRootPath);
+            return;
+        }
+        try {
+            // the time of the file system, the leases are compared with
+            long leaseTime = fs.getFileStatus(lockPath).getModificationTime();
+            compact(leaseTime);
+        } finally {
+            fs.delete(lockPath, false);
+        }
+    }
+
+    private void compact(long leaseTime) throws IOException {
+        long now = System.currentTimeMillis();
+        List<Path> sealedFiles = new ArrayList<>();
+        long oldestActiveFileTime = now;
+        Map<Path, Boolean> regionsAlive = new HashMap<>();
+        for (Path file : reader.listFiles(businessRootPath)) {
+            String fileName = file.getName();
+            if (WALDataUtils.isActiveFile(fileName)) {
+                long createTime = WALDataUtils.getActiveFileCreateTime(fileName);
+                Path regionPath = file.getParent();
+                if (createTime > now - orphanedFileTimeoutMilliseconds
+                        || regionPath.getName().equals(region)
+                        || isRegionAlive(regionPath, leaseTime, regionsAlive)) {
+                    oldestActiveFileTime = Math.min(oldestActiveFileTime, createTime);
+                    continue;
+                }
+                log.info("wal file {} is not written anymore, compact it", file);
+            }
+            sealedFiles.add(file);
+        }
+        if (sealedFiles.isEmpty()
+                || (sealedFiles.size() == 1
+                        && sealedFiles.get(0).getName().startsWith(SNAPSHOT_FILE_PREFIX))) {
+            return;
+        }
+
+        Map<Object, IMapFileData> latestData = reader.readLatestData(sealedFiles, true);
+        // an active file may still hold an older value of a deleted key, the delete is kept until
+        // every file written around it has been merged
+        long deleteExpireTime = oldestActiveFileTime - orphanedFileTimeoutMilliseconds;
+        Path snapshotDirectory = new Path(businessRootPath, SNAPSHOT_DIRECTORY);
+        String snapshotName = SNAPSHOT_FILE_PREFIX + now + "_" + region + "_" + FILE_NAME;
+        Path tmpPath = new Path(snapshotDirectory, snapshotName + TMP_FILE_SUFFIX);
+        int entries = 0;
+        try (FSDataOutputStream out = fs.create(tmpPath, true)) {
+            for (IMapFileData data : latestData.values()) {
+                if (data.isDeleted() && data.getTimestamp() < deleteExpireTime) {
+                    continue;
+                }
+                out.write(WALDataUtils.wrapperBytes(serializer.serialize(data)));
+                entries++;
+            }
+        }
+        Path snapshotPath = new Path(snapshotDirectory, snapshotName);
+        if (!fs.rename(tmpPath, snapshotPath)) {
+            fs.delete(tmpPath, false);
+            throw new IOException("Failed to rename " + tmpPath + " to " + snapshotPath);
+        }
+        // a failure from here on leaves entries both in the snapshot and in the wal files, which
+        // recovery resolves by timestamp
+        for (Path file : sealedFiles) {
+            fs.delete(file, false);
+        }
+        deleteStaleTmpFiles(snapshotDirectory, now);
+        log.info(
+                "compacted {} wal files of {} into snapshot {} with {} entries",
+                sealedFiles.size(),
+                businessRootPath,
+                snapshotPath,
+                entries);
+    }
+
+    private boolean tryLock() throws IOException {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                fs.create(lockPath, false).close();
+                return true;
+            } catch (FileAlreadyExistsException e) {
+                FileStatus lock;
+                try {
+                    lock = fs.getFileStatus(lockPath);
+                } catch (FileNotFoundException released) {
+                    continue;
+                }
+                if (lock.getModificationTime()
+                        >= System.currentTimeMillis() - orphanedFileTimeoutMilliseconds) {
+                    return false;
+                }
+                // the member holding the lock is gone without releasing it
+                log.warn("delete stale compaction lock {}", lockPath);
+                fs.delete(lockPath, false);
+            }
+        }
+        return false;
+    }
+
+    private boolean isRegionAlive(Path regionPath, long leaseTime, Map<Path, Boolean> regionsAlive)
+            throws IOException {
+        Boolean alive = regionsAlive.get(regionPath);
+        if (alive == null) {
+            try {
+                FileStatus lease = fs.getFileStatus(new Path(regionPath, LEASE_FILE_NAME));
+                alive = lease.getModificationTime() >= leaseTime - orphanedFileTimeoutMilliseconds;
+            } catch (FileNotFoundException e) {
+                alive = false;
+            }
+            regionsAlive.put(regionPath, alive);
+        }
+        return alive;
+    }
+
+    /** Deletes the snapshots left half written by a compaction which failed. */
+    private void deleteStaleTmpFiles(Path snapshotDirectory, long now) throws IOException {
+        for (FileStatus status :
+                fs.listStatus(
+                        snapshotDirectory, path -> path.getName().endsWith(TMP_FILE_SUFFIX))) {
+            if (status.getModificationTime() < now - orphanedFileTimeoutMilliseconds) {
+                fs.delete(status.getPath(), false);
+            }
+        }
+    }
+}
@@ -20,6 +20,9 @@
 
 package org.apache.seatunnel.engine.imap.storage.file.common;
 
+import static org.apache.seatunnel.engine.imap.storage.file.wal.writer.IFileWriter.ACTIVE_FILE_PREFIX;
+import static org.apache.seatunnel.engine.imap.storage.file.wal.writer.IFileWriter.FILE_NAME;
+
 public class WALDataUtils {
 
     public static final int WAL_DATA_METADATA_LENGTH = 12;
@@ -34,6 +37,23 @@ public class WALDataUtils {
         return result;
     }
 
+    /** The name of a new active wal file, it carries the creation time of the file. */
+    public static String activeFileName(long index) {
+        return ACTIVE_FILE_PREFIX + System.currentTimeMillis() + "_" + index + "_" + FILE_NAME;
+    }
+
+    public static String sealedFileName(String activeFileName) {
+        return activeFileName.substring(ACTIVE_FILE_PREFIX.length());
+    }
+
+    public static boolean isActiveFile(String fileName) {
+        return fileName.startsWith(ACTIVE_FILE_PREFIX);
+    }
+
+    public static long getActiveFileCreateTime(String activeFileName) {
+        return Long.parseLong(activeFileName.split("_")[1]);
+    }
+
     public static int byteArrayToInt(byte[] encodedValue) {
         int value = (encodedValue[3] << (Byte.SIZE * 3));
         value |= (encodedValue[2] & 0xFF) << (Byte.SIZE * 2);
@@ -32,8 +32,9 @@ import org.apache.commons.lang3.ClassUtils;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -41,8 +42,12 @@ import java.util.Map;
 import java.util.Set;
 
 public class WALReader {
+
+    /** attempts to read the files again after a concurrent compaction replaced some of them */
+    private static final int MAX_READ_ATTEMPTS = 3;
+
     private final Serializer serializer;
-    private final IFileReader fileReader;
+    private final IFileReader<IMapFileData> fileReader;
 
     public WALReader(FileSystem fs, FileConfiguration configuration, Serializer serializer)
             throws IOException {
@@ -51,64 +56,73 @@ public class WALReader {
         this.fileReader.initialize(fs, serializer);
     }
 
-    private List<IMapFileData> readAllData(Path parentPath) throws IOException {
-        return this.fileReader.readAllData(parentPath);
+    public List<Path> listFiles(Path parentPath) throws IOException {
+        return fileReader.listFiles(parentPath);
     }
 
     public Set<Object> loadAllKeys(Path parentPath) throws IOException {
-        List<IMapFileData> allData = readAllData(parentPath);
-        if (CollectionUtils.isEmpty(allData)) {
-            return new HashSet<>();
-        }
-        Collections.sort(allData);
-        Set<Object> result = new HashSet<>(allData.size());
-        Map<Object, Long> deleteMap = new HashMap<>();
-        for (IMapFileData data : allData) {
-            Object key = deserializeData(data.getKey(), data.getKeyClassName());
-            if (deleteMap.containsKey(key)) {
-                continue;
-            }
-            if (data.isDeleted()) {
-                deleteMap.put(key, data.getTimestamp());
-                continue;
-            }
-            if (result.contains(key)) {
-                continue;
-            }
-            result.add(key);
-        }
+        Map<Object, IMapFileData> latestData = loadLatestData(parentPath, false);
+        Set<Object> result = new HashSet<>(latestData.size());
+        latestData.forEach(
+                (key, data) -> {
+                    if (!data.isDeleted()) {
+                        result.add(key);
+                    }
+                });
         return result;
     }
 
     public Map<Object, Object> loadAllData(Path parentPath, Set<Object> searchKeys)
             throws IOException {
-        List<IMapFileData> allData = readAllData(parentPath);
-        if (CollectionUtils.isEmpty(allData)) {
-            return new HashMap<>();
-        }
-        Collections.sort(allData);
-        Map<Object, Object> result = new HashMap<>(allData.size());
-        Map<Object, Long> deleteMap = new HashMap<>();
+        Map<Object, IMapFileData> latestData = loadLatestData(parentPath, true);
+        Map<Object, Object> result = new HashMap<>(latestData.size());
         boolean searchByKeys = CollectionUtils.isNotEmpty(searchKeys);
-        for (IMapFileData data : allData) {
-            Object key = deserializeData(data.getKey(), data.getKeyClassName());
-            if (searchByKeys && !searchKeys.contains(data.getKey())) {
-                continue;
-            }
-            if (deleteMap.containsKey(key)) {
-                continue;
-            }
-            if (data.isDeleted()) {
-                deleteMap.put(key, data.getTimestamp());
-                continue;
-            }
-            if (result.containsKey(key)) {
-                continue;
+        latestData.forEach(
+                (key, data) -> {
+                    if (data.isDeleted() || (searchByKeys && !searchKeys.contains(key))) {
+                        return;
+                    }
+                    result.put(key, deserializeData(data.getValue(), data.getValueClassName()));
+                });
+        return result;
+    }
+
+    private Map<Object, IMapFileData> loadLatestData(Path parentPath, boolean withValue)
+            throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return readLatestData(fileReader.listFiles(parentPath), withValue);
+            } catch (FileNotFoundException e) {
+                // a compaction merged the file into a snapshot after it was listed
+                if (attempt >= MAX_READ_ATTEMPTS) {
+                    throw e;
+                }
             }
-            Object value = deserializeData(data.getValue(), data.getValueClassName());
-            result.put(key, value);
         }
-        return result;
+    }
+
+    /**
+     * Streams the files and keeps the latest entry of every key, including deletes, so the memory
+     * used is proportional to the number of keys instead of the length of the history.
+     */
+    public Map<Object, IMapFileData> readLatestData(Collection<Path> files, boolean withValue)
+            throws IOException {
+        Map<Object, IMapFileData> latestData = new HashMap<>();
+        for (Path file : files) {
+            fileReader.readData(
+                    file,
+                    data -> {
+                        Object key = deserializeData(data.getKey(), data.getKeyClassName());
+                        IMapFileData latest = latestData.get(key);
+                        if (latest == null || data.getTimestamp() >= latest.getTimestamp()) {
+                            if (!withValue) {
+                                data.setValue(null);
+                            }
+                            latestData.put(key, data);
+                        }
+                    });
+        }
+        return latestData;
     }
 
     private Object deserializeData(byte[] data, String className) {
@@ -50,6 +50,10 @@ public class WALWriter implements AutoCloseable {
         this.writer.write(data);
     }
 
+    public void roll() throws IOException {
+        this.writer.roll();
+    }
+
     @Override
     public void close() throws Exception {
         this.writer.close();
@@ -26,5 +26,7 @@ public enum WALEventType {
     /** delete all wal file in this namespace */
     CLEAR,
     /** Close wal file */
-    CLOSED
+    CLOSED,
+    /** seal the current wal file, the next write starts a new one */
+    ROLL
 }
@@ -76,6 +76,18 @@ public class WALWorkHandler implements WorkHandler<FileWALEvent> {
             return;
         }
 
+        if (type == WALEventType.ROLL) {
+            boolean rollSuccess = true;
+            try {
+                writer.roll();
+            } catch (IOException e) {
+                rollSuccess = false;
+                log.error("roll wal file error", e);
+            }
+            executeResponse(requestId, rollSuccess);
+            return;
+        }
+
         if (type == WALEventType.CLOSED) {
             // close writer and archive
             writer.close();
@@ -24,21 +24,22 @@ import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
 import org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
 
-import org.apache.commons.collections.CollectionUtils;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.RemoteIterator;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils.WAL_DATA_METADATA_LENGTH;
+import static org.apache.seatunnel.engine.imap.storage.file.wal.writer.IFileWriter.FILE_NAME;
 
 public class DefaultReader implements IFileReader<IMapFileData> {
-    private static final int DEFAULT_QUERY_LIST_SIZE = 1024;
     FileSystem fs;
     Serializer serializer;
 
@@ -54,61 +55,41 @@ public class DefaultReader implements IFileReader<IMapFileData> {
     }
 
     @Override
-    public List<IMapFileData> readAllData(Path parentPath) throws IOException {
-        List<String> fileNames = getFileNames(parentPath);
-        if (CollectionUtils.isEmpty(fileNames)) {
-            return new ArrayList<>();
-        }
-        List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
-        for (String fileName : fileNames) {
-            result.addAll(readData(new Path(parentPath, fileName)));
-        }
-        return result;
-    }
-
-    private List<String> getFileNames(Path parentPath) {
+    public List<Path> listFiles(Path parentPath) {
         try {
             if (!fs.exists(parentPath)) {
                 return new ArrayList<>();
             }
             RemoteIterator<LocatedFileStatus> fileStatusRemoteIterator =
                     fs.listFiles(parentPath, true);
-            List<String> fileNames = new ArrayList<>();
+            List<Path> files = new ArrayList<>();
             while (fileStatusRemoteIterator.hasNext()) {
                 LocatedFileStatus fileStatus = fileStatusRemoteIterator.next();
-                if (fileStatus.getPath().getName().endsWith("wal.txt")) {
-                    fileNames.add(fileStatus.getPath().toString());
+                if (fileStatus.getPath().getName().endsWith(FILE_NAME)) {
+                    files.add(fileStatus.getPath());
                 }
             }
-            return fileNames;
+            return files;
         } catch (IOException e) {
             throw new IMapStorageException(e, "get file names error,path is s%", parentPath);
         }
     }
 
-    private List<IMapFileData> readData(Path path) throws IOException {
-        List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
-        long length = fs.getFileStatus(path).getLen();
+    @Override
+    public void readData(Path path, Consumer<IMapFileData> consumer) throws IOException {
+        byte[] metadata = new byte[WAL_DATA_METADATA_LENGTH];
         try (FSDataInputStream in = fs.open(path)) {
-            byte[] datas = new byte[(int) length];
-            in.readFully(datas);
-            int startIndex = 0;
-            while (startIndex + WAL_DATA_METADATA_LENGTH < datas.length) {
-
-                byte[] metadata = new byte[WAL_DATA_METADATA_LENGTH];
-                System.arraycopy(datas, startIndex, metadata, 0, WAL_DATA_METADATA_LENGTH);
-                int dataLength = WALDataUtils.byteArrayToInt(metadata);
-                startIndex += WAL_DATA_METADATA_LENGTH;
-                if (startIndex + dataLength > datas.length) {
+            while (true) {
+                byte[] data;
+                try {
+                    in.readFully(metadata);
+                    data = new byte[WALDataUtils.byteArrayToInt(metadata)];
+                    in.readFully(data);
+                } catch (EOFException e) {
                     break;
                 }
-                byte[] data = new byte[dataLength];
-                System.arraycopy(datas, startIndex, data, 0, data.length);
-                IMapFileData fileData = serializer.deserialize(data, IMapFileData.class);
-                result.add(fileData);
-                startIndex += data.length;
+                consumer.accept(serializer.deserialize(data, IMapFileData.class));
             }
         }
-        return result;
     }
 }
@@ -26,11 +26,19 @@ import org.apache.hadoop.fs.Path;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IFileReader<R> {
     String identifier();
 
     void initialize(FileSystem fs, Serializer serializer) throws IOException;
 
-    List<R> readAllData(Path parentPath) throws IOException;
+    /** Lists the wal files under the parent path, recursively. */
+    List<Path> listFiles(Path parentPath) throws IOException;
+
+    /**
+     * Streams the entries of a wal file to the consumer, an entry which is still being written at
+     * the end of the file is skipped.
+     */
+    void readData(Path path, Consumer<R> consumer) throws IOException;
 }
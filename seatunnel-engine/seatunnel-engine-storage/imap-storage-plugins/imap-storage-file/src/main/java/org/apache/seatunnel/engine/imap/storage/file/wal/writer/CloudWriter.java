@@ -24,8 +24,6 @@ import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
 import org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
 
-import org.apache.curator.shaded.com.google.common.io.ByteStreams;
-import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -41,7 +39,9 @@ import java.util.concurrent.atomic.AtomicLong;
 public abstract class CloudWriter implements IFileWriter<IMapFileData> {
     private FileSystem fs;
     private Path parentPath;
+    /** the active file, created by the first write after a roll */
     private Path path;
+
     private Serializer serializer;
 
     private ByteBuf bf = Unpooled.buffer(1024);
@@ -58,12 +58,6 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
         this.fs = fs;
         this.serializer = serializer;
         this.parentPath = parentPath;
-        this.path = createNewPath();
-        if (fs.exists(path)) {
-            try (FSDataInputStream fsDataInputStream = fs.open(path)) {
-                bf.writeBytes(ByteStreams.toByteArray(fsDataInputStream));
-            }
-        }
     }
 
     @Override
@@ -81,6 +75,9 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
     }
 
     private void write(byte[] bytes) {
+        if (path == null) {
+            this.path = createNewPath();
+        }
         try (FSDataOutputStream out = fs.create(path, true)) {
             // Write to bytebuffer
             byte[] data = WALDataUtils.wrapperBytes(bytes);
@@ -101,10 +98,9 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
         }
     }
 
-    private void checkAndSetNextScheduleRotation(long allBytes) {
+    private void checkAndSetNextScheduleRotation(long allBytes) throws IOException {
         if (allBytes > blockSize) {
-            this.path = createNewPath();
-            this.bf.clear();
+            roll();
         } else {
             // reset index
             bf.resetReaderIndex();
@@ -112,11 +108,25 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
     }
 
     public Path createNewPath() {
-        return new Path(parentPath, index.incrementAndGet() + "_" + FILE_NAME);
+        return new Path(parentPath, WALDataUtils.activeFileName(index.incrementAndGet()));
+    }
+
+    @Override
+    public void roll() throws IOException {
+        if (path == null) {
+            return;
+        }
+        Path sealedPath = new Path(parentPath, WALDataUtils.sealedFileName(path.getName()));
+        if (!fs.rename(path, sealedPath)) {
+            throw new IOException("Failed to rename " + path + " to " + sealedPath);
+        }
+        this.path = null;
+        this.bf.clear();
     }
 
     @Override
     public void close() throws Exception {
+        roll();
         bf.clear();
         this.bf = null;
     }
@@ -35,10 +35,19 @@ import java.util.EnumSet;
 
 public class HdfsWriter implements IFileWriter<IMapFileData> {
 
+    private FileSystem fs;
+
+    private Path parentPath;
+
+    /** the active file, created by the first write after a roll */
+    private Path path;
+
     private FSDataOutputStream out;
 
     private Serializer serializer;
 
+    private long index = 0;
+
     @Override
     public String identifier() {
         return "hdfs";
@@ -47,8 +56,8 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
     @Override
     public void initialize(FileSystem fs, Path parentPath, Serializer serializer)
             throws IOException {
-        Path path = new Path(parentPath, FILE_NAME);
-        this.out = fs.create(path);
+        this.fs = fs;
+        this.parentPath = parentPath;
         this.serializer = serializer;
     }
 
@@ -74,15 +83,30 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
     }
 
     private void write(byte[] bytes) throws IOException {
+        if (out == null) {
+            this.path = new Path(parentPath, WALDataUtils.activeFileName(++index));
+            this.out = fs.create(path);
+        }
         byte[] data = WALDataUtils.wrapperBytes(bytes);
         this.out.write(data);
         this.flush();
     }
 
     @Override
-    public void close() throws Exception {
-        if (out != null) {
-            out.close();
+    public void roll() throws IOException {
+        if (out == null) {
+            return;
         }
+        out.close();
+        out = null;
+        Path sealedPath = new Path(parentPath, WALDataUtils.sealedFileName(path.getName()));
+        if (!fs.rename(path, sealedPath)) {
+            throw new IOException("Failed to rename " + path + " to " + sealedPath);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        roll();
     }
 }
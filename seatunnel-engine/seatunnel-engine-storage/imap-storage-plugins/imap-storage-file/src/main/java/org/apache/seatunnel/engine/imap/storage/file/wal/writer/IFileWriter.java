@@ -30,6 +30,12 @@ public interface IFileWriter<T> extends AutoCloseable {
     String FILE_NAME = "wal.txt";
     Long DEFAULT_BLOCK_SIZE = 1024 * 1024L;
 
+    /**
+     * The file a writer appends to is named with this prefix, the prefix is removed when the file
+     * is sealed. Sealed files are never written again and may be merged into a snapshot.
+     */
+    String ACTIVE_FILE_PREFIX = "active_";
+
     String identifier();
 
     void initialize(FileSystem fs, Path parentPath, Serializer serializer) throws IOException;
@@ -37,4 +43,7 @@ public interface IFileWriter<T> extends AutoCloseable {
     default void setBlockSize(Long blockSize) {}
 
     void write(T data) throws IOException;
+
+    /** Seals the file being written, the next write starts a new file. */
+    default void roll() throws IOException {}
 }
@@ -21,10 +21,14 @@
 package org.apache.seatunnel.engine.imap.storage.file;
 
 import org.apache.seatunnel.engine.imap.storage.file.common.FileConstants;
+import org.apache.seatunnel.engine.imap.storage.file.common.WALCompactor;
+import org.apache.seatunnel.engine.imap.storage.file.wal.writer.IFileWriter;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -33,12 +37,14 @@ import org.junit.jupiter.api.condition.EnabledOnOs;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.COMPACTION_INTERVAL_MILLISECONDS_KEY;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.WRITE_DATA_TIMEOUT_MILLISECONDS_KEY;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.condition.OS.LINUX;
@@ -51,6 +57,10 @@ public class IMapFileStorageTest {
 
     private static final IMapFileStorage STORAGE;
 
+    private static final String COMPACTION_NAMESPACE = "/tmp/imap-kris-test/compaction";
+
+    private static final String LEASE_NAMESPACE = "/tmp/imap-kris-test/lease";
+
     static {
         CONF = new Configuration();
         CONF.set("fs.defaultFS", "file:///");
@@ -117,8 +127,126 @@ public class IMapFileStorageTest {
         Assertions.assertEquals(array[6], 111111111L);
     }
 
+    @Test
+    void testCompaction() throws IOException {
+        IMapFileStorage storage = createStorage(COMPACTION_NAMESPACE);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 20; i++) {
+                Assertions.assertTrue(storage.store("key" + i, (long) round));
+            }
+        }
+        storage.deleteAll(Arrays.asList("key0", "key1"));
+        storage.compact();
+
+        List<Path> files = listWalFiles();
+        Assertions.assertEquals(1, files.size());
+        Assertions.assertEquals(
+                WALCompactor.SNAPSHOT_DIRECTORY, files.get(0).getParent().getName());
+
+        storage.store("key2", 5L);
+        storage.delete("key3");
+        storage.destroy(false);
+
+        // recover from the snapshot and the wal file written after it
+        IMapFileStorage restarted = createStorage(COMPACTION_NAMESPACE);
+        Map<Object, Object> data = restarted.loadAll();
+        Assertions.assertEquals(17, data.size());
+        Assertions.assertEquals(5L, data.get("key2"));
+        Assertions.assertEquals(4L, data.get("key19"));
+        Assertions.assertNull(data.get("key0"));
+        Assertions.assertNull(data.get("key3"));
+
+        restarted.compact();
+        Assertions.assertEquals(1, listWalFiles().size());
+        Assertions.assertEquals(data, restarted.loadAll());
+        restarted.destroy(true);
+    }
+
+    @Test
+    void testCompactionKeepsFilesOfLiveMembers() throws IOException {
+        IMapFileStorage storage = createStorage(LEASE_NAMESPACE);
+        FileSystem fs = FileSystem.get(CONF);
+        Path businessRoot = new Path(LEASE_NAMESPACE + "/test-one/compaction");
+        long oldTime = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1);
+        // old active files of a member which renews its lease and of one which is gone
+        Path liveFile = createActiveFile(fs, new Path(businessRoot, "live"), oldTime, false);
+        Path goneFile = createActiveFile(fs, new Path(businessRoot, "gone"), oldTime, true);
+        Assertions.assertTrue(storage.store("key", 1L));
+        storage.compact();
+        Assertions.assertTrue(fs.exists(liveFile));
+        Assertions.assertFalse(fs.exists(goneFile));
+
+        // nothing is merged while another member holds the lock
+        Assertions.assertTrue(storage.store("key", 2L));
+        Path lock = new Path(businessRoot, WALCompactor.LOCK_FILE_NAME);
+        fs.create(lock).close();
+        storage.compact();
+        int files = listWalFiles(LEASE_NAMESPACE).size();
+        storage.compact();
+        Assertions.assertEquals(files, listWalFiles(LEASE_NAMESPACE).size());
+
+        // the lock of a member which is gone is taken over
+        fs.setTimes(lock, oldTime, -1);
+        storage.compact();
+        Assertions.assertFalse(fs.exists(lock));
+        Assertions.assertTrue(listWalFiles(LEASE_NAMESPACE).size() < files);
+        Assertions.assertEquals(2L, storage.loadAll().get("key"));
+        storage.destroy(true);
+    }
+
+    private static Path createActiveFile(
+            FileSystem fs, Path regionPath, long createTime, boolean leaseExpired)
+            throws IOException {
+        Path file =
+                new Path(
+                        regionPath,
+                        IFileWriter.ACTIVE_FILE_PREFIX
+                                + createTime
+                                + "_1_"
+                                + IFileWriter.FILE_NAME);
+        fs.create(file).close();
+        Path lease = new Path(regionPath, WALCompactor.LEASE_FILE_NAME);
+        fs.create(lease).close();
+        if (leaseExpired) {
+            fs.setTimes(lease, createTime, -1);
+        }
+        return file;
+    }
+
+    private static IMapFileStorage createStorage(String namespace) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("fs.defaultFS", "file:///");
+        properties.put("fs.file.impl", "org.apache.hadoop.fs.LocalFileSystem");
+        properties.put(FileConstants.FileInitProperties.BUSINESS_KEY, "compaction");
+        properties.put(FileConstants.FileInitProperties.NAMESPACE_KEY, namespace);
+        properties.put(FileConstants.FileInitProperties.CLUSTER_NAME, "test-one");
+        properties.put(COMPACTION_INTERVAL_MILLISECONDS_KEY, 0L);
+        IMapFileStorage storage = new IMapFileStorage();
+        storage.initialize(properties);
+        return storage;
+    }
+
+    private static List<Path> listWalFiles() throws IOException {
+        return listWalFiles(COMPACTION_NAMESPACE);
+    }
+
+    private static List<Path> listWalFiles(String namespace) throws IOException {
+        List<Path> files = new ArrayList<>();
+        RemoteIterator<LocatedFileStatus> iterator =
+                FileSystem.get(CONF).listFiles(new Path(namespace), true);
+        while (iterator.hasNext()) {
+            Path path = iterator.next().getPath();
+            if (path.getName().endsWith(IFileWriter.FILE_NAME)) {
+                files.add(path);
+            }
+        }
+        return files;
+    }
+
     @AfterAll
     static void afterAll() throws IOException {
         FileSystem.get(CONF).delete(new Path("/tmp/imap-kris-test/2"), true);
+        FileSystem.get(CONF).delete(new Path(COMPACTION_NAMESPACE), true);
+        FileSystem.get(CONF).delete(new Path(LEASE_NAMESPACE), true);
     }
 }
@@ -17,9 +17,11 @@
 
 package org.apache.seatunnel.transform.sql;
 
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
+import java.util.Collections;
 import java.util.List;
 
 public interface SQLEngine {
@@ -33,5 +35,10 @@ public interface SQLEngine {
 
     List<SeaTunnelRow> transformBySQL(SeaTunnelRow inputRow, SeaTunnelRowType outputRowType);
 
+    /** Get the conditions of the query that a source can evaluate before rows reach the engine. */
+    default List<Predicate> getPushDownPredicates() {
+        return Collections.emptyList();
+    }
+
     default void close() {}
 }
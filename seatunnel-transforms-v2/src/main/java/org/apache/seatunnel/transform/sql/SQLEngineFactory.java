@@ -23,10 +23,14 @@ import org.apache.seatunnel.transform.sql.zeta.ZetaSQLEngine;
 
 public class SQLEngineFactory {
     public static SQLEngine getSQLEngine(EngineType engineType) {
+        return getSQLEngine(engineType, false);
+    }
+
+    public static SQLEngine getSQLEngine(EngineType engineType, boolean compiled) {
         switch (engineType) {
             case ZETA:
             case INTERNAL:
-                return new ZetaSQLEngine();
+                return new ZetaSQLEngine(compiled);
         }
         throw new TransformException(
                 CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
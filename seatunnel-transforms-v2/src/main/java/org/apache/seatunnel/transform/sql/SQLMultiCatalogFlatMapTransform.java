@@ -18,14 +18,19 @@
 package org.apache.seatunnel.transform.sql;
 
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.transform.SeaTunnelFlatMapTransform;
+import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+import org.apache.seatunnel.api.transform.SupportPushDownPredicates;
 import org.apache.seatunnel.transform.common.AbstractMultiCatalogFlatMapTransform;
 
+import java.util.Collections;
 import java.util.List;
 
-public class SQLMultiCatalogFlatMapTransform extends AbstractMultiCatalogFlatMapTransform {
+public class SQLMultiCatalogFlatMapTransform extends AbstractMultiCatalogFlatMapTransform
+        implements SupportPushDownPredicates {
 
     public SQLMultiCatalogFlatMapTransform(
             List<CatalogTable> inputCatalogTables, ReadonlyConfig config) {
@@ -42,4 +47,16 @@ public class SQLMultiCatalogFlatMapTransform extends AbstractMultiCatalogFlatMap
             CatalogTable inputCatalogTable, ReadonlyConfig config) {
         return new SQLTransform(config, inputCatalogTable);
     }
+
+    @Override
+    public List<Predicate> getPushDownPredicates() {
+        if (transformMap.size() != 1) {
+            return Collections.emptyList();
+        }
+        SeaTunnelTransform<SeaTunnelRow> transform = transformMap.values().iterator().next();
+        if (transform instanceof SupportPushDownPredicates) {
+            return ((SupportPushDownPredicates) transform).getPushDownPredicates();
+        }
+        return Collections.emptyList();
+    }
 }
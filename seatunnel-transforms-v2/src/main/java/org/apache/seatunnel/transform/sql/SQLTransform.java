@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.configuration.Option;
 import org.apache.seatunnel.api.configuration.Options;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.options.ConnectorCommonOptions;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.ConstraintKey;
@@ -30,6 +31,7 @@ import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.transform.SupportPushDownPredicates;
 import org.apache.seatunnel.transform.common.AbstractCatalogSupportFlatMapTransform;
 import org.apache.seatunnel.transform.sql.SQLEngineFactory.EngineType;
 
@@ -44,7 +46,8 @@ import java.util.stream.Collectors;
 import static org.apache.seatunnel.transform.sql.SQLEngineFactory.EngineType.ZETA;
 
 @Slf4j
-public class SQLTransform extends AbstractCatalogSupportFlatMapTransform {
+public class SQLTransform extends AbstractCatalogSupportFlatMapTransform
+        implements SupportPushDownPredicates {
     public static final String PLUGIN_NAME = "Sql";
 
     public static final Option<String> KEY_QUERY =
@@ -56,10 +59,19 @@ public class SQLTransform extends AbstractCatalogSupportFlatMapTransform {
                     .defaultValue(ZETA.name())
                     .withDescription("The SQL engine type");
 
+    public static final Option<Boolean> KEY_COMPILED =
+            Options.key("compiled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to compile the query to Java bytecode instead of interpreting it for every row");
+
     private final String query;
 
     private final EngineType engineType;
 
+    private final boolean compiled;
+
     private SeaTunnelRowType outRowType;
 
     private transient SQLEngine sqlEngine;
@@ -74,6 +86,7 @@ public class SQLTransform extends AbstractCatalogSupportFlatMapTransform {
         } else {
             this.engineType = ZETA;
         }
+        this.compiled = config.get(KEY_COMPILED);
 
         List<String> pluginInputIdentifiers = config.get(ConnectorCommonOptions.PLUGIN_INPUT);
         if (pluginInputIdentifiers != null && !pluginInputIdentifiers.isEmpty()) {
@@ -90,7 +103,7 @@ public class SQLTransform extends AbstractCatalogSupportFlatMapTransform {
 
     @Override
     public void open() {
-        sqlEngine = SQLEngineFactory.getSQLEngine(engineType);
+        sqlEngine = SQLEngineFactory.getSQLEngine(engineType, compiled);
         sqlEngine.init(
                 inputTableName,
                 inputCatalogTable.getTableId().getTableName(),
@@ -110,6 +123,12 @@ public class SQLTransform extends AbstractCatalogSupportFlatMapTransform {
         return sqlEngine.transformBySQL(inputRow, outRowType);
     }
 
+    @Override
+    public List<Predicate> getPushDownPredicates() {
+        tryOpen();
+        return sqlEngine.getPushDownPredicates();
+    }
+
     @Override
     protected TableSchema transformTableSchema() {
         tryOpen();
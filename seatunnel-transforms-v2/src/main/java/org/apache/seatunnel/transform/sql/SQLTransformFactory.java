@@ -26,6 +26,7 @@ import org.apache.seatunnel.transform.common.TransformCommonOptions;
 
 import com.google.auto.service.AutoService;
 
+import static org.apache.seatunnel.transform.sql.SQLTransform.KEY_COMPILED;
 import static org.apache.seatunnel.transform.sql.SQLTransform.KEY_QUERY;
 
 @AutoService(Factory.class)
@@ -39,6 +40,7 @@ public class SQLTransformFactory implements TableTransformFactory {
     public OptionRule optionRule() {
         return OptionRule.builder()
                 .optional(KEY_QUERY)
+                .optional(KEY_COMPILED)
                 .optional(TransformCommonOptions.MULTI_TABLES)
                 .optional(TransformCommonOptions.TABLE_MATCH_REGEX)
                 .build();
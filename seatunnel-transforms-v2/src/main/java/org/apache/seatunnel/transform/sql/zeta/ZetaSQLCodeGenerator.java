@@ -0,0 +1,563 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.shade.org.codehaus.commons.compiler.CompileException;
+import org.apache.seatunnel.shade.org.codehaus.janino.ClassBodyEvaluator;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.transform.exception.TransformException;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.AllColumns;
+import net.sf.jsqlparser.statement.select.SelectItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Generates a Java class for the select list and WHERE clause of a query and compiles it with
+ * Janino. Column indexes, literals, LIKE patterns and built-in functions are resolved while the
+ * class is generated, so evaluating a row does no name lookup and no AST dispatch. Expressions
+ * without a generated form (CASE, CAST, nested fields, ...) call back into {@link ZetaSQLFunction}
+ * or {@link ZetaSQLFilter} for that subtree only, which keeps the results the same as the
+ * interpreted mode.
+ */
+public class ZetaSQLCodeGenerator {
+
+    private static final String CLASS_NAME = "ZetaSQLGeneratedProgram";
+
+    /** The most generated classes kept, the least recently used class is dropped first. */
+    static final int MAX_CACHED_CLASSES = 256;
+
+    /**
+     * Generated classes by source, queries with the same text and schema share one class. The cache
+     * is bounded since every job on the worker with another query or schema adds a class.
+     */
+    private static final Map<String, Class<?>> CLASS_CACHE = lruCache(MAX_CACHED_CLASSES);
+
+    /** Calls of the built-in functions, the same as {@link ZetaSQLFunction#executeFunctionExpr}. */
+    private static final Map<String, String> FUNCTION_CALLS = new HashMap<>();
+
+    static {
+        FUNCTION_CALLS.put(ZetaSQLFunction.ASCII, "StringFunction.ascii(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.BIT_LENGTH, "StringFunction.bitLength(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.CHAR_LENGTH, "StringFunction.charLength(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.LENGTH, "StringFunction.charLength(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.OCTET_LENGTH, "StringFunction.octetLength(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.CHAR, "StringFunction.chr(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.CHR, "StringFunction.chr(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.CONCAT, "StringFunction.concat(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.CONCAT_WS, "StringFunction.concatWs(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.HEXTORAW, "StringFunction.hextoraw(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.RAWTOHEX, "StringFunction.rawtohex(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.INSERT, "StringFunction.insert(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.LOWER, "StringFunction.lower(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.LCASE, "StringFunction.lower(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.UPPER, "StringFunction.upper(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.UCASE, "StringFunction.upper(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.LEFT, "StringFunction.left(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.RIGHT, "StringFunction.right(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.LOCATE, "StringFunction.location($name, args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.POSITION, "StringFunction.location($name, args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.INSTR, "StringFunction.instr(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.LPAD, "StringFunction.pad($name, args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.RPAD, "StringFunction.pad($name, args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.LTRIM, "StringFunction.ltrim(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.RTRIM, "StringFunction.rtrim(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.TRIM, "StringFunction.trim(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.REGEXP_REPLACE, "StringFunction.regexpReplace(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.REGEXP_LIKE, "StringFunction.regexpLike(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.REGEXP_SUBSTR, "StringFunction.regexpSubstr(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.REPEAT, "StringFunction.repeat(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.REPLACE, "StringFunction.replace(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.SOUNDEX, "StringFunction.soundex(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.SPACE, "StringFunction.space(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.SUBSTRING, "StringFunction.substring(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.SUBSTR, "StringFunction.substring(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.TO_CHAR, "StringFunction.toChar(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.TRANSLATE, "StringFunction.translate(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.SPLIT, "StringFunction.split(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.ABS, "NumericFunction.abs(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.ACOS, "NumericFunction.acos(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.ASIN, "NumericFunction.asin(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.ATAN, "NumericFunction.atan(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.COS, "NumericFunction.cos(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.COSH, "NumericFunction.cosh(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.COT, "NumericFunction.cot(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.SIN, "NumericFunction.sin(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.SINH, "NumericFunction.sinh(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.TAN, "NumericFunction.tan(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.TANH, "NumericFunction.tanh(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.ATAN2, "NumericFunction.atan2(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.MOD, "NumericFunction.mod(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.CEIL, "NumericFunction.ceil(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.CEILING, "NumericFunction.ceil(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.EXP, "NumericFunction.exp(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.FLOOR, "NumericFunction.floor(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.LN, "NumericFunction.ln(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.LOG, "NumericFunction.log(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.LOG10, "NumericFunction.log10(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.RADIANS, "NumericFunction.radians(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.SQRT, "NumericFunction.sqrt(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.PI, "NumericFunction.pi(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.POWER, "NumericFunction.power(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.RAND, "NumericFunction.random(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.RANDOM, "NumericFunction.random(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.ROUND, "NumericFunction.round(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.SIGN, "NumericFunction.sign(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.TRUNC, "NumericFunction.trunc(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.TRUNCATE, "NumericFunction.trunc(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.NOW, "DateTimeFunction.currentTimestamp()");
+        FUNCTION_CALLS.put(ZetaSQLFunction.DATEADD, "DateTimeFunction.dateadd(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.TIMESTAMPADD, "DateTimeFunction.dateadd(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.DATEDIFF, "DateTimeFunction.datediff(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.DATE_TRUNC, "DateTimeFunction.dateTrunc(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.DAYNAME, "DateTimeFunction.dayname(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.DAY_OF_MONTH, "DateTimeFunction.dayOfMonth(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.DAY_OF_WEEK, "DateTimeFunction.dayOfWeek(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.DAY_OF_YEAR, "DateTimeFunction.dayOfYear(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.FROM_UNIXTIME, "DateTimeFunction.fromUnixTime(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.EXTRACT, "DateTimeFunction.extract(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.FORMATDATETIME, "DateTimeFunction.formatdatetime(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.HOUR, "DateTimeFunction.hour(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.MINUTE, "DateTimeFunction.minute(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.MONTH, "DateTimeFunction.month(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.MONTHNAME, "DateTimeFunction.monthname(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.PARSEDATETIME, "DateTimeFunction.parsedatetime(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.TO_DATE, "DateTimeFunction.parsedatetime(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.IS_DATE, "DateTimeFunction.isDate(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.QUARTER, "DateTimeFunction.quarter(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.SECOND, "DateTimeFunction.second(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.WEEK, "DateTimeFunction.week(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.YEAR, "DateTimeFunction.year(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.COALESCE, "SystemFunction.coalesce(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.IFNULL, "SystemFunction.ifnull(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.NULLIF, "SystemFunction.nullif(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.ARRAY, "ArrayFunction.array(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.ARRAY_MAX, "ArrayFunction.arrayMax(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.ARRAY_MIN, "ArrayFunction.arrayMin(args)");
+        FUNCTION_CALLS.put(ZetaSQLFunction.UUID, "java.util.UUID.randomUUID().toString()");
+    }
+
+    private final SeaTunnelRowType inputRowType;
+    private final ZetaSQLType zetaSQLType;
+    private final List<ZetaUDF> udfList;
+
+    private final List<Object> refs = new ArrayList<>();
+    private final StringBuilder methods = new StringBuilder();
+    private int methodCount;
+
+    public ZetaSQLCodeGenerator(
+            SeaTunnelRowType inputRowType, ZetaSQLType zetaSQLType, List<ZetaUDF> udfList) {
+        this.inputRowType = inputRowType;
+        this.zetaSQLType = zetaSQLType;
+        this.udfList = udfList;
+    }
+
+    public ZetaSQLProgram generate(
+            List<SelectItem<?>> selectItems,
+            Expression whereExpr,
+            int columnsSize,
+            ZetaSQLFunction zetaSQLFunction,
+            ZetaSQLFilter zetaSQLFilter) {
+        String source = generateSource(selectItems, whereExpr, columnsSize);
+        Class<?> clazz = CLASS_CACHE.computeIfAbsent(source, ZetaSQLCodeGenerator::compile);
+        try {
+            return (ZetaSQLProgram)
+                    clazz.getConstructor(ZetaSQLFunction.class, ZetaSQLFilter.class, Object[].class)
+                            .newInstance(zetaSQLFunction, zetaSQLFilter, refs.toArray());
+        } catch (ReflectiveOperationException e) {
+            throw new TransformException(
+                    CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                    String.format("Instantiate generated SQL class failed: %s", e.getMessage()));
+        }
+    }
+
+    static <K, V> Map<K, V> lruCache(int maxSize) {
+        return Collections.synchronizedMap(
+                new LinkedHashMap<K, V>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                        return size() > maxSize;
+                    }
+                });
+    }
+
+    String generateSource(List<SelectItem<?>> selectItems, Expression whereExpr, int columnsSize) {
+        String condition = whereExpr == null ? "true" : condition(whereExpr);
+
+        StringBuilder project = new StringBuilder();
+        project.append("Object[] out = new Object[").append(columnsSize).append("];\n");
+        int idx = 0;
+        for (SelectItem<?> selectItem : selectItems) {
+            if (selectItem.getExpression() instanceof AllColumns) {
+                int fieldCount = inputRowType.getTotalFields();
+                project.append("System.arraycopy(in, 0, out, ")
+                        .append(idx)
+                        .append(", ")
+                        .append(fieldCount)
+                        .append(");\n");
+                idx += fieldCount;
+            } else {
+                project.append("out[")
+                        .append(idx)
+                        .append("] = ")
+                        .append(value(selectItem.getExpression()))
+                        .append(";\n");
+                idx++;
+            }
+        }
+        project.append("return out;\n");
+
+        return "private final ZetaSQLFunction fn;\n"
+                + "private final ZetaSQLFilter filter;\n"
+                + "private final Object[] refs;\n"
+                + "public "
+                + CLASS_NAME
+                + "(ZetaSQLFunction fn, ZetaSQLFilter filter, Object[] refs) {\n"
+                + "this.fn = fn;\n"
+                + "this.filter = filter;\n"
+                + "this.refs = refs;\n"
+                + "}\n"
+                + "public boolean filter(Object[] in) {\n"
+                + "return "
+                + condition
+                + ";\n"
+                + "}\n"
+                + "public Object[] project(Object[] in) {\n"
+                + project
+                + "}\n"
+                + methods;
+    }
+
+    private static Class<?> compile(String source) {
+        ClassBodyEvaluator cbe = new ClassBodyEvaluator();
+        cbe.setClassName(CLASS_NAME);
+        cbe.setImplementedInterfaces(new Class[] {ZetaSQLProgram.class});
+        cbe.setParentClassLoader(ZetaSQLCodeGenerator.class.getClassLoader());
+        cbe.setDefaultImports(
+                "org.apache.seatunnel.transform.sql.zeta.*",
+                "org.apache.seatunnel.transform.sql.zeta.functions.*",
+                "java.util.List",
+                "java.util.ArrayList",
+                "java.util.regex.Pattern",
+                "net.sf.jsqlparser.expression.Expression");
+        try {
+            cbe.cook(source);
+        } catch (CompileException e) {
+            throw new TransformException(
+                    CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                    String.format("Compile SQL failed: %s, source: %s", e.getMessage(), source));
+        }
+        return cbe.getClazz();
+    }
+
+    /** Returns a Java expression of type {@code Object} computing the value of the expression. */
+    private String value(Expression expression) {
+        if (expression instanceof NullValue) {
+            return "null";
+        }
+        if (expression instanceof LongValue) {
+            long longVal = ((LongValue) expression).getValue();
+            if (longVal <= Integer.MAX_VALUE && longVal >= Integer.MIN_VALUE) {
+                return ref((int) longVal);
+            }
+            return ref(longVal);
+        }
+        if (expression instanceof DoubleValue) {
+            return ref(((DoubleValue) expression).getValue());
+        }
+        if (expression instanceof StringValue) {
+            return ref(((StringValue) expression).getValue());
+        }
+        if (expression instanceof Column) {
+            int index = columnIndex(((Column) expression).getColumnName());
+            if (index != -1) {
+                return "in[" + index + "]";
+            }
+        }
+        if (expression instanceof Parenthesis) {
+            return value(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof Function) {
+            String call = functionCall((Function) expression);
+            if (call != null) {
+                return call;
+            }
+        }
+        if (expression instanceof BinaryExpression) {
+            String arithmetic = arithmetic((BinaryExpression) expression);
+            if (arithmetic != null) {
+                return arithmetic;
+            }
+        }
+        return "fn.computeForValue((Expression) " + ref(expression) + ", in)";
+    }
+
+    /** Returns a Java expression of type {@code boolean} evaluating the condition. */
+    private String condition(Expression whereExpr) {
+        if (whereExpr instanceof Function) {
+            return method(
+                    "boolean",
+                    "Boolean result = (Boolean) " + value(whereExpr) + ";\n",
+                    "return result == null ? false : result.booleanValue();\n");
+        }
+        if (whereExpr instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) whereExpr;
+            return "("
+                    + value(isNullExpression.getLeftExpression())
+                    + (isNullExpression.isNot() ? " != null)" : " == null)");
+        }
+        if (whereExpr instanceof InExpression) {
+            return fallbackCondition(whereExpr);
+        }
+        if (whereExpr instanceof LikeExpression) {
+            LikeExpression likeExpression = (LikeExpression) whereExpr;
+            if (!(likeExpression.getRightExpression() instanceof StringValue)) {
+                return fallbackCondition(whereExpr);
+            }
+            String pattern =
+                    ref(
+                            ZetaSQLFilter.likePattern(
+                                    ((StringValue) likeExpression.getRightExpression())
+                                            .getValue()));
+            return method(
+                    "boolean",
+                    "Object leftVal = " + value(likeExpression.getLeftExpression()) + ";\n",
+                    "if (leftVal == null) {\n",
+                    "return false;\n",
+                    "}\n",
+                    "return "
+                            + (likeExpression.isNot() ? "!" : "")
+                            + "((Pattern) "
+                            + pattern
+                            + ").matcher(leftVal.toString()).matches();\n");
+        }
+        String comparison = comparisonMethod(whereExpr);
+        if (comparison != null) {
+            BinaryExpression binaryExpression = (BinaryExpression) whereExpr;
+            return "ZetaSQLFilter."
+                    + comparison
+                    + "("
+                    + value(binaryExpression.getLeftExpression())
+                    + ", "
+                    + value(binaryExpression.getRightExpression())
+                    + ")";
+        }
+        if (whereExpr instanceof AndExpression || whereExpr instanceof OrExpression) {
+            BinaryExpression binaryExpression = (BinaryExpression) whereExpr;
+            // both sides are evaluated, the same as the interpreted mode
+            return method(
+                    "boolean",
+                    "boolean leftRes = " + condition(binaryExpression.getLeftExpression()) + ";\n",
+                    "boolean rightRes = "
+                            + condition(binaryExpression.getRightExpression())
+                            + ";\n",
+                    whereExpr instanceof AndExpression
+                            ? "return leftRes && rightRes;\n"
+                            : "return leftRes || rightRes;\n");
+        }
+        if (whereExpr instanceof Parenthesis) {
+            return condition(((Parenthesis) whereExpr).getExpression());
+        }
+        return fallbackCondition(whereExpr);
+    }
+
+    private String fallbackCondition(Expression whereExpr) {
+        return "filter.executeFilter((Expression) " + ref(whereExpr) + ", in)";
+    }
+
+    private static String comparisonMethod(Expression expression) {
+        if (expression instanceof EqualsTo) {
+            return "equalsTo";
+        }
+        if (expression instanceof NotEqualsTo) {
+            return "notEqualsTo";
+        }
+        if (expression instanceof GreaterThan) {
+            return "greaterThan";
+        }
+        if (expression instanceof GreaterThanEquals) {
+            return "greaterThanEquals";
+        }
+        if (expression instanceof MinorThan) {
+            return "minorThan";
+        }
+        if (expression instanceof MinorThanEquals) {
+            return "minorThanEquals";
+        }
+        return null;
+    }
+
+    private String functionCall(Function function) {
+        String functionName = function.getName();
+        String call = FUNCTION_CALLS.get(functionName.toUpperCase(Locale.ROOT));
+        if (call != null) {
+            call = call.replace("$name", "(String) " + ref(functionName));
+        } else {
+            for (ZetaUDF udf : udfList) {
+                if (udf.functionName().equalsIgnoreCase(functionName)) {
+                    call = "((ZetaUDF) " + ref(udf) + ").evaluate(args)";
+                    break;
+                }
+            }
+            if (call == null) {
+                // unknown function, let the interpreter report it when a row arrives
+                return null;
+            }
+        }
+        ExpressionList<?> parameters = (ExpressionList<?>) function.getParameters();
+        List<String> body = new ArrayList<>();
+        int argCount = parameters == null ? 0 : parameters.getExpressions().size();
+        body.add("List args = new ArrayList(" + argCount + ");\n");
+        if (parameters != null) {
+            for (Expression parameter : parameters.getExpressions()) {
+                body.add("args.add(" + value(parameter) + ");\n");
+            }
+        }
+        body.add("return " + call + ";\n");
+        return method("Object", body.toArray(new String[0]));
+    }
+
+    private String arithmetic(BinaryExpression binaryExpression) {
+        if (binaryExpression instanceof Concat) {
+            Concat concat = (Concat) binaryExpression;
+            return method(
+                    "Object",
+                    "List args = new ArrayList(2);\n",
+                    "args.add(" + value(concat.getLeftExpression()) + ");\n",
+                    "args.add(" + value(concat.getRightExpression()) + ");\n",
+                    "return StringFunction.concat(args);\n");
+        }
+        String operator;
+        if (binaryExpression instanceof Addition) {
+            operator = " + ";
+        } else if (binaryExpression instanceof Subtraction) {
+            operator = " - ";
+        } else if (binaryExpression instanceof Multiplication) {
+            operator = " * ";
+        } else if (binaryExpression instanceof Division) {
+            operator = " / ";
+        } else if (binaryExpression instanceof Modulo) {
+            operator = " % ";
+        } else {
+            return null;
+        }
+        SeaTunnelDataType<?> resultType = zetaSQLType.getExpressionType(binaryExpression);
+        String boxType;
+        String valueMethod;
+        if (resultType.getSqlType() == SqlType.INT) {
+            boxType = "Integer";
+            valueMethod = ".intValue()";
+        } else if (resultType.getSqlType() == SqlType.BIGINT) {
+            boxType = "Long";
+            valueMethod = ".longValue()";
+        } else if (resultType.getSqlType() == SqlType.DOUBLE) {
+            boxType = "Double";
+            valueMethod = ".doubleValue()";
+        } else {
+            // DECIMAL keeps the interpreted rounding rules
+            return null;
+        }
+        return method(
+                "Object",
+                "Number leftValue = (Number) "
+                        + value(binaryExpression.getLeftExpression())
+                        + ";\n",
+                "Number rightValue = (Number) "
+                        + value(binaryExpression.getRightExpression())
+                        + ";\n",
+                "if (leftValue == null || rightValue == null) {\n",
+                "return null;\n",
+                "}\n",
+                "return "
+                        + boxType
+                        + ".valueOf(leftValue"
+                        + valueMethod
+                        + operator
+                        + "rightValue"
+                        + valueMethod
+                        + ");\n");
+    }
+
+    private int columnIndex(String columnName) {
+        int index = inputRowType.indexOf(columnName, false);
+        if (index == -1
+                && columnName.startsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)
+                && columnName.endsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)) {
+            index = inputRowType.indexOf(columnName.substring(1, columnName.length() - 1), false);
+        }
+        return index;
+    }
+
+    /** Adds a helper method taking the input fields and returns the call of it. */
+    private String method(String returnType, String... statements) {
+        String name = "e" + methodCount++;
+        methods.append("private ")
+                .append(returnType)
+                .append(" ")
+                .append(name)
+                .append("(Object[] in) {\n");
+        for (String statement : statements) {
+            methods.append(statement);
+        }
+        methods.append("}\n");
+        return name + "(in)";
+    }
+
+    /** Keeps an object for the generated class and returns the expression reading it. */
+    private String ref(Object value) {
+        refs.add(value);
+        return "refs[" + (refs.size() - 1) + "]";
+    }
+}
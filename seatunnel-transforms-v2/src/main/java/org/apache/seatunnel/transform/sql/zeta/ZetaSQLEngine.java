@@ -19,6 +19,7 @@ package org.apache.seatunnel.transform.sql.zeta;
 
 import org.apache.seatunnel.shade.com.google.common.collect.Lists;
 
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -67,10 +68,19 @@ public class ZetaSQLEngine implements SQLEngine {
     private ZetaSQLFunction zetaSQLFunction;
     private ZetaSQLFilter zetaSQLFilter;
     private ZetaSQLType zetaSQLType;
+    private ZetaSQLProgram zetaSQLProgram;
+
+    private final boolean compiled;
 
     private Integer allColumnsCount = null;
 
-    public ZetaSQLEngine() {}
+    public ZetaSQLEngine() {
+        this(false);
+    }
+
+    public ZetaSQLEngine(boolean compiled) {
+        this.compiled = compiled;
+    }
 
     @Override
     public void init(
@@ -92,6 +102,24 @@ public class ZetaSQLEngine implements SQLEngine {
         this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
 
         parseSQL();
+        if (compiled) {
+            compileSQL(udfList);
+        }
+    }
+
+    private void compileSQL(List<ZetaUDF> udfList) {
+        try {
+            this.zetaSQLProgram =
+                    new ZetaSQLCodeGenerator(inputRowType, zetaSQLType, udfList)
+                            .generate(
+                                    selectBody.getSelectItems(),
+                                    selectBody.getWhere(),
+                                    countColumnsSize(selectBody.getSelectItems()),
+                                    zetaSQLFunction,
+                                    zetaSQLFilter);
+        } catch (Exception e) {
+            log.warn("SQL compile failed, fall back to interpreted mode: {}", sql, e);
+        }
     }
 
     private void parseSQL() {
@@ -163,6 +191,11 @@ public class ZetaSQLEngine implements SQLEngine {
         }
     }
 
+    @Override
+    public List<Predicate> getPushDownPredicates() {
+        return new ZetaSQLPredicateExtractor(inputRowType).extract(selectBody.getWhere());
+    }
+
     @Override
     public SeaTunnelRowType typeMapping(List<String> inputColumnsMapping) {
         List<SelectItem<?>> selectItems = selectBody.getSelectItems();
@@ -240,13 +273,17 @@ public class ZetaSQLEngine implements SQLEngine {
         Object[] inputFields = scanTable(inputRow);
 
         // Filter
-        boolean retain = zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
+        boolean retain =
+                zetaSQLProgram != null
+                        ? zetaSQLProgram.filter(inputFields)
+                        : zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
         if (!retain) {
             return null;
         }
 
         // Project
-        Object[] outputFields = project(inputFields);
+        Object[] outputFields =
+                zetaSQLProgram != null ? zetaSQLProgram.project(inputFields) : project(inputFields);
 
         SeaTunnelRow seaTunnelRow = new SeaTunnelRow(outputFields);
         seaTunnelRow.setRowKind(inputRow.getRowKind());
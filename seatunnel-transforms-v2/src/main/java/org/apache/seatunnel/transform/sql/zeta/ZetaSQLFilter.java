@@ -182,26 +182,7 @@ public class ZetaSQLFilter {
         if (rightVal == null && regex.length() > 0) {
             return false;
         }
-        String likeIdent = "%";
-        if (regex.startsWith(likeIdent)) {
-            regex = regex.replaceFirst(likeIdent, ".*");
-        }
-        if (regex.endsWith(likeIdent)) {
-            regex = regex.substring(0, regex.length() - 1) + ".*";
-        }
-        if (regex.startsWith("_")) {
-            regex = regex.replaceFirst("_", ".");
-        }
-        if (regex.endsWith("_")) {
-            regex = regex.substring(0, regex.length() - 1) + ".";
-        }
-        if (regex.length() >= 3 && regex.substring(regex.length() - 3).endsWith("_.*")) {
-            regex = regex.substring(0, regex.length() - 3) + "..*";
-        }
-        if (regex.startsWith("'") && regex.endsWith("'")) {
-            regex = regex.substring(0, regex.length() - 1).substring(1);
-        }
-        Pattern pattern = Pattern.compile(regex);
+        Pattern pattern = likePattern(regex);
         Matcher matcher = pattern.matcher(leftVal.toString());
 
         return matcher.matches();
@@ -226,6 +207,14 @@ public class ZetaSQLFilter {
         if (rightVal == null && regex.length() > 0) {
             return false;
         }
+        Pattern pattern = likePattern(regex);
+        Matcher matcher = pattern.matcher(leftVal.toString());
+
+        return !matcher.matches();
+    }
+
+    /** Translate a LIKE pattern to the regular expression used to match the value. */
+    public static Pattern likePattern(String regex) {
         String likeIdent = "%";
         if (regex.startsWith(likeIdent)) {
             regex = regex.replaceFirst(likeIdent, ".*");
@@ -246,9 +235,7 @@ public class ZetaSQLFilter {
             regex = regex.substring(0, regex.length() - 1).substring(1);
         }
         Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(leftVal.toString());
-
-        return !matcher.matches();
+        return pattern;
     }
 
     private Pair<Object, Object> executeComparisonOperator(
@@ -261,8 +248,10 @@ public class ZetaSQLFilter {
     }
 
     boolean equalsToExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+        return equalsTo(pair.getLeft(), pair.getRight());
+    }
+
+    public static boolean equalsTo(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -273,8 +262,10 @@ public class ZetaSQLFilter {
     }
 
     private boolean notEqualsToExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+        return notEqualsTo(pair.getLeft(), pair.getRight());
+    }
+
+    public static boolean notEqualsTo(Object leftVal, Object rightVal) {
         if (leftVal == null) {
             return rightVal != null;
         }
@@ -285,8 +276,10 @@ public class ZetaSQLFilter {
     }
 
     private boolean greaterThanExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+        return greaterThan(pair.getLeft(), pair.getRight());
+    }
+
+    public static boolean greaterThan(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -313,8 +306,10 @@ public class ZetaSQLFilter {
     }
 
     private boolean greaterThanEqualsExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+        return greaterThanEquals(pair.getLeft(), pair.getRight());
+    }
+
+    public static boolean greaterThanEquals(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -343,8 +338,10 @@ public class ZetaSQLFilter {
     }
 
     private boolean minorThanExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+        return minorThan(pair.getLeft(), pair.getRight());
+    }
+
+    public static boolean minorThan(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -371,8 +368,10 @@ public class ZetaSQLFilter {
     }
 
     private boolean minorThanEqualsExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+        return minorThanEquals(pair.getLeft(), pair.getRight());
+    }
+
+    public static boolean minorThanEquals(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
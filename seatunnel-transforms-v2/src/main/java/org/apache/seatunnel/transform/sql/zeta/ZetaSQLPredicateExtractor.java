@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.source.filter.AndPredicate;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.OrPredicate;
+import org.apache.seatunnel.api.source.filter.Predicate;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.ComparisonOperator;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.ParenthesedExpressionList;
+import net.sf.jsqlparser.schema.Column;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Translates the WHERE clause of a query into predicates a source can evaluate. A translated
+ * predicate is never stricter than the expression it comes from, so sub expressions that can't be
+ * translated are dropped from AND and make the enclosing OR untranslatable.
+ *
+ * <p>Only conditions whose meaning doesn't depend on the source are translated. String columns only
+ * support equality, because range comparisons and inequality depend on the collation of the source,
+ * and {@code <>} is left out because {@link ZetaSQLFilter} keeps null values for it.
+ */
+public class ZetaSQLPredicateExtractor {
+
+    private final SeaTunnelRowType inputRowType;
+
+    public ZetaSQLPredicateExtractor(SeaTunnelRowType inputRowType) {
+        this.inputRowType = inputRowType;
+    }
+
+    public List<Predicate> extract(Expression whereExpr) {
+        if (whereExpr == null) {
+            return Collections.emptyList();
+        }
+        List<Predicate> predicates = new ArrayList<>();
+        for (Expression conjunct : conjuncts(whereExpr)) {
+            Predicate predicate = convert(conjunct);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        return predicates;
+    }
+
+    private List<Expression> conjuncts(Expression expression) {
+        expression = unwrap(expression);
+        if (expression instanceof AndExpression) {
+            List<Expression> conjuncts =
+                    new ArrayList<>(conjuncts(((AndExpression) expression).getLeftExpression()));
+            conjuncts.addAll(conjuncts(((AndExpression) expression).getRightExpression()));
+            return conjuncts;
+        }
+        return Collections.singletonList(expression);
+    }
+
+    private Predicate convert(Expression expression) {
+        expression = unwrap(expression);
+        if (expression instanceof AndExpression) {
+            List<Predicate> children = new ArrayList<>();
+            for (Expression conjunct : conjuncts(expression)) {
+                Predicate child = convert(conjunct);
+                if (child != null) {
+                    children.add(child);
+                }
+            }
+            if (children.isEmpty()) {
+                return null;
+            }
+            return children.size() == 1 ? children.get(0) : new AndPredicate(children);
+        }
+        if (expression instanceof OrExpression) {
+            Predicate left = convert(((OrExpression) expression).getLeftExpression());
+            Predicate right = convert(((OrExpression) expression).getRightExpression());
+            if (left == null || right == null) {
+                return null;
+            }
+            List<Predicate> children = new ArrayList<>();
+            for (Predicate child : new Predicate[] {left, right}) {
+                if (child instanceof OrPredicate) {
+                    children.addAll(((OrPredicate) child).getChildren());
+                } else {
+                    children.add(child);
+                }
+            }
+            return new OrPredicate(children);
+        }
+        if (expression instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) expression;
+            String column = columnName(isNullExpression.getLeftExpression());
+            if (column == null) {
+                return null;
+            }
+            return new IsNullPredicate(column, isNullExpression.isNot());
+        }
+        if (expression instanceof InExpression) {
+            return convertIn((InExpression) expression);
+        }
+        if (expression instanceof ComparisonOperator) {
+            return convertComparison((ComparisonOperator) expression);
+        }
+        return null;
+    }
+
+    private Predicate convertIn(InExpression inExpression) {
+        String column = columnName(inExpression.getLeftExpression());
+        if (column == null
+                || !(inExpression.getRightExpression() instanceof ParenthesedExpressionList)) {
+            return null;
+        }
+        SqlType columnType = columnType(column);
+        if (columnType == SqlType.STRING && inExpression.isNot()) {
+            return null;
+        }
+        List<Object> values = new ArrayList<>();
+        for (Object item :
+                ((ParenthesedExpressionList<?>) inExpression.getRightExpression())
+                        .getExpressions()) {
+            Object value = literal((Expression) item);
+            if (!isComparable(columnType, value)) {
+                return null;
+            }
+            values.add(value);
+        }
+        return new InPredicate(column, values, inExpression.isNot());
+    }
+
+    private Predicate convertComparison(ComparisonOperator comparison) {
+        ComparisonPredicate.Operator operator = operator(comparison);
+        if (operator == null) {
+            return null;
+        }
+        String column = columnName(comparison.getLeftExpression());
+        Object value = literal(comparison.getRightExpression());
+        if (column == null) {
+            column = columnName(comparison.getRightExpression());
+            value = literal(comparison.getLeftExpression());
+            operator = flip(operator);
+        }
+        if (column == null) {
+            return null;
+        }
+        SqlType columnType = columnType(column);
+        if (!isComparable(columnType, value)
+                || (columnType == SqlType.STRING
+                        && operator != ComparisonPredicate.Operator.EQUAL)) {
+            return null;
+        }
+        return new ComparisonPredicate(column, operator, value);
+    }
+
+    private static ComparisonPredicate.Operator operator(ComparisonOperator comparison) {
+        if (comparison instanceof EqualsTo) {
+            return ComparisonPredicate.Operator.EQUAL;
+        }
+        if (comparison instanceof GreaterThan) {
+            return ComparisonPredicate.Operator.GREATER_THAN;
+        }
+        if (comparison instanceof GreaterThanEquals) {
+            return ComparisonPredicate.Operator.GREATER_THAN_OR_EQUAL;
+        }
+        if (comparison instanceof MinorThan) {
+            return ComparisonPredicate.Operator.LESS_THAN;
+        }
+        if (comparison instanceof MinorThanEquals) {
+            return ComparisonPredicate.Operator.LESS_THAN_OR_EQUAL;
+        }
+        return null;
+    }
+
+    private static ComparisonPredicate.Operator flip(ComparisonPredicate.Operator operator) {
+        switch (operator) {
+            case GREATER_THAN:
+                return ComparisonPredicate.Operator.LESS_THAN;
+            case GREATER_THAN_OR_EQUAL:
+                return ComparisonPredicate.Operator.LESS_THAN_OR_EQUAL;
+            case LESS_THAN:
+                return ComparisonPredicate.Operator.GREATER_THAN;
+            case LESS_THAN_OR_EQUAL:
+                return ComparisonPredicate.Operator.GREATER_THAN_OR_EQUAL;
+            default:
+                return operator;
+        }
+    }
+
+    private static Expression unwrap(Expression expression) {
+        while (expression instanceof Parenthesis) {
+            expression = ((Parenthesis) expression).getExpression();
+        }
+        return expression;
+    }
+
+    /** Resolve a top-level input column the same way {@link ZetaSQLFunction} does. */
+    private String columnName(Expression expression) {
+        if (!(expression instanceof Column)) {
+            return null;
+        }
+        String columnName = ((Column) expression).getColumnName();
+        if (inputRowType.indexOf(columnName, false) != -1) {
+            return columnName;
+        }
+        if (columnName.startsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)
+                && columnName.endsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)) {
+            columnName = columnName.substring(1, columnName.length() - 1);
+            if (inputRowType.indexOf(columnName, false) != -1) {
+                return columnName;
+            }
+        }
+        return null;
+    }
+
+    private SqlType columnType(String column) {
+        return inputRowType.getFieldType(inputRowType.indexOf(column)).getSqlType();
+    }
+
+    private static Object literal(Expression expression) {
+        if (expression instanceof LongValue) {
+            long longVal = ((LongValue) expression).getValue();
+            if (longVal <= Integer.MAX_VALUE && longVal >= Integer.MIN_VALUE) {
+                return (int) longVal;
+            }
+            return longVal;
+        }
+        if (expression instanceof DoubleValue) {
+            return ((DoubleValue) expression).getValue();
+        }
+        if (expression instanceof StringValue) {
+            return ((StringValue) expression).getValue();
+        }
+        if (expression instanceof SignedExpression
+                && ((SignedExpression) expression).getSign() == '-') {
+            Object value = literal(((SignedExpression) expression).getExpression());
+            if (value instanceof Integer) {
+                return -((Integer) value);
+            }
+            if (value instanceof Long) {
+                return -((Long) value);
+            }
+            if (value instanceof Double) {
+                return -((Double) value);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isComparable(SqlType columnType, Object value) {
+        switch (columnType) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL:
+                return value instanceof Number;
+            case STRING:
+                return value instanceof String;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class ZetaSQLCodeGeneratorTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "score", "total"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        BasicType.LONG_TYPE
+                    });
+
+    private static final List<SeaTunnelRow> ROWS =
+            Arrays.asList(
+                    new SeaTunnelRow(new Object[] {1, "Joy Ding", 20, 80.5d, 100L}),
+                    new SeaTunnelRow(new Object[] {2, "May Ding", 21, 90.0d, 200L}),
+                    new SeaTunnelRow(new Object[] {3, "Kin Dom", 24, null, 300L}),
+                    new SeaTunnelRow(new Object[] {4, null, 22, 60.0d, null}));
+
+    @Test
+    public void testCompiledResultsMatchInterpreted() {
+        String[] queries = {
+            "select * from dual",
+            "select id, name from dual where age > 20",
+            "select *, age + 1 as next_age, total * 2 as double_total from dual",
+            "select id, score / 2 as half, age % 3 as m, age - id as diff from dual",
+            "select upper(name) as n, concat(name, '_') as c, name || '!' as b from dual",
+            "select lpad(name, 10, '*') as p, coalesce(score, 0.0) as s from dual",
+            "select id from dual where name like 'J%' or name is null",
+            "select id from dual where name not like '%Dom' and score is not null",
+            "select id from dual where (age >= 21 and age <= 22) or id = 1",
+            "select id from dual where id <> 2 and age < 24",
+            "select id from dual where id in (1, 3)",
+            "select case when age > 21 then 'old' else 'young' end as c from dual",
+            "select cast(age as string) as a, -id as neg from dual where name = 'Kin Dom'",
+            "select `id`, 9999999999 as big, 1.5 as d, null as n, 'x' as s from dual"
+        };
+        for (String query : queries) {
+            ZetaSQLEngine interpreted = createEngine(query, false);
+            ZetaSQLEngine compiled = createEngine(query, true);
+            SeaTunnelRowType outRowType = interpreted.typeMapping(null);
+            compiled.typeMapping(null);
+            for (SeaTunnelRow row : ROWS) {
+                List<SeaTunnelRow> expected = interpreted.transformBySQL(row, outRowType);
+                List<SeaTunnelRow> actual = compiled.transformBySQL(row, outRowType);
+                Assertions.assertEquals(expected, actual, query + " with row " + row);
+            }
+        }
+    }
+
+    @Test
+    public void testGenerateResolvesColumnsAndFunctions() throws Exception {
+        String query =
+                "select id, upper(name) as n, age + 1 as a from dual where name like 'J%' and id > 0";
+        PlainSelect select = (PlainSelect) ((Select) CCJSqlParserUtil.parse(query)).getSelectBody();
+        List<ZetaUDF> udfList = Collections.emptyList();
+        ZetaSQLType zetaSQLType = new ZetaSQLType(ROW_TYPE, udfList);
+        ZetaSQLCodeGenerator generator = new ZetaSQLCodeGenerator(ROW_TYPE, zetaSQLType, udfList);
+
+        String source = generator.generateSource(select.getSelectItems(), select.getWhere(), 3);
+        Assertions.assertTrue(source.contains("in[0]"));
+        Assertions.assertTrue(source.contains("StringFunction.upper(args)"));
+        Assertions.assertFalse(source.contains("fn.computeForValue"));
+        Assertions.assertFalse(source.contains("filter.executeFilter"));
+
+        ZetaSQLFunction zetaSQLFunction = new ZetaSQLFunction(ROW_TYPE, zetaSQLType, udfList);
+        ZetaSQLProgram program =
+                new ZetaSQLCodeGenerator(ROW_TYPE, zetaSQLType, udfList)
+                        .generate(
+                                select.getSelectItems(),
+                                select.getWhere(),
+                                3,
+                                zetaSQLFunction,
+                                new ZetaSQLFilter(zetaSQLFunction, zetaSQLType));
+        Object[] fields = ROWS.get(0).getFields();
+        Assertions.assertTrue(program.filter(fields));
+        Assertions.assertArrayEquals(new Object[] {1, "JOY DING", 21}, program.project(fields));
+        Assertions.assertFalse(program.filter(ROWS.get(1).getFields()));
+    }
+
+    @Test
+    public void testClassCacheDropsLeastRecentlyUsed() {
+        Map<String, Integer> cache = ZetaSQLCodeGenerator.lruCache(2);
+        cache.computeIfAbsent("a", String::length);
+        cache.computeIfAbsent("b", String::length);
+        cache.get("a");
+        cache.computeIfAbsent("c", String::length);
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertTrue(cache.containsKey("a"));
+        Assertions.assertFalse(cache.containsKey("b"));
+        Assertions.assertTrue(cache.containsKey("c"));
+    }
+
+    private ZetaSQLEngine createEngine(String query, boolean compiled) {
+        ZetaSQLEngine engine = new ZetaSQLEngine(compiled);
+        engine.init("test", null, ROW_TYPE, query);
+        return engine;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.source.filter.AndPredicate;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.OrPredicate;
+import org.apache.seatunnel.api.source.filter.Predicate;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class ZetaSQLPredicateExtractorTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "score", "created"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE
+                    });
+
+    @Test
+    public void testExtractConjuncts() {
+        Assertions.assertEquals(
+                Arrays.asList(
+                        new ComparisonPredicate(
+                                "age", ComparisonPredicate.Operator.GREATER_THAN, 18),
+                        new ComparisonPredicate("name", ComparisonPredicate.Operator.EQUAL, "Joy"),
+                        new ComparisonPredicate(
+                                "score", ComparisonPredicate.Operator.LESS_THAN_OR_EQUAL, -1.5d),
+                        new IsNullPredicate("id", true)),
+                extract(
+                        "select * from dual where age > 18 and (name = 'Joy' and -1.5 >= score)"
+                                + " and id is not null"));
+        Assertions.assertEquals(
+                Collections.singletonList(
+                        new InPredicate("id", Arrays.asList(1, 3000000000L), true)),
+                extract("select * from dual where `id` not in (1, 3000000000)"));
+        Assertions.assertEquals(
+                Collections.singletonList(
+                        new OrPredicate(
+                                Arrays.asList(
+                                        new ComparisonPredicate(
+                                                "age", ComparisonPredicate.Operator.LESS_THAN, 10),
+                                        new AndPredicate(
+                                                Arrays.asList(
+                                                        new ComparisonPredicate(
+                                                                "age",
+                                                                ComparisonPredicate.Operator
+                                                                        .GREATER_THAN,
+                                                                60),
+                                                        new IsNullPredicate("score", false))),
+                                        new ComparisonPredicate(
+                                                "id", ComparisonPredicate.Operator.EQUAL, 0)))),
+                extract(
+                        "select * from dual where age < 10"
+                                + " or (age > 60 and score is null) or id = 0"));
+    }
+
+    @Test
+    public void testSkipUnsafeConditions() {
+        String[] queries = {
+            "select * from dual",
+            "select * from dual where name > 'a'",
+            "select * from dual where name not in ('a')",
+            "select * from dual where age <> 18",
+            "select * from dual where age = '18'",
+            "select * from dual where created > '2024-01-01 00:00:00'",
+            "select * from dual where unknown = 1",
+            "select * from dual where upper(name) = 'JOY'",
+            "select * from dual where name like 'J%'",
+            "select * from dual where age + 1 > 18",
+            "select * from dual where age > 18 or name like 'J%'"
+        };
+        for (String query : queries) {
+            Assertions.assertTrue(extract(query).isEmpty(), query);
+        }
+        // an untranslatable conjunct only removes itself
+        Assertions.assertEquals(
+                Collections.singletonList(
+                        new ComparisonPredicate(
+                                "age", ComparisonPredicate.Operator.GREATER_THAN_OR_EQUAL, 18)),
+                extract("select * from dual where name like 'J%' and age >= 18"));
+    }
+
+    private static List<Predicate> extract(String query) {
+        ZetaSQLEngine engine = new ZetaSQLEngine();
+        engine.init("dual", null, ROW_TYPE, query);
+        return engine.getPushDownPredicates();
+    }
+}